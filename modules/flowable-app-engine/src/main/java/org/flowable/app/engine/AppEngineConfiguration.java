@@ -69,7 +69,6 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
@@ -331,11 +330,7 @@ public class AppEngineConfiguration extends AbstractBuildableEngineConfiguration
 
     protected void initAppDefinitionCache() {
         if (appDefinitionCache == null) {
-            if (appDefinitionCacheLimit <= 0) {
-                appDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                appDefinitionCache = new DefaultDeploymentCache<>(appDefinitionCacheLimit);
-            }
+            appDefinitionCache = createDeploymentCache(appDefinitionCacheLimit);
         }
     }
     
@@ -49,6 +49,7 @@ import org.flowable.cmmn.converter.export.DefinitionsRootExport;
 import org.flowable.cmmn.converter.export.PlanItemDefinitionExport;
 import org.flowable.cmmn.converter.export.TextAnnotationExport;
 import org.flowable.cmmn.converter.util.PlanItemDependencyUtil;
+import org.flowable.cmmn.converter.util.SentryIfPartUtil;
 import org.flowable.cmmn.model.Association;
 import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.Case;
@@ -68,6 +69,7 @@ import org.flowable.cmmn.model.PlanItemControl;
 import org.flowable.cmmn.model.PlanItemDefinition;
 import org.flowable.cmmn.model.ProcessTask;
 import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
 import org.flowable.cmmn.model.SentryOnPart;
 import org.flowable.cmmn.model.Stage;
 import org.flowable.cmmn.model.TextAnnotation;
@@ -390,6 +392,14 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
         processCriteria(cmmnModel, conversionHelper.getEntryCriteria());
         processCriteria(cmmnModel, conversionHelper.getExitCriteria());
 
+        // Index the criteria by the plan item events and variables they depend on,
+        // this is used at runtime to only evaluate the criteria that can be affected
+        processCriteriaDependencies(conversionHelper.getEntryCriteria());
+        processCriteriaDependencies(conversionHelper.getExitCriteria());
+        for (SentryIfPart sentryIfPart : conversionHelper.getSentryIfParts()) {
+            sentryIfPart.setReferencedVariableNames(SentryIfPartUtil.getReferencedVariableNames(sentryIfPart.getCondition()));
+        }
+
 
         // set DI elements
         for (CmmnDiShape diShape : conversionHelper.getDiShapes()) {
@@ -448,6 +458,20 @@ public class CmmnXmlConverter implements CmmnXmlConstants {
         }
     }
 
+    protected void processCriteriaDependencies(List<Criterion> criteria) {
+        for (Criterion criterion : criteria) {
+            Sentry sentry = criterion.getSentry();
+            if (sentry != null) {
+                for (SentryOnPart onPart : sentry.getOnParts()) {
+                    PlanItem source = onPart.getSource();
+                    if (source != null && onPart.getStandardEvent() != null) {
+                        source.addOnPartDependentCriterion(onPart.getStandardEvent(), criterion);
+                    }
+                }
+            }
+        }
+    }
+
     protected void processCriteria(CmmnModel cmmnModel, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
             // Every criterion is potentially a target of an association
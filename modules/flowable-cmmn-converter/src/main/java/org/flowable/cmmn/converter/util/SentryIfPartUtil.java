@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.converter.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class SentryIfPartUtil {
+
+    protected static final Set<String> EXPRESSION_KEYWORDS = Set.of("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+            "div", "mod", "empty", "true", "false", "null", "instanceof");
+
+    protected static final String OPERATOR_CHARACTERS = "=!<>&|+-*/%()";
+
+    /**
+     * Returns the names of the variables referenced by the given if part condition.
+     * <p>
+     * Only a single expression consisting of identifiers, literals and operators is analyzed.
+     * For anything else (method invocations, property or index access, functions, assignments, composite expressions, ...)
+     * the outcome of the condition can depend on more than the variable values, and null is returned.
+     */
+    public static Set<String> getReferencedVariableNames(String condition) {
+        if (condition == null) {
+            return null;
+        }
+
+        String expression = condition.trim();
+        if (expression.length() < 3 || !(expression.startsWith("${") || expression.startsWith("#{")) || !expression.endsWith("}")) {
+            return null;
+        }
+
+        String expressionBody = expression.substring(2, expression.length() - 1);
+        Set<String> variableNames = new HashSet<>();
+        boolean previousTokenInvocable = false;
+        int index = 0;
+        while (index < expressionBody.length()) {
+            char character = expressionBody.charAt(index);
+
+            if (Character.isWhitespace(character)) {
+                index++;
+
+            } else if (character == '\'' || character == '"') {
+                index = findEndOfStringLiteral(expressionBody, index);
+                if (index < 0) {
+                    return null;
+                }
+                previousTokenInvocable = false;
+
+            } else if (Character.isJavaIdentifierStart(character)) {
+                int start = index;
+                while (index < expressionBody.length() && Character.isJavaIdentifierPart(expressionBody.charAt(index))) {
+                    index++;
+                }
+                String identifier = expressionBody.substring(start, index);
+                if (EXPRESSION_KEYWORDS.contains(identifier)) {
+                    previousTokenInvocable = false;
+                } else {
+                    variableNames.add(identifier);
+                    previousTokenInvocable = true;
+                }
+
+            } else if (Character.isDigit(character)) {
+                while (index < expressionBody.length() && Character.isLetterOrDigit(expressionBody.charAt(index))) {
+                    index++;
+                }
+                previousTokenInvocable = false;
+
+            } else if (OPERATOR_CHARACTERS.indexOf(character) >= 0) {
+                if (character == '(' && previousTokenInvocable) {
+                    // Method or lambda invocation
+                    return null;
+                }
+                if (character == '=' && !isPartOfComparison(expressionBody, index)) {
+                    // Assignment
+                    return null;
+                }
+                previousTokenInvocable = character == ')';
+                index++;
+
+            } else {
+                return null;
+            }
+        }
+
+        return variableNames;
+    }
+
+    protected static int findEndOfStringLiteral(String expressionBody, int start) {
+        char quote = expressionBody.charAt(start);
+        int index = start + 1;
+        while (index < expressionBody.length()) {
+            char character = expressionBody.charAt(index);
+            if (character == '\\') {
+                index += 2;
+            } else if (character == quote) {
+                return index + 1;
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    protected static boolean isPartOfComparison(String expressionBody, int index) {
+        if (index + 1 < expressionBody.length() && expressionBody.charAt(index + 1) == '=') {
+            return true;
+        }
+        return index > 0 && "=!<>".indexOf(expressionBody.charAt(index - 1)) >= 0;
+    }
+
+}
@@ -54,6 +54,7 @@ public class SentryCmmnXmlConverterTest {
         assertThat(sentryIfPart).isNotNull();
         assertThat(sentryIfPart.getId()).isEqualTo("sentryIfPart_sentry1");
         assertThat(sentryIfPart.getCondition()).isEqualTo("${true}");
+        assertThat(sentryIfPart.getReferencedVariableNames()).isEmpty();
 
         PlanItem planItemTask1 = cmmnModel.findPlanItem("planItem1");
         assertThat(planItemTask1).isNotNull();
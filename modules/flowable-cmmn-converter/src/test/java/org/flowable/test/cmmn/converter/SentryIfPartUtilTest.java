@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.cmmn.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.converter.util.SentryIfPartUtil;
+import org.junit.jupiter.api.Test;
+
+public class SentryIfPartUtilTest {
+
+    @Test
+    public void referencedVariableNames() {
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${true}")).isEmpty();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${approved}")).containsOnly("approved");
+        assertThat(SentryIfPartUtil.getReferencedVariableNames(" #{amount >= 100 && not empty customer} "))
+                .containsOnly("amount", "customer");
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${(a == 'x.y(z)' or b != \"c\") and c gt 10}"))
+                .containsOnly("a", "b", "c");
+    }
+
+    @Test
+    public void referencedVariableNamesNotDeterminable() {
+        assertThat(SentryIfPartUtil.getReferencedVariableNames(null)).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("true")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${customer.vip}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${orders[0] == 'x'}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${myBean.isApproved()}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${vars:get(approved)}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${isApproved(a)}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${a = true}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${a}${b}")).isNull();
+        assertThat(SentryIfPartUtil.getReferencedVariableNames("${a == 'unterminated}")).isNull();
+    }
+
+}
@@ -67,6 +67,12 @@ public class SentryOnPartCmmnXmlConverterTest {
                         tuple("sentryOnPart1", "planItem1", "occur")
                 );
 
+        assertThat(planItemTimer.getOnPartDependentCriteria("occur"))
+                .extracting(Criterion::getId)
+                .containsExactly("timedTaskExitSentry");
+        assertThat(planItemTimer.getOnPartDependentCriteria("complete")).isEmpty();
+        assertThat(planItemTimedTask.getOnPartDependentCriteria()).isEmpty();
+
         assertThat(cmmnModel.getAssociations())
                 .extracting(Association::getId, Association::getSourceRef, Association::getTargetRef, Association::getTransitionEvent)
                 .containsOnly(
@@ -221,6 +221,7 @@ import org.flowable.common.engine.impl.agenda.AgendaFutureMaxWaitTimeoutProvider
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -233,6 +234,7 @@ import org.flowable.common.engine.impl.cfg.mail.MailServerInfo;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManagerListener;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
@@ -253,7 +255,6 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
@@ -311,6 +312,7 @@ import org.flowable.variable.service.impl.types.DoubleType;
 import org.flowable.variable.service.impl.types.EmptyCollectionType;
 import org.flowable.variable.service.impl.types.InstantType;
 import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.JacksonSerializableType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
 import org.flowable.variable.service.impl.types.JsonType;
@@ -324,6 +326,8 @@ import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguration<CmmnEngine> implements CmmnEngineConfigurationApi,
         ScriptingEngineAwareEngineConfiguration, HasExpressionManagerEngineConfiguration, HasVariableTypes, 
         HasVariableServiceConfiguration {
@@ -429,6 +433,11 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    /**
+     * Listener notified of expression cache hits, misses, evictions and the parsing time of expressions.
+     * See {@link org.flowable.common.engine.impl.el.ExpressionManagerMetrics} for a listener that keeps metrics. Default null.
+     */
+    protected ExpressionManagerListener expressionManagerListener;
 
     // Scripting support
     protected FlowableScriptEngine scriptEngine;
@@ -491,6 +500,24 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected Collection<ServiceConfigurator<VariableServiceConfiguration>> variableServiceConfigurators;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+
+    /**
+     * The classes of which the objects are stored with Jackson (variable type 'jacksonSerializable') instead of Java serialization.
+     * Objects of other classes keep using the 'serializable' type.
+     */
+    protected Collection<Class<?>> jacksonSerializableVariableTypeClasses;
+
+    /**
+     * The object mapper used by the 'jacksonSerializable' variable type. When not set, the object mapper of the engine is used,
+     * which stores the objects as json. A mapper with a binary data format (e.g. CBOR or Smile) gives a more compact representation.
+     */
+    protected ObjectMapper jacksonSerializableVariableTypeObjectMapper;
+
+    /**
+     * The minimum size (in bytes) of an object serialized by the 'jacksonSerializable' variable type to be compressed, or a negative value to never compress.
+     */
+    protected int jacksonSerializableVariableTypeCompressionThreshold = JacksonSerializableType.DEFAULT_COMPRESSION_THRESHOLD;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -649,6 +676,32 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
      */
     protected Duration eventRegistryUniqueCaseInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether the start event subscriptions used by the event registry consumer should be kept in an in-memory index,
+     * so that only the event subscriptions of running instances are queried for every received event.
+     * Disabled by default.
+     * <p>
+     * The index is cleared on every change made through this engine. Changes made by other engines in the cluster
+     * (deploying or deleting a definition, registering a dynamic start event subscription) are detected by validating the indexed
+     * start event subscriptions with an aggregate query (count, revisions and creation time) on the event subscription table for every received event.
+     */
+    protected boolean eventRegistryStartEventSubscriptionIndexEnabled;
+
+    /**
+     * How long the indexed start event subscriptions are used before they are reloaded from the database (30 seconds by default),
+     * even when their version in the database didn't change.
+     */
+    protected Duration eventRegistryStartEventSubscriptionIndexTimeToLive = Duration.ofSeconds(30);
+
+    /**
+     * When enabled, a sentry if part that evaluated to false is not evaluated again within the same transaction
+     * for the same plan item instance or case instance, as long as none of the variables it references have changed.
+     * Only if parts of which all referenced variables are known at deployment time (i.e. conditions only using variables, literals and operators)
+     * are skipped, and only when all these names are variables in scope with an immutable value (e.g. a string, number or boolean);
+     * any other if part is always evaluated.
+     */
+    protected boolean sentryIfPartEvaluationTrackingEnabled;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -879,10 +932,14 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             }
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(createExpressionCache(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (expressionManagerListener != null) {
+                cmmnExpressionManager.setExpressionManagerListener(expressionManagerListener);
+            }
+
             if (expressionManagerConfigurers != null) {
                 expressionManagerConfigurers.forEach(configurer -> configurer.accept(cmmnExpressionManager));
             }
@@ -941,7 +998,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     @Override
     public void initCommandInvoker() {
         if (this.commandInvoker == null) {
-            this.commandInvoker = new CmmnCommandInvoker(agendaOperationRunner, agendaOperationExecutionListeners);
+            this.commandInvoker = new CmmnCommandInvoker(agendaOperationRunner, getCommandInvokerAgendaOperationExecutionListeners());
         }
     }
 
@@ -1100,11 +1157,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
-            }
+            caseDefinitionCache = createDeploymentCache(caseDefinitionCacheLimit);
         }
     }
 
@@ -1406,6 +1459,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             variableTypes.addType(new CmmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
+            variableTypes.addType(createJacksonSerializableType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
 
         } else {
@@ -1425,6 +1479,10 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             if (variableTypes.getVariableType(EmptyCollectionType.TYPE_NAME) == null) {
                 variableTypes.addTypeBefore(new EmptyCollectionType(), SerializableType.TYPE_NAME);
             }
+
+            if (variableTypes.getVariableType(JacksonSerializableType.TYPE_NAME) == null) {
+                variableTypes.addTypeBefore(createJacksonSerializableType(), SerializableType.TYPE_NAME);
+            }
         }
 
         if (customPostVariableTypes != null) {
@@ -1436,6 +1494,12 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         }
     }
 
+    protected JacksonSerializableType createJacksonSerializableType() {
+        ObjectMapper typeObjectMapper = jacksonSerializableVariableTypeObjectMapper != null ? jacksonSerializableVariableTypeObjectMapper : objectMapper;
+        return new JacksonSerializableType(typeObjectMapper, jacksonSerializableVariableTypeClasses, jacksonSerializableVariableTypeCompressionThreshold,
+                serializableVariableTypeTrackDeserializedObjects);
+    }
+
     public void configureVariableServiceConfiguration() {
         this.variableServiceConfiguration = instantiateVariableServiceConfiguration();
 
@@ -1561,6 +1625,8 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueCaseInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndexEnabled(this.eventRegistryStartEventSubscriptionIndexEnabled);
+        this.eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndexTimeToLive(this.eventRegistryStartEventSubscriptionIndexTimeToLive);
         
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -1722,6 +1788,14 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     }
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreadsEnabled()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
+            virtualThreadAsyncTaskExecutor.start();
+            this.shutdownAsyncTaskExecutor = true;
+
+            this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
 
@@ -2636,6 +2710,15 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public ExpressionManagerListener getExpressionManagerListener() {
+        return expressionManagerListener;
+    }
+
+    public CmmnEngineConfiguration setExpressionManagerListener(ExpressionManagerListener expressionManagerListener) {
+        this.expressionManagerListener = expressionManagerListener;
+        return this;
+    }
+
     public DelegateExpressionFieldInjectionMode getDelegateExpressionFieldInjectionMode() {
         return delegateExpressionFieldInjectionMode;
     }
@@ -2936,6 +3019,33 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public Collection<Class<?>> getJacksonSerializableVariableTypeClasses() {
+        return jacksonSerializableVariableTypeClasses;
+    }
+
+    public CmmnEngineConfiguration setJacksonSerializableVariableTypeClasses(Collection<Class<?>> jacksonSerializableVariableTypeClasses) {
+        this.jacksonSerializableVariableTypeClasses = jacksonSerializableVariableTypeClasses;
+        return this;
+    }
+
+    public ObjectMapper getJacksonSerializableVariableTypeObjectMapper() {
+        return jacksonSerializableVariableTypeObjectMapper;
+    }
+
+    public CmmnEngineConfiguration setJacksonSerializableVariableTypeObjectMapper(ObjectMapper jacksonSerializableVariableTypeObjectMapper) {
+        this.jacksonSerializableVariableTypeObjectMapper = jacksonSerializableVariableTypeObjectMapper;
+        return this;
+    }
+
+    public int getJacksonSerializableVariableTypeCompressionThreshold() {
+        return jacksonSerializableVariableTypeCompressionThreshold;
+    }
+
+    public CmmnEngineConfiguration setJacksonSerializableVariableTypeCompressionThreshold(int jacksonSerializableVariableTypeCompressionThreshold) {
+        this.jacksonSerializableVariableTypeCompressionThreshold = jacksonSerializableVariableTypeCompressionThreshold;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3144,6 +3254,33 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isEventRegistryStartEventSubscriptionIndexEnabled() {
+        return eventRegistryStartEventSubscriptionIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryStartEventSubscriptionIndexEnabled(boolean eventRegistryStartEventSubscriptionIndexEnabled) {
+        this.eventRegistryStartEventSubscriptionIndexEnabled = eventRegistryStartEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public Duration getEventRegistryStartEventSubscriptionIndexTimeToLive() {
+        return eventRegistryStartEventSubscriptionIndexTimeToLive;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryStartEventSubscriptionIndexTimeToLive(Duration eventRegistryStartEventSubscriptionIndexTimeToLive) {
+        this.eventRegistryStartEventSubscriptionIndexTimeToLive = eventRegistryStartEventSubscriptionIndexTimeToLive;
+        return this;
+    }
+
+    public boolean isSentryIfPartEvaluationTrackingEnabled() {
+        return sentryIfPartEvaluationTrackingEnabled;
+    }
+
+    public CmmnEngineConfiguration setSentryIfPartEvaluationTrackingEnabled(boolean sentryIfPartEvaluationTrackingEnabled) {
+        this.sentryIfPartEvaluationTrackingEnabled = sentryIfPartEvaluationTrackingEnabled;
+        return this;
+    }
+
     public AsyncJobExecutorConfiguration getAsyncExecutorConfiguration() {
         return asyncExecutorConfiguration;
     }
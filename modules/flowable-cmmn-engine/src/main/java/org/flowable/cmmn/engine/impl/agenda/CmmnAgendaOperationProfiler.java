@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.agenda;
+
+import org.flowable.cmmn.engine.impl.agenda.operation.AbstractPlanItemInstanceOperation;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link AgendaOperationProfiler} for the CMMN engine agenda, which also records the statistics per plan item id
+ * of the plan item instance an {@link AbstractPlanItemInstanceOperation} is executed for.
+ */
+public class CmmnAgendaOperationProfiler extends AgendaOperationProfiler {
+
+    public CmmnAgendaOperationProfiler() {
+    }
+
+    public CmmnAgendaOperationProfiler(int sampleInterval) {
+        super(sampleInterval);
+    }
+
+    @Override
+    protected String getActivityId(CommandContext commandContext, Runnable runnable) {
+        if (runnable instanceof AbstractPlanItemInstanceOperation) {
+            PlanItemInstanceEntity planItemInstanceEntity = ((AbstractPlanItemInstanceOperation) runnable).getPlanItemInstanceEntity();
+            if (planItemInstanceEntity != null) {
+                return planItemInstanceEntity.getElementId();
+            }
+        }
+        return null;
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.engine.impl.agenda.operation;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +24,6 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
-import org.flowable.cmmn.converter.util.CriterionUtil;
 import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
@@ -44,6 +44,7 @@ import org.flowable.cmmn.engine.impl.util.CompletionEvaluationResult;
 import org.flowable.cmmn.engine.impl.util.ExpressionUtil;
 import org.flowable.cmmn.engine.impl.util.PlanItemInstanceContainerUtil;
 import org.flowable.cmmn.engine.impl.util.PlanItemInstanceUtil;
+import org.flowable.cmmn.engine.impl.util.SentryIfPartEvaluationTracker;
 import org.flowable.cmmn.engine.interceptor.MigrationContext;
 import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.EventListener;
@@ -276,7 +277,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         for (PlanItem entryDependentPlanItem : entryDependentPlanItems) {
             // Only needed for sentries that cross the outer stage border
             if (!planItemsShareDirectParentStage(entryDependentPlanItem, planItemLifeCycleEvent.getPlanItem())
-                && CriterionUtil.planItemHasOneEntryCriterionDependingOnPlanItem(entryDependentPlanItem, planItemLifeCycleEvent.getPlanItem(), planItemLifeCycleEvent.getTransition())) {
+                && !getDependentEntryCriteria(entryDependentPlanItem).isEmpty()) {
 
                 PlanItemInstanceEntityManager planItemInstanceEntityManager = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext);
                 List<PlanItemInstanceEntity> childPlanItemInstances = CaseInstanceUtil.findChildPlanItemInstances(caseInstanceEntity, entryDependentPlanItem);
@@ -466,6 +467,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
 
+            if (!canBeSatisfiedByCurrentEvaluation(entityWithSentryPartInstances, criterion)) {
+                continue;
+            }
+
             Sentry sentry = criterion.getSentry();
 
             // There can be zero or more on parts and zero or one if part.
@@ -714,19 +719,105 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return sentryPartInstanceEntity;
     }
 
+    /**
+     * Returns whether the given criterion can be satisfied in this evaluation, without evaluating any of its parts.
+     * A criterion needs to be evaluated when it has an on part for the plan item and transition of the current lifecycle event
+     * (using the index of on part dependent criteria that is built when parsing the case model), when its if part can have changed,
+     * or when it can be satisfied by sentry parts that were satisfied in an earlier evaluation.
+     */
+    protected boolean canBeSatisfiedByCurrentEvaluation(EntityWithSentryPartInstances entityWithSentryPartInstances, Criterion criterion) {
+        Sentry sentry = criterion.getSentry();
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+        if (sentry.getOnParts().isEmpty()) {
+            return sentryIfPart == null || !isSentryIfPartKnownToBeFalse(entityWithSentryPartInstances, sentryIfPart);
+        }
+
+        if (!isOnPartDependencyIndexed(criterion)
+                || (planItemLifeCycleEvent != null
+                    && planItemLifeCycleEvent.getPlanItem().getOnPartDependentCriteria(planItemLifeCycleEvent.getTransition()).contains(criterion))) {
+            return true;
+        }
+
+        if (sentryIfPart != null) {
+            if (!isSentryIfPartKnownToBeFalse(entityWithSentryPartInstances, sentryIfPart)) {
+                return true;
+            }
+
+        } else if (sentry.getOnParts().size() == 1) {
+            // A single on part without an if part is only satisfied by the current lifecycle event
+            return false;
+        }
+
+        // None of the on parts match the current lifecycle event and the if part (if any) is unchanged:
+        // the criterion can only be satisfied with the sentry parts that were satisfied before
+        return sentry.isOnEventTriggerMode() || mayHaveSatisfiedSentryPartInstances(entityWithSentryPartInstances);
+    }
+
+    /**
+     * Returns whether all on parts of the criterion are part of the on part dependent criteria index of their source plan item.
+     * This is not the case for criteria that are not created by parsing the case model.
+     */
+    protected boolean isOnPartDependencyIndexed(Criterion criterion) {
+        for (SentryOnPart sentryOnPart : criterion.getSentry().getOnParts()) {
+            PlanItem source = sentryOnPart.getSource();
+            if (source == null || sentryOnPart.getStandardEvent() == null
+                    || !source.getOnPartDependentCriteria(sentryOnPart.getStandardEvent()).contains(criterion)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean mayHaveSatisfiedSentryPartInstances(EntityWithSentryPartInstances entityWithSentryPartInstances) {
+        // Sentry parts of the default trigger mode are counted on the plan item instance (see createSentryPartInstanceEntity)
+        if (entityWithSentryPartInstances instanceof CountingPlanItemInstanceEntity) {
+            return ((CountingPlanItemInstanceEntity) entityWithSentryPartInstances).getSentryPartInstanceCount() > 0;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true when the if part evaluated to false before in the current command and none of the variables it references changed since then.
+     * This is only tracked when {@link CmmnEngineConfiguration#isSentryIfPartEvaluationTrackingEnabled()} is true.
+     */
+    protected boolean isSentryIfPartKnownToBeFalse(EntityWithSentryPartInstances entityWithSentryPartInstances, SentryIfPart sentryIfPart) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        if (!cmmnEngineConfiguration.isSentryIfPartEvaluationTrackingEnabled() || sentryIfPart.getReferencedVariableNames() == null) {
+            return false;
+        }
+
+        boolean knownToBeFalse = SentryIfPartEvaluationTracker.getOrCreate(commandContext).isKnownToBeFalse(entityWithSentryPartInstances.getId(), sentryIfPart);
+        if (knownToBeFalse && LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Skipping evaluation of sentry if condition {} for {}: none of its variables changed since it evaluated to false",
+                    sentryIfPart.getCondition(), entityWithSentryPartInstances);
+        }
+        return knownToBeFalse;
+    }
+
     protected boolean evaluateSentryIfPart(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry, VariableContainer variableContainer) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+
+        // An if part that evaluated to false before will again evaluate to false when none of its variables changed since then
+        if (isSentryIfPartKnownToBeFalse(entityWithSentryPartInstances, sentryIfPart)) {
+            return false;
+        }
+
         try { 
-            Expression conditionExpression = cmmnEngineConfiguration.getExpressionManager().createExpression(sentry.getSentryIfPart().getCondition());
+            Expression conditionExpression = cmmnEngineConfiguration.getExpressionManager().createExpression(sentryIfPart.getCondition());
             Object result = conditionExpression.getValue(variableContainer);
 
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Evaluation of sentry if condition {} for {} results in '{}'", sentry.getSentryIfPart().getCondition(), entityWithSentryPartInstances, result);
+                LOGGER.debug("Evaluation of sentry if condition {} for {} results in '{}'", sentryIfPart.getCondition(), entityWithSentryPartInstances, result);
             }
 
-            if (result instanceof Boolean) {
-                return (Boolean) result;
+            boolean satisfied = result instanceof Boolean && (Boolean) result;
+            if (cmmnEngineConfiguration.isSentryIfPartEvaluationTrackingEnabled() && sentryIfPart.getReferencedVariableNames() != null) {
+                SentryIfPartEvaluationTracker.getOrCreate(commandContext)
+                        .evaluated(entityWithSentryPartInstances.getId(), sentryIfPart, satisfied, variableContainer);
             }
+            return satisfied;
+
         } catch (RuntimeException e) {
             if (cmmnEngineConfiguration.isLoggingSessionEnabled()) {
                 CmmnLoggingSessionUtil.addEvaluateSentryFailedLoggingData(sentry.getSentryIfPart(), e, 
@@ -735,25 +826,35 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
 
             throw e;
         }
-        return false;
     }
 
     protected Criterion evaluateDependentPlanItemEntryCriteria(PlanItem entryDependentPlanItem) {
-        List<Criterion> entryCriteria = entryDependentPlanItem.getEntryCriteria();
-        if (!entryCriteria.isEmpty()) {
+        // According to the spec, only the sentries that actually reference the planitem of which the event happens should be evaluated
+        List<Criterion> matchingCriteria = getDependentEntryCriteria(entryDependentPlanItem);
+        if (!matchingCriteria.isEmpty()) {
+            return evaluateCriteria(caseInstanceEntity, matchingCriteria);// Resolved against case entity as there's no plan item instance yet
+        }
 
-            // According to the spec, only the sentries that actually reference the planitem of which the event happens should be evaluated
-            List<Criterion> matchingCriteria = entryCriteria.stream()
-                .filter(criterion -> CriterionUtil
-                    .criterionHasOnPartDependingOnPlanItem(criterion, planItemLifeCycleEvent.getPlanItem(), planItemLifeCycleEvent.getTransition()))
-                .collect(Collectors.toList());
+        return null;
+    }
 
-            if (!matchingCriteria.isEmpty()) {
-                return evaluateCriteria(caseInstanceEntity, matchingCriteria);// Resolved against case entity as there's no plan item instance yet
-            }
+    /**
+     * Returns the entry criteria of the given plan item that have an on part for the plan item and transition of the current lifecycle event,
+     * using the index of on part dependent criteria that is built when parsing the case model.
+     */
+    protected List<Criterion> getDependentEntryCriteria(PlanItem entryDependentPlanItem) {
+        List<Criterion> onPartDependentCriteria = planItemLifeCycleEvent.getPlanItem().getOnPartDependentCriteria(planItemLifeCycleEvent.getTransition());
+        if (onPartDependentCriteria.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        return null;
+        List<Criterion> dependentEntryCriteria = new ArrayList<>(1);
+        for (Criterion criterion : onPartDependentCriteria) {
+            if (criterion.isEntryCriterion() && Objects.equals(entryDependentPlanItem.getId(), criterion.getAttachedToRefId())) {
+                dependentEntryCriteria.add(criterion);
+            }
+        }
+        return dependentEntryCriteria;
     }
 
     protected boolean planItemsShareDirectParentStage(PlanItem planItemOne, PlanItem planItemTwo) {
@@ -41,7 +41,9 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCreationCounter;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
+import org.flowable.eventsubscription.service.impl.StartEventSubscriptionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,13 +75,23 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
         
-        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
-
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
+        return handleEventSubscriptions(eventInstance, correlationKeys, eventSubscriptions);
+    }
+
+    @Override
+    protected List<EventRegistryProcessingInfo> eventInstancesReceived(List<EventInstance> eventInstances) {
+        return eventInstancesReceived(ScopeTypes.CMMN, eventInstances, this::handleEventSubscriptions);
+    }
+
+    protected EventRegistryProcessingInfo handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Found {} for {}", eventSubscriptions, eventInstance);
         }
+        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
         CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
             EventConsumerInfo eventConsumerInfo = new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getSubScopeId(), 
@@ -278,6 +290,30 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected List<EventSubscription> getIndexedStartEventSubscriptions(String scopeType, EventInstance eventInstance) {
+        StartEventSubscriptionIndex startEventSubscriptionIndex = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getStartEventSubscriptionIndex();
+        if (startEventSubscriptionIndex == null) {
+            return null;
+        }
+
+        return startEventSubscriptionIndex.getStartEventSubscriptions(scopeType, eventInstance.getEventKey(), eventInstance.getTenantId(),
+                () -> findStartEventSubscriptionsVersion(scopeType, eventInstance),
+                () -> findStartEventSubscriptions(scopeType, eventInstance));
+    }
+
+    protected String findStartEventSubscriptionsVersion(String scopeType, EventInstance eventInstance) {
+        EventSubscriptionQueryImpl eventSubscriptionQuery = (EventSubscriptionQueryImpl) createStartEventSubscriptionQuery(scopeType, eventInstance);
+        return commandExecutor.execute(commandContext -> cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionEntityManager()
+                .findEventSubscriptionVersionByQueryCriteria(eventSubscriptionQuery));
+    }
+
+    @Override
+    protected Long getEventSubscriptionCreationCount(String eventType) {
+        EventSubscriptionCreationCounter eventSubscriptionCreationCounter = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCreationCounter();
+        return eventSubscriptionCreationCounter != null ? eventSubscriptionCreationCounter.getCount(eventType) : null;
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
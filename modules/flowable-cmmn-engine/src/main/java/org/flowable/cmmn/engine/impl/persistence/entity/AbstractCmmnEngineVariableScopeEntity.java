@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import org.flowable.cmmn.engine.impl.util.SentryIfPartEvaluationTracker;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScopeImpl {
@@ -22,4 +24,42 @@ public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScop
     public String getIdPrefix() {
         return CmmnEngineEntityConstants.CMMN_ENGINE_ID_PREFIX;
     }
+
+    // Variable changes are tracked, so that sentry if parts only referencing unchanged variables are not evaluated again
+
+    @Override
+    protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
+        SentryIfPartEvaluationTracker.trackVariableChange(variableName);
+        return super.createVariableInstance(variableName, value);
+    }
+
+    @Override
+    protected void updateVariableInstance(VariableInstanceEntity variableInstance, Object newVariableValue) {
+        SentryIfPartEvaluationTracker.trackVariableChange(variableInstance.getName());
+        super.updateVariableInstance(variableInstance, newVariableValue);
+    }
+
+    @Override
+    protected void deleteVariableInstanceForExplicitUserCall(VariableInstanceEntity variableInstance) {
+        SentryIfPartEvaluationTracker.trackVariableChange(variableInstance.getName());
+        super.deleteVariableInstanceForExplicitUserCall(variableInstance);
+    }
+
+    @Override
+    public void setTransientVariableLocal(String variableName, Object variableValue) {
+        SentryIfPartEvaluationTracker.trackVariableChange(variableName);
+        super.setTransientVariableLocal(variableName, variableValue);
+    }
+
+    @Override
+    public void removeTransientVariableLocal(String variableName) {
+        SentryIfPartEvaluationTracker.trackVariableChange(variableName);
+        super.removeTransientVariableLocal(variableName);
+    }
+
+    @Override
+    public void removeTransientVariablesLocal() {
+        SentryIfPartEvaluationTracker.trackChangeOfAllVariables();
+        super.removeTransientVariablesLocal();
+    }
 }
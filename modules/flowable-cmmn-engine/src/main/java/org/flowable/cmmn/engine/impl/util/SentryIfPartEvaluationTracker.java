@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Keeps track, for the duration of one command, of the sentry if parts that evaluated to false
+ * and of the variables that changed afterwards.
+ * <p>
+ * An if part that only references variables (see {@link SentryIfPart#getReferencedVariableNames()})
+ * will again evaluate to false as long as none of these variables changed, so it doesn't need to be evaluated again
+ * when the criteria are re-evaluated for a subsequent plan item lifecycle event in the same command.
+ * <p>
+ * A false evaluation is only remembered when all referenced names are variables in the scope of the evaluated entity
+ * (and not e.g. beans or names resolved by a custom resolver) and all their values are immutable.
+ * A change of a mutable value (e.g. adding an element to a list variable) isn't noticed, as it doesn't go through the variable scope.
+ */
+public class SentryIfPartEvaluationTracker {
+
+    protected static final String ATTRIBUTE_SENTRY_IF_PART_EVALUATION_TRACKER = "ctx.attribute.sentryIfPartEvaluationTracker";
+
+    protected static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, BigDecimal.class, BigInteger.class, Instant.class, LocalDate.class,
+            LocalDateTime.class, UUID.class);
+
+    protected long changeCounter;
+    protected long lastChangeOfAllVariables = -1L;
+    protected Map<String, Long> variableChanges = new HashMap<>();
+    protected Map<String, Long> falseEvaluations = new HashMap<>();
+
+    public static SentryIfPartEvaluationTracker getOrCreate(CommandContext commandContext) {
+        SentryIfPartEvaluationTracker tracker = (SentryIfPartEvaluationTracker) commandContext.getAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_TRACKER);
+        if (tracker == null) {
+            tracker = new SentryIfPartEvaluationTracker();
+            commandContext.addAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_TRACKER, tracker);
+        }
+        return tracker;
+    }
+
+    /**
+     * Records a change of the variable with the given name, in any scope, for the current command.
+     * Nothing needs to be done when no if part evaluation has been tracked yet.
+     */
+    public static void trackVariableChange(String variableName) {
+        SentryIfPartEvaluationTracker tracker = getCurrentTracker();
+        if (tracker != null) {
+            tracker.variableChanged(variableName);
+        }
+    }
+
+    /**
+     * Records a change that potentially affected all variables for the current command.
+     */
+    public static void trackChangeOfAllVariables() {
+        SentryIfPartEvaluationTracker tracker = getCurrentTracker();
+        if (tracker != null) {
+            tracker.allVariablesChanged();
+        }
+    }
+
+    protected static SentryIfPartEvaluationTracker getCurrentTracker() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return null;
+        }
+        return (SentryIfPartEvaluationTracker) commandContext.getAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_TRACKER);
+    }
+
+    public void variableChanged(String variableName) {
+        variableChanges.put(variableName, ++changeCounter);
+    }
+
+    public void allVariablesChanged() {
+        lastChangeOfAllVariables = ++changeCounter;
+    }
+
+    /**
+     * Returns true when the given if part evaluated to false before for the given entity,
+     * and none of the variables referenced by the if part changed since then.
+     */
+    public boolean isKnownToBeFalse(String entityId, SentryIfPart sentryIfPart) {
+        Set<String> referencedVariableNames = sentryIfPart.getReferencedVariableNames();
+        if (entityId == null || referencedVariableNames == null) {
+            return false;
+        }
+
+        Long evaluationCounter = falseEvaluations.get(getEvaluationKey(entityId, sentryIfPart));
+        if (evaluationCounter == null || lastChangeOfAllVariables > evaluationCounter) {
+            return false;
+        }
+
+        for (String variableName : referencedVariableNames) {
+            Long variableChangeCounter = variableChanges.get(variableName);
+            if (variableChangeCounter != null && variableChangeCounter > evaluationCounter) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void evaluated(String entityId, SentryIfPart sentryIfPart, boolean result, VariableContainer variableContainer) {
+        if (entityId == null || sentryIfPart.getReferencedVariableNames() == null) {
+            return;
+        }
+
+        String evaluationKey = getEvaluationKey(entityId, sentryIfPart);
+        if (result || !hasOnlyImmutableVariables(variableContainer, sentryIfPart.getReferencedVariableNames())) {
+            falseEvaluations.remove(evaluationKey);
+        } else {
+            falseEvaluations.put(evaluationKey, changeCounter);
+        }
+    }
+
+    /**
+     * Returns true when all the given names are variables in the scope of the variable container, with a value that can't be changed in place.
+     * Otherwise, the outcome of the if part can change without a tracked variable change.
+     */
+    protected boolean hasOnlyImmutableVariables(VariableContainer variableContainer, Set<String> variableNames) {
+        for (String variableName : variableNames) {
+            if (!variableContainer.hasVariable(variableName)) {
+                return false;
+            }
+
+            Object value = variableContainer.getVariable(variableName);
+            if (value != null && !(value instanceof Enum) && !IMMUTABLE_VALUE_TYPES.contains(value.getClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected String getEvaluationKey(String entityId, SentryIfPart sentryIfPart) {
+        return entityId + '_' + sentryIfPart.getId();
+    }
+
+}
@@ -0,0 +1,150 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.engine.impl.util.SentryIfPartEvaluationTracker;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SentryIfPartEvaluationTrackingTest extends FlowableCmmnTestCase {
+
+    @Before
+    public void enableTracking() {
+        cmmnEngineConfiguration.setSentryIfPartEvaluationTrackingEnabled(true);
+    }
+
+    @After
+    public void disableTracking() {
+        cmmnEngineConfiguration.setSentryIfPartEvaluationTrackingEnabled(false);
+    }
+
+    @Test
+    @CmmnDeployment
+    public void testIfPartReevaluatedAfterVariableChange() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("testIfPartTracking")
+                .variable("approved", false)
+                .start();
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("A");
+
+        // Completing A evaluates the if part of B to false, after which the service task changes the variable in the same transaction
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(Task::getName)
+                .containsExactly("B");
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryIfPartEvaluationTrackingTest.testIfPartReevaluatedAfterVariableChange.cmmn")
+    public void testVariableChangesAreTracked() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("testIfPartTracking")
+                .variable("approved", false)
+                .start();
+
+        SentryIfPart sentryIfPart = new SentryIfPart();
+        sentryIfPart.setId("ifPart");
+        sentryIfPart.setCondition("${approved}");
+        sentryIfPart.setReferencedVariableNames(Set.of("approved"));
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+
+            SentryIfPartEvaluationTracker tracker = SentryIfPartEvaluationTracker.getOrCreate(commandContext);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isFalse();
+
+            tracker.evaluated(caseInstance.getId(), sentryIfPart, false, caseInstanceEntity);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isTrue();
+            assertThat(tracker.isKnownToBeFalse("otherEntity", sentryIfPart)).isFalse();
+
+            caseInstanceEntity.setVariable("otherVariable", "test");
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isTrue();
+
+            caseInstanceEntity.setVariable("approved", true);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isFalse();
+
+            tracker.evaluated(caseInstance.getId(), sentryIfPart, false, caseInstanceEntity);
+            caseInstanceEntity.setTransientVariable("approved", true);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isFalse();
+
+            tracker.evaluated(caseInstance.getId(), sentryIfPart, false, caseInstanceEntity);
+            caseInstanceEntity.removeVariable("approved");
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isFalse();
+
+            tracker.evaluated(caseInstance.getId(), sentryIfPart, true, caseInstanceEntity);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), sentryIfPart)).isFalse();
+            return null;
+        });
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/sentry/SentryIfPartEvaluationTrackingTest.testIfPartReevaluatedAfterVariableChange.cmmn")
+    public void testOnlyImmutableVariablesInScopeAreTracked() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("testIfPartTracking")
+                .variable("approved", false)
+                .start();
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+            SentryIfPartEvaluationTracker tracker = SentryIfPartEvaluationTracker.getOrCreate(commandContext);
+
+            // Not a variable, could be resolved by a bean or custom resolver
+            SentryIfPart beanIfPart = new SentryIfPart();
+            beanIfPart.setId("beanIfPart");
+            beanIfPart.setCondition("${approved && myBean}");
+            beanIfPart.setReferencedVariableNames(Set.of("approved", "myBean"));
+            tracker.evaluated(caseInstance.getId(), beanIfPart, false, caseInstanceEntity);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), beanIfPart)).isFalse();
+
+            // A mutable value can change without a variable change
+            List<String> items = new ArrayList<>();
+            caseInstanceEntity.setTransientVariable("items", items);
+            SentryIfPart itemsIfPart = new SentryIfPart();
+            itemsIfPart.setId("itemsIfPart");
+            itemsIfPart.setCondition("${!empty items}");
+            itemsIfPart.setReferencedVariableNames(Set.of("items"));
+            tracker.evaluated(caseInstance.getId(), itemsIfPart, false, caseInstanceEntity);
+            items.add("item");
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), itemsIfPart)).isFalse();
+
+            SentryIfPart approvedIfPart = new SentryIfPart();
+            approvedIfPart.setId("approvedIfPart");
+            approvedIfPart.setCondition("${approved}");
+            approvedIfPart.setReferencedVariableNames(Set.of("approved"));
+            tracker.evaluated(caseInstance.getId(), approvedIfPart, false, caseInstanceEntity);
+            assertThat(tracker.isKnownToBeFalse(caseInstance.getId(), approvedIfPart)).isTrue();
+            return null;
+        });
+    }
+
+}
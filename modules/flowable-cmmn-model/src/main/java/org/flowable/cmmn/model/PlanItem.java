@@ -13,8 +13,11 @@
 package org.flowable.cmmn.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +59,12 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
      * Said differently: this list of plan items have an exit criteria that references this plan item.
      */
     protected List<PlanItem> exitDependentPlanItems = new ArrayList<>();
+
+    /**
+     * All {@link Criterion}s (entry and exit) having a sentry with an on part that references this plan item, indexed by the standard event of that on part.
+     * Said differently: these are the criteria that can be affected when this plan item goes through the given transition.
+     */
+    protected Map<String, List<Criterion>> onPartDependentCriteria = new HashMap<>();
     
     protected Object behavior;
 
@@ -218,6 +227,25 @@ public class PlanItem extends CaseElement implements HasEntryCriteria, HasExitCr
         }
     }
 
+    public Map<String, List<Criterion>> getOnPartDependentCriteria() {
+        return onPartDependentCriteria;
+    }
+
+    public void setOnPartDependentCriteria(Map<String, List<Criterion>> onPartDependentCriteria) {
+        this.onPartDependentCriteria = onPartDependentCriteria;
+    }
+
+    public List<Criterion> getOnPartDependentCriteria(String standardEvent) {
+        return onPartDependentCriteria.getOrDefault(standardEvent, Collections.emptyList());
+    }
+
+    public void addOnPartDependentCriterion(String standardEvent, Criterion criterion) {
+        List<Criterion> criteria = onPartDependentCriteria.computeIfAbsent(standardEvent, key -> new ArrayList<>());
+        if (!criteria.contains(criterion)) {
+            criteria.add(criterion);
+        }
+    }
+
     public List<PlanItem> getAllDependentPlanItems() {
         List<PlanItem> allDependentPlanItems = new ArrayList<>(entryDependentPlanItems.size() + exitDependentPlanItems.size());
         allDependentPlanItems.addAll(entryDependentPlanItems);
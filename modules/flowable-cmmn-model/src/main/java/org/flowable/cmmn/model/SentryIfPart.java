@@ -12,12 +12,20 @@
  */
 package org.flowable.cmmn.model;
 
+import java.util.Set;
+
 /**
  * @author Joram Barrez
  */
 public class SentryIfPart extends CmmnElement {
 
     protected String condition;
+
+    /**
+     * The names of the variables the condition depends on,
+     * or null when these can't be determined upfront (e.g. when the condition invokes methods or accesses properties).
+     */
+    protected Set<String> referencedVariableNames;
     
     public String getCondition() {
         return condition;
@@ -27,4 +35,12 @@ public class SentryIfPart extends CmmnElement {
         this.condition = condition;
     }
 
+    public Set<String> getReferencedVariableNames() {
+        return referencedVariableNames;
+    }
+
+    public void setReferencedVariableNames(Set<String> referencedVariableNames) {
+        this.referencedVariableNames = referencedVariableNames;
+    }
+
 }
@@ -40,7 +40,6 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -201,6 +200,21 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to false if the input and output entries of decision tables should not be pre-parsed when the decision is deployed or cached.
+     *
+     * When enabled, the expressions of all decision table cells are created once and reused by every execution of the decision.
+     */
+    protected boolean decisionTableCompilationEnabled = true;
+
+    /**
+     * Set this to true to build an index over the literal and numeric range input entries of decision tables with a UNIQUE, FIRST or ANY hit policy.
+     *
+     * With the index only the rules that can possibly match the input values are evaluated, instead of all the rules of the table.
+     * Rules that are skipped are not part of the audit trail of the execution. Requires decision table compilation to be enabled.
+     */
+    protected boolean indexedRuleMatchingEnabled;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -450,7 +464,7 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
     @Override
     public void initCommandInvoker() {
         if (commandInvoker == null) {
-            commandInvoker = new DmnCommandInvoker(agendaOperationExecutionListeners);
+            commandInvoker = new DmnCommandInvoker(getCommandInvokerAgendaOperationExecutionListeners());
         }
     }
     public void initDmnEngineAgendaFactory() {
@@ -486,11 +500,7 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
 
         // Decision cache
         if (definitionCache == null) {
-            if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
-            } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
-            }
+            definitionCache = createDeploymentCache(decisionCacheLimit);
         }
 
         deploymentManager = new DeploymentManager(definitionCache, this);
@@ -1115,6 +1125,24 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public boolean isDecisionTableCompilationEnabled() {
+        return decisionTableCompilationEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableCompilationEnabled(boolean decisionTableCompilationEnabled) {
+        this.decisionTableCompilationEnabled = decisionTableCompilationEnabled;
+        return this;
+    }
+
+    public boolean isIndexedRuleMatchingEnabled() {
+        return indexedRuleMatchingEnabled;
+    }
+
+    public DmnEngineConfiguration setIndexedRuleMatchingEnabled(boolean indexedRuleMatchingEnabled) {
+        this.indexedRuleMatchingEnabled = indexedRuleMatchingEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -17,6 +17,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.model.Decision;
 
@@ -28,6 +29,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public interface RuleEngineExecutor {
     
     DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionContext executeDecisionInfo);
+
+    /**
+     * Executes the decision using the pre-parsed expressions of the compiled decision table, when available.
+     * Implementations that do not support compiled decision tables fall back to {@link #execute(Decision, ExecuteDecisionContext)}.
+     */
+    default DecisionExecutionAuditContainer execute(Decision decision, CompiledDecisionTable compiledDecisionTable, ExecuteDecisionContext executeDecisionInfo) {
+        return execute(decision, executeDecisionInfo);
+    }
     
     Map<String, AbstractHitPolicy> getHitPolicyBehaviors();
 
@@ -12,17 +12,21 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionRule;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -74,6 +78,19 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
      */
     @Override
     public DecisionExecutionAuditContainer execute(Decision decision, ExecuteDecisionContext executeDecisionInfo) {
+        return execute(decision, null, executeDecisionInfo);
+    }
+
+    /**
+     * Executes the given decision using the pre-parsed expressions of the compiled decision table and creates the outcome results
+     *
+     * @param decision              the DMN decision
+     * @param compiledDecisionTable the compiled decision table of the decision, can be null
+     * @param executeDecisionInfo
+     * @return updated execution variables map
+     */
+    @Override
+    public DecisionExecutionAuditContainer execute(Decision decision, CompiledDecisionTable compiledDecisionTable, ExecuteDecisionContext executeDecisionInfo) {
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
         }
@@ -91,7 +108,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            if (compiledDecisionTable != null && compiledDecisionTable.getDecisionTable() == currentDecisionTable) {
+                evaluateDecisionTable(compiledDecisionTable, executionContext);
+            } else {
+                evaluateDecisionTable(currentDecisionTable, executionContext);
+            }
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -107,6 +128,14 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(decisionTable, null, executionContext);
+    }
+
+    protected void evaluateDecisionTable(CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(compiledDecisionTable.getDecisionTable(), compiledDecisionTable, executionContext);
+    }
+
+    protected void evaluateDecisionTable(DecisionTable decisionTable, CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
             throw new IllegalArgumentException("no rules present in table");
         }
@@ -120,9 +149,20 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         try {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
+            Map<Integer, CompiledDecisionRule> validCompiledRules = compiledDecisionTable != null ? new HashMap<>() : null;
+
+            BitSet candidateRules = findCandidateRules(compiledDecisionTable, executionContext);
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                if (candidateRules != null && !candidateRules.get(i)) {
+                    // rule can't match the input values
+                    continue;
+                }
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+                DecisionRule rule = rules.get(i);
+                CompiledDecisionRule compiledRule = compiledDecisionTable != null ? compiledDecisionTable.getRules().get(i) : null;
+                boolean ruleResult = executeRule(rule, compiledRule, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -132,6 +172,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
                     // add valid rule output(s)
                     validRuleOutputEntries.put(rule.getRuleNumber(), rule.getOutputEntries());
+                    if (validCompiledRules != null) {
+                        validCompiledRules.put(rule.getRuleNumber(), compiledRule);
+                    }
                 }
 
                 // should continue evaluating
@@ -145,7 +188,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
             // compose rule conclusions
             for (Map.Entry<Integer, List<RuleOutputClauseContainer>> entry : validRuleOutputEntries.entrySet()) {
-                executeOutputEntryAction(entry.getKey(), entry.getValue(), decisionTable.getHitPolicy(), executionContext);
+                CompiledDecisionRule compiledRule = validCompiledRules != null ? validCompiledRules.get(entry.getKey()) : null;
+                executeOutputEntryAction(entry.getKey(), entry.getValue(), compiledRule, decisionTable.getHitPolicy(), executionContext);
             }
 
             // post rule conclusion actions
@@ -163,7 +207,21 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End table evaluation: {}", decisionTable.getId());
     }
 
+    protected BitSet findCandidateRules(CompiledDecisionTable compiledDecisionTable, ELExecutionContext executionContext) {
+        if (compiledDecisionTable == null || compiledDecisionTable.getRuleIndex() == null) {
+            return null;
+        }
+
+        BitSet candidateRules = compiledDecisionTable.getRuleIndex().findCandidateRules(executionContext);
+        LOGGER.debug("Rule index selected {} of {} rules", candidateRules.cardinality(), compiledDecisionTable.getRules().size());
+        return candidateRules;
+    }
+
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, null, executionContext);
+    }
+
+    protected boolean executeRule(DecisionRule rule, CompiledDecisionRule compiledRule, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -176,7 +234,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int i = 0; i < inputEntries.size(); i++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(i);
 
             // resetting value
             String inputEntryId = conditionContainer.getInputEntry().getId();
@@ -188,7 +248,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    Expression inputEntryExpression = compiledRule != null ? compiledRule.getInputEntryExpression(i) : null;
+                    if (inputEntryExpression != null) {
+                        conditionResult = executeInputExpressionEvaluation(conditionContainer, inputEntryExpression, executionContext);
+                    } else {
+                        conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    }
                 }
 
                 // add audit entry
@@ -231,17 +296,32 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
+    protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, Expression inputEntryExpression, ELExecutionContext executionContext) {
+        return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), inputEntryExpression, executionContext);
+    }
+
     protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+        executeOutputEntryAction(ruleNumber, ruleOutputContainers, null, hitPolicy, executionContext);
+    }
+
+    protected void executeOutputEntryAction(int ruleNumber, List<RuleOutputClauseContainer> ruleOutputContainers, CompiledDecisionRule compiledRule,
+            HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start conclusion processing");
 
-        for (RuleOutputClauseContainer clauseContainer : ruleOutputContainers) {
-            composeOutputEntryResult(ruleNumber, clauseContainer, hitPolicy, executionContext);
+        for (int i = 0; i < ruleOutputContainers.size(); i++) {
+            Expression outputEntryExpression = compiledRule != null ? compiledRule.getOutputEntryExpression(i) : null;
+            composeOutputEntryResult(ruleNumber, ruleOutputContainers.get(i), outputEntryExpression, hitPolicy, executionContext);
         }
 
         LOGGER.debug("End conclusion processing");
     }
 
     protected void composeOutputEntryResult(int ruleNumber, RuleOutputClauseContainer ruleClauseContainer, HitPolicy hitPolicy, ELExecutionContext executionContext) {
+        composeOutputEntryResult(ruleNumber, ruleClauseContainer, null, hitPolicy, executionContext);
+    }
+
+    protected void composeOutputEntryResult(int ruleNumber, RuleOutputClauseContainer ruleClauseContainer, Expression compiledOutputEntryExpression,
+            HitPolicy hitPolicy, ELExecutionContext executionContext) {
         LOGGER.debug("Start evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
 
         String outputVariableId = ruleClauseContainer.getOutputClause().getName();
@@ -252,7 +332,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue;
+                if (compiledOutputEntryExpression != null) {
+                    resultValue = ELExpressionExecutor.executeOutputExpression(outputEntryExpression, compiledOutputEntryExpression, executionContext);
+                } else {
+                    resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                }
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
@@ -17,6 +17,8 @@ import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DecisionServiceExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.slf4j.Logger;
@@ -40,7 +42,7 @@ public class ExecuteDecisionOperation extends DmnOperation {
         DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DecisionExecutionAuditContainer auditContainer = dmnEngineConfiguration
             .getRuleEngineExecutor()
-            .execute(decision, executeDecisionContext);
+            .execute(decision, getCompiledDecisionTable(dmnEngineConfiguration), executeDecisionContext);
 
         if (!executeDecisionContext.getDmnElement().equals(decision)) {
             // is part of a decision service execution
@@ -49,4 +51,13 @@ public class ExecuteDecisionOperation extends DmnOperation {
             executeDecisionContext.setDecisionExecution(auditContainer);
         }
     }
+
+    protected CompiledDecisionTable getCompiledDecisionTable(DmnEngineConfiguration dmnEngineConfiguration) {
+        if (executeDecisionContext.getDecisionId() == null) {
+            return null;
+        }
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionContext.getDecisionId());
+        return cacheEntry != null ? cacheEntry.getCompiledDecisionTable(decision.getId()) : null;
+    }
 }
@@ -12,14 +12,19 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -47,6 +52,8 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            compileDecisionTables(cacheEntry, dmnEngineConfiguration);
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -54,4 +61,28 @@ public class CachingAndArtifactsManager {
             deployment.addDecisionCacheEntry(decisionEntity.getId(), cacheEntry);
         }
     }
+
+    /**
+     * Pre-parses the decision tables that can be executed through the cache entry, so the expressions of the table cells
+     * are created once instead of on every decision execution.
+     */
+    protected void compileDecisionTables(DecisionCacheEntry cacheEntry, DmnEngineConfiguration dmnEngineConfiguration) {
+        if (!dmnEngineConfiguration.isDecisionTableCompilationEnabled()) {
+            return;
+        }
+
+        List<Decision> decisions;
+        if (cacheEntry.getDecision() != null) {
+            decisions = Collections.singletonList(cacheEntry.getDecision());
+        } else {
+            decisions = cacheEntry.getDmnDefinition().getDecisions();
+        }
+
+        for (Decision decision : decisions) {
+            if (decision.getExpression() instanceof DecisionTable) {
+                cacheEntry.addCompiledDecisionTable(decision.getId(), CompiledDecisionTable.compile((DecisionTable) decision.getExpression(),
+                        dmnEngineConfiguration.getExpressionManager(), dmnEngineConfiguration.isIndexedRuleMatchingEnabled()));
+            }
+        }
+    }
 }
@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.dmn.model.DecisionRule;
+
+/**
+ * Pre-parsed expressions of a single {@link DecisionRule}.
+ * The expression arrays are aligned with the input and output entries of the rule.
+ * A <code>null</code> element means that the entry either needs no evaluation (empty or dash input entry)
+ * or could not be parsed upfront, in which case it is parsed at execution time as before.
+ */
+public class CompiledDecisionRule {
+
+    protected final DecisionRule rule;
+    protected final Expression[] inputEntryExpressions;
+    protected final Expression[] outputEntryExpressions;
+
+    public CompiledDecisionRule(DecisionRule rule, Expression[] inputEntryExpressions, Expression[] outputEntryExpressions) {
+        this.rule = rule;
+        this.inputEntryExpressions = inputEntryExpressions;
+        this.outputEntryExpressions = outputEntryExpressions;
+    }
+
+    public DecisionRule getRule() {
+        return rule;
+    }
+
+    public Expression getInputEntryExpression(int index) {
+        return index < inputEntryExpressions.length ? inputEntryExpressions[index] : null;
+    }
+
+    public Expression getOutputEntryExpression(int index) {
+        return index < outputEntryExpressions.length ? outputEntryExpressions[index] : null;
+    }
+}
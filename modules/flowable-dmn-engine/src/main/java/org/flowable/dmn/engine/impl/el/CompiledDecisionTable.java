@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DecisionTable} of which all input and output entries have been pre-parsed into {@link Expression}s.
+ * It is created once when the decision is deployed (or put in the decision cache) and shared by all executions of the decision,
+ * so the pre-parsing and expression creation does not need to happen for every cell on every execution.
+ */
+public class CompiledDecisionTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDecisionTable.class);
+
+    protected final DecisionTable decisionTable;
+    protected final List<CompiledDecisionRule> rules;
+    protected final DecisionTableRuleIndex ruleIndex;
+
+    public CompiledDecisionTable(DecisionTable decisionTable, List<CompiledDecisionRule> rules) {
+        this(decisionTable, rules, null);
+    }
+
+    public CompiledDecisionTable(DecisionTable decisionTable, List<CompiledDecisionRule> rules, DecisionTableRuleIndex ruleIndex) {
+        this.decisionTable = decisionTable;
+        this.rules = rules;
+        this.ruleIndex = ruleIndex;
+    }
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        return compile(decisionTable, expressionManager, false);
+    }
+
+    /**
+     * @param buildRuleIndex whether a {@link DecisionTableRuleIndex} should be built to match the rules of the table
+     */
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager, boolean buildRuleIndex) {
+        List<CompiledDecisionRule> compiledRules = new ArrayList<>(decisionTable.getRules().size());
+        for (DecisionRule rule : decisionTable.getRules()) {
+            compiledRules.add(compileRule(rule, expressionManager));
+        }
+
+        DecisionTableRuleIndex ruleIndex = buildRuleIndex ? DecisionTableRuleIndex.build(decisionTable, expressionManager) : null;
+        return new CompiledDecisionTable(decisionTable, compiledRules, ruleIndex);
+    }
+
+    protected static CompiledDecisionRule compileRule(DecisionRule rule, ExpressionManager expressionManager) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        Expression[] inputEntryExpressions = new Expression[inputEntries.size()];
+        for (int i = 0; i < inputEntries.size(); i++) {
+            RuleInputClauseContainer container = inputEntries.get(i);
+            String inputEntryText = container.getInputEntry() != null ? container.getInputEntry().getText() : null;
+            if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)
+                    || container.getInputClause() == null || container.getInputClause().getInputExpression() == null) {
+                continue;
+            }
+
+            String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText,
+                    container.getInputClause().getInputExpression().getText(), container.getInputClause().getInputExpression().getTypeRef());
+            inputEntryExpressions[i] = createExpression(parsedExpression, expressionManager);
+        }
+
+        List<RuleOutputClauseContainer> outputEntries = rule.getOutputEntries();
+        Expression[] outputEntryExpressions = new Expression[outputEntries.size()];
+        for (int i = 0; i < outputEntries.size(); i++) {
+            RuleOutputClauseContainer container = outputEntries.get(i);
+            String outputEntryText = container.getOutputEntry() != null ? container.getOutputEntry().getText() : null;
+            if (StringUtils.isEmpty(outputEntryText)) {
+                continue;
+            }
+
+            outputEntryExpressions[i] = createExpression(ELOutputEntryExpressionPreParser.parse(outputEntryText), expressionManager);
+        }
+
+        return new CompiledDecisionRule(rule, inputEntryExpressions, outputEntryExpressions);
+    }
+
+    protected static Expression createExpression(String expressionText, ExpressionManager expressionManager) {
+        try {
+            return expressionManager.createExpression(expressionText);
+        } catch (Exception e) {
+            // Invalid expressions are parsed again at execution time, so the failure ends up in the audit trail as before
+            LOGGER.debug("Could not pre-parse decision table expression {}", expressionText, e);
+            return null;
+        }
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+    public List<CompiledDecisionRule> getRules() {
+        return rules;
+    }
+
+    public DecisionTableRuleIndex getRuleIndex() {
+        return ruleIndex;
+    }
+}
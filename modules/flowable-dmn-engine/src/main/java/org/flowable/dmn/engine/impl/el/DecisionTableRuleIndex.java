@@ -0,0 +1,356 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.HitPolicy;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index over the input entries of a {@link DecisionTable} that is used to determine which rules can possibly match
+ * before evaluating them.
+ *
+ * For every input column with a string or number type, the input entries that are plain literals (e.g. <code>"GOLD"</code> or <code>== 10</code>)
+ * are put in a hash index and the numeric comparisons (e.g. <code>&gt;= 10</code>) are put in sorted bound arrays.
+ * All other input entries, like arbitrary expressions, are always considered to be a candidate.
+ *
+ * The index only filters out rules that can never match: every candidate rule is still evaluated with its full expression.
+ * Rules that are not a candidate are skipped, hence they don't appear in the audit trail of the execution.
+ * Only the {@link HitPolicy#UNIQUE}, {@link HitPolicy#FIRST} and {@link HitPolicy#ANY} hit policies are supported,
+ * as the results of those don't depend on the evaluation of the non-matching rules.
+ */
+public class DecisionTableRuleIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableRuleIndex.class);
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("^(?:==\\s*)?(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')$");
+    protected static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("^(==|<=|>=|<|>)?\\s*(-?\\d+(?:\\.\\d+)?)$");
+
+    protected final int ruleCount;
+    protected final List<InputColumnIndex> columnIndexes;
+
+    public DecisionTableRuleIndex(int ruleCount, List<InputColumnIndex> columnIndexes) {
+        this.ruleCount = ruleCount;
+        this.columnIndexes = columnIndexes;
+    }
+
+    /**
+     * Builds the index for the given decision table.
+     *
+     * @return the index, or null if the hit policy is not supported or none of the input entries can be indexed
+     */
+    public static DecisionTableRuleIndex build(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        if (!isSupportedHitPolicy(decisionTable.getHitPolicy())) {
+            return null;
+        }
+
+        List<DecisionRule> rules = decisionTable.getRules();
+        List<InputColumnIndex> columnIndexes = new ArrayList<>();
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            InputColumnIndex columnIndex = buildColumnIndex(inputClause, rules, expressionManager);
+            if (columnIndex != null) {
+                columnIndexes.add(columnIndex);
+            }
+        }
+
+        if (columnIndexes.isEmpty()) {
+            return null;
+        }
+
+        return new DecisionTableRuleIndex(rules.size(), columnIndexes);
+    }
+
+    protected static boolean isSupportedHitPolicy(HitPolicy hitPolicy) {
+        return hitPolicy == HitPolicy.UNIQUE || hitPolicy == HitPolicy.FIRST || hitPolicy == HitPolicy.ANY;
+    }
+
+    protected static InputColumnIndex buildColumnIndex(InputClause inputClause, List<DecisionRule> rules, ExpressionManager expressionManager) {
+        if (inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+            return null;
+        }
+
+        String typeRef = inputClause.getInputExpression().getTypeRef();
+        boolean numeric;
+        if ("number".equals(typeRef) || "double".equals(typeRef) || "integer".equals(typeRef) || "long".equals(typeRef)) {
+            numeric = true;
+        } else if ("string".equals(typeRef)) {
+            numeric = false;
+        } else {
+            return null;
+        }
+
+        BitSet alwaysCandidates = new BitSet(rules.size());
+        Map<Object, BitSet> equalityIndex = new HashMap<>();
+        List<RangeBound> lowerBounds = new ArrayList<>();
+        List<RangeBound> upperBounds = new ArrayList<>();
+
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            String inputEntryText = getInputEntryText(rules.get(ruleIndex), inputClause);
+            if (inputEntryText == null) {
+                alwaysCandidates.set(ruleIndex);
+                continue;
+            }
+
+            String text = inputEntryText.trim();
+            if (text.isEmpty() || "-".equals(text)) {
+                alwaysCandidates.set(ruleIndex);
+
+            } else if (numeric) {
+                Matcher matcher = NUMBER_LITERAL_PATTERN.matcher(text);
+                if (matcher.matches()) {
+                    String operator = matcher.group(1);
+                    double bound = normalize(Double.parseDouble(matcher.group(2)));
+                    if (operator == null || "==".equals(operator)) {
+                        equalityIndex.computeIfAbsent(bound, key -> new BitSet(rules.size())).set(ruleIndex);
+                    } else if (operator.startsWith(">")) {
+                        lowerBounds.add(new RangeBound(bound, ruleIndex));
+                    } else {
+                        upperBounds.add(new RangeBound(bound, ruleIndex));
+                    }
+                } else {
+                    alwaysCandidates.set(ruleIndex);
+                }
+
+            } else {
+                Matcher matcher = STRING_LITERAL_PATTERN.matcher(text);
+                if (matcher.matches()) {
+                    String value = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                    equalityIndex.computeIfAbsent(value, key -> new BitSet(rules.size())).set(ruleIndex);
+                } else {
+                    alwaysCandidates.set(ruleIndex);
+                }
+            }
+        }
+
+        if (alwaysCandidates.cardinality() == rules.size()) {
+            // nothing to gain for this column
+            return null;
+        }
+
+        Expression inputExpression;
+        try {
+            inputExpression = expressionManager.createExpression("#{" + inputClause.getInputExpression().getText() + "}");
+        } catch (Exception e) {
+            LOGGER.debug("Could not create expression for input {}, not indexing the input column", inputClause.getInputExpression().getText(), e);
+            return null;
+        }
+
+        return new InputColumnIndex(inputExpression, numeric, alwaysCandidates, equalityIndex, lowerBounds, upperBounds);
+    }
+
+    protected static String getInputEntryText(DecisionRule rule, InputClause inputClause) {
+        for (RuleInputClauseContainer container : rule.getInputEntries()) {
+            if (container.getInputClause() == inputClause) {
+                return container.getInputEntry() != null ? container.getInputEntry().getText() : null;
+            }
+        }
+        return null;
+    }
+
+    protected static double normalize(double value) {
+        // -0.0 and 0.0 should end up as the same key
+        return value + 0.0d;
+    }
+
+    /**
+     * @return the indexes (positions in the rule list of the decision table) of the rules that can possibly match the current input values
+     */
+    public BitSet findCandidateRules(ELExecutionContext executionContext) {
+        BitSet candidates = new BitSet(ruleCount);
+        candidates.set(0, ruleCount);
+
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+        for (InputColumnIndex columnIndex : columnIndexes) {
+            BitSet columnCandidates = columnIndex.findCandidateRules(variableContainer);
+            if (columnCandidates != null) {
+                candidates.and(columnCandidates);
+            }
+        }
+
+        return candidates;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public List<InputColumnIndex> getColumnIndexes() {
+        return columnIndexes;
+    }
+
+    /**
+     * The index of a single input column of the decision table.
+     */
+    public static class InputColumnIndex {
+
+        protected final Expression inputExpression;
+        protected final boolean numeric;
+        protected final BitSet alwaysCandidates;
+        protected final Map<Object, BitSet> equalityIndex;
+
+        // rules with a > or >= entry, sorted by bound
+        protected final double[] lowerBounds;
+        protected final int[] lowerBoundRules;
+
+        // rules with a < or <= entry, sorted by bound
+        protected final double[] upperBounds;
+        protected final int[] upperBoundRules;
+
+        public InputColumnIndex(Expression inputExpression, boolean numeric, BitSet alwaysCandidates, Map<Object, BitSet> equalityIndex,
+                List<RangeBound> lowerBounds, List<RangeBound> upperBounds) {
+
+            this.inputExpression = inputExpression;
+            this.numeric = numeric;
+            this.alwaysCandidates = alwaysCandidates;
+            this.equalityIndex = equalityIndex;
+
+            lowerBounds.sort(Comparator.comparingDouble(RangeBound::getBound));
+            this.lowerBounds = lowerBounds.stream().mapToDouble(RangeBound::getBound).toArray();
+            this.lowerBoundRules = lowerBounds.stream().mapToInt(RangeBound::getRuleIndex).toArray();
+
+            upperBounds.sort(Comparator.comparingDouble(RangeBound::getBound));
+            this.upperBounds = upperBounds.stream().mapToDouble(RangeBound::getBound).toArray();
+            this.upperBoundRules = upperBounds.stream().mapToInt(RangeBound::getRuleIndex).toArray();
+        }
+
+        /**
+         * @return the candidate rules for this column, or null when the input value can't be used for a lookup (in which case all rules are candidates)
+         */
+        protected BitSet findCandidateRules(VariableContainerWrapper variableContainer) {
+            Object value;
+            try {
+                value = inputExpression.getValue(variableContainer);
+            } catch (Exception e) {
+                // The evaluation of the rules will fail in the same way and report it in the audit trail
+                return null;
+            }
+
+            if (numeric) {
+                if (!(value instanceof Number)) {
+                    return null;
+                }
+
+                double numberValue = normalize(((Number) value).doubleValue());
+                if (Double.isNaN(numberValue)) {
+                    return null;
+                }
+                return findNumberCandidates(numberValue);
+
+            } else {
+                if (!(value instanceof String)) {
+                    return null;
+                }
+                return findEqualityCandidates(value);
+            }
+        }
+
+        protected BitSet findEqualityCandidates(Object value) {
+            BitSet candidates = (BitSet) alwaysCandidates.clone();
+            BitSet equalityCandidates = equalityIndex.get(value);
+            if (equalityCandidates != null) {
+                candidates.or(equalityCandidates);
+            }
+            return candidates;
+        }
+
+        protected BitSet findNumberCandidates(double value) {
+            BitSet candidates = findEqualityCandidates(value);
+
+            // The expressions are compared with the exact values, the bounds with doubles.
+            // Comparisons are therefore done inclusively here so that a rule is never excluded because of the conversion.
+
+            // all rules with a lower bound <= value
+            int lowerEnd = upperInsertionPoint(lowerBounds, value);
+            for (int i = 0; i < lowerEnd; i++) {
+                candidates.set(lowerBoundRules[i]);
+            }
+
+            // all rules with an upper bound >= value
+            for (int i = lowerInsertionPoint(upperBounds, value); i < upperBounds.length; i++) {
+                candidates.set(upperBoundRules[i]);
+            }
+
+            return candidates;
+        }
+
+        /**
+         * @return the index of the first bound that is greater than the value
+         */
+        protected static int upperInsertionPoint(double[] bounds, double value) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (bounds[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return the index of the first bound that is greater than or equal to the value
+         */
+        protected static int lowerInsertionPoint(double[] bounds, double value) {
+            int low = 0;
+            int high = bounds.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (bounds[middle] < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    public static class RangeBound {
+
+        protected final double bound;
+        protected final int ruleIndex;
+
+        public RangeBound(double bound, int ruleIndex) {
+            this.bound = bound;
+            this.ruleIndex = ruleIndex;
+        }
+
+        public double getBound() {
+            return bound;
+        }
+
+        public int getRuleIndex() {
+            return ruleIndex;
+        }
+    }
+}
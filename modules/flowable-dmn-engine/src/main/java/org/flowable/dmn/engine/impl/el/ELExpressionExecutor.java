@@ -50,13 +50,39 @@ public class ELExpressionExecutor {
         String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
 
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return evaluateInputExpression(expression, executionContext);
+    }
+
+    /**
+     * Executes an input entry of which the expression was already created, e.g. from a {@link CompiledDecisionTable}.
+     */
+    public static Boolean executeInputExpression(InputClause inputClause, Expression inputEntryExpression, ELExecutionContext executionContext) {
+        if (inputClause == null) {
+            throw new IllegalArgumentException("input clause is required");
+        }
+        if (inputClause.getInputExpression() == null) {
+            throw new IllegalArgumentException("input expression is required");
+        }
+        if (inputEntryExpression == null) {
+            throw new IllegalArgumentException("input entry expression is required");
+        }
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
+
+        return evaluateInputExpression(inputEntryExpression, executionContext);
+    }
+
+    protected static Boolean evaluateInputExpression(Expression expression, ELExecutionContext executionContext) {
         RuleExpressionCondition condition = new RuleExpressionCondition(expression);
         
         try {
             return condition.evaluate(executionContext.getStackVariables(), executionContext);
         } catch (Exception ex) {
-            LOGGER.warn("Error while executing input entry: {}", parsedExpression, ex);
-            throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
+            LOGGER.warn("Error while executing input entry: {}", expression.getExpressionText(), ex);
+            throw new FlowableDmnExpressionException("error while executing input entry", expression.getExpressionText(), ex);
         }
     }
 
@@ -74,6 +100,27 @@ public class ELExpressionExecutor {
         String parsedExpression = ELOutputEntryExpressionPreParser.parse(outputEntry.getText());
         
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return evaluateOutputExpression(outputEntry, expression, executionContext);
+    }
+
+    /**
+     * Executes an output entry of which the expression was already created, e.g. from a {@link CompiledDecisionTable}.
+     */
+    public static Object executeOutputExpression(LiteralExpression outputEntry, Expression outputEntryExpression, ELExecutionContext executionContext) {
+        if (outputEntry == null) {
+            throw new IllegalArgumentException("output entry is required");
+        }
+        if (outputEntryExpression == null) {
+            throw new IllegalArgumentException("output entry expression is required");
+        }
+        if (executionContext == null) {
+            throw new IllegalArgumentException("execution context is required");
+        }
+
+        return evaluateOutputExpression(outputEntry, outputEntryExpression, executionContext);
+    }
+
+    protected static Object evaluateOutputExpression(LiteralExpression outputEntry, Expression expression, ELExecutionContext executionContext) {
         RuleExpressionOutput outputExpression = new RuleExpressionOutput(expression);
 
         try {
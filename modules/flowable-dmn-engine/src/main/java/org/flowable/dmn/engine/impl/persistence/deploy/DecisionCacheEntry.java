@@ -13,7 +13,10 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -31,6 +34,7 @@ public class DecisionCacheEntry implements Serializable {
     protected DmnDefinition dmnDefinition;
     protected DecisionService decisionService;
     protected Decision decision;
+    protected transient Map<String, CompiledDecisionTable> compiledDecisionTables;
 
     public DecisionCacheEntry(DecisionEntity decisionEntity, DmnDefinition dmnDefinition, DecisionService decisionService) {
         this.decisionEntity = decisionEntity;
@@ -72,4 +76,26 @@ public class DecisionCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    /**
+     * @return the compiled decision table for the decision with the given (model) id, or null if none was compiled for it
+     */
+    public CompiledDecisionTable getCompiledDecisionTable(String decisionId) {
+        return compiledDecisionTables != null ? compiledDecisionTables.get(decisionId) : null;
+    }
+
+    public void addCompiledDecisionTable(String decisionId, CompiledDecisionTable compiledDecisionTable) {
+        if (compiledDecisionTables == null) {
+            compiledDecisionTables = new HashMap<>();
+        }
+        compiledDecisionTables.put(decisionId, compiledDecisionTable);
+    }
+
+    public Map<String, CompiledDecisionTable> getCompiledDecisionTables() {
+        return compiledDecisionTables;
+    }
+
+    public void setCompiledDecisionTables(Map<String, CompiledDecisionTable> compiledDecisionTables) {
+        this.compiledDecisionTables = compiledDecisionTables;
+    }
 }
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.junit.Test;
+
+public class CompiledDecisionTableTest extends AbstractFlowableDmnTest {
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/simple.dmn")
+    public void decisionTableIsCompiledOnDeployment() {
+        DmnDecision decision = repositoryService.createDecisionQuery().decisionKey("decision").singleResult();
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        CompiledDecisionTable compiledDecisionTable = cacheEntry.getCompiledDecisionTable("decision");
+        assertThat(compiledDecisionTable).isNotNull();
+        assertThat(compiledDecisionTable.getRules()).hasSize(3);
+        assertThat(compiledDecisionTable.getRules().get(2).getInputEntryExpression(0).getExpressionText()).isEqualTo("#{inputVariable1 == 1}");
+        assertThat(compiledDecisionTable.getRules().get(2).getOutputEntryExpression(0).getExpressionText()).isEqualTo("#{\"result2\"}");
+
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variable("inputVariable1", 1D)
+                .variable("inputVariable2", "test2")
+                .executeWithSingleResult();
+        assertThat(result).containsEntry("outputVariable1", "result2");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/simple.dmn")
+    public void decisionTableIsCompiledWhenCacheIsRebuilt() {
+        DmnDecision decision = repositoryService.createDecisionQuery().decisionKey("decision").singleResult();
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variable("inputVariable1", 1D)
+                .variable("inputVariable2", "test2")
+                .executeWithSingleResult();
+        assertThat(result).containsEntry("outputVariable1", "result2");
+
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        assertThat(cacheEntry.getCompiledDecisionTable("decision")).isNotNull();
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/simple.dmn")
+    public void decisionTableCompilationDisabled() {
+        DmnDecision decision = repositoryService.createDecisionQuery().decisionKey("decision").singleResult();
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+        dmnEngineConfiguration.setDecisionTableCompilationEnabled(false);
+
+        try {
+            Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision")
+                    .variable("inputVariable1", 1D)
+                    .variable("inputVariable2", "test2")
+                    .executeWithSingleResult();
+            assertThat(result).containsEntry("outputVariable1", "result2");
+
+            DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+            assertThat(cacheEntry.getCompiledDecisionTable("decision")).isNull();
+
+        } finally {
+            dmnEngineConfiguration.setDecisionTableCompilationEnabled(true);
+        }
+    }
+}
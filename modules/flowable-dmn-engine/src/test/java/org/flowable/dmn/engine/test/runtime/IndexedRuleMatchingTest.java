@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexedRuleMatchingTest extends AbstractFlowableDmnTest {
+
+    protected DmnDeployment deployment;
+
+    @Before
+    public void deployWithIndexedRuleMatching() {
+        dmnEngineConfiguration.setIndexedRuleMatchingEnabled(true);
+        deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/runtime/IndexedRuleMatchingTest.dmn")
+                .deploy();
+    }
+
+    @After
+    public void cleanUp() {
+        dmnEngineConfiguration.setIndexedRuleMatchingEnabled(false);
+        repositoryService.deleteDeployment(deployment.getId());
+    }
+
+    @Test
+    public void ruleIndexIsBuilt() {
+        DmnDecision decision = repositoryService.createDecisionQuery().deploymentId(deployment.getId()).singleResult();
+        CompiledDecisionTable compiledDecisionTable = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId())
+                .getCompiledDecisionTable("indexedDecision");
+
+        assertThat(compiledDecisionTable.getRuleIndex()).isNotNull();
+        assertThat(compiledDecisionTable.getRuleIndex().getRuleCount()).isEqualTo(5);
+        assertThat(compiledDecisionTable.getRuleIndex().getColumnIndexes()).hasSize(2);
+    }
+
+    @Test
+    public void literalAndRangeMatching() {
+        assertThat(executeDecision("GOLD", 50).getDecisionResult()).containsExactly(Collections.singletonMap("category", "gold-small"));
+        assertThat(executeDecision("GOLD", 150).getDecisionResult()).containsExactly(Collections.singletonMap("category", "gold-large"));
+        assertThat(executeDecision("GOLD", 100.0d).getDecisionResult()).containsExactly(Collections.singletonMap("category", "gold-large"));
+        assertThat(executeDecision("SILVER", 7).getDecisionResult()).containsExactly(Collections.singletonMap("category", "silver"));
+        assertThat(executeDecision("BRONZE", 5L).getDecisionResult()).containsExactly(Collections.singletonMap("category", "bronze-5"));
+    }
+
+    @Test
+    public void onlyCandidateRulesAreEvaluated() {
+        DecisionExecutionAuditContainer auditContainer = executeDecision("PLATINUM", 1);
+        assertThat(auditContainer.getDecisionResult()).containsExactly(Collections.singletonMap("category", "default"));
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(5);
+
+        auditContainer = executeDecision("BRONZE", 5);
+        assertThat(auditContainer.getDecisionResult()).containsExactly(Collections.singletonMap("category", "bronze-5"));
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(4);
+    }
+
+    @Test
+    public void nonIndexableValueEvaluatesAllRules() {
+        DecisionExecutionAuditContainer auditContainer = executeDecision("BRONZE", "5");
+        assertThat(auditContainer.getDecisionResult()).containsExactly(Collections.singletonMap("category", "bronze-5"));
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(4);
+
+        auditContainer = executeDecision("PLATINUM", null);
+        assertThat(auditContainer.getDecisionResult()).containsExactly(Collections.singletonMap("category", "default"));
+        assertThat(auditContainer.getRuleExecutions()).containsOnlyKeys(4, 5);
+    }
+
+    protected DecisionExecutionAuditContainer executeDecision(String customerStatus, Object amount) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("indexedDecision")
+                .variable("customerStatus", customerStatus)
+                .variable("amount", amount)
+                .executeWithAuditTrail();
+    }
+}
@@ -69,6 +69,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.impl.agenda.AgendaOperationExecutionListener;
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
 import org.flowable.common.engine.impl.agenda.AgendaOperationRunner;
 import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
@@ -105,6 +106,9 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -196,6 +200,11 @@ public abstract class AbstractEngineConfiguration {
     protected AgendaOperationRunner agendaOperationRunner = (commandContext, runnable) -> runnable.run();
     protected Collection<AgendaOperationExecutionListener> agendaOperationExecutionListeners;
 
+    /**
+     * When set, the agenda operations are profiled by this profiler, in addition to the configured agenda operation execution listeners.
+     */
+    protected AgendaOperationProfiler agendaOperationProfiler;
+
     protected List<CommandInterceptor> customPreCommandInterceptors;
     protected List<CommandInterceptor> customPostCommandInterceptors;
     protected List<CommandInterceptor> commandInterceptors;
@@ -238,6 +247,37 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * If set to true, updates of entities of the same type are sent to the database as one JDBC batch when the session is flushed,
+     * instead of one statement per entity. The update count of every statement in the batch is still verified for optimistic locking.
+     * The JDBC driver needs to return the update counts of batched statements. Custom MyBatis interceptors are not invoked for batched updates.
+     * Default false.
+     */
+    protected boolean isBatchUpdatesEnabled;
+
+    /**
+     * The maximum number of update statements that are put in one JDBC batch when batch updates are enabled. Default 100.
+     */
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+
+    /**
+     * If set to true, entities that track their own modifications (see {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity})
+     * are only compared against their original persistent state at flush time when one of their setters was called.
+     * Unmodified entities loaded into the entity cache are then skipped without building their persistent state.
+     * Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    // DEPLOYMENT CACHES /////////////////////////////////////////////
+
+    /**
+     * If set to true, the deployment caches (definitions, expressions) created by the engine use a {@link ConcurrentDeploymentCache}
+     * instead of a {@link DefaultDeploymentCache}. Reads from such a cache don't take a global lock and hit, miss and eviction counts are kept.
+     * When a cache limit is set, the least recently used entries are evicted approximately and in small batches.
+     * Default false.
+     */
+    protected boolean isConcurrentDeploymentCacheEnabled;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -624,6 +664,31 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    // deployment caches
+    // /////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a deployment cache for the given limit. A limit of zero or lower means the cache is not limited.
+     */
+    protected <T> DeploymentCache<T> createDeploymentCache(int limit) {
+        if (isConcurrentDeploymentCacheEnabled) {
+            return limit > 0 ? new ConcurrentDeploymentCache<>(limit) : new ConcurrentDeploymentCache<>();
+        } else {
+            return limit > 0 ? new DefaultDeploymentCache<>(limit) : new DefaultDeploymentCache<>();
+        }
+    }
+
+    /**
+     * Creates the cache used by the expression manager to store parsed expressions.
+     */
+    protected <T> DeploymentCache<T> createExpressionCache(int expressionCacheSize) {
+        if (isConcurrentDeploymentCacheEnabled) {
+            return new ConcurrentDeploymentCache<>(expressionCacheSize);
+        } else {
+            return new DefaultDeploymentCache<>(expressionCacheSize);
+        }
+    }
+
     // id generator
     // /////////////////////////////////////////////////////////////
 
@@ -733,6 +798,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchUpdatesEnabled(isBatchUpdatesEnabled);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBatchUpdate(maxNrOfStatementsInBatchUpdate);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1438,6 +1506,31 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    /**
+     * Returns the agenda operation execution listeners to be used by the command invoker: the configured listeners and the agenda operation profiler, if any.
+     */
+    protected Collection<AgendaOperationExecutionListener> getCommandInvokerAgendaOperationExecutionListeners() {
+        if (agendaOperationProfiler == null) {
+            return agendaOperationExecutionListeners;
+        }
+
+        List<AgendaOperationExecutionListener> listeners = new ArrayList<>();
+        if (agendaOperationExecutionListeners != null) {
+            listeners.addAll(agendaOperationExecutionListeners);
+        }
+        listeners.add(agendaOperationProfiler);
+        return listeners;
+    }
+
+    public AgendaOperationProfiler getAgendaOperationProfiler() {
+        return agendaOperationProfiler;
+    }
+
+    public AbstractEngineConfiguration setAgendaOperationProfiler(AgendaOperationProfiler agendaOperationProfiler) {
+        this.agendaOperationProfiler = agendaOperationProfiler;
+        return this;
+    }
+
     public List<CommandInterceptor> getCustomPreCommandInterceptors() {
         return customPreCommandInterceptors;
     }
@@ -1589,6 +1682,42 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchUpdatesEnabled() {
+        return isBatchUpdatesEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdatesEnabled(boolean isBatchUpdatesEnabled) {
+        this.isBatchUpdatesEnabled = isBatchUpdatesEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public AbstractEngineConfiguration setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return isConcurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean isConcurrentDeploymentCacheEnabled) {
+        this.isConcurrentDeploymentCacheEnabled = isConcurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public boolean isBulkInsertEnabled() {
         return isBulkInsertEnabled;
     }
@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link AgendaOperationExecutionListener} that records the execution count and the total and maximum execution time
+ * of the agenda operations, per operation type and per activity.
+ * <p>
+ * To keep the overhead low in production, only one out of every {@link #getSampleInterval() sample interval} operations
+ * can be profiled. The counts are then those of the profiled operations only.
+ * <p>
+ * The execution time of an operation includes the time of any agenda operations executed by a nested command with its own command context.
+ */
+public class AgendaOperationProfiler implements AgendaOperationExecutionListener {
+
+    protected static final long NOT_PROFILED = -1L;
+
+    protected final Map<String, AgendaOperationStatistics> operationStatistics = new ConcurrentHashMap<>();
+    protected final Map<String, AgendaOperationStatistics> activityStatistics = new ConcurrentHashMap<>();
+    protected final ThreadLocal<ProfiledOperations> profiledOperations = ThreadLocal.withInitial(ProfiledOperations::new);
+
+    protected volatile int sampleInterval = 1;
+
+    public AgendaOperationProfiler() {
+    }
+
+    public AgendaOperationProfiler(int sampleInterval) {
+        setSampleInterval(sampleInterval);
+    }
+
+    @Override
+    public void beforeExecute(CommandContext commandContext, Runnable runnable) {
+        ProfiledOperations operations = profiledOperations.get();
+        if (operations.operationCounter++ % sampleInterval == 0) {
+            operations.push(getActivityId(commandContext, runnable), System.nanoTime());
+        } else {
+            operations.push(null, NOT_PROFILED);
+        }
+    }
+
+    @Override
+    public void afterExecute(CommandContext commandContext, Runnable runnable) {
+        recordExecution(runnable);
+    }
+
+    @Override
+    public void afterExecuteException(CommandContext commandContext, Runnable runnable, Throwable error) {
+        recordExecution(runnable);
+    }
+
+    protected void recordExecution(Runnable runnable) {
+        ProfiledOperations operations = profiledOperations.get();
+        if (operations.depth == 0) {
+            return;
+        }
+
+        long startTime = operations.peekStartTime();
+        String activityId = operations.peekActivityId();
+        operations.pop();
+        if (startTime == NOT_PROFILED) {
+            return;
+        }
+
+        long executionTime = System.nanoTime() - startTime;
+        operationStatistics.computeIfAbsent(getOperationType(runnable), key -> new AgendaOperationStatistics()).record(executionTime);
+        if (activityId != null) {
+            activityStatistics.computeIfAbsent(activityId, key -> new AgendaOperationStatistics()).record(executionTime);
+        }
+    }
+
+    protected String getOperationType(Runnable runnable) {
+        Class<?> operationClass = runnable.getClass();
+        String simpleName = operationClass.getSimpleName();
+        // Anonymous operations (e.g. the one executing the command itself) don't have a simple name
+        return simpleName.isEmpty() ? operationClass.getName() : simpleName;
+    }
+
+    /**
+     * Returns the id of the activity (or plan item) the operation is executed for, or null if there is none.
+     * Invoked before the operation is executed.
+     */
+    protected String getActivityId(CommandContext commandContext, Runnable runnable) {
+        return null;
+    }
+
+    /**
+     * @return the statistics per operation type (the simple class name of the operation).
+     */
+    public Map<String, AgendaOperationStatistics> getOperationStatistics() {
+        return Collections.unmodifiableMap(operationStatistics);
+    }
+
+    /**
+     * @return the statistics of all operations executed for an activity (or plan item), per activity id.
+     */
+    public Map<String, AgendaOperationStatistics> getActivityStatistics() {
+        return Collections.unmodifiableMap(activityStatistics);
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Sets that one out of every given number of operations is profiled. 1 profiles every operation.
+     */
+    public void setSampleInterval(int sampleInterval) {
+        if (sampleInterval < 1) {
+            throw new FlowableIllegalArgumentException("sampleInterval must be at least 1");
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    public void reset() {
+        operationStatistics.clear();
+        activityStatistics.clear();
+    }
+
+    /**
+     * The operations that are being executed on the current thread: agenda loops of nested command contexts execute within an operation.
+     */
+    protected static class ProfiledOperations {
+
+        protected long operationCounter;
+        protected int depth;
+        protected long[] startTimes = new long[4];
+        protected String[] activityIds = new String[4];
+
+        protected void push(String activityId, long startTime) {
+            if (depth == startTimes.length) {
+                startTimes = Arrays.copyOf(startTimes, depth * 2);
+                activityIds = Arrays.copyOf(activityIds, depth * 2);
+            }
+            startTimes[depth] = startTime;
+            activityIds[depth] = activityId;
+            depth++;
+        }
+
+        protected long peekStartTime() {
+            return startTimes[depth - 1];
+        }
+
+        protected String peekActivityId() {
+            return activityIds[depth - 1];
+        }
+
+        protected void pop() {
+            depth--;
+            activityIds[depth] = null;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution count and execution times of the agenda operations profiled by an {@link AgendaOperationProfiler}
+ * for one operation type or one activity.
+ */
+public class AgendaOperationStatistics {
+
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder totalTimeNanos = new LongAdder();
+    protected final LongAccumulator maxTimeNanos = new LongAccumulator(Math::max, 0L);
+
+    public void record(long executionTimeNanos) {
+        count.increment();
+        totalTimeNanos.add(executionTimeNanos);
+        maxTimeNanos.accumulate(executionTimeNanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalTime(TimeUnit timeUnit) {
+        return timeUnit.convert(totalTimeNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageTime(TimeUnit timeUnit) {
+        long count = getCount();
+        return count == 0 ? 0 : timeUnit.convert(totalTimeNanos.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    public void reset() {
+        count.reset();
+        totalTimeNanos.reset();
+        maxTimeNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "AgendaOperationStatistics[count=" + getCount() + ", totalTimeNanos=" + totalTimeNanos.sum() + ", maxTimeNanos=" + maxTimeNanos.get() + "]";
+    }
+
+}
@@ -60,6 +60,20 @@ public class AsyncTaskExecutorConfiguration {
      */
     protected String threadPoolNamingPattern;
 
+    /**
+     * Whether every task should be executed on its own virtual thread instead of on a thread pool.
+     * When enabled, the pool and queue settings are not used and the number of tasks running at the same time
+     * is limited by {@link #maxConcurrentTasks}.
+     *
+     * @see VirtualThreadAsyncTaskExecutor
+     */
+    protected boolean virtualThreadsEnabled;
+
+    /**
+     * The maximum number of tasks executing at the same time when virtual threads are enabled
+     */
+    protected int maxConcurrentTasks = 256;
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
@@ -116,6 +130,22 @@ public class AsyncTaskExecutorConfiguration {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
 
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     public void setThreadNamePrefix(String prefix) {
         if (prefix == null) {
             this.threadPoolNamingPattern = "%d";
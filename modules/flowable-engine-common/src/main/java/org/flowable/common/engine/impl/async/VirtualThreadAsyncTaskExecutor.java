@@ -0,0 +1,199 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.flowable.common.engine.impl.util.ExceptionUtil.sneakyThrow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AsyncTaskExecutor} that runs every task on a new virtual thread, instead of queueing it for a thread pool.
+ * This makes it possible to have many tasks blocking on I/O (e.g. HTTP calls or JDBC) at the same time, without needing as many platform threads.
+ *
+ * <p>
+ * The number of tasks running at the same time is limited by {@link AsyncTaskExecutorConfiguration#getMaxConcurrentTasks()}.
+ * When the limit is reached, a {@link RejectedExecutionException} is thrown, the same as when the queue of the {@link DefaultAsyncTaskExecutor} is full,
+ * so callers can handle the rejection in the same way. The remaining capacity is the number of tasks that can still be started.
+ * </p>
+ *
+ * <p>
+ * Virtual threads need Java 21 or later. On older Java versions a warning is logged and a new platform thread is used for every task.
+ * </p>
+ */
+public class VirtualThreadAsyncTaskExecutor implements AsyncTaskExecutor {
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected final AsyncTaskExecutorConfiguration configuration;
+
+    protected ThreadFactory threadFactory;
+    protected Semaphore permits;
+    protected volatile boolean isShutdown;
+
+    public VirtualThreadAsyncTaskExecutor() {
+        this(new AsyncTaskExecutorConfiguration());
+    }
+
+    public VirtualThreadAsyncTaskExecutor(AsyncTaskExecutorConfiguration configuration) {
+        this.configuration = configuration;
+        if (StringUtils.isEmpty(this.configuration.getThreadPoolNamingPattern())) {
+            this.configuration.setThreadPoolNamingPattern("flowable-async-job-executor-thread-%d");
+        }
+    }
+
+    public void start() {
+        if (permits == null) {
+            logger.info("Creating virtual thread executor with max concurrent tasks {}", getMaxConcurrentTasks());
+            permits = new Semaphore(getMaxConcurrentTasks());
+        }
+
+        if (threadFactory == null) {
+            threadFactory = createVirtualThreadFactory();
+            if (threadFactory == null) {
+                logger.warn("Virtual threads are not available in this Java version, a new platform thread will be used for every task");
+                threadFactory = new BasicThreadFactory.Builder().namingPattern(getThreadPoolNamingPattern()).build();
+            }
+        }
+
+        isShutdown = false;
+    }
+
+    protected ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().name(prefix, 0).factory(), through reflection as the code is compiled for a Java version without virtual threads
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            String namePrefix = getThreadPoolNamingPattern().replace("%d", "");
+            Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Could not create virtual thread factory", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (isShutdown) {
+            throw new RejectedExecutionException("Executor is shut down");
+        }
+
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum number of concurrent tasks (" + getMaxConcurrentTasks() + ") reached");
+        }
+
+        Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+            thread.start();
+
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw new RejectedExecutionException("Could not start thread for task", e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> submit(Runnable task) {
+        return CompletableFuture.runAsync(task, this::execute);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception exception) {
+                sneakyThrow(exception);
+                return null;
+            }
+        }, this::execute);
+    }
+
+    @Override
+    public void shutdown() {
+        if (permits != null && !isShutdown) {
+            isShutdown = true;
+
+            // Waits for the configured time to finish all currently executing tasks
+            int maxConcurrentTasks = getMaxConcurrentTasks();
+            long secondsToWaitOnShutdown = configuration.getAwaitTerminationPeriod().getSeconds();
+            try {
+                if (permits.tryAcquire(maxConcurrentTasks, secondsToWaitOnShutdown, TimeUnit.SECONDS)) {
+                    permits.release(maxConcurrentTasks);
+                } else {
+                    logger.warn(
+                            "Timeout during shutdown of async job executor. The current running jobs could not end within {} seconds after shutdown operation.",
+                            secondsToWaitOnShutdown);
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while shutting down the async job executor. ", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        return permits != null ? permits.availablePermits() : 0;
+    }
+
+    public int getActiveTaskCount() {
+        return permits != null ? getMaxConcurrentTasks() - permits.availablePermits() : 0;
+    }
+
+    public AsyncTaskExecutorConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return configuration.getMaxConcurrentTasks();
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        configuration.setMaxConcurrentTasks(maxConcurrentTasks);
+    }
+
+    public String getThreadPoolNamingPattern() {
+        return configuration.getThreadPoolNamingPattern();
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+}
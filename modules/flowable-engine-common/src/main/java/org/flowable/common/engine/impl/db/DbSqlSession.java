@@ -14,6 +14,9 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -24,6 +27,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.exceptions.ExceptionFactory;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -60,6 +67,9 @@ public class DbSqlSession implements Session {
     protected List<Entity> updatedObjects = new ArrayList<>();
     protected List<BulkUpdateOperation> bulkUpdateOperations = new ArrayList<>();
 
+    // Batch updates bypass the MyBatis executor, which then doesn't know the session is dirty
+    protected boolean batchUpdatesFlushed;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -418,6 +428,7 @@ public class DbSqlSession implements Session {
         }
 
         Collection<Class<? extends Entity>> immutableEntities = dbSqlSessionFactory.getImmutableEntities();
+        boolean entityDirtyTrackingEnabled = dbSqlSessionFactory.isEntityDirtyTrackingEnabled();
         for (Class<?> clazz : cachedObjects.keySet()) {
             if (immutableEntities.contains(clazz)) {
                 continue;
@@ -426,6 +437,12 @@ public class DbSqlSession implements Session {
             Map<String, CachedEntity> classCache = cachedObjects.get(clazz);
             for (CachedEntity cachedObject : classCache.values()) {
 
+                // Entities that track their own modifications and weren't touched can't have changed,
+                // which avoids building and comparing their persistent state.
+                if (entityDirtyTrackingEnabled && !cachedObject.isPossiblyChanged()) {
+                    continue;
+                }
+
                 Entity cachedEntity = cachedObject.getEntity();
 
                 // Executions are stored as a hierarchical tree, and updates are important to execute
@@ -601,7 +618,11 @@ public class DbSqlSession implements Session {
         }
 
         if (!updatedObjects.isEmpty()) {
-            updatedObjects.forEach(this::flushUpdateEntity);
+            if (dbSqlSessionFactory.isBatchUpdatesEnabled()) {
+                flushBatchUpdates(updatedObjects);
+            } else {
+                updatedObjects.forEach(this::flushUpdateEntity);
+            }
         }
 
         updatedObjects.clear();
@@ -609,12 +630,7 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdateEntity(Entity updatedObject) {
-        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-        if (updateStatement == null) {
-            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
-        }
+        String updateStatement = getMappedUpdateStatement(updatedObject);
 
         LOGGER.debug("updating: {}", updatedObject);
 
@@ -629,6 +645,122 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Flushes the updated entities with JDBC batches: consecutive entities that use the same update statement
+     * (which is the case for entities of the same type) are grouped into one batch.
+     */
+    protected void flushBatchUpdates(List<Entity> updatedObjects) {
+        int maxBatchSize = Math.max(1, dbSqlSessionFactory.getMaxNrOfStatementsInBatchUpdate());
+        int start = 0;
+        while (start < updatedObjects.size()) {
+            String updateStatement = getMappedUpdateStatement(updatedObjects.get(start));
+            int end = start + 1;
+            while (end < updatedObjects.size() && end - start < maxBatchSize
+                    && updateStatement.equals(getMappedUpdateStatement(updatedObjects.get(end)))) {
+                end++;
+            }
+
+            if (end - start == 1) {
+                flushUpdateEntity(updatedObjects.get(start));
+            } else {
+                flushBatchUpdate(updateStatement, updatedObjects.subList(start, end));
+            }
+
+            start = end;
+        }
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    protected void flushBatchUpdate(String updateStatement, List<Entity> entities) {
+        LOGGER.debug("batch updating {} entities with {}", entities.size(), updateStatement);
+
+        MappedStatement mappedStatement = sqlSession.getConfiguration().getMappedStatement(updateStatement);
+        Connection connection = sqlSession.getConnection();
+
+        // The local MyBatis cache is cleared for regular updates, as the batch bypasses the executor it needs to be done here
+        sqlSession.clearCache();
+        batchUpdatesFlushed = true;
+
+        PreparedStatement preparedStatement = null;
+        String currentSql = null;
+        List<Entity> batchedEntities = new ArrayList<>(entities.size());
+        try {
+            for (Entity entity : entities) {
+                BoundSql boundSql = mappedStatement.getBoundSql(entity);
+
+                // Dynamic sql could lead to a different statement for some entities
+                if (!boundSql.getSql().equals(currentSql)) {
+                    if (preparedStatement != null) {
+                        executeUpdateBatch(preparedStatement, batchedEntities);
+                        preparedStatement.close();
+                        batchedEntities.clear();
+                    }
+
+                    currentSql = boundSql.getSql();
+                    preparedStatement = connection.prepareStatement(currentSql);
+                    if (mappedStatement.getTimeout() != null) {
+                        preparedStatement.setQueryTimeout(mappedStatement.getTimeout());
+                    }
+                }
+
+                LOGGER.debug("updating: {}", entity);
+                new DefaultParameterHandler(mappedStatement, entity, boundSql).setParameters(preparedStatement);
+                preparedStatement.addBatch();
+                batchedEntities.add(entity);
+            }
+
+            if (preparedStatement != null) {
+                executeUpdateBatch(preparedStatement, batchedEntities);
+            }
+
+        } catch (SQLException e) {
+            throw ExceptionFactory.wrapException("Error batch updating database with " + updateStatement, e);
+
+        } finally {
+            if (preparedStatement != null) {
+                try {
+                    preparedStatement.close();
+                } catch (SQLException e) {
+                    LOGGER.debug("Could not close batch update statement", e);
+                }
+            }
+        }
+    }
+
+    protected void executeUpdateBatch(PreparedStatement preparedStatement, List<Entity> batchedEntities) throws SQLException {
+        int[] updateCounts = preparedStatement.executeBatch();
+        if (updateCounts.length != batchedEntities.size()) {
+            throw new FlowableException("Batch update returned " + updateCounts.length + " update counts for " + batchedEntities.size() + " statements");
+        }
+
+        for (int i = 0; i < updateCounts.length; i++) {
+            Entity updatedObject = batchedEntities.get(i);
+            if (updateCounts[i] == 0) {
+                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+
+            } else if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new FlowableException("The JDBC driver did not return the update count for " + updatedObject
+                        + ", optimistic locking can't be verified. Batch updates need to be disabled for this database.");
+            }
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        for (Entity updatedObject : batchedEntities) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+    }
+
     protected void flushBulkUpdate(BulkUpdateOperation bulkUpdateOperation) {
         // Bulk update
         bulkUpdateOperation.execute(sqlSession);
@@ -702,11 +834,13 @@ public class DbSqlSession implements Session {
     }
 
     public void commit() {
-        sqlSession.commit();
+        sqlSession.commit(batchUpdatesFlushed);
+        batchUpdatesFlushed = false;
     }
 
     public void rollback() {
-        sqlSession.rollback();
+        sqlSession.rollback(batchUpdatesFlushed);
+        batchUpdatesFlushed = false;
     }
 
     public <T> T getCustomMapper(Class<T> type) {
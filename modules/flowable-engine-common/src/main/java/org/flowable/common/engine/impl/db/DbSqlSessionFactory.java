@@ -64,6 +64,10 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean batchUpdatesEnabled;
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+    protected boolean entityDirtyTrackingEnabled;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -204,6 +208,30 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchUpdatesEnabled() {
+        return batchUpdatesEnabled;
+    }
+
+    public void setBatchUpdatesEnabled(boolean batchUpdatesEnabled) {
+        this.batchUpdatesEnabled = batchUpdatesEnabled;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public void setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -15,6 +15,7 @@ package org.flowable.common.engine.impl.el;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
@@ -29,6 +30,8 @@ import org.flowable.common.engine.impl.javax.el.ExpressionFactory;
 import org.flowable.common.engine.impl.javax.el.ListELResolver;
 import org.flowable.common.engine.impl.javax.el.MapELResolver;
 import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 
 /**
@@ -54,6 +57,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+    protected ExpressionManagerListener expressionManagerListener;
     
     protected List<ELResolver> preDefaultResolvers;
     protected ELResolver jsonNodeResolver;
@@ -71,12 +75,22 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public Expression createExpression(String text) {
         
-        if (isCacheEnabled(text)) {
+        boolean cacheEnabled = isCacheEnabled(text);
+        if (cacheEnabled) {
             Expression cachedExpression = expressionCache.get(text);
             if (cachedExpression != null) {
+                if (expressionManagerListener != null) {
+                    expressionManagerListener.expressionCacheHit(text);
+                }
                 return cachedExpression;
             }
+
+            if (expressionManagerListener != null) {
+                expressionManagerListener.expressionCacheMiss(text);
+            }
         }
+
+        long parseStartTime = expressionManagerListener != null ? System.nanoTime() : 0L;
         
         if (parsingElContext == null) {
             this.parsingElContext = new ParsingElContext(functionResolver);
@@ -88,8 +102,12 @@ public class DefaultExpressionManager implements ExpressionManager {
         
         ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expressionText, Object.class);
         Expression expression = createJuelExpression(text, valueExpression);
+
+        if (expressionManagerListener != null) {
+            expressionManagerListener.expressionParsed(text, System.nanoTime() - parseStartTime);
+        }
         
-        if (isCacheEnabled(text)) {
+        if (cacheEnabled) {
             expressionCache.add(text, expression);
         }
         
@@ -233,6 +251,7 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     public void setExpressionCache(DeploymentCache<Expression> expressionCache) {
         this.expressionCache = expressionCache;
+        registerExpressionCacheEvictionListener();
     }
 
     public int getExpressionTextLengthCacheLimit() {
@@ -243,6 +262,29 @@ public class DefaultExpressionManager implements ExpressionManager {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
 
+    public ExpressionManagerListener getExpressionManagerListener() {
+        return expressionManagerListener;
+    }
+
+    public void setExpressionManagerListener(ExpressionManagerListener expressionManagerListener) {
+        this.expressionManagerListener = expressionManagerListener;
+        registerExpressionCacheEvictionListener();
+    }
+
+    protected void registerExpressionCacheEvictionListener() {
+        // Evictions can only be reported for the cache implementations that support an eviction listener
+        BiConsumer<String, Expression> evictionListener = null;
+        if (expressionManagerListener != null) {
+            evictionListener = (expressionText, expression) -> expressionManagerListener.expressionCacheEviction(expressionText);
+        }
+
+        if (expressionCache instanceof DefaultDeploymentCache) {
+            ((DefaultDeploymentCache<Expression>) expressionCache).setEvictionListener(evictionListener);
+        } else if (expressionCache instanceof ConcurrentDeploymentCache) {
+            ((ConcurrentDeploymentCache<Expression>) expressionCache).setEvictionListener(evictionListener);
+        }
+    }
+
     public void addPreDefaultResolver(ELResolver elResolver) {
         if (this.preDefaultResolvers == null) {
             this.preDefaultResolvers = new ArrayList<>();
@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+/**
+ * Listener that gets notified by the {@link DefaultExpressionManager} when expressions are created,
+ * which allows to follow the effectiveness of the expression cache.
+ *
+ * @see ExpressionManagerMetrics
+ */
+public interface ExpressionManagerListener {
+
+    /**
+     * Called when the expression was found in the expression cache.
+     */
+    void expressionCacheHit(String expressionText);
+
+    /**
+     * Called when the expression was not found in the expression cache and needs to be parsed.
+     * Not called for expressions that are not cached because of the expression text length cache limit.
+     */
+    void expressionCacheMiss(String expressionText);
+
+    /**
+     * Called after an expression has been parsed.
+     *
+     * @param parseTimeNanos the time needed to parse the expression, in nanoseconds
+     */
+    void expressionParsed(String expressionText, long parseTimeNanos);
+
+    /**
+     * Called when an expression is evicted from the expression cache because the cache is full.
+     */
+    void expressionCacheEviction(String expressionText);
+
+}
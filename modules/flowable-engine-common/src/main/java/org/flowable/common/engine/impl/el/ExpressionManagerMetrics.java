@@ -0,0 +1,176 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ExpressionManagerListener} that keeps counters about the expression cache and the parsing of expressions,
+ * together with the expressions that took the longest to parse.
+ */
+public class ExpressionManagerMetrics implements ExpressionManagerListener {
+
+    public static final int DEFAULT_NR_OF_SLOWEST_EXPRESSIONS = 10;
+
+    protected final int nrOfSlowestExpressions;
+
+    protected final LongAdder cacheHitCount = new LongAdder();
+    protected final LongAdder cacheMissCount = new LongAdder();
+    protected final LongAdder cacheEvictionCount = new LongAdder();
+    protected final LongAdder parseCount = new LongAdder();
+    protected final LongAdder totalParseTimeNanos = new LongAdder();
+    protected final LongAccumulator maxParseTimeNanos = new LongAccumulator(Math::max, 0L);
+
+    // Expression text -> parse time in nanoseconds, guarded by 'this'
+    protected final Map<String, Long> slowestExpressions = new HashMap<>();
+    protected volatile long slowestExpressionsThresholdNanos;
+
+    public ExpressionManagerMetrics() {
+        this(DEFAULT_NR_OF_SLOWEST_EXPRESSIONS);
+    }
+
+    public ExpressionManagerMetrics(int nrOfSlowestExpressions) {
+        this.nrOfSlowestExpressions = nrOfSlowestExpressions;
+    }
+
+    @Override
+    public void expressionCacheHit(String expressionText) {
+        cacheHitCount.increment();
+    }
+
+    @Override
+    public void expressionCacheMiss(String expressionText) {
+        cacheMissCount.increment();
+    }
+
+    @Override
+    public void expressionParsed(String expressionText, long parseTimeNanos) {
+        parseCount.increment();
+        totalParseTimeNanos.add(parseTimeNanos);
+        maxParseTimeNanos.accumulate(parseTimeNanos);
+
+        // Most expressions are faster than the slowest ones kept, which avoids the synchronization for them
+        if (nrOfSlowestExpressions > 0 && parseTimeNanos > slowestExpressionsThresholdNanos) {
+            addSlowExpression(expressionText, parseTimeNanos);
+        }
+    }
+
+    protected synchronized void addSlowExpression(String expressionText, long parseTimeNanos) {
+        Long currentParseTime = slowestExpressions.get(expressionText);
+        if (currentParseTime != null && currentParseTime >= parseTimeNanos) {
+            return;
+        }
+
+        slowestExpressions.put(expressionText, parseTimeNanos);
+        if (slowestExpressions.size() > nrOfSlowestExpressions) {
+            String fastestExpression = null;
+            long fastestParseTime = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : slowestExpressions.entrySet()) {
+                if (entry.getValue() < fastestParseTime) {
+                    fastestExpression = entry.getKey();
+                    fastestParseTime = entry.getValue();
+                }
+            }
+            slowestExpressions.remove(fastestExpression);
+        }
+
+        if (slowestExpressions.size() >= nrOfSlowestExpressions) {
+            long threshold = Long.MAX_VALUE;
+            for (Long parseTime : slowestExpressions.values()) {
+                threshold = Math.min(threshold, parseTime);
+            }
+            slowestExpressionsThresholdNanos = threshold;
+        }
+    }
+
+    @Override
+    public void expressionCacheEviction(String expressionText) {
+        cacheEvictionCount.increment();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHitCount.sum();
+    }
+
+    public long getCacheMissCount() {
+        return cacheMissCount.sum();
+    }
+
+    /**
+     * @return the ratio of cache hits to cache lookups, between 0 and 1. 0 when there were no lookups yet.
+     */
+    public double getCacheHitRatio() {
+        long hits = getCacheHitCount();
+        long lookups = hits + getCacheMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public long getCacheEvictionCount() {
+        return cacheEvictionCount.sum();
+    }
+
+    public long getParseCount() {
+        return parseCount.sum();
+    }
+
+    public long getTotalParseTime(TimeUnit timeUnit) {
+        return timeUnit.convert(totalParseTimeNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxParseTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxParseTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageParseTime(TimeUnit timeUnit) {
+        long count = getParseCount();
+        return count == 0 ? 0 : timeUnit.convert(totalParseTimeNanos.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the expressions that took the longest to parse, with their parse time in the given unit, the slowest first.
+     */
+    public synchronized Map<String, Long> getSlowestExpressions(TimeUnit timeUnit) {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(slowestExpressions.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            result.put(entry.getKey(), timeUnit.convert(entry.getValue(), TimeUnit.NANOSECONDS));
+        }
+        return result;
+    }
+
+    public int getNrOfSlowestExpressions() {
+        return nrOfSlowestExpressions;
+    }
+
+    public synchronized void reset() {
+        cacheHitCount.reset();
+        cacheMissCount.reset();
+        cacheEvictionCount.reset();
+        parseCount.reset();
+        totalParseTimeNanos.reset();
+        maxParseTimeNanos.reset();
+        slowestExpressions.clear();
+        slowestExpressionsThresholdNanos = 0;
+    }
+
+}
@@ -84,6 +84,18 @@ public class FlowableEventSupport {
         }
     }
 
+    /**
+     * @return true, if an event of the given type would be dispatched to at least one listener.
+     */
+    public boolean hasEventListeners(FlowableEventType type) {
+        if (!eventListeners.isEmpty()) {
+            return true;
+        }
+
+        List<FlowableEventListener> typed = typedListeners.get(type);
+        return typed != null && !typed.isEmpty();
+    }
+
     public void dispatchEvent(FlowableEvent event) {
         if (event == null) {
             throw new FlowableIllegalArgumentException("Event cannot be null.");
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation producing version 7 UUIDs (RFC 9562): the first 48 bits contain the Unix epoch timestamp in milliseconds,
+ * followed by a 12 bit sequence and 62 random bits.
+ *
+ * <p>
+ * Ids are 36 characters long and generated ids are ordered, both as UUID and as string, so inserts end up at the end of the primary key index
+ * instead of at random positions in it. Within the same millisecond the sequence is incremented. When the sequence overflows,
+ * the timestamp is moved one millisecond ahead of the clock, which also keeps the ids ordered when the clock goes backwards.
+ * </p>
+ *
+ * <p>
+ * The generator doesn't use any locks. Ids generated by the same generator are strictly increasing, ids generated by different generators
+ * are ordered by their timestamp, with the random bits making collisions practically impossible.
+ * </p>
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+    protected static final int SEQUENCE_BITS = 12;
+    protected static final long VERSION = 7L << SEQUENCE_BITS;
+    protected static final long VARIANT = 0x8000000000000000L;
+    protected static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // the timestamp of the last generated id, shifted left by SEQUENCE_BITS, plus its sequence
+    protected final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    @Override
+    public String getNextId() {
+        return generate().toString();
+    }
+
+    public UUID generate() {
+        long timestampAndSequence = nextTimestampAndSequence();
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+
+        long mostSignificantBits = (timestamp << 16) | VERSION | sequence;
+        long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    protected long nextTimestampAndSequence() {
+        long candidate = currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -40,6 +41,11 @@ public class CachedEntity {
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
+
+        if (entity instanceof DirtyTrackedEntity) {
+            // Without stored state, the entity is always seen as changed
+            ((DirtyTrackedEntity) entity).setDirty(!storeState);
+        }
     }
 
     public Entity getEntity() {
@@ -58,6 +64,14 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Returns true if the entity might have been changed since this {@link CachedEntity} was created.
+     * Always true for entities that are not a {@link DirtyTrackedEntity}.
+     */
+    public boolean isPossiblyChanged() {
+        return !(entity instanceof DirtyTrackedEntity) || ((DirtyTrackedEntity) entity).isDirty();
+    }
+
     public boolean hasChanged() {
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
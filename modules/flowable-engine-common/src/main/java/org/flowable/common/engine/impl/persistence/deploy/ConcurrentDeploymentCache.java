@@ -0,0 +1,203 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} backed by a {@link ConcurrentHashMap}, which doesn't take a global lock when reading from the cache.
+ *
+ * When a limit is set, the cache uses an approximate LRU eviction: every read stamps the entry with a logical access time.
+ * When the limit is exceeded, one thread evicts the least recently accessed entries in one pass,
+ * removing a small batch of entries (a tenth of the limit) to amortize the cost of finding them.
+ * As a consequence, the cache can temporarily contain slightly more entries than the limit when under concurrent load.
+ *
+ * Hit, miss and eviction counts are kept and can be retrieved through {@link #getHitCount()}, {@link #getMissCount()} and {@link #getEvictionCount()}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected final ConcurrentHashMap<String, CacheEntry<T>> cache;
+    protected final int limit;
+    protected final int evictionBatchSize;
+
+    protected final AtomicLong accessClock = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    protected BiConsumer<String, T> evictionListener;
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which evicts the least recently used elements when the limit is exceeded.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this.limit = limit;
+        this.evictionBatchSize = limit > 0 ? Math.max(1, limit / 10) : 0;
+        this.cache = limit > 0 ? new ConcurrentHashMap<>(limit + evictionBatchSize) : new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (limit > 0) {
+            // The clock is only advanced when adding, reads only need to be ordered approximately
+            entry.lastAccess = accessClock.get();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        cache.put(id, new CacheEntry<>(obj, accessClock.incrementAndGet()));
+        if (limit > 0 && cache.size() > limit) {
+            evict();
+        }
+    }
+
+    protected void evict() {
+        // Only one thread needs to evict, others can continue without waiting
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            int targetSize = limit - evictionBatchSize + 1;
+            int nrOfEntriesToEvict = cache.size() - targetSize;
+            if (nrOfEntriesToEvict <= 0) {
+                return;
+            }
+
+            List<Map.Entry<String, CacheEntry<T>>> entries = new ArrayList<>(cache.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+
+            int nrOfEvictedEntries = 0;
+            for (int i = 0; i < entries.size() && nrOfEvictedEntries < nrOfEntriesToEvict; i++) {
+                Map.Entry<String, CacheEntry<T>> entry = entries.get(i);
+                if (cache.remove(entry.getKey(), entry.getValue())) {
+                    nrOfEvictedEntries++;
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} is evicted", entry.getKey());
+                    }
+                    if (evictionListener != null) {
+                        evictionListener.accept(entry.getKey(), entry.getValue().value);
+                    }
+                }
+            }
+            evictionCount.add(nrOfEvictedEntries);
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        cache.remove(id);
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public BiConsumer<String, T> getEvictionListener() {
+        return evictionListener;
+    }
+
+    /**
+     * Sets a listener that is called with the id and the object of every entry that is evicted because the cache limit is reached.
+     */
+    public void setEvictionListener(BiConsumer<String, T> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected volatile long lastAccess;
+
+        public CacheEntry(T value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+}
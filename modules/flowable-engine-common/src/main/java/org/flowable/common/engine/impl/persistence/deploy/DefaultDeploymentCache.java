@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,8 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
 
     protected Map<String, T> cache;
 
+    protected BiConsumer<String, T> evictionListener;
+
     /** Cache with no limit */
     public DefaultDeploymentCache() {
         this.cache = Collections.synchronizedMap(new HashMap<>());
@@ -49,8 +52,13 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
             @Override
             protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
                 boolean removeEldest = size() > limit;
-                if (removeEldest && LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
+                if (removeEldest) {
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
+                    }
+                    if (evictionListener != null) {
+                        evictionListener.accept(eldest.getKey(), eldest.getValue());
+                    }
                 }
                 return removeEldest;
             }
@@ -93,4 +101,15 @@ public class DefaultDeploymentCache<T> implements DeploymentCache<T> {
         return cache.size();
     }
 
+    public BiConsumer<String, T> getEvictionListener() {
+        return evictionListener;
+    }
+
+    /**
+     * Sets a listener that is called with the id and the object of every entry that is evicted because the cache limit is reached.
+     */
+    public void setEvictionListener(BiConsumer<String, T> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
 }
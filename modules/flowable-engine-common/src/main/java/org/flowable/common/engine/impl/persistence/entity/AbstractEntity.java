@@ -27,6 +27,7 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isDirty;
     
     protected Object originalPersistentState;
 
@@ -94,4 +95,19 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    /**
+     * Only used by entities implementing {@link DirtyTrackedEntity}.
+     */
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    protected void markDirty() {
+        this.isDirty = true;
+    }
 }
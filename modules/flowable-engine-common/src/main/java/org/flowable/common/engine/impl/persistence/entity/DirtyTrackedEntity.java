@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that keeps track of whether it has been modified since it was put in the entity cache.
+ *
+ * When dirty tracking is enabled on the engine configuration, entities implementing this interface
+ * that are not dirty are not compared with their original persistent state when the session is flushed.
+ * Implementations therefore need to mark themselves as dirty in every method that changes a value of their persistent state.
+ */
+public interface DirtyTrackedEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean isDirty);
+
+}
@@ -61,6 +61,25 @@ class FlowableEventSupportTest {
             .isInstanceOf(FlowableIllegalArgumentException.class);
     }
 
+    @Test
+    void hasEventListeners() {
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        TestFlowableEventType otherTestEventType = new TestFlowableEventType("otherTest");
+        assertThat(flowableEventSupport.hasEventListeners(testEventType)).isFalse();
+
+        TestFlowableEventListener testListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(testListener, testEventType);
+        assertThat(flowableEventSupport.hasEventListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasEventListeners(otherTestEventType)).isFalse();
+
+        flowableEventSupport.removeEventListener(testListener);
+        assertThat(flowableEventSupport.hasEventListeners(testEventType)).isFalse();
+
+        flowableEventSupport.addEventListener(new TestFlowableEventListener());
+        assertThat(flowableEventSupport.hasEventListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasEventListeners(otherTestEventType)).isTrue();
+    }
+
     @Test
     void dispatchEventShouldProperlyDispatchToAllListeners() {
         TestFlowableEventListener global1Listener = new TestFlowableEventListener();
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.agenda;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.junit.jupiter.api.Test;
+
+class AgendaOperationProfilerTest {
+
+    @Test
+    void nestedOperationsAreProfiled() {
+        AgendaOperationProfiler profiler = new AgendaOperationProfiler() {
+
+            @Override
+            protected String getActivityId(CommandContext commandContext, Runnable runnable) {
+                return runnable instanceof TestOperation ? ((TestOperation) runnable).activityId : null;
+            }
+        };
+
+        TestOperation outerOperation = new TestOperation("outer");
+        TestOperation innerOperation = new TestOperation("inner");
+        OtherTestOperation otherOperation = new OtherTestOperation();
+
+        profiler.beforeExecute(null, outerOperation);
+        profiler.beforeExecute(null, innerOperation);
+        profiler.afterExecute(null, innerOperation);
+        profiler.beforeExecute(null, otherOperation);
+        profiler.afterExecuteException(null, otherOperation, new RuntimeException());
+        profiler.afterExecute(null, outerOperation);
+
+        assertThat(profiler.getOperationStatistics()).containsOnlyKeys("TestOperation", "OtherTestOperation");
+        assertThat(profiler.getOperationStatistics().get("TestOperation").getCount()).isEqualTo(2);
+        assertThat(profiler.getOperationStatistics().get("OtherTestOperation").getCount()).isEqualTo(1);
+        assertThat(profiler.getActivityStatistics()).containsOnlyKeys("outer", "inner");
+
+        // The time of the outer operation includes the time of the inner operations
+        AgendaOperationStatistics outerStatistics = profiler.getActivityStatistics().get("outer");
+        AgendaOperationStatistics innerStatistics = profiler.getActivityStatistics().get("inner");
+        assertThat(outerStatistics.getTotalTime(TimeUnit.NANOSECONDS)).isGreaterThanOrEqualTo(innerStatistics.getTotalTime(TimeUnit.NANOSECONDS));
+        assertThat(outerStatistics.getMaxTime(TimeUnit.NANOSECONDS)).isEqualTo(outerStatistics.getTotalTime(TimeUnit.NANOSECONDS));
+
+        profiler.reset();
+        assertThat(profiler.getOperationStatistics()).isEmpty();
+        assertThat(profiler.getActivityStatistics()).isEmpty();
+    }
+
+    @Test
+    void onlySampledOperationsAreProfiled() {
+        AgendaOperationProfiler profiler = new AgendaOperationProfiler(3);
+
+        for (int i = 0; i < 10; i++) {
+            TestOperation operation = new TestOperation("activity");
+            profiler.beforeExecute(null, operation);
+            profiler.afterExecute(null, operation);
+        }
+
+        assertThat(profiler.getOperationStatistics().get("TestOperation").getCount()).isEqualTo(4);
+        assertThatThrownBy(() -> profiler.setSampleInterval(0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    void anonymousOperationsUseClassName() {
+        AgendaOperationProfiler profiler = new AgendaOperationProfiler();
+        Runnable operation = new Runnable() {
+
+            @Override
+            public void run() {
+            }
+        };
+
+        profiler.beforeExecute(null, operation);
+        profiler.afterExecute(null, operation);
+
+        assertThat(profiler.getOperationStatistics()).containsOnlyKeys(operation.getClass().getName());
+    }
+
+    protected static class TestOperation implements Runnable {
+
+        protected final String activityId;
+
+        protected TestOperation(String activityId) {
+            this.activityId = activityId;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
+    protected static class OtherTestOperation implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+}
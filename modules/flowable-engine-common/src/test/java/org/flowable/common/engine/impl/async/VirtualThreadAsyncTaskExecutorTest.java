@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadAsyncTaskExecutorTest {
+
+    protected VirtualThreadAsyncTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setMaxConcurrentTasks(2);
+        executor = new VirtualThreadAsyncTaskExecutor(configuration);
+        executor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void tasksAreRejectedWhenMaxConcurrentTasksIsReached() throws Exception {
+        CountDownLatch blockLatch = new CountDownLatch(1);
+        CountDownLatch startedLatch = new CountDownLatch(2);
+        Runnable blockingTask = () -> {
+            startedLatch.countDown();
+            try {
+                blockLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blockingTask);
+        executor.execute(blockingTask);
+        assertThat(startedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getRemainingCapacity()).isZero();
+        assertThat(executor.getActiveTaskCount()).isEqualTo(2);
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        blockLatch.countDown();
+        // Shutting down waits for the running tasks to complete
+        executor.shutdown();
+        assertThat(executor.getRemainingCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    void submittedTasksAreExecuted() throws Exception {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setMaxConcurrentTasks(50);
+        VirtualThreadAsyncTaskExecutor executor = new VirtualThreadAsyncTaskExecutor(configuration);
+        executor.start();
+
+        try {
+            AtomicInteger counter = new AtomicInteger();
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(counter::incrementAndGet));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            assertThat(counter).hasValue(20);
+
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS))
+                    .startsWith("flowable-async-job-executor-thread-");
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void tasksAreRejectedAfterShutdown() {
+        executor.shutdown();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+}
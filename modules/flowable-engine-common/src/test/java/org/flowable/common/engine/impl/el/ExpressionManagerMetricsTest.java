@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.junit.jupiter.api.Test;
+
+class ExpressionManagerMetricsTest {
+
+    @Test
+    void metricsWithDefaultDeploymentCache() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.emptyMap());
+        expressionManager.setExpressionCache(new DefaultDeploymentCache<>(2));
+        ExpressionManagerMetrics metrics = new ExpressionManagerMetrics();
+        expressionManager.setExpressionManagerListener(metrics);
+
+        assertMetrics(expressionManager, metrics);
+    }
+
+    @Test
+    void metricsWithConcurrentDeploymentCache() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.emptyMap());
+        ExpressionManagerMetrics metrics = new ExpressionManagerMetrics();
+        expressionManager.setExpressionManagerListener(metrics);
+        expressionManager.setExpressionCache(new ConcurrentDeploymentCache<>(2));
+
+        assertMetrics(expressionManager, metrics);
+    }
+
+    protected void assertMetrics(DefaultExpressionManager expressionManager, ExpressionManagerMetrics metrics) {
+        expressionManager.createExpression("${a}");
+        expressionManager.createExpression("${a}");
+        expressionManager.createExpression("${b}");
+        expressionManager.createExpression("${c}");
+
+        assertThat(metrics.getCacheHitCount()).isEqualTo(1);
+        assertThat(metrics.getCacheMissCount()).isEqualTo(3);
+        assertThat(metrics.getCacheHitRatio()).isEqualTo(0.25);
+        assertThat(metrics.getCacheEvictionCount()).isEqualTo(1);
+        assertThat(metrics.getParseCount()).isEqualTo(3);
+        assertThat(metrics.getMaxParseTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(metrics.getSlowestExpressions(TimeUnit.NANOSECONDS)).containsOnlyKeys("${a}", "${b}", "${c}");
+    }
+
+    @Test
+    void slowestExpressionsAreLimited() {
+        ExpressionManagerMetrics metrics = new ExpressionManagerMetrics(2);
+        metrics.expressionParsed("${a}", 100);
+        metrics.expressionParsed("${b}", 300);
+        metrics.expressionParsed("${c}", 200);
+        metrics.expressionParsed("${d}", 50);
+
+        assertThat(metrics.getSlowestExpressions(TimeUnit.NANOSECONDS))
+                .containsExactly(entry("${b}", 300L), entry("${c}", 200L));
+        assertThat(metrics.getAverageParseTime(TimeUnit.NANOSECONDS)).isEqualTo(162);
+    }
+
+    @Test
+    void noEvictionListenerAfterListenerIsRemoved() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.emptyMap());
+        DefaultDeploymentCache<Expression> expressionCache = new DefaultDeploymentCache<>(2);
+        expressionManager.setExpressionCache(expressionCache);
+        expressionManager.setExpressionManagerListener(new ExpressionManagerMetrics());
+        assertThat(expressionCache.getEvictionListener()).isNotNull();
+
+        expressionManager.setExpressionManagerListener(null);
+        assertThat(expressionCache.getEvictionListener()).isNull();
+    }
+
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void generatedIdIsVersion7Uuid() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        long before = System.currentTimeMillis();
+        String id = generator.getNextId();
+
+        assertThat(id).hasSize(36);
+        UUID uuid = UUID.fromString(id);
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void idsAreOrderedWithinTheSameMillisecond() {
+        FixedClockGenerator generator = new FixedClockGenerator(1_700_000_000_000L);
+
+        // More ids than fit in the sequence of one millisecond
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.getNextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(UUID.fromString(ids.get(0)).getMostSignificantBits() >>> 16).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    void idsAreOrderedWhenClockGoesBackwards() {
+        FixedClockGenerator generator = new FixedClockGenerator(1_700_000_000_000L);
+        String first = generator.getNextId();
+
+        generator.time = 1_600_000_000_000L;
+        String second = generator.getNextId();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void concurrentlyGeneratedIdsAreUnique() throws Exception {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.getNextId());
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    static class FixedClockGenerator extends TimeOrderedUuidGenerator {
+
+        long time;
+
+        FixedClockGenerator(long time) {
+            this.time = time;
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return time;
+        }
+    }
+
+}
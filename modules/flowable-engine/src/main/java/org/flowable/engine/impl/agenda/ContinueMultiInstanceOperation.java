@@ -29,6 +29,7 @@ import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.JobUtil;
 import org.flowable.engine.logging.LogMDC;
 import org.flowable.job.service.JobService;
@@ -96,7 +97,8 @@ public class ContinueMultiInstanceOperation extends AbstractOperation {
         if (processEngineConfiguration != null) {
             eventDispatcher = processEngineConfiguration.getEventDispatcher();
         }
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && EventUtil.hasEventListeners(processEngineConfiguration, FlowableEngineEventType.ACTIVITY_STARTED, execution.getProcessDefinitionId())) {
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                             execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode), processEngineConfiguration.getEngineCfgKey());
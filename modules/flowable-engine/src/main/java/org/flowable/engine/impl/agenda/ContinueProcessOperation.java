@@ -42,6 +42,7 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.JobUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.interceptor.MigrationContext;
@@ -274,11 +275,13 @@ public class ContinueProcessOperation extends AbstractOperation {
         if (eventDispatcher != null && eventDispatcher.isEnabled()) {
 
             if (flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics()) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                        FlowableEventBuilder.createMultiInstanceActivityEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, flowNode.getId(),
-                                flowNode.getName(), execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode), processEngineConfiguration.getEngineCfgKey());
+                if (EventUtil.hasEventListeners(processEngineConfiguration, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, execution.getProcessDefinitionId())) {
+                    processEngineConfiguration.getEventDispatcher().dispatchEvent(
+                            FlowableEventBuilder.createMultiInstanceActivityEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, flowNode.getId(),
+                                    flowNode.getName(), execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode), processEngineConfiguration.getEngineCfgKey());
+                }
             }
-            else {
+            else if (EventUtil.hasEventListeners(processEngineConfiguration, FlowableEngineEventType.ACTIVITY_STARTED, execution.getProcessDefinitionId())) {
                 processEngineConfiguration.getEventDispatcher().dispatchEvent(
                         FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                                 execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode), processEngineConfiguration.getEngineCfgKey());
@@ -325,7 +328,8 @@ public class ContinueProcessOperation extends AbstractOperation {
         if (processEngineConfiguration != null) {
             eventDispatcher = processEngineConfiguration.getEventDispatcher();
         }
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && EventUtil.hasEventListeners(processEngineConfiguration, FlowableEngineEventType.SEQUENCEFLOW_TAKEN, execution.getProcessDefinitionId())) {
             FlowElement sourceFlowElement = sequenceFlow.getSourceFlowElement();
             FlowElement targetFlowElement = sequenceFlow.getTargetFlowElement();
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.agenda;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+
+/**
+ * {@link AgendaOperationProfiler} for the process engine agenda, which also records the statistics per activity id
+ * of the execution an {@link AbstractOperation} is executed for.
+ */
+public class ProcessAgendaOperationProfiler extends AgendaOperationProfiler {
+
+    public ProcessAgendaOperationProfiler() {
+    }
+
+    public ProcessAgendaOperationProfiler(int sampleInterval) {
+        super(sampleInterval);
+    }
+
+    @Override
+    protected String getActivityId(CommandContext commandContext, Runnable runnable) {
+        if (runnable instanceof AbstractOperation) {
+            ExecutionEntity execution = ((AbstractOperation) runnable).getExecution();
+            if (execution != null) {
+                return execution.getCurrentActivityId();
+            }
+        }
+        return null;
+    }
+
+}
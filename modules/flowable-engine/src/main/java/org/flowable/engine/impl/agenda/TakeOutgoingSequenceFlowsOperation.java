@@ -46,6 +46,7 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
 import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventUtil;
 import org.flowable.engine.impl.util.JobUtil;
 import org.flowable.engine.impl.util.condition.ConditionUtil;
 import org.flowable.job.service.JobService;
@@ -187,10 +188,12 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
                     !(flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics())) {
                 
                 ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
-                CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                        FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, flowNode.getId(), flowNode.getName(),
-                                execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode),
-                        processEngineConfiguration.getEngineCfgKey());
+                if (EventUtil.hasEventListeners(processEngineConfiguration, FlowableEngineEventType.ACTIVITY_COMPLETED, execution.getProcessDefinitionId())) {
+                    CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
+                            FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, flowNode.getId(), flowNode.getName(),
+                                    execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode),
+                            processEngineConfiguration.getEngineCfgKey());
+                }
             }
         }
         return continueNormally;
@@ -60,6 +60,7 @@ import org.flowable.common.engine.impl.agenda.AgendaOperationExecutionListener;
 import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
 import org.flowable.common.engine.impl.async.DefaultAsyncTaskInvoker;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.common.engine.impl.calendar.DueDateBusinessCalendar;
@@ -72,6 +73,7 @@ import org.flowable.common.engine.impl.cfg.mail.MailServerInfo;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManagerListener;
 import org.flowable.common.engine.impl.el.FlowableAstFunctionCreator;
 import org.flowable.common.engine.impl.el.function.VariableBase64ExpressionFunction;
 import org.flowable.common.engine.impl.el.function.VariableContainsAnyExpressionFunction;
@@ -98,7 +100,6 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -223,6 +224,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.JsonVariableAggregator;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
@@ -413,6 +415,7 @@ import org.flowable.variable.service.impl.types.InstantType;
 import org.flowable.variable.service.impl.types.IntegerType;
 import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
 import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.types.JacksonSerializableType;
 import org.flowable.variable.service.impl.types.JodaDateTimeType;
 import org.flowable.variable.service.impl.types.JodaDateType;
 import org.flowable.variable.service.impl.types.JsonType;
@@ -426,6 +429,8 @@ import org.flowable.variable.service.impl.types.ShortType;
 import org.flowable.variable.service.impl.types.StringType;
 import org.flowable.variable.service.impl.types.UUIDType;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * @author Tom Baeyens
  * @author Joram Barrez
@@ -562,6 +567,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
+    /**
+     * The time (in milliseconds) during which a cached process definition info is used without checking its revision in the database.
+     * By default, the revision is checked on every read.
+     */
+    protected long processDefinitionInfoCacheTimeToLive = -1;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
     protected int knowledgeBaseCacheLimit = -1;
@@ -707,6 +717,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * The classes of which the objects are stored with Jackson (variable type 'jacksonSerializable') instead of Java serialization.
+     * Objects of other classes keep using the 'serializable' type.
+     */
+    protected Collection<Class<?>> jacksonSerializableVariableTypeClasses;
+
+    /**
+     * The object mapper used by the 'jacksonSerializable' variable type. When not set, the object mapper of the engine is used,
+     * which stores the objects as json. A mapper with a binary data format (e.g. CBOR or Smile) gives a more compact representation.
+     */
+    protected ObjectMapper jacksonSerializableVariableTypeObjectMapper;
+
+    /**
+     * The minimum size (in bytes) of an object serialized by the 'jacksonSerializable' variable type to be compressed, or a negative value to never compress.
+     */
+    protected int jacksonSerializableVariableTypeCompressionThreshold = JacksonSerializableType.DEFAULT_COMPRESSION_THRESHOLD;
+
     /**
      * This flag determines whether variables of the type 'json' and 'longJson' will be tracked.
      * <p>
@@ -742,6 +769,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    /**
+     * Listener notified of expression cache hits, misses, evictions and the parsing time of expressions.
+     * See {@link org.flowable.common.engine.impl.el.ExpressionManagerMetrics} for a listener that keeps metrics. Default null.
+     */
+    protected ExpressionManagerListener expressionManagerListener;
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -788,6 +820,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected Duration eventRegistryUniqueProcessInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether the start event subscriptions used by the event registry consumer should be kept in an in-memory index,
+     * so that only the event subscriptions of running instances are queried for every received event.
+     * Disabled by default.
+     * <p>
+     * The index is cleared on every change made through this engine. Changes made by other engines in the cluster
+     * (deploying or deleting a definition, registering a dynamic start event subscription) are detected by validating the indexed
+     * start event subscriptions with an aggregate query (count, revisions and creation time) on the event subscription table for every received event.
+     */
+    protected boolean eventRegistryStartEventSubscriptionIndexEnabled;
+
+    /**
+     * How long the indexed start event subscriptions are used before they are reloaded from the database (30 seconds by default),
+     * even when their version in the database didn't change.
+     */
+    protected Duration eventRegistryStartEventSubscriptionIndexTimeToLive = Duration.ofSeconds(30);
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -809,6 +858,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean enableDatabaseEventLogging;
     protected boolean enableHistoricTaskLogging;
 
+    /**
+     * With history level full, a historic detail is stored for every update of a variable.
+     * When this flag is enabled, the historic details of the updates of a variable within one transaction are coalesced:
+     * only one historic detail is stored per variable and transaction, holding the last value of the variable
+     * (and the time and revision of its last update). The intermediate values are not kept in the history.
+     * The historic variable instance always holds the last value, regardless of this flag.
+     */
+    protected boolean enableHistoricVariableDetailCoalescing;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -999,7 +1057,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initCommandInvoker() {
         if (commandInvoker == null) {
-            Collection<AgendaOperationExecutionListener> agendaOperationExecutionListeners = this.agendaOperationExecutionListeners;
+            Collection<AgendaOperationExecutionListener> agendaOperationExecutionListeners = getCommandInvokerAgendaOperationExecutionListeners();
             if (enableVerboseExecutionTreeLogging) {
                 if (agendaOperationExecutionListeners == null) {
                     agendaOperationExecutionListeners = new ArrayList<>();
@@ -1390,6 +1448,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueProcessInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndexEnabled(this.eventRegistryStartEventSubscriptionIndexEnabled);
+        this.eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndexTimeToLive(this.eventRegistryStartEventSubscriptionIndexTimeToLive);
 
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -1619,41 +1679,32 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
-            }
+            processDefinitionCache = createDeploymentCache(processDefinitionCacheLimit);
         }
     }
 
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
+            ProcessDefinitionInfoCache infoCache;
             if (processDefinitionInfoCacheLimit <= 0) {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor);
             } else {
-                processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
+                infoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            infoCache.setTimeToLive(processDefinitionInfoCacheTimeToLive);
+            processDefinitionInfoCache = infoCache;
         }
     }
 
     public void initAppResourceCache() {
         if (appResourceCache == null) {
-            if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
-            } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
-            }
+            appResourceCache = createDeploymentCache(appResourceCacheLimit);
         }
     }
 
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
-            if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
-            } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
-            }
+            knowledgeBaseCache = createDeploymentCache(knowledgeBaseCacheLimit);
         }
     }
 
@@ -1980,6 +2031,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // /////////////////////////////////////////////////////////////
 
     protected void initAsyncTaskExecutor() {
+        if (this.asyncTaskExecutor == null && getOrCreateAsyncExecutorTaskExecutorConfiguration().isVirtualThreadsEnabled()) {
+            VirtualThreadAsyncTaskExecutor virtualThreadAsyncTaskExecutor = new VirtualThreadAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
+            virtualThreadAsyncTaskExecutor.start();
+            this.shutdownAsyncTaskExecutor = true;
+
+            this.asyncTaskExecutor = virtualThreadAsyncTaskExecutor;
+        }
+
         if (this.asyncTaskExecutor == null) {
             DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = new DefaultAsyncTaskExecutor(getOrCreateAsyncExecutorTaskExecutorConfiguration());
 
@@ -2189,6 +2248,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             variableTypes.addType(new BpmnAggregatedVariableType(this));
             variableTypes.addType(new ByteArrayType());
             variableTypes.addType(new EmptyCollectionType());
+            variableTypes.addType(createJacksonSerializableType());
             variableTypes.addType(new SerializableType(serializableVariableTypeTrackDeserializedObjects));
 
         } else {
@@ -2212,6 +2272,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             if (variableTypes.getVariableType(EmptyCollectionType.TYPE_NAME) == null) {
                 variableTypes.addTypeBefore(new EmptyCollectionType(), SerializableType.TYPE_NAME);
             }
+
+            if (variableTypes.getVariableType(JacksonSerializableType.TYPE_NAME) == null) {
+                variableTypes.addTypeBefore(createJacksonSerializableType(), SerializableType.TYPE_NAME);
+            }
         }
 
         if (customPostVariableTypes != null) {
@@ -2223,6 +2287,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected JacksonSerializableType createJacksonSerializableType() {
+        ObjectMapper typeObjectMapper = jacksonSerializableVariableTypeObjectMapper != null ? jacksonSerializableVariableTypeObjectMapper : objectMapper;
+        return new JacksonSerializableType(typeObjectMapper, jacksonSerializableVariableTypeClasses, jacksonSerializableVariableTypeCompressionThreshold,
+                serializableVariableTypeTrackDeserializedObjects);
+    }
+
     public void initFormEngines() {
         if (formEngines == null) {
             formEngines = new HashMap<>();
@@ -2290,10 +2360,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(createExpressionCache(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
+            if (expressionManagerListener != null) {
+                processExpressionManager.setExpressionManagerListener(expressionManagerListener);
+            }
+
             if (preDefaultELResolvers != null) {
                 preDefaultELResolvers.forEach(processExpressionManager::addPreDefaultResolver);
             }
@@ -2580,6 +2654,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncTaskInvokerTaskExecutor.shutdown();
         }
 
+        if (idGenerator instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) idGenerator).shutdown();
+        }
+
         httpClientConfig.close();
     }
 
@@ -3204,6 +3282,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public Collection<Class<?>> getJacksonSerializableVariableTypeClasses() {
+        return jacksonSerializableVariableTypeClasses;
+    }
+
+    public ProcessEngineConfigurationImpl setJacksonSerializableVariableTypeClasses(Collection<Class<?>> jacksonSerializableVariableTypeClasses) {
+        this.jacksonSerializableVariableTypeClasses = jacksonSerializableVariableTypeClasses;
+        return this;
+    }
+
+    public ObjectMapper getJacksonSerializableVariableTypeObjectMapper() {
+        return jacksonSerializableVariableTypeObjectMapper;
+    }
+
+    public ProcessEngineConfigurationImpl setJacksonSerializableVariableTypeObjectMapper(ObjectMapper jacksonSerializableVariableTypeObjectMapper) {
+        this.jacksonSerializableVariableTypeObjectMapper = jacksonSerializableVariableTypeObjectMapper;
+        return this;
+    }
+
+    public int getJacksonSerializableVariableTypeCompressionThreshold() {
+        return jacksonSerializableVariableTypeCompressionThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setJacksonSerializableVariableTypeCompressionThreshold(int jacksonSerializableVariableTypeCompressionThreshold) {
+        this.jacksonSerializableVariableTypeCompressionThreshold = jacksonSerializableVariableTypeCompressionThreshold;
+        return this;
+    }
+
     public boolean isJsonVariableTypeTrackObjects() {
         return jsonVariableTypeTrackObjects;
     }
@@ -3327,6 +3432,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ExpressionManagerListener getExpressionManagerListener() {
+        return expressionManagerListener;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionManagerListener(ExpressionManagerListener expressionManagerListener) {
+        this.expressionManagerListener = expressionManagerListener;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3769,6 +3883,29 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getProcessDefinitionInfoCacheLimit() {
+        return processDefinitionInfoCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheLimit(int processDefinitionInfoCacheLimit) {
+        this.processDefinitionInfoCacheLimit = processDefinitionInfoCacheLimit;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoCacheTimeToLive() {
+        return processDefinitionInfoCacheTimeToLive;
+    }
+
+    /**
+     * Sets the time (in milliseconds) during which a cached process definition info is used without checking its revision in the database.
+     * Changes made through this engine are visible immediately, changes made by other engines sharing the database within this time.
+     * A value of 0 or less (the default) checks the revision on every read.
+     */
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheTimeToLive(long processDefinitionInfoCacheTimeToLive) {
+        this.processDefinitionInfoCacheTimeToLive = processDefinitionInfoCacheTimeToLive;
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setProcessDefinitionInfoCache(DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache){
         this.processDefinitionInfoCache = processDefinitionInfoCache;
         return this;
@@ -3928,6 +4065,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEventRegistryStartEventSubscriptionIndexEnabled() {
+        return eventRegistryStartEventSubscriptionIndexEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryStartEventSubscriptionIndexEnabled(boolean eventRegistryStartEventSubscriptionIndexEnabled) {
+        this.eventRegistryStartEventSubscriptionIndexEnabled = eventRegistryStartEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public Duration getEventRegistryStartEventSubscriptionIndexTimeToLive() {
+        return eventRegistryStartEventSubscriptionIndexTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryStartEventSubscriptionIndexTimeToLive(Duration eventRegistryStartEventSubscriptionIndexTimeToLive) {
+        this.eventRegistryStartEventSubscriptionIndexTimeToLive = eventRegistryStartEventSubscriptionIndexTimeToLive;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -3972,6 +4127,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableHistoricVariableDetailCoalescing() {
+        return enableHistoricVariableDetailCoalescing;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoricVariableDetailCoalescing(boolean enableHistoricVariableDetailCoalescing) {
+        this.enableHistoricVariableDetailCoalescing = enableHistoricVariableDetailCoalescing;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
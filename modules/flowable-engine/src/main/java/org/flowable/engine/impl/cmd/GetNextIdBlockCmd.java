@@ -12,10 +12,12 @@
  */
 package org.flowable.engine.impl.cmd;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.db.IdBlock;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 
 /**
@@ -24,15 +26,67 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 public class GetNextIdBlockCmd implements Command<IdBlock> {
 
     private static final long serialVersionUID = 1L;
+
+    public static final String NEXT_DBID_PROPERTY = "next.dbid";
+
+    /**
+     * Property holding the stripe count, created when the first stripe property is created.
+     * Once it exists, ids can't be fetched from {@link #NEXT_DBID_PROPERTY} anymore, as these would overlap with the striped ids.
+     */
+    public static final String STRIPE_COUNT_PROPERTY = NEXT_DBID_PROPERTY + ".striped";
+
     protected int idBlockSize;
+    protected String propertyName;
+    protected int stripeCount;
 
     public GetNextIdBlockCmd(int idBlockSize) {
+        this(idBlockSize, NEXT_DBID_PROPERTY, 1);
+    }
+
+    /**
+     * Fetches the next block from the given property. When the property is not {@link #NEXT_DBID_PROPERTY} and doesn't exist yet,
+     * it is created with a value so that the ids of the stripe, calculated as value * stripeCount + stripe index,
+     * are higher than all ids handed out based on {@link #NEXT_DBID_PROPERTY}.
+     */
+    public GetNextIdBlockCmd(int idBlockSize, String propertyName, int stripeCount) {
         this.idBlockSize = idBlockSize;
+        this.propertyName = propertyName;
+        this.stripeCount = stripeCount;
     }
 
     @Override
     public IdBlock execute(CommandContext commandContext) {
-        PropertyEntity property = (PropertyEntity) CommandContextUtil.getPropertyEntityManager(commandContext).findById("next.dbid");
+        PropertyEntityManager propertyEntityManager = CommandContextUtil.getPropertyEntityManager(commandContext);
+        PropertyEntity stripeCountProperty = propertyEntityManager.findById(STRIPE_COUNT_PROPERTY);
+        if (NEXT_DBID_PROPERTY.equals(propertyName)) {
+            if (stripeCountProperty != null) {
+                throw new FlowableException("Ids are striped over " + stripeCountProperty.getValue()
+                        + " properties, the id generator of every node needs to use the same stripe count. Ids can't be fetched from " + NEXT_DBID_PROPERTY);
+            }
+
+        } else if (stripeCountProperty == null) {
+            stripeCountProperty = propertyEntityManager.create();
+            stripeCountProperty.setName(STRIPE_COUNT_PROPERTY);
+            stripeCountProperty.setValue(Integer.toString(stripeCount));
+            propertyEntityManager.insert(stripeCountProperty);
+
+        } else if (Integer.parseInt(stripeCountProperty.getValue()) != stripeCount) {
+            throw new FlowableException("Ids are striped over " + stripeCountProperty.getValue()
+                    + " properties, the id generator of every node needs to use the same stripe count instead of " + stripeCount);
+        }
+
+        PropertyEntity property = propertyEntityManager.findById(propertyName);
+        if (property == null && !NEXT_DBID_PROPERTY.equals(propertyName)) {
+            PropertyEntity nextDbIdProperty = propertyEntityManager.findById(NEXT_DBID_PROPERTY);
+            long initialValue = Long.parseLong(nextDbIdProperty.getValue()) / stripeCount + 1;
+
+            property = propertyEntityManager.create();
+            property.setName(propertyName);
+            property.setValue(Long.toString(initialValue + idBlockSize));
+            propertyEntityManager.insert(property);
+            return new IdBlock(initialValue, initialValue + idBlockSize - 1);
+        }
+
         long oldValue = Long.parseLong(property.getValue());
         long newValue = oldValue + idBlockSize;
         property.setValue(Long.toString(newValue));
@@ -16,8 +16,14 @@ import java.io.Serializable;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,7 +71,24 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        expireProcessDefinitionInfoCacheObject(commandContext);
+
         return null;
     }
 
+    protected void expireProcessDefinitionInfoCacheObject(CommandContext commandContext) {
+        DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getDeploymentManager().getProcessDefinitionInfoCache();
+        if (processDefinitionInfoCache instanceof ProcessDefinitionInfoCache) {
+            // When the cache trusts its entries for a while, the change needs to be picked up on the next read once it is committed
+            ProcessDefinitionInfoCache infoCache = (ProcessDefinitionInfoCache) processDefinitionInfoCache;
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> infoCache.expire(processDefinitionId));
+            } else {
+                infoCache.expire(processDefinitionId);
+            }
+        }
+    }
+
 }
@@ -0,0 +1,235 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that fetches the next id block in the background when the number of remaining ids
+ * in the current block drops to the low-water mark, so that getting an id doesn't need to wait for the database.
+ *
+ * <p>
+ * Optionally, ids can be striped over multiple property rows to avoid that all nodes of a cluster update the same row.
+ * Every node then needs a different stripe index and all nodes need the same stripe count.
+ * A node with stripe index i fetches its blocks from the property 'next.dbid.stripe.i' and hands out the ids
+ * value * stripeCount + i, so the ids of different stripes never overlap.
+ * The stripe property is initialized based on the 'next.dbid' property the first time it is used.
+ * Once striping is used, all nodes need to use it with the same stripe count, as 'next.dbid' isn't updated anymore.
+ * This is enforced through the 'next.dbid.striped' property: fetching a block from 'next.dbid', or with another stripe count, fails once it exists.
+ * </p>
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    public static final String STRIPE_PROPERTY_PREFIX = GetNextIdBlockCmd.NEXT_DBID_PROPERTY + ".stripe.";
+
+    /**
+     * When this number of ids, or fewer, is left in the current block the next block is fetched in the background.
+     * A value lower than zero means a fifth of the id block size.
+     */
+    protected int lowWaterMark = -1;
+
+    protected int stripeCount = 1;
+    protected int stripeIndex;
+
+    protected Executor prefetchExecutor;
+    protected boolean shutdownPrefetchExecutor;
+    protected CompletableFuture<IdBlock> prefetchedIdBlock;
+
+    protected final LongAdder blockFetchCount = new LongAdder();
+    protected final LongAdder totalBlockFetchTimeNanos = new LongAdder();
+    protected final LongAccumulator maxBlockFetchTimeNanos = new LongAccumulator(Math::max, 0L);
+    protected final AtomicLong lastBlockFetchTimeNanos = new AtomicLong();
+    protected final LongAdder blockingFetchCount = new LongAdder();
+
+    @Override
+    public synchronized String getNextId() {
+        if (lastId < nextId) {
+            getNewBlock();
+        }
+
+        long id = nextId++;
+        if (prefetchedIdBlock == null && lastId - id <= getEffectiveLowWaterMark()) {
+            prefetchedIdBlock = CompletableFuture.supplyAsync(this::fetchIdBlock, getOrCreatePrefetchExecutor());
+        }
+
+        return Long.toString(id * stripeCount + stripeIndex);
+    }
+
+    @Override
+    protected synchronized void getNewBlock() {
+        IdBlock idBlock;
+        if (prefetchedIdBlock != null) {
+            if (!prefetchedIdBlock.isDone()) {
+                blockingFetchCount.increment();
+            }
+
+            try {
+                idBlock = prefetchedIdBlock.join();
+            } catch (CompletionException e) {
+                // The block will be fetched again on the calling thread, which will throw the exception if the problem persists
+                LOGGER.warn("Prefetching of the next id block failed, fetching it again", e.getCause());
+                idBlock = null;
+            } finally {
+                prefetchedIdBlock = null;
+            }
+
+        } else {
+            blockingFetchCount.increment();
+            idBlock = null;
+        }
+
+        if (idBlock == null) {
+            idBlock = fetchIdBlock();
+        }
+
+        this.nextId = idBlock.getNextId();
+        this.lastId = idBlock.getLastId();
+    }
+
+    protected IdBlock fetchIdBlock() {
+        long startTime = System.nanoTime();
+        IdBlock idBlock = commandExecutor.execute(commandConfig, createGetNextIdBlockCmd());
+        long fetchTime = System.nanoTime() - startTime;
+
+        blockFetchCount.increment();
+        totalBlockFetchTimeNanos.add(fetchTime);
+        maxBlockFetchTimeNanos.accumulate(fetchTime);
+        lastBlockFetchTimeNanos.set(fetchTime);
+        LOGGER.debug("Fetched id block {}-{} in {} ms", idBlock.getNextId(), idBlock.getLastId(), TimeUnit.NANOSECONDS.toMillis(fetchTime));
+
+        return idBlock;
+    }
+
+    protected GetNextIdBlockCmd createGetNextIdBlockCmd() {
+        if (stripeCount > 1) {
+            return new GetNextIdBlockCmd(idBlockSize, STRIPE_PROPERTY_PREFIX + stripeIndex, stripeCount);
+        } else {
+            return new GetNextIdBlockCmd(idBlockSize);
+        }
+    }
+
+    protected int getEffectiveLowWaterMark() {
+        return lowWaterMark >= 0 ? lowWaterMark : idBlockSize / 5;
+    }
+
+    protected synchronized Executor getOrCreatePrefetchExecutor() {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = createDefaultPrefetchExecutor();
+            // Only shutdown if it was created by this id generator
+            shutdownPrefetchExecutor = true;
+        }
+        return prefetchExecutor;
+    }
+
+    /**
+     * Shuts down the prefetch executor when it was created by this id generator. Called when the process engine is closed.
+     */
+    public synchronized void shutdown() {
+        if (shutdownPrefetchExecutor && prefetchExecutor instanceof ExecutorService) {
+            ((ExecutorService) prefetchExecutor).shutdownNow();
+            prefetchExecutor = null;
+            shutdownPrefetchExecutor = false;
+        }
+        prefetchedIdBlock = null;
+    }
+
+    protected ExecutorService createDefaultPrefetchExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flowable-id-block-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getLowWaterMark() {
+        return lowWaterMark;
+    }
+
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    public int getStripeCount() {
+        return stripeCount;
+    }
+
+    public int getStripeIndex() {
+        return stripeIndex;
+    }
+
+    /**
+     * Sets the stripe of this node. The stripe index needs to be unique for every node and lower than the stripe count.
+     */
+    public void setStripe(int stripeIndex, int stripeCount) {
+        if (stripeCount < 1 || stripeIndex < 0 || stripeIndex >= stripeCount) {
+            throw new FlowableIllegalArgumentException("Invalid stripe " + stripeIndex + " for stripe count " + stripeCount);
+        }
+        this.stripeIndex = stripeIndex;
+        this.stripeCount = stripeCount;
+    }
+
+    public Executor getPrefetchExecutor() {
+        return prefetchExecutor;
+    }
+
+    public synchronized void setPrefetchExecutor(Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+        this.shutdownPrefetchExecutor = false;
+    }
+
+    public long getBlockFetchCount() {
+        return blockFetchCount.sum();
+    }
+
+    /**
+     * @return the number of times getting an id had to wait until a block was fetched from the database
+     */
+    public long getBlockingFetchCount() {
+        return blockingFetchCount.sum();
+    }
+
+    public long getTotalBlockFetchTime(TimeUnit timeUnit) {
+        return timeUnit.convert(totalBlockFetchTimeNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getAverageBlockFetchTime(TimeUnit timeUnit) {
+        long count = getBlockFetchCount();
+        return count == 0 ? 0 : timeUnit.convert(totalBlockFetchTimeNanos.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxBlockFetchTime(TimeUnit timeUnit) {
+        return timeUnit.convert(maxBlockFetchTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getLastBlockFetchTime(TimeUnit timeUnit) {
+        return timeUnit.convert(lastBlockFetchTimeNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+}
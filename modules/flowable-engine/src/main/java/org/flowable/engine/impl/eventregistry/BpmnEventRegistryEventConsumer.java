@@ -42,7 +42,9 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCreationCounter;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
+import org.flowable.eventsubscription.service.impl.StartEventSubscriptionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -71,13 +73,23 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
 
-        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
-
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
+        return handleEventSubscriptions(eventInstance, correlationKeys, eventSubscriptions);
+    }
+
+    @Override
+    protected List<EventRegistryProcessingInfo> eventInstancesReceived(List<EventInstance> eventInstances) {
+        return eventInstancesReceived(ScopeTypes.BPMN, eventInstances, this::handleEventSubscriptions);
+    }
+
+    protected EventRegistryProcessingInfo handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Found {} for {}", eventSubscriptions, eventInstance);
         }
+        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
         RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
             EventConsumerInfo eventConsumerInfo = new EventConsumerInfo(eventSubscription.getId(), eventSubscription.getExecutionId(),
@@ -284,6 +296,30 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected List<EventSubscription> getIndexedStartEventSubscriptions(String scopeType, EventInstance eventInstance) {
+        StartEventSubscriptionIndex startEventSubscriptionIndex = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getStartEventSubscriptionIndex();
+        if (startEventSubscriptionIndex == null) {
+            return null;
+        }
+
+        return startEventSubscriptionIndex.getStartEventSubscriptions(scopeType, eventInstance.getEventKey(), eventInstance.getTenantId(),
+                () -> findStartEventSubscriptionsVersion(scopeType, eventInstance),
+                () -> findStartEventSubscriptions(scopeType, eventInstance));
+    }
+
+    protected String findStartEventSubscriptionsVersion(String scopeType, EventInstance eventInstance) {
+        EventSubscriptionQueryImpl eventSubscriptionQuery = (EventSubscriptionQueryImpl) createStartEventSubscriptionQuery(scopeType, eventInstance);
+        return commandExecutor.execute(commandContext -> processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionEntityManager()
+                .findEventSubscriptionVersionByQueryCriteria(eventSubscriptionQuery));
+    }
+
+    @Override
+    protected Long getEventSubscriptionCreationCount(String eventType) {
+        EventSubscriptionCreationCounter eventSubscriptionCreationCounter = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCreationCounter();
+        return eventSubscriptionCreationCounter != null ? eventSubscriptionCreationCounter.getCount(eventType) : null;
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
@@ -15,15 +15,18 @@ package org.flowable.engine.impl.history;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -35,6 +38,7 @@ import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntit
 import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.entitylink.api.history.HistoricEntityLinkService;
@@ -66,6 +70,10 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
     
     public static final int MAX_SUB_PROCESS_INSTANCES = 1000;
 
+    public static final String ATTRIBUTE_HISTORIC_VARIABLE_UPDATES = "ctx.attribute.historicVariableUpdates";
+
+    protected final LongAdder coalescedHistoricVariableUpdateCount = new LongAdder();
+
     public DefaultHistoryManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
         super(processEngineConfiguration);
     }
@@ -342,7 +350,21 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(processDefinitionId, variable)
                 && isHistoryLevelAtLeast(HistoryLevel.FULL, processDefinitionId)) {
 
-            HistoricDetailVariableInstanceUpdateEntity historicVariableUpdate = getHistoricDetailEntityManager().copyAndInsertHistoricDetailVariableInstanceUpdateEntity(variable, createTime);
+            HistoricDetailVariableInstanceUpdateEntity historicVariableUpdate = null;
+            if (processEngineConfiguration.isEnableHistoricVariableDetailCoalescing()) {
+                historicVariableUpdate = findCoalescableHistoricVariableUpdate(variable);
+            }
+
+            if (historicVariableUpdate != null) {
+                copyVariableFields(historicVariableUpdate, variable, createTime);
+                coalescedHistoricVariableUpdateCount.increment();
+
+            } else {
+                historicVariableUpdate = getHistoricDetailEntityManager().copyAndInsertHistoricDetailVariableInstanceUpdateEntity(variable, createTime);
+                if (processEngineConfiguration.isEnableHistoricVariableDetailCoalescing() && variable.getId() != null) {
+                    getHistoricVariableUpdatesInTransaction().put(variable.getId(), historicVariableUpdate);
+                }
+            }
 
             if (StringUtils.isNotEmpty(activityInstanceId)) {
                 historicVariableUpdate.setActivityInstanceId(activityInstanceId);
@@ -357,6 +379,63 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         }
     }
 
+    /**
+     * Returns the historic variable update inserted earlier in the current transaction for the given variable,
+     * or null if there is none or if it has already been flushed.
+     */
+    protected HistoricDetailVariableInstanceUpdateEntity findCoalescableHistoricVariableUpdate(VariableInstanceEntity variable) {
+        if (variable.getId() == null) {
+            return null;
+        }
+
+        HistoricDetailVariableInstanceUpdateEntity historicVariableUpdate = getHistoricVariableUpdatesInTransaction().get(variable.getId());
+        if (historicVariableUpdate != null && CommandContextUtil.getDbSqlSession().isEntityInserted(historicVariableUpdate)) {
+            return historicVariableUpdate;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Map<String, HistoricDetailVariableInstanceUpdateEntity> getHistoricVariableUpdatesInTransaction() {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        Map<String, HistoricDetailVariableInstanceUpdateEntity> historicVariableUpdates = (Map<String, HistoricDetailVariableInstanceUpdateEntity>) commandContext
+                .getAttribute(ATTRIBUTE_HISTORIC_VARIABLE_UPDATES);
+        if (historicVariableUpdates == null) {
+            historicVariableUpdates = new HashMap<>();
+            commandContext.addAttribute(ATTRIBUTE_HISTORIC_VARIABLE_UPDATES, historicVariableUpdates);
+        }
+        return historicVariableUpdates;
+    }
+
+    /**
+     * Overwrites the not yet flushed historic variable update with the current state of the variable,
+     * leaving it as if it was only created for this (last) update of the variable.
+     */
+    protected void copyVariableFields(HistoricDetailVariableInstanceUpdateEntity historicVariableUpdate, VariableInstanceEntity variable, Date time) {
+        historicVariableUpdate.setTime(time);
+        historicVariableUpdate.setRevision(variable.getRevision());
+        historicVariableUpdate.setVariableType(variable.getType());
+        historicVariableUpdate.setTextValue(variable.getTextValue());
+        historicVariableUpdate.setTextValue2(variable.getTextValue2());
+        historicVariableUpdate.setDoubleValue(variable.getDoubleValue());
+        historicVariableUpdate.setLongValue(variable.getLongValue());
+        historicVariableUpdate.setCachedValue(null);
+        historicVariableUpdate.setActivityInstanceId(null);
+
+        // Setting null bytes deletes the byte array of an earlier update
+        if (variable.getBytes() != null || historicVariableUpdate.getByteArrayRef() != null) {
+            historicVariableUpdate.setBytes(variable.getBytes());
+        }
+    }
+
+    /**
+     * @return the number of historic variable updates that were not stored separately,
+     *         because they were coalesced with a later update of the same variable in the same transaction.
+     */
+    public long getCoalescedHistoricVariableUpdateCount() {
+        return coalescedHistoricVariableUpdateCount.sum();
+    }
+
     @Override
     public void recordVariableUpdate(VariableInstanceEntity variableInstanceEntity, Date updateTime) {
         if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(variableInstanceEntity)) {
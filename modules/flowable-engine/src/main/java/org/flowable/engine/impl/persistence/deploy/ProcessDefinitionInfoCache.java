@@ -24,6 +24,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -35,6 +36,9 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
+ * <p>
+ * By default the revision of a cached entry is checked in the database on every read.
+ * When a time to live is set, an entry is used without checking its revision until the time to live has passed since the last check.
  * 
  * @author Tijs Rademakers
  */
@@ -44,6 +48,7 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected long timeToLive = -1;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
@@ -124,16 +129,28 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
     }
 
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+
+        long currentTime = 0;
+        if (timeToLive > 0) {
+            currentTime = processEngineConfiguration.getClock().getCurrentTime().getTime();
+            if (cacheObject != null && cacheObject.getRevisionCheckTime() > 0 && currentTime - cacheObject.getRevisionCheckTime() < timeToLive) {
+                return cacheObject;
+            }
+        }
+
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
-        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
+            if (timeToLive > 0) {
+                // Needs to be cached to avoid the revision check on subsequent reads
+                cache.put(processDefinitionId, cacheObject);
+            }
         }
 
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
@@ -152,8 +169,31 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
+        cacheObject.setRevisionCheckTime(currentTime);
 
         return cacheObject;
     }
 
+    /**
+     * Makes sure the revision of the cached entry is checked on the next read, e.g. after the process definition info was changed.
+     */
+    public void expire(String processDefinitionId) {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject != null) {
+            cacheObject.setRevisionCheckTime(0);
+        }
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time (in milliseconds) during which a cached entry is used without checking its revision in the database.
+     * A value of 0 or less checks the revision on every read.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
 }
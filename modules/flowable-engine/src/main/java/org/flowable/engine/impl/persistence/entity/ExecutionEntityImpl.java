@@ -32,6 +32,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSession;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSessionData;
@@ -63,7 +64,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -329,6 +330,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
+        markDirty();
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
             this.activityId = currentFlowElement.getId();
@@ -356,6 +358,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     
     @Override
     public void setOriginatingCurrentFlowElement(FlowElement flowElement) {
+        markDirty();
         this.originatingCurrentFlowElement = flowElement;
     }
 
@@ -391,6 +394,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty();
         this.businessKey = businessKey;
     }
 
@@ -401,6 +405,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessStatus(String businessStatus) {
+        markDirty();
         this.businessStatus = businessStatus;
     }
 
@@ -418,6 +423,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -436,6 +442,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionKey(String processDefinitionKey) {
+        markDirty();
         this.processDefinitionKey = processDefinitionKey;
     }
 
@@ -452,6 +459,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionName(String processDefinitionName) {
+        markDirty();
         this.processDefinitionName = processDefinitionName;
     }
 
@@ -465,6 +473,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionVersion(Integer processDefinitionVersion) {
+        markDirty();
         this.processDefinitionVersion = processDefinitionVersion;
     }
 
@@ -478,6 +487,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionCategory(String processDefinitionCategory) {
+        markDirty();
         this.processDefinitionCategory = processDefinitionCategory;
     }
 
@@ -491,6 +501,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeploymentId(String deploymentId) {
+        markDirty();
         this.deploymentId = deploymentId;
     }
 
@@ -511,6 +522,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessInstance(ExecutionEntity processInstance) {
+        markDirty();
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
@@ -539,6 +551,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParent(ExecutionEntity parent) {
+        markDirty();
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
@@ -556,6 +569,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty();
         this.superExecutionId = superExecutionId;
     }
 
@@ -567,6 +581,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuperExecution(ExecutionEntity superExecution) {
+        markDirty();
         this.superExecution = (ExecutionEntityImpl) superExecution;
         if (superExecution != null) {
             superExecution.setSubProcessInstance(null);
@@ -593,6 +608,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSubProcessInstance(ExecutionEntity subProcessInstance) {
+        markDirty();
         this.subProcessInstance = (ExecutionEntityImpl) subProcessInstance;
     }
 
@@ -616,6 +632,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
+        markDirty();
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
@@ -632,6 +649,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty();
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -648,15 +666,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty();
         this.isScope = isScope;
     }
 
     public void setIsScope(boolean isScope) {
+        markDirty();
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
@@ -998,6 +1019,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -1008,6 +1030,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        markDirty();
         this.parentId = parentId;
     }
 
@@ -1017,6 +1040,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty();
         this.activityId = activityId;
     }
 
@@ -1031,10 +1055,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty();
         this.isConcurrent = isConcurrent;
     }
 
     public void setIsConcurrent(boolean isConcurrent) {
+        markDirty();
         this.isConcurrent = isConcurrent;
     }
 
@@ -1049,15 +1075,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty();
         this.isActive = isActive;
     }
 
     public void setIsActive(boolean isActive) {
+        markDirty();
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty();
         this.isActive = false;
     }
 
@@ -1072,10 +1101,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEnded(boolean isEnded) {
+        markDirty();
         this.isEnded = isEnded;
     }
 
     public void setIsEnded(boolean isEnded) {
+        markDirty();
         this.isEnded = isEnded;
     }
 
@@ -1086,6 +1117,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventName(String eventName) {
+        markDirty();
         this.eventName = eventName;
     }
 
@@ -1096,6 +1128,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeleteReason(String deleteReason) {
+        markDirty();
         this.deleteReason = deleteReason;
     }
 
@@ -1106,6 +1139,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -1125,10 +1159,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty();
         this.isEventScope = isEventScope;
     }
 
     public void setIsEventScope(boolean isEventScope) {
+        markDirty();
         this.isEventScope = isEventScope;
     }
 
@@ -1143,10 +1179,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty();
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
     public void setIsMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty();
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -1161,10 +1199,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
     public void setIsCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1184,6 +1224,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -1198,6 +1239,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
@@ -1228,6 +1270,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -1238,6 +1281,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty();
         this.lockTime = lockTime;
     }
 
@@ -1248,6 +1292,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockOwner(String lockOwner) {
+        markDirty();
         this.lockOwner = lockOwner;
     }
 
@@ -1296,6 +1341,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCurrentActivityName(String activityName) {
+        markDirty();
         this.activityName = activityName;
     }
     @Override
@@ -1305,6 +1351,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty();
         this.startActivityId = startActivityId;
     }
 
@@ -1315,6 +1362,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty();
         this.startUserId = startUserId;
     }
 
@@ -1325,6 +1373,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty();
         this.startTime = startTime;
     }
 
@@ -1335,6 +1384,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty();
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1345,6 +1395,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty();
         this.taskCount = taskCount;
     }
 
@@ -1355,6 +1406,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty();
         this.jobCount = jobCount;
     }
 
@@ -1365,6 +1417,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty();
         this.timerJobCount = timerJobCount;
     }
 
@@ -1375,6 +1428,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty();
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1385,6 +1439,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty();
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1395,6 +1450,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setExternalWorkerJobCount(int externalWorkerJobCount) {
+        markDirty();
         this.externalWorkerJobCount = externalWorkerJobCount;
     }
 
@@ -1405,6 +1461,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -1415,6 +1472,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1425,6 +1483,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty();
         this.callbackId = callbackId;
     }
 
@@ -1435,6 +1494,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty();
         this.callbackType = callbackType;
     }
 
@@ -1445,6 +1505,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceId(String referenceId) {
+        markDirty();
         this.referenceId = referenceId;
     }
 
@@ -1455,11 +1516,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceType(String referenceType) {
+        markDirty();
         this.referenceType = referenceType;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
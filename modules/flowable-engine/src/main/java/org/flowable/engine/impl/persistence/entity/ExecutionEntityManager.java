@@ -81,6 +81,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
      */
     List<ExecutionEntity> collectChildren(ExecutionEntity executionEntity);
 
+    /**
+     * Loads the variable instances of the given executions of which the variables are not loaded yet with one query
+     * (split into batches for a large number of executions), instead of one query per execution when their variables are accessed.
+     */
+    void prefetchVariableInstances(Collection<ExecutionEntity> executionEntities);
+
     ExecutionEntity findFirstScope(ExecutionEntity executionEntity);
 
     ExecutionEntity findFirstMultiInstanceRoot(ExecutionEntity executionEntity);
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -31,12 +32,14 @@ import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.LoggingSessionConstants;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.history.DeleteReason;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -74,7 +77,9 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.ExternalWorkerJobEntityManager;
 import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -663,6 +668,7 @@ public class ExecutionEntityManagerImpl
         // the leafs of this tree must be deleted first before the parents elements.
 
         List<ExecutionEntity> childExecutions = collectChildren(executionEntity, executionIdsNotToDelete);
+        prefetchVariableInstancesForDeletion(childExecutions, executionIdsNotToDelete);
         for (int i = childExecutions.size() - 1; i >= 0; i--) {
             ExecutionEntity childExecutionEntity = childExecutions.get(i);
             if (!childExecutionEntity.isEnded()) {
@@ -686,6 +692,53 @@ public class ExecutionEntityManagerImpl
         }
     }
 
+    /**
+     * The variables of each deleted execution are needed when deleting it (e.g. for the events or the byte arrays),
+     * so they are fetched up front for all the executions that will be deleted.
+     */
+    protected void prefetchVariableInstancesForDeletion(List<ExecutionEntity> executionEntities, Collection<String> executionIdsNotToDelete) {
+        List<ExecutionEntity> executionsToDelete = new ArrayList<>(executionEntities.size());
+        for (ExecutionEntity executionEntity : executionEntities) {
+            if (!executionEntity.isEnded() && (executionIdsNotToDelete == null || !executionIdsNotToDelete.contains(executionEntity.getId()))
+                    && (!CountingEntityUtil.isExecutionRelatedEntityCountEnabled(executionEntity)
+                        || ((CountingExecutionEntity) executionEntity).getVariableCount() > 0)) {
+                executionsToDelete.add(executionEntity);
+            }
+        }
+        prefetchVariableInstances(executionsToDelete);
+    }
+
+    @Override
+    public void prefetchVariableInstances(Collection<ExecutionEntity> executionEntities) {
+        Map<String, VariableScopeImpl> variableScopes = new HashMap<>();
+        for (ExecutionEntity executionEntity : executionEntities) {
+            if (executionEntity instanceof VariableScopeImpl && !((VariableScopeImpl) executionEntity).isVariableInstancesInitialized()) {
+                variableScopes.put(executionEntity.getId(), (VariableScopeImpl) executionEntity);
+            }
+        }
+
+        // A single execution can lazy load its variables when they are accessed
+        if (variableScopes.size() < 2) {
+            return;
+        }
+
+        VariableService variableService = engineConfiguration.getVariableServiceConfiguration().getVariableService();
+        CollectionUtil.consumePartitions(variableScopes.keySet(), AbstractDataManager.MAX_ENTRIES_IN_CLAUSE, executionIds -> {
+            Map<String, Map<String, VariableInstanceEntity>> variableInstancesByExecutionId = new HashMap<>();
+            for (String executionId : executionIds) {
+                variableInstancesByExecutionId.put(executionId, new HashMap<>());
+            }
+
+            for (VariableInstanceEntity variableInstance : variableService.findVariableInstancesByExecutionIds(new HashSet<>(executionIds))) {
+                variableInstancesByExecutionId.get(variableInstance.getExecutionId()).put(variableInstance.getName(), variableInstance);
+            }
+
+            for (Map.Entry<String, Map<String, VariableInstanceEntity>> entry : variableInstancesByExecutionId.entrySet()) {
+                variableScopes.get(entry.getKey()).internalSetVariableInstances(entry.getValue());
+            }
+        });
+    }
+
     @Override
     public List<ExecutionEntity> collectChildren(ExecutionEntity executionEntity) {
         return collectChildren(executionEntity, null);
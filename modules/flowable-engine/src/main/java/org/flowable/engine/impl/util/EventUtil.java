@@ -12,8 +12,17 @@
  */
 package org.flowable.engine.impl.util;
 
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
+import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.variable.api.event.FlowableVariableEvent;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -45,4 +54,41 @@ public class EventUtil {
         );
     }
 
+    /**
+     * Returns whether an event of the given type, fired for the given process definition, would be received by any listener.
+     * Used to avoid creating the events that are fired for every executed activity when nobody listens to them.
+     * When this can't be determined (e.g. for a custom event dispatcher or custom dispatch actions), true is returned.
+     */
+    public static boolean hasEventListeners(ProcessEngineConfigurationImpl processEngineConfiguration, FlowableEngineEventType eventType, String processDefinitionId) {
+        FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
+        if (eventDispatcher == null) {
+            return false;
+        }
+        if (!(eventDispatcher instanceof FlowableEventDispatcherImpl)) {
+            return true;
+        }
+
+        if (eventDispatcher.isEnabled() && ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().hasEventListeners(eventType)) {
+            return true;
+        }
+
+        // The additional dispatch actions are invoked even when the event dispatcher is disabled
+        List<EventDispatchAction> additionalEventDispatchActions = processEngineConfiguration.getAdditionalEventDispatchActions();
+        if (additionalEventDispatchActions != null) {
+            for (EventDispatchAction eventDispatchAction : additionalEventDispatchActions) {
+                if (eventDispatchAction.getClass() != BpmnModelEventDispatchAction.class) {
+                    return true;
+                }
+            }
+
+            if (!additionalEventDispatchActions.isEmpty() && processDefinitionId != null) {
+                BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+                return bpmnModel != null && bpmnModel.getEventSupport() != null
+                        && ((FlowableEventSupport) bpmnModel.getEventSupport()).hasEventListeners(eventType);
+            }
+        }
+
+        return false;
+    }
+
 }
@@ -127,6 +127,14 @@ public class ProfilingDbSqlSession extends DbSqlSession {
         super.flushUpdateEntity(updatedObject);
     }
 
+    @Override
+    protected void flushBatchUpdate(String updateStatement, List<Entity> entities) {
+        if (getCurrentCommandExecution() != null && entities.size() > 0) {
+            getCurrentCommandExecution().addDbUpdate(entities.get(0).getClass().getName() + "-batch-with-" + entities.size());
+        }
+        super.flushBatchUpdate(updateStatement, entities);
+    }
+
     @Override
     protected void flushBulkUpdate(BulkUpdateOperation bulkUpdateOperation) {
         // Bulk update
@@ -0,0 +1,203 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.ThrowEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.FlowableActivityEvent;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.EventUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests that the activity events are still dispatched to all listeners, now that they are only created when there is a listener for them.
+ */
+public class ActivityEventListenerPresenceTest extends PluggableFlowableTestCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActivityEventListenerPresenceTest.class);
+
+    protected static final int STRAIGHT_THROUGH_ACTIVITIES = 50;
+
+    protected TestFlowableActivityEventListener listener;
+
+    @AfterEach
+    protected void tearDown() {
+        if (listener != null) {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+        StaticTestFlowableEventListener.clearEventsReceived();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testNoListeners() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+
+        assertThat(hasEventListeners(FlowableEngineEventType.ACTIVITY_STARTED, processDefinitionId)).isFalse();
+        assertThat(hasEventListeners(FlowableEngineEventType.ACTIVITY_COMPLETED, processDefinitionId)).isFalse();
+        assertThat(hasEventListeners(FlowableEngineEventType.SEQUENCEFLOW_TAKEN, processDefinitionId)).isFalse();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testTypedListener() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+
+        listener = new TestFlowableActivityEventListener(false);
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener, FlowableEngineEventType.ACTIVITY_STARTED);
+
+        assertThat(hasEventListeners(FlowableEngineEventType.ACTIVITY_STARTED, processDefinitionId)).isTrue();
+        assertThat(hasEventListeners(FlowableEngineEventType.SEQUENCEFLOW_TAKEN, processDefinitionId)).isFalse();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(listener.getEventsReceived())
+                .extracting(event -> ((FlowableActivityEvent) event).getActivityId())
+                .containsExactly("theStart", "theTask");
+    }
+
+    @Test
+    @Deployment
+    public void testProcessDefinitionScopedListener() {
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("activityCompletedListenerProcess").singleResult().getId();
+
+        assertThat(hasEventListeners(FlowableEngineEventType.ACTIVITY_COMPLETED, processDefinitionId)).isTrue();
+        assertThat(hasEventListeners(FlowableEngineEventType.ACTIVITY_STARTED, processDefinitionId)).isFalse();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("activityCompletedListenerProcess");
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        assertThat(StaticTestFlowableEventListener.getEventsReceived())
+                .filteredOn(event -> event.getType() == FlowableEngineEventType.ACTIVITY_COMPLETED)
+                .extracting(event -> ((FlowableActivityEvent) event).getActivityId())
+                .contains("theStart", "theTask");
+    }
+
+    @Test
+    public void testActivityEventsAreNotAllocatedWithoutListeners() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+        String deploymentId = repositoryService.createDeployment()
+                .addBpmnModel("straightThroughProcess.bpmn20.xml", createStraightThroughProcess())
+                .deploy()
+                .getId();
+        deploymentIdsForAutoCleanup.add(deploymentId);
+
+        // A listener that does nothing, so that the difference is the creation and dispatching of the activity events.
+        // The runs with and without the listener alternate, so that both are measured with the same JIT and cache state.
+        FlowableEventListener noopListener = new NoopEventListener();
+        long allocatedBytesWithoutListeners = Long.MAX_VALUE;
+        long allocatedBytesWithListeners = Long.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            allocatedBytesWithoutListeners = Math.min(allocatedBytesWithoutListeners, measureAllocatedBytes(allocationMXBean));
+
+            processEngineConfiguration.getEventDispatcher().addEventListener(noopListener, FlowableEngineEventType.ACTIVITY_STARTED,
+                    FlowableEngineEventType.ACTIVITY_COMPLETED, FlowableEngineEventType.SEQUENCEFLOW_TAKEN);
+            try {
+                allocatedBytesWithListeners = Math.min(allocatedBytesWithListeners, measureAllocatedBytes(allocationMXBean));
+            } finally {
+                processEngineConfiguration.getEventDispatcher().removeEventListener(noopListener);
+            }
+        }
+
+        LOGGER.info("Allocated bytes per activity of a straight-through process: {} without activity event listeners, {} with activity event listeners",
+                allocatedBytesWithoutListeners / STRAIGHT_THROUGH_ACTIVITIES, allocatedBytesWithListeners / STRAIGHT_THROUGH_ACTIVITIES);
+        assertThat(allocatedBytesWithoutListeners).isLessThan(allocatedBytesWithListeners);
+    }
+
+    /**
+     * @return the number of bytes allocated by the current thread to run the straight-through process once
+     */
+    protected long measureAllocatedBytes(com.sun.management.ThreadMXBean allocationMXBean) {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        runtimeService.startProcessInstanceByKey("straightThroughProcess");
+        return allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+    }
+
+    protected BpmnModel createStraightThroughProcess() {
+        Process process = new Process();
+        process.setId("straightThroughProcess");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        FlowNode previousFlowNode = startEvent;
+        for (int i = 0; i < STRAIGHT_THROUGH_ACTIVITIES; i++) {
+            ThrowEvent throwEvent = new ThrowEvent();
+            throwEvent.setId("throw" + i);
+            process.addFlowElement(throwEvent);
+            process.addFlowElement(new SequenceFlow(previousFlowNode.getId(), throwEvent.getId()));
+            previousFlowNode = throwEvent;
+        }
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(endEvent);
+        process.addFlowElement(new SequenceFlow(previousFlowNode.getId(), endEvent.getId()));
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        return bpmnModel;
+    }
+
+    protected boolean hasEventListeners(FlowableEngineEventType eventType, String processDefinitionId) {
+        return managementService.executeCommand(commandContext -> EventUtil.hasEventListeners(processEngineConfiguration, eventType, processDefinitionId));
+    }
+
+    protected static class NoopEventListener implements FlowableEventListener {
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        @Override
+        public boolean isFireOnTransactionLifecycleEvent() {
+            return false;
+        }
+
+        @Override
+        public String getOnTransaction() {
+            return null;
+        }
+    }
+
+}
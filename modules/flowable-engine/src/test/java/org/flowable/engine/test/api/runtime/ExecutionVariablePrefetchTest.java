@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionVariablePrefetchTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testPrefetchVariableInstances() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            List<ExecutionEntity> childExecutions = executionEntityManager.collectChildren(executionEntityManager.findById(processInstanceId));
+            assertThat(childExecutions).hasSize(4);
+
+            ExecutionEntity multiInstanceRoot = childExecutions.get(0);
+            assertThat(multiInstanceRoot.isMultiInstanceRoot()).isTrue();
+            multiInstanceRoot.setVariableLocal("myVar", "test");
+
+            executionEntityManager.prefetchVariableInstances(childExecutions);
+
+            assertThat(childExecutions)
+                    .allSatisfy(childExecution -> assertThat(((ExecutionEntityImpl) childExecution).isVariableInstancesInitialized()).isTrue());
+
+            // Variables that were already loaded are kept
+            assertThat(multiInstanceRoot.getVariableLocal("myVar")).isEqualTo("test");
+            assertThat(multiInstanceRoot.getVariableLocal("nrOfInstances")).isEqualTo(3);
+            assertThat(childExecutions.subList(1, 4))
+                    .extracting(childExecution -> childExecution.getVariableLocal("loopCounter"))
+                    .containsExactlyInAnyOrder(0, 1, 2);
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testCompleteAndDeleteWithPrefetchedVariables() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+        String otherProcessInstanceId = runtimeService.startProcessInstanceByKey("miParallelUserTasks").getId();
+
+        taskService.createTaskQuery().processInstanceId(processInstanceId).list()
+                .forEach(task -> taskService.complete(task.getId()));
+        assertProcessEnded(processInstanceId);
+
+        runtimeService.deleteProcessInstance(otherProcessInstanceId, "test");
+        assertProcessEnded(otherProcessInstanceId);
+
+        assertThat(runtimeService.createVariableInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+        assertThat(runtimeService.createVariableInstanceQuery().processInstanceId(otherProcessInstanceId).count()).isZero();
+    }
+
+}
@@ -0,0 +1,233 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.JacksonSerializableType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JacksonSerializableVariableTest extends PluggableFlowableTestCase {
+
+    protected static final AtomicBoolean NOT_STORABLE_VARIABLE_INITIALIZED = new AtomicBoolean();
+
+    protected JacksonSerializableType jacksonSerializableType;
+
+    @BeforeEach
+    public void setUp() {
+        jacksonSerializableType = (JacksonSerializableType) processEngineConfiguration.getVariableTypes().getVariableType(JacksonSerializableType.TYPE_NAME);
+        jacksonSerializableType.setStorableClasses(Collections.singletonList(TestJacksonVariable.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jacksonSerializableType.setStorableClasses(processEngineConfiguration.getJacksonSerializableVariableTypeClasses());
+        jacksonSerializableType.setCompressionThreshold(JacksonSerializableType.DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreAndRetrieveValue() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestJacksonVariable("flowable", 10))
+                .start();
+
+        assertThat(getVariableTypeName(processInstance.getId(), "var")).isEqualTo(JacksonSerializableType.TYPE_NAME);
+        assertThat(getVariableBytes(processInstance.getId(), "var")[0]).isZero();
+
+        TestJacksonVariable value = runtimeService.getVariable(processInstance.getId(), "var", TestJacksonVariable.class);
+        assertThat(value.getText()).isEqualTo("flowable");
+        assertThat(value.getNumber()).isEqualTo(10);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("var")
+                    .singleResult();
+            assertThat(historicVariableInstance.getValue()).isInstanceOf(TestJacksonVariable.class);
+            assertThat(((TestJacksonVariable) historicVariableInstance.getValue()).getNumber()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreCompressedValue() {
+        jacksonSerializableType.setCompressionThreshold(64);
+        String text = "flowable ".repeat(100);
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestJacksonVariable(text, 20))
+                .start();
+
+        byte[] bytes = getVariableBytes(processInstance.getId(), "var");
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(bytes.length).isLessThan(text.length());
+
+        TestJacksonVariable value = runtimeService.getVariable(processInstance.getId(), "var", TestJacksonVariable.class);
+        assertThat(value.getText()).isEqualTo(text);
+        assertThat(value.getNumber()).isEqualTo(20);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOtherSerializableValuesUseJavaSerialization() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new SerializableVariableTest.TestSerializableVariable(10))
+                .start();
+
+        assertThat(getVariableTypeName(processInstance.getId(), "var")).isEqualTo(SerializableType.TYPE_NAME);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdateTrackedValue() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestJacksonVariable("flowable", 10))
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            TestJacksonVariable value = (TestJacksonVariable) runtimeService.getVariable(processInstance.getId(), "var");
+            value.setNumber(11);
+            return null;
+        });
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var", TestJacksonVariable.class).getNumber()).isEqualTo(11);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOnlyStorableClassesAreDeserialized() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestJacksonVariable("flowable", 10))
+                .start();
+
+        // A tampered or legacy row referring to a class that is not configured as storable class
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "var");
+            variableInstance.setTextValue2(SerializableVariableTest.TestSerializableVariable.class.getName());
+            return null;
+        });
+
+        assertThatThrownBy(() -> runtimeService.getVariable(processInstance.getId(), "var"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is not one of the storable classes");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testNotStorableClassIsNotInitialized() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new TestJacksonVariable("flowable", 10))
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "var");
+            variableInstance.setTextValue2(NotStorableVariable.class.getName());
+            return null;
+        });
+
+        assertThatThrownBy(() -> runtimeService.getVariable(processInstance.getId(), "var"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is not one of the storable classes");
+        assertThat(NOT_STORABLE_VARIABLE_INITIALIZED).isFalse();
+    }
+
+    @Test
+    public void testConfigureObjectMapperAndCompressionThreshold() {
+        ObjectMapper typeObjectMapper = new ObjectMapper();
+        ProcessEngineConfigurationImpl engineConfiguration = new StandaloneInMemProcessEngineConfiguration()
+                .setJacksonSerializableVariableTypeClasses(Collections.singletonList(TestJacksonVariable.class))
+                .setJacksonSerializableVariableTypeObjectMapper(typeObjectMapper)
+                .setJacksonSerializableVariableTypeCompressionThreshold(-1);
+
+        engineConfiguration.initVariableTypes();
+
+        JacksonSerializableType type = (JacksonSerializableType) engineConfiguration.getVariableTypes().getVariableType(JacksonSerializableType.TYPE_NAME);
+        assertThat(type.getObjectMapper()).isSameAs(typeObjectMapper);
+        assertThat(type.getCompressionThreshold()).isEqualTo(-1);
+        assertThat(type.getStorableClasses()).containsExactly(TestJacksonVariable.class);
+    }
+
+    protected String getVariableTypeName(String executionId, String variableName) {
+        return ((VariableInstanceEntity) runtimeService.getVariableInstance(executionId, variableName)).getTypeName();
+    }
+
+    protected byte[] getVariableBytes(String executionId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            return ((VariableInstanceEntity) runtimeService.getVariableInstance(executionId, variableName)).getBytes();
+        });
+    }
+
+    public static class NotStorableVariable {
+
+        static {
+            NOT_STORABLE_VARIABLE_INITIALIZED.set(true);
+        }
+    }
+
+    public static class TestJacksonVariable {
+
+        protected String text;
+        protected int number;
+
+        public TestJacksonVariable() {
+        }
+
+        public TestJacksonVariable(String text, int number) {
+            this.text = text;
+            this.number = number;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+    }
+
+}
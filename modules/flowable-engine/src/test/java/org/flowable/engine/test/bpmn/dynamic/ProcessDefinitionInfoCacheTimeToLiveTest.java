@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.dynamic;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheTimeToLiveTest extends PluggableFlowableTestCase {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+    protected long originalTimeToLive;
+
+    @BeforeEach
+    public void setUp() {
+        processDefinitionInfoCache = (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+        originalTimeToLive = processDefinitionInfoCache.getTimeToLive();
+        processDefinitionInfoCache.setTimeToLive(60000);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processDefinitionInfoCache.setTimeToLive(originalTimeToLive);
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testCachedInfoIsUsedUntilTimeToLiveHasPassed() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+
+        // A change through the engine is visible immediately
+        ObjectNode infoNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        infoNode.put("value", "first");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertThatJson(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEqualTo("{ value: 'first' }");
+
+        // A change by another engine is only visible once the time to live has passed
+        updateInfoJsonInDatabase(processDefinitionId, "{ \"value\": \"second\" }");
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 30000));
+        assertThatJson(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEqualTo("{ value: 'first' }");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 61000));
+        assertThatJson(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEqualTo("{ value: 'second' }");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testRevisionIsCheckedOnEveryReadWithoutTimeToLive() {
+        processDefinitionInfoCache.setTimeToLive(-1);
+        String processDefinitionId = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId();
+
+        ObjectNode infoNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        infoNode.put("value", "first");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        assertThatJson(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEqualTo("{ value: 'first' }");
+
+        updateInfoJsonInDatabase(processDefinitionId, "{ \"value\": \"second\" }");
+        assertThatJson(dynamicBpmnService.getProcessDefinitionInfo(processDefinitionId)).isEqualTo("{ value: 'second' }");
+    }
+
+    protected void updateInfoJsonInDatabase(String processDefinitionId, String json) {
+        managementService.executeCommand(commandContext -> {
+            ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+            ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+            infoEntityManager.updateInfoJson(infoEntity.getId(), json.getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,97 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchUpdateTest extends PluggableFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    protected void setUp() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdatesEnabled(true);
+        for (int i = 0; i < 5; i++) {
+            Task task = taskService.newTask();
+            task.setName("task " + i);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setBatchUpdatesEnabled(false);
+        for (String taskId : taskIds) {
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+    @Test
+    public void testBatchUpdate() {
+        managementService.executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                TaskEntity task = CommandContextUtil.getTaskService(commandContext).getTask(taskId);
+                task.setName("updated " + task.getName());
+            }
+            return null;
+        });
+
+        List<Task> tasks = taskService.createTaskQuery().taskIds(taskIds).orderByTaskName().asc().list();
+        assertThat(tasks)
+                .extracting(Task::getName)
+                .containsExactly("updated task 0", "updated task 1", "updated task 2", "updated task 3", "updated task 4");
+
+        // The revisions need to be correct for the next update
+        managementService.executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                TaskEntity task = CommandContextUtil.getTaskService(commandContext).getTask(taskId);
+                assertThat(task.getRevision()).isEqualTo(2);
+                task.setName("second " + task.getName());
+            }
+            return null;
+        });
+
+        assertThat(taskService.createTaskQuery().taskIds(taskIds).taskNameLike("second updated task%").count()).isEqualTo(5);
+    }
+
+    @Test
+    public void testBatchUpdateOptimisticLocking() {
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            for (String taskId : taskIds) {
+                TaskEntity task = CommandContextUtil.getTaskService(commandContext).getTask(taskId);
+                task.setName("updated " + task.getName());
+                if (taskId.equals(taskIds.get(2))) {
+                    // Simulates a concurrent update of the task
+                    task.setRevision(task.getRevision() + 1);
+                }
+            }
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(taskService.createTaskQuery().taskIds(taskIds).taskNameLike("updated%").count()).isZero();
+    }
+}
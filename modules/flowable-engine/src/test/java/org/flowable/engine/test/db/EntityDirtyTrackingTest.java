@@ -0,0 +1,110 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void setUp() {
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityDirtyTrackingEnabled(true);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityDirtyTrackingEnabled(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testLoadedEntitiesAreNotDirty() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("myVar", "test"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityImpl processInstanceEntity = (ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext)
+                    .findById(processInstance.getId());
+            TaskEntityImpl taskEntity = (TaskEntityImpl) CommandContextUtil.getTaskService(commandContext).getTask(task.getId());
+            VariableInstanceEntityImpl variableInstance = (VariableInstanceEntityImpl) processInstanceEntity.getVariableInstanceEntities().get("myVar");
+
+            assertThat(processInstanceEntity.isDirty()).isFalse();
+            assertThat(taskEntity.isDirty()).isFalse();
+            assertThat(variableInstance.isDirty()).isFalse();
+
+            taskEntity.setName("changed");
+            assertThat(taskEntity.isDirty()).isTrue();
+            assertThat(processInstanceEntity.isDirty()).isFalse();
+            return null;
+        });
+
+        assertThat(taskService.createTaskQuery().taskId(task.getId()).singleResult().getName()).isEqualTo("changed");
+        assertThat(revisionOf(processInstance.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdatesAreFlushed() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("myVar", "test"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "updated");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "myVar")).isEqualTo("updated");
+
+        taskService.setAssignee(task.getId(), "kermit");
+        assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(1);
+
+        runtimeService.updateBusinessKey(processInstance.getId(), "newBusinessKey");
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceBusinessKey("newBusinessKey").count()).isEqualTo(1);
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testSetterWithSameValueFallsBackToStateComparison() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity processInstanceEntity = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            processInstanceEntity.setBusinessKey(processInstanceEntity.getBusinessKey());
+            assertThat(((ExecutionEntityImpl) processInstanceEntity).isDirty()).isTrue();
+            return null;
+        });
+
+        // Dirty, but not changed: the persistent state comparison still filters out the update
+        assertThat(revisionOf(processInstance.getId())).isEqualTo(1);
+    }
+
+    protected int revisionOf(String executionId) {
+        return managementService.executeCommand(commandContext -> ((ExecutionEntityImpl) CommandContextUtil.getExecutionEntityManager(commandContext)
+                .findById(executionId)).getRevision());
+    }
+
+}
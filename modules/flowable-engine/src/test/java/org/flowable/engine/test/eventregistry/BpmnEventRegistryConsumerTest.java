@@ -99,6 +99,31 @@ public class BpmnEventRegistryConsumerTest extends AbstractBpmnEventRegistryCons
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerWithCorrelationBatch() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        variableMap.clear();
+        variableMap.put("customerIdVar", "fozzie");
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        // The second kermit event no longer matches, as the first one already triggered the boundary event
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "piggy", "kermit", "gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+        inboundEventChannelAdapter.triggerTestEvents("fozzie");
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+    }
+
     @Test
     @Deployment
     public void testBoundaryEventListenerWithPayload() {
@@ -592,6 +617,29 @@ public class BpmnEventRegistryConsumerTest extends AbstractBpmnEventRegistryCons
         }
     }
     
+    @Test
+    @Deployment
+    public void testProcessStartAndReceiveEventTaskBatch() {
+        // The first event starts a process instance that waits for the second event of the same batch
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "kermit");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().singleResult();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("taskAfterTask");
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customerIdVar")).isEqualTo("kermit");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceBatch() {
+        inboundEventChannelAdapter.triggerTestEvents("testCustomer", "anotherTestCustomer", "testCustomer", "testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+                .extracting(ProcessInstance::getReferenceType)
+                .containsExactly(ReferenceTypes.EVENT_PROCESS, ReferenceTypes.EVENT_PROCESS);
+
+        inboundEventChannelAdapter.triggerTestEvents("anotherTestCustomer", "thirdTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
     public void testStartOneInstanceWithMultipleProcessDefinitionVersions() {
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.StartEventSubscriptionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StartEventSubscriptionIndexTest extends AbstractBpmnEventRegistryConsumerTest {
+
+    protected StartEventSubscriptionIndex startEventSubscriptionIndex;
+
+    @BeforeEach
+    public void enableStartEventSubscriptionIndex() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        startEventSubscriptionIndex = new StartEventSubscriptionIndex(eventSubscriptionServiceConfiguration);
+        eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndex(startEventSubscriptionIndex);
+    }
+
+    @AfterEach
+    public void disableStartEventSubscriptionIndex() {
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().setStartEventSubscriptionIndex(null);
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testProcessStartUsesIndex() {
+        inboundEventChannelAdapter.triggerTestEvent("anotherCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+
+        for (int i = 1; i <= 3; i++) {
+            inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+            assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(i);
+        }
+
+        assertThat(startEventSubscriptionIndex.size()).isEqualTo(1);
+        assertThat(startEventSubscriptionIndex.getMissCount()).isEqualTo(1);
+        assertThat(startEventSubscriptionIndex.getHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testIndexIsInvalidatedOnDeployment() {
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(startEventSubscriptionIndex.size()).isEqualTo(1);
+
+        org.flowable.engine.repository.Deployment deployment = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+                .deploy();
+        deploymentIdsForAutoCleanup.add(deployment.getId());
+        assertThat(startEventSubscriptionIndex.size()).isZero();
+
+        ProcessDefinition latestProcessDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("process").latestVersion().singleResult();
+        assertThat(latestProcessDefinition.getVersion()).isEqualTo(2);
+
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(latestProcessDefinition.getId()).count()).isEqualTo(1);
+
+        repositoryService.deleteDeployment(deployment.getId(), true);
+        deploymentIdsForAutoCleanup.remove(deployment.getId());
+        assertThat(startEventSubscriptionIndex.size()).isZero();
+
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(2);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testChangeByOtherEngineIsDetected() {
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(startEventSubscriptionIndex.size()).isEqualTo(1);
+
+        // Without the index, the deployment doesn't invalidate it, as is the case for a deployment on another engine of the cluster
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndex(null);
+        org.flowable.engine.repository.Deployment deployment;
+        try {
+            deployment = repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+                    .deploy();
+            deploymentIdsForAutoCleanup.add(deployment.getId());
+        } finally {
+            eventSubscriptionServiceConfiguration.setStartEventSubscriptionIndex(startEventSubscriptionIndex);
+        }
+        assertThat(startEventSubscriptionIndex.size()).isEqualTo(1);
+
+        ProcessDefinition latestProcessDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deployment.getId()).singleResult();
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(latestProcessDefinition.getId()).count()).isEqualTo(1);
+        assertThat(startEventSubscriptionIndex.getMissCount()).isEqualTo(2);
+
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(latestProcessDefinition.getId()).count()).isEqualTo(2);
+        assertThat(startEventSubscriptionIndex.getMissCount()).isEqualTo(2);
+        assertThat(startEventSubscriptionIndex.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartSimpleCorrelationParameter.bpmn20.xml")
+    public void testIndexedEntriesExpire() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(startEventSubscriptionIndex.getMissCount()).isEqualTo(1);
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime()
+                + processEngineConfiguration.getEventSubscriptionServiceConfiguration().getStartEventSubscriptionIndexTimeToLive().toMillis() + 1));
+        inboundEventChannelAdapter.triggerTestEvent("testCustomer");
+        assertThat(startEventSubscriptionIndex.getMissCount()).isEqualTo(2);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testInstanceEventSubscriptionsAreNotIndexed() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("task");
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+                .isEqualTo("taskAfterBoundary");
+
+        // There are no start event subscriptions for the event, so the indexed entry is empty
+        assertThat(startEventSubscriptionIndex.size()).isEqualTo(1);
+        assertThat(startEventSubscriptionIndex.getHitCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,224 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.OutboundEvent;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.OutboundEventProcessor;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.impl.TransactionalOutboxOutboundEventProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionalOutboxOutboundEventProcessorTest extends FlowableEventRegistryBpmnTestCase {
+
+    protected BatchRecordingOutboundEventChannelAdapter outboundEventChannelAdapter;
+    protected TransactionalOutboxOutboundEventProcessor outboundEventProcessor;
+    protected OutboundEventProcessor originalOutboundEventProcessor;
+
+    @BeforeEach
+    protected void setUp() {
+        outboundEventChannelAdapter = new BatchRecordingOutboundEventChannelAdapter();
+        getEventRegistryEngineConfiguration().getExpressionManager().getBeans()
+                .put("outboundEventChannelAdapter", outboundEventChannelAdapter);
+        getEventRepositoryService().createOutboundChannelModelBuilder()
+                .key("out-channel")
+                .resourceName("testOut.channel")
+                .channelAdapter("${outboundEventChannelAdapter}")
+                .jsonSerializer()
+                .deploy();
+
+        getEventRepositoryService().createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .payload("eventProperty", EventPayloadTypes.STRING)
+                .deploy();
+
+        // The processor is not started, the tests flush the send results and send the pending events themselves
+        outboundEventProcessor = new TransactionalOutboxOutboundEventProcessor(getEventRegistryEngineConfiguration(), 5000, 3, 10);
+        originalOutboundEventProcessor = getEventRegistryEngineConfiguration().getOutboundEventProcessor();
+        getEventRegistry().setOutboundEventProcessor(outboundEventProcessor);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        getEventRegistry().setOutboundEventProcessor(originalOutboundEventProcessor);
+        getEventRegistryEngineConfiguration().getExpressionManager().getBeans().remove("outboundEventChannelAdapter");
+        processEngineConfiguration.getClock().reset();
+
+        List<String> outboxEntryIds = getOutboxEntries().stream()
+                .map(entry -> (String) entry.get("ID_"))
+                .collect(Collectors.toList());
+        if (!outboxEntryIds.isEmpty()) {
+            getEventRegistryEngineConfiguration().getCommandExecutor().execute(commandContext -> {
+                getEventRegistryEngineConfiguration().getEventOutboxEntityManager().deleteEntriesByIds(outboxEntryIds);
+                return null;
+            });
+        }
+
+        EventRepositoryService eventRepositoryService = getEventRepositoryService();
+        List<EventDeployment> deployments = eventRepositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : deployments) {
+            eventRepositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/TransactionalOutboxOutboundEventProcessorTest.testSendEvents.bpmn20.xml")
+    public void testEventsAreSentAsBatchAfterCommit() {
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("process")
+                .variable("fail", false)
+                .start();
+
+        assertThat(outboundEventChannelAdapter.batches)
+                .containsExactly(List.of("{\"eventProperty\":\"first\"}", "{\"eventProperty\":\"second\"}"));
+
+        // The events were stored in the transaction and are removed once the acknowledgements are handled
+        assertThat(getOutboxEntries()).hasSize(2);
+        outboundEventProcessor.flushSendResults();
+        assertThat(getOutboxEntries()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/TransactionalOutboxOutboundEventProcessorTest.testSendEvents.bpmn20.xml")
+    public void testEventsAreNotStoredNorSentOnRollback() {
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("process")
+                .variable("fail", true)
+                .start())
+                .isInstanceOf(FlowableException.class);
+
+        assertThat(outboundEventChannelAdapter.batches).isEmpty();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(getOutboxEntries()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/TransactionalOutboxOutboundEventProcessorTest.testSendEvents.bpmn20.xml")
+    public void testFailedEventsStayInOutboxAndAreSentAgain() {
+        outboundEventChannelAdapter.fail = true;
+
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("process")
+                .variable("fail", false)
+                .start();
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(1);
+        assertThat(outboundEventChannelAdapter.batches).hasSize(1);
+
+        outboundEventProcessor.flushSendResults();
+        assertThat(getOutboxEntries())
+                .extracting(entry -> entry.get("ATTEMPTS_"), entry -> entry.get("EXCEPTION_MSG_"))
+                .containsExactly(
+                        tuple(1, "Broker not available"),
+                        tuple(1, "Broker not available"));
+
+        // The events are only sent again after the retry interval
+        outboundEventProcessor.sendPendingEvents();
+        assertThat(outboundEventChannelAdapter.batches).hasSize(1);
+
+        outboundEventChannelAdapter.fail = false;
+        moveClockForward(6000);
+        outboundEventProcessor.sendPendingEvents();
+
+        assertThat(outboundEventChannelAdapter.batches).hasSize(2);
+        assertThat(outboundEventChannelAdapter.batches.get(1))
+                .containsExactly("{\"eventProperty\":\"first\"}", "{\"eventProperty\":\"second\"}");
+
+        outboundEventProcessor.flushSendResults();
+        assertThat(getOutboxEntries()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/TransactionalOutboxOutboundEventProcessorTest.testSendEvents.bpmn20.xml")
+    public void testEventsAreNotSentAgainAfterMaxAttempts() {
+        outboundEventChannelAdapter.fail = true;
+
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("process")
+                .variable("fail", false)
+                .start();
+
+        for (int i = 0; i < 3; i++) {
+            moveClockForward(6000);
+            outboundEventProcessor.sendPendingEvents();
+        }
+        outboundEventProcessor.flushSendResults();
+
+        // The first send and 2 retries
+        assertThat(outboundEventChannelAdapter.batches).hasSize(3);
+        assertThat(getOutboxEntries())
+                .extracting(entry -> entry.get("ATTEMPTS_"), entry -> entry.get("RETRY_TIME_"), entry -> entry.get("EXCEPTION_MSG_"))
+                .containsExactly(
+                        tuple(3, null, "Broker not available"),
+                        tuple(3, null, "Broker not available"));
+
+        outboundEventChannelAdapter.fail = false;
+        moveClockForward(6000);
+        outboundEventProcessor.sendPendingEvents();
+        assertThat(outboundEventChannelAdapter.batches).hasSize(3);
+    }
+
+    protected void moveClockForward(long milliseconds) {
+        Date currentTime = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(currentTime.getTime() + milliseconds));
+    }
+
+    protected List<Map<String, Object>> getOutboxEntries() {
+        return managementService.createTablePageQuery()
+                .tableName("FLW_EVENT_OUTBOX")
+                .orderAsc("CREATE_TIME_")
+                .listPage(0, 100)
+                .getRows();
+    }
+
+    public static class BatchRecordingOutboundEventChannelAdapter implements OutboundEventChannelAdapter<String> {
+
+        public List<List<String>> batches = new ArrayList<>();
+        public boolean fail;
+
+        @Override
+        public void sendEvent(String rawEvent, Map<String, Object> headerMap) {
+            if (fail) {
+                throw new FlowableException("Broker not available");
+            }
+        }
+
+        @Override
+        public List<CompletableFuture<Void>> sendEvents(List<OutboundEvent<String>> events) {
+            List<String> batch = new ArrayList<>();
+            for (OutboundEvent<String> event : events) {
+                batch.add(event.getBody());
+            }
+            batches.add(batch);
+            return OutboundEventChannelAdapter.super.sendEvents(events);
+        }
+    }
+}
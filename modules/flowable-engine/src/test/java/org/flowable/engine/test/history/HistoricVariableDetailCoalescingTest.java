@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.history.HistoricDetail;
+import org.flowable.engine.history.HistoricVariableUpdate;
+import org.flowable.engine.impl.history.DefaultHistoryManager;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HistoricVariableDetailCoalescingTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableCoalescing() {
+        processEngineConfiguration.setEnableHistoricVariableDetailCoalescing(true);
+    }
+
+    @AfterEach
+    public void disableCoalescing() {
+        processEngineConfiguration.setEnableHistoricVariableDetailCoalescing(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdatesInOneTransactionAreCoalesced() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("myVar", "initial")
+                .start();
+
+        long coalescedCount = getCoalescedHistoricVariableUpdateCount();
+
+        managementService.executeCommand(commandContext -> {
+            for (int i = 0; i < 10; i++) {
+                runtimeService.setVariable(processInstance.getId(), "myVar", "value-" + i);
+            }
+            return null;
+        });
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            assertThat(getVariableUpdateValues(processInstance.getId())).containsExactlyInAnyOrder("initial", "value-9");
+            assertThat(getCoalescedHistoricVariableUpdateCount() - coalescedCount).isEqualTo(9);
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).variableName("myVar")
+                    .singleResult().getValue()).isEqualTo("value-9");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCreateAndUpdatesInOneTransactionAreCoalesced() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "myVar", "text".getBytes());
+            runtimeService.setVariable(processInstance.getId(), "myVar", "other text".getBytes());
+            runtimeService.setVariable(processInstance.getId(), "otherVar", "first");
+            runtimeService.setVariable(processInstance.getId(), "myVar", 10);
+            runtimeService.setVariable(processInstance.getId(), "otherVar", "second");
+            return null;
+        });
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            assertThat(getVariableUpdateValues(processInstance.getId())).containsExactlyInAnyOrder(10, "second");
+        }
+
+        // The byte array of the coalesced updates is not stored
+        List<ByteArrayEntity> byteArrays = managementService.executeCommand(commandContext -> processEngineConfiguration.getByteArrayEntityManager().findAll());
+        assertThat(byteArrays).extracting(ByteArrayEntity::getDeploymentId).doesNotContainNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdatesInSeparateTransactionsAreNotCoalesced() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("myVar", "initial")
+                .start();
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "first");
+        runtimeService.setVariable(processInstance.getId(), "myVar", "second");
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            assertThat(getVariableUpdateValues(processInstance.getId())).containsExactlyInAnyOrder("initial", "first", "second");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdatesAreNotCoalescedWhenDisabled() {
+        processEngineConfiguration.setEnableHistoricVariableDetailCoalescing(false);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        managementService.executeCommand(commandContext -> {
+            for (int i = 0; i < 3; i++) {
+                runtimeService.setVariable(processInstance.getId(), "myVar", "value-" + i);
+            }
+            return null;
+        });
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            assertThat(getVariableUpdateValues(processInstance.getId())).containsExactlyInAnyOrder("value-0", "value-1", "value-2");
+        }
+    }
+
+    protected List<Object> getVariableUpdateValues(String processInstanceId) {
+        List<HistoricDetail> historicDetails = historyService.createHistoricDetailQuery().processInstanceId(processInstanceId).variableUpdates().list();
+        return historicDetails.stream()
+                .map(historicDetail -> ((HistoricVariableUpdate) historicDetail).getValue())
+                .toList();
+    }
+
+    protected long getCoalescedHistoricVariableUpdateCount() {
+        return ((DefaultHistoryManager) processEngineConfiguration.getHistoryManager()).getCoalescedHistoricVariableUpdateCount();
+    }
+
+}
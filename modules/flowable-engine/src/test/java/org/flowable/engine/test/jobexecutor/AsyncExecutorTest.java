@@ -27,6 +27,8 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.impl.async.AsyncTaskExecutorConfiguration;
+import org.flowable.common.engine.impl.async.VirtualThreadAsyncTaskExecutor;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
@@ -37,7 +39,9 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -345,6 +349,87 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testJobRejectionWithVirtualThreadsOnMaxConcurrentTasks() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        // Important for this test
+        AsyncTaskExecutorConfiguration taskExecutorConfiguration = new AsyncTaskExecutorConfiguration();
+        taskExecutorConfiguration.setVirtualThreadsEnabled(true);
+        taskExecutorConfiguration.setMaxConcurrentTasks(2);
+        processEngineConfiguration.setAsyncExecutorTaskExecutorConfiguration(taskExecutorConfiguration);
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+        assertThat(processEngineConfiguration.getAsyncTaskExecutor()).isInstanceOf(VirtualThreadAsyncTaskExecutor.class);
+
+        TestRejectionEventListener.COUNTER.set(0);
+        TestBlockingJavaDelegate.SEMAPHORE.drainPermits();
+        processEngine.getProcessEngineConfiguration().getEventDispatcher().addEventListener(new TestRejectionEventListener(), FlowableEngineEventType.JOB_REJECTED);
+
+        // 3 starts:
+        // 1) and 2) running on their own thread, blocked
+        // 3) max concurrent tasks reached -> rejected
+        int nrOfProcesses = 3;
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testAsyncJobRejection.bpmn20.xml");
+
+            for (int i = 0; i < nrOfProcesses; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("testRejection");
+            }
+            assertThat(TestRejectionEventListener.COUNTER.get()).isEqualTo(1);
+            assertThat(processEngineConfiguration.getAsyncTaskExecutor().getRemainingCapacity()).isZero();
+
+        } finally {
+
+            TestBlockingJavaDelegate.SEMAPHORE.release(nrOfProcesses);
+
+            // 2 blocked jobs should be processed and end the process instance
+            await().atMost(Duration.of(10, SECONDS)).until(() -> processEngine.getRuntimeService().createProcessInstanceQuery().count() == 1);
+            assertThat(TestRejectionEventListener.COUNTER.get()).isEqualTo(1);
+
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testTimerJobWheel() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+
+        AsyncJobExecutorConfiguration asyncExecutorConfiguration = new AsyncJobExecutorConfiguration();
+        asyncExecutorConfiguration.setDefaultTimerJobAcquireWaitTime(Duration.ofMillis(500));
+        asyncExecutorConfiguration.setTimerJobWheelEnabled(true);
+        asyncExecutorConfiguration.setTimerJobWheelLookAheadTime(Duration.ofSeconds(30));
+        asyncExecutorConfiguration.setTimerJobWheelTickDuration(Duration.ofMillis(50));
+        processEngineConfiguration.setAsyncExecutor(new DefaultAsyncJobExecutor(asyncExecutorConfiguration));
+
+        ProcessEngine processEngine = processEngineConfiguration.buildProcessEngine();
+
+        try {
+            deploy(processEngine, "AsyncExecutorTest.testTimerJobWheel.bpmn20.xml");
+            processEngine.getRuntimeService().startProcessInstanceByKey("timerJobWheel");
+
+            // The timer is not due yet, but is acquired (locked) and put on the timer job wheel
+            await().atMost(Duration.of(2, SECONDS))
+                    .until(() -> ((TimerJobEntity) processEngine.getManagementService().createTimerJobQuery().singleResult()).getLockOwner() != null);
+            assertThat(processEngine.getTaskService().createTaskQuery().taskName("The Task").count()).isEqualTo(1);
+
+            // When due, the timer is moved to an executable job from the wheel
+            await().atMost(Duration.of(10, SECONDS))
+                    .until(() -> processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count() == 1);
+            assertThat(processEngine.getManagementService().createTimerJobQuery().count()).isZero();
+
+        } finally {
+            cleanup(processEngine);
+        }
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
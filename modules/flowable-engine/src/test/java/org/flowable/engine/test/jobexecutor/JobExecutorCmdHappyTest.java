@@ -101,4 +101,42 @@ public class JobExecutorCmdHappyTest extends JobExecutorTestCase {
         assertThat(tweetHandler.getMessages().get(0)).isEqualTo("i'm coding a test");
         assertThat(tweetHandler.getMessages()).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAcquireTimersWithLookAheadAcquiresDueTimersFirst() {
+        processEngineConfiguration.getClock().setCurrentTime(new Date(SOME_TIME));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        int originalMaxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        asyncExecutor.setMaxTimerJobsPerAcquisition(1);
+
+        try {
+            String nearDueJobId = scheduleTweetTimer(commandExecutor, "near due", new Date(SOME_TIME + (10 * SECOND)));
+            String dueJobId = scheduleTweetTimer(commandExecutor, "due", new Date(SOME_TIME - (10 * SECOND)));
+
+            List<TimerJobEntity> acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, 30 * SECOND));
+            assertThat(acquiredJobs).extracting(TimerJobEntity::getId).containsExactly(dueJobId);
+
+            acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, 30 * SECOND));
+            assertThat(acquiredJobs).extracting(TimerJobEntity::getId).containsExactly(nearDueJobId);
+
+            for (String jobId : List.of(dueJobId, nearDueJobId)) {
+                Job executableJob = managementService.moveTimerToExecutableJob(jobId);
+                commandExecutor.execute(new ExecuteAsyncJobCmd(executableJob.getId(), processEngineConfiguration.getJobServiceConfiguration()));
+            }
+            assertThat(tweetHandler.getMessages()).containsExactly("due", "near due");
+
+        } finally {
+            asyncExecutor.setMaxTimerJobsPerAcquisition(originalMaxTimerJobsPerAcquisition);
+        }
+    }
+
+    protected String scheduleTweetTimer(CommandExecutor commandExecutor, String message, Date dueDate) {
+        return commandExecutor.execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer(message, dueDate);
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+}
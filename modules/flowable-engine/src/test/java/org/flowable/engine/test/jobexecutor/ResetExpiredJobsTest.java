@@ -197,6 +197,60 @@ public class ResetExpiredJobsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    public void testBulkResetExpiredJobs() {
+        int nrOfExpiredJobs = 12;
+        List<String> expiredJobIds = new ArrayList<>();
+        for (int i = 0; i < nrOfExpiredJobs; i++) {
+            expiredJobIds.add(createLockedJob(Date.from(Instant.now().minus(100, ChronoUnit.DAYS))));
+        }
+        String lockedJobId = createLockedJob(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        ResetExpiredJobsRunnable resetExpiredJobsRunnable = new ResetExpiredJobsRunnable("test-reset-expired",
+            processEngineConfiguration.getAsyncExecutor(), processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager());
+        resetExpiredJobsRunnable.setBulkResetPageSize(5);
+        resetExpiredJobsRunnable.resetJobs();
+
+        assertThat(resetExpiredJobsRunnable.getLastResetJobCount()).isEqualTo(nrOfExpiredJobs);
+        assertThat(resetExpiredJobsRunnable.getTotalResetJobCount()).isEqualTo(nrOfExpiredJobs);
+
+        for (String jobId : expiredJobIds) {
+            JobEntity jobEntity = (JobEntity) managementService.createJobQuery().jobId(jobId).singleResult();
+            assertThat(jobEntity.getLockOwner()).isNull();
+            assertThat(jobEntity.getLockExpirationTime()).isNull();
+            assertThat(jobEntity.getRevision()).isEqualTo(2);
+        }
+
+        JobEntity lockedJob = (JobEntity) managementService.createJobQuery().jobId(lockedJobId).singleResult();
+        assertThat(lockedJob.getLockOwner()).isEqualTo("claimed");
+        assertThat(lockedJob.getLockExpirationTime()).isNotNull();
+
+        // Nothing left to reset
+        resetExpiredJobsRunnable.resetJobs();
+        assertThat(resetExpiredJobsRunnable.getLastResetJobCount()).isZero();
+        assertThat(resetExpiredJobsRunnable.getTotalResetJobCount()).isEqualTo(nrOfExpiredJobs);
+
+        managementService.executeCommand(commandContext -> {
+            processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager().delete(lockedJobId);
+            return null;
+        });
+        for (String jobId : expiredJobIds) {
+            managementService.deleteJob(jobId);
+        }
+    }
+
+    protected String createLockedJob(Date lockExpirationTime) {
+        return managementService.executeCommand(commandContext -> {
+            JobEntityManager jobEntityManager = processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager();
+            JobEntity jobEntity = jobEntityManager.create();
+            jobEntity.setJobType("type");
+            jobEntity.setLockExpirationTime(lockExpirationTime);
+            jobEntity.setLockOwner("claimed");
+            jobEntityManager.insert(jobEntity);
+            return jobEntity.getId();
+        });
+    }
+
     protected void assertJobDetails(boolean locked) {
         JobQuery jobQuery = managementService.createJobQuery();
 
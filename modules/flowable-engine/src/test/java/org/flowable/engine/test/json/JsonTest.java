@@ -1104,6 +1104,99 @@ public class JsonTest extends PluggableFlowableTestCase {
                         + "}]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testGetNestedLongJsonNodeValueDoesNotUpdateVariable() {
+        ObjectNode order = createBigJsonObject();
+        order.putObject("customer")
+                .put("id", "customer-1")
+                .putArray("addresses")
+                .addObject()
+                .put("street", "Sesame Street");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("order", order)
+                .start();
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "order");
+        assertThat(variableInstance.getTextValue()).isNull();
+        int revision = variableInstance.getRevision();
+        int byteArrayRevision = getByteArrayRevision(variableInstance.getByteArrayRef().getId());
+        HistoricVariableInstanceEntity historicVariableInstance = null;
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            historicVariableInstance = (HistoricVariableInstanceEntity) historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("order")
+                    .singleResult();
+        }
+        long historicDetailCount = historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).count();
+
+        Object value = managementService.executeCommand(commandContext -> {
+            Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${order.customer.addresses[0].street}");
+            return expression.getValue(CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId()));
+        });
+        assertThat(value).isEqualTo("Sesame Street");
+
+        // Setting a property to its current value does not change the variable
+        managementService.executeCommand(commandContext -> {
+            Expression expression = processEngineConfiguration.getExpressionManager().createExpression("${order.customer.id}");
+            expression.setValue("customer-1", CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId()));
+            return null;
+        });
+
+        variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "order");
+        assertThat(variableInstance.getRevision()).isEqualTo(revision);
+        assertThatJson(variableInstance.getValue()).isEqualTo(order);
+
+        // Neither the byte array with the value nor the history is updated
+        assertThat(getByteArrayRevision(variableInstance.getByteArrayRef().getId())).isEqualTo(byteArrayRevision);
+        assertThat(historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(historicDetailCount);
+        if (historicVariableInstance != null) {
+            HistoricVariableInstanceEntity updatedHistoricVariableInstance = (HistoricVariableInstanceEntity) historyService
+                    .createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .variableName("order")
+                    .singleResult();
+            assertThat(updatedHistoricVariableInstance.getRevision()).isEqualTo(historicVariableInstance.getRevision());
+            assertThat(updatedHistoricVariableInstance.getLastUpdatedTime()).isEqualTo(historicVariableInstance.getLastUpdatedTime());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testUpdateNestedLongJsonNodeValue() {
+        ObjectNode order = createBigJsonObject();
+        order.putArray("items")
+                .add(objectMapper.createObjectNode().put("quantity", 1))
+                .add(objectMapper.createObjectNode().put("quantity", 2));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("order", order)
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            JsonNode value = (JsonNode) runtimeService.getVariable(processInstance.getId(), "order");
+            ((ObjectNode) value.path("items").path(1)).put("quantity", 5);
+            ((ArrayNode) value.path("items")).addObject().put("quantity", 3);
+            return null;
+        });
+
+        ((ObjectNode) order.path("items").path(1)).put("quantity", 5);
+        ((ArrayNode) order.path("items")).addObject().put("quantity", 3);
+        assertThatJson(runtimeService.getVariable(processInstance.getId(), "order")).isEqualTo(order);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertThatJson(historyService.createHistoricVariableInstanceQuery().variableName("order").singleResult().getValue())
+                    .isEqualTo(order);
+        }
+    }
+
+    protected int getByteArrayRevision(String byteArrayId) {
+        return managementService.executeCommand(commandContext -> processEngineConfiguration.getByteArrayEntityManager().findById(byteArrayId).getRevision());
+    }
+
     protected ObjectNode createBigJsonObject() {
         ObjectNode valueNode = objectMapper.createObjectNode();
         for (int i = 0; i < 1000; i++) {
@@ -0,0 +1,193 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingDbIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/prefetchingidgenerator.test.flowable.cfg.xml");
+    }
+
+    @Test
+    public void testIdsAreUniqueAndBlocksArePrefetched() {
+        PrefetchingDbIdGenerator idGenerator = createIdGenerator();
+        // Fetch the blocks on the calling thread to make sure that they are ready before the current block is used up
+        idGenerator.setPrefetchExecutor(Runnable::run);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(Long.parseLong(idGenerator.getNextId()));
+        }
+
+        assertThat(ids).hasSize(200);
+        // The last block already triggered the prefetch of the next one
+        assertThat(idGenerator.getBlockFetchCount()).isEqualTo(11);
+        // Only the first block is fetched when getting an id, the others are prefetched
+        assertThat(idGenerator.getBlockingFetchCount()).isEqualTo(1);
+        assertThat(idGenerator.getMaxBlockFetchTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(idGenerator.getTotalBlockFetchTime(TimeUnit.NANOSECONDS))
+                .isGreaterThanOrEqualTo(idGenerator.getMaxBlockFetchTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testStripedIdsDoNotOverlap() {
+        PrefetchingDbIdGenerator defaultIdGenerator = createIdGenerator();
+        long lastDefaultId = Long.parseLong(defaultIdGenerator.getNextId());
+
+        PrefetchingDbIdGenerator stripe0 = createIdGenerator();
+        stripe0.setStripe(0, 2);
+        PrefetchingDbIdGenerator stripe1 = createIdGenerator();
+        stripe1.setStripe(1, 2);
+        // Fetch the blocks on the calling thread, so that no stripe property is recreated after it is deleted
+        stripe0.setPrefetchExecutor(Runnable::run);
+        stripe1.setPrefetchExecutor(Runnable::run);
+
+        try {
+            Set<Long> ids = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                long id0 = Long.parseLong(stripe0.getNextId());
+                long id1 = Long.parseLong(stripe1.getNextId());
+                assertThat(id0 % 2).isZero();
+                assertThat(id1 % 2).isOne();
+                assertThat(id0).isGreaterThan(lastDefaultId);
+                assertThat(id1).isGreaterThan(lastDefaultId);
+                ids.add(id0);
+                ids.add(id1);
+            }
+            assertThat(ids).hasSize(200);
+
+        } finally {
+            deleteStripeProperties();
+        }
+    }
+
+    @Test
+    public void testIdsCannotBeFetchedWithoutStripesOnceStriped() {
+        PrefetchingDbIdGenerator stripe0 = createIdGenerator();
+        stripe0.setStripe(0, 2);
+        stripe0.getNextId();
+
+        try {
+            PrefetchingDbIdGenerator defaultIdGenerator = createIdGenerator();
+            assertThatThrownBy(defaultIdGenerator::getNextId)
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining("Ids are striped over 2 properties");
+
+            PrefetchingDbIdGenerator otherStripeCount = createIdGenerator();
+            otherStripeCount.setStripe(1, 3);
+            assertThatThrownBy(otherStripeCount::getNextId)
+                    .isInstanceOf(FlowableException.class)
+                    .hasMessageContaining("Ids are striped over 2 properties");
+
+        } finally {
+            deleteStripeProperties();
+        }
+    }
+
+    @Test
+    public void testShutdownDefaultPrefetchExecutor() {
+        PrefetchingDbIdGenerator idGenerator = createIdGenerator();
+        // Reaching the low-water mark starts the prefetch of the next block
+        for (int i = 0; i < 16; i++) {
+            idGenerator.getNextId();
+        }
+        Executor prefetchExecutor = idGenerator.getPrefetchExecutor();
+        assertThat(prefetchExecutor).isNotNull();
+
+        idGenerator.shutdown();
+
+        assertThat(prefetchExecutor).isInstanceOfSatisfying(ExecutorService.class, executorService -> assertThat(executorService.isShutdown()).isTrue());
+        assertThat(idGenerator.getPrefetchExecutor()).isNull();
+    }
+
+    @Test
+    public void testShutdownKeepsConfiguredPrefetchExecutor() {
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        try {
+            PrefetchingDbIdGenerator idGenerator = createIdGenerator();
+            idGenerator.setPrefetchExecutor(prefetchExecutor);
+
+            idGenerator.shutdown();
+
+            assertThat(prefetchExecutor.isShutdown()).isFalse();
+            assertThat(idGenerator.getPrefetchExecutor()).isSameAs(prefetchExecutor);
+        } finally {
+            prefetchExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void testEngineUsesPrefetchingIdGenerator() {
+        assertThat(processEngineConfiguration.getIdGenerator()).isInstanceOf(PrefetchingDbIdGenerator.class);
+        PrefetchingDbIdGenerator idGenerator = (PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator();
+        assertThat(idGenerator.getIdBlockSize()).isEqualTo(20);
+        assertThat(idGenerator.getCommandExecutor()).isNotNull();
+        assertThat(idGenerator.getNextId()).containsOnlyDigits();
+        assertThat(idGenerator.getBlockFetchCount()).isPositive();
+    }
+
+    @Test
+    public void testInvalidStripe() {
+        PrefetchingDbIdGenerator idGenerator = new PrefetchingDbIdGenerator();
+        assertThatThrownBy(() -> idGenerator.setStripe(2, 2)).isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> idGenerator.setStripe(-1, 2)).isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> idGenerator.setStripe(0, 0)).isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected PrefetchingDbIdGenerator createIdGenerator() {
+        PrefetchingDbIdGenerator idGenerator = new PrefetchingDbIdGenerator();
+        idGenerator.setIdBlockSize(20);
+        idGenerator.setLowWaterMark(5);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+        return idGenerator;
+    }
+
+    protected void deleteStripeProperties() {
+        deleteProperty(PrefetchingDbIdGenerator.STRIPE_PROPERTY_PREFIX + "0");
+        deleteProperty(PrefetchingDbIdGenerator.STRIPE_PROPERTY_PREFIX + "1");
+        deleteProperty(GetNextIdBlockCmd.STRIPE_COUNT_PROPERTY);
+    }
+
+    protected void deleteProperty(String name) {
+        managementService.executeCommand(commandContext -> {
+            PropertyEntityManager propertyEntityManager = CommandContextUtil.getPropertyEntityManager(commandContext);
+            PropertyEntity property = propertyEntityManager.findById(name);
+            if (property != null) {
+                propertyEntityManager.delete(property);
+            }
+            return null;
+        });
+    }
+
+}
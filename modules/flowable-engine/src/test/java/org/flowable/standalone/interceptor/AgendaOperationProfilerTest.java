@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.engine.impl.agenda.ProcessAgendaOperationProfiler;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class AgendaOperationProfilerTest extends ResourceFlowableTestCase {
+
+    public AgendaOperationProfilerTest() {
+        super("org/flowable/standalone/interceptor/agendaoperationprofiler.test.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOperationsAreProfiled() {
+        AgendaOperationProfiler profiler = processEngineConfiguration.getAgendaOperationProfiler();
+        assertThat(profiler).isInstanceOf(ProcessAgendaOperationProfiler.class);
+        profiler.reset();
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        Task task = taskService.createTaskQuery().singleResult();
+        taskService.complete(task.getId());
+
+        assertThat(profiler.getOperationStatistics())
+                .containsKeys("ContinueProcessOperation", "TakeOutgoingSequenceFlowsOperation", "TriggerExecutionOperation");
+        assertThat(profiler.getOperationStatistics().get("ContinueProcessOperation").getCount()).isGreaterThanOrEqualTo(3);
+        assertThat(profiler.getActivityStatistics()).containsKeys("theStart", "theTask", "theEnd");
+        assertThat(profiler.getActivityStatistics().get("theTask").getTotalTime(TimeUnit.NANOSECONDS)).isPositive();
+
+        profiler.reset();
+        assertThat(profiler.getOperationStatistics()).isEmpty();
+        assertThat(profiler.getActivityStatistics()).isEmpty();
+    }
+
+}
@@ -73,11 +73,47 @@ public interface EventRegistry {
      */
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Adapters that receive events in batches (e.g. a Kafka batch listener) should call this method to process them.
+     * The default implementation processes the events one by one.
+     *
+     * @throws FlowableEventBatchProcessingException with the index of the first event that was not processed, when processing an event failed
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        int index = 0;
+        for (InboundEvent event : events) {
+            try {
+                eventReceived(channelModel, event);
+            } catch (RuntimeException e) {
+                throw new FlowableEventBatchProcessingException("Exception while processing event " + index + " of the batch", e, index);
+            }
+            index++;
+        }
+    }
+
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     * The default implementation sends the events one by one.
+     *
+     * @throws FlowableEventBatchProcessingException with the index of the first event that was not consumed, when consuming an event failed
+     */
+    default void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        int index = 0;
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            try {
+                sendEventToConsumers(eventRegistryEvent);
+            } catch (RuntimeException e) {
+                throw new FlowableEventBatchProcessingException("Exception while consuming event " + index + " of the batch", e, index);
+            }
+            index++;
+        }
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
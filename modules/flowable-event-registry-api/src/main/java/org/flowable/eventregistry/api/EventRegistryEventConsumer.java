@@ -12,12 +12,34 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     EventRegistryProcessingInfo eventReceived(EventRegistryEvent event);
-    
+
+    /**
+     * Consume a batch of events. The returned list contains the processing info for each event, in the same order as the given events.
+     * The default implementation consumes the events one by one.
+     *
+     * @throws FlowableEventBatchProcessingException with the index of the first event that was not consumed, when consuming an event failed
+     */
+    default List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                processingInfos.add(eventReceived(events.get(i)));
+            } catch (RuntimeException e) {
+                throw new FlowableEventBatchProcessingException("Exception while consuming event " + i + " of the batch", e, i);
+            }
+        }
+        return processingInfos;
+    }
+
+
     String getConsumerKey();
 }
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Exception that is thrown when a batch of events could only be processed partially.
+ * All the events before the {@link #getFailedEventIndex() failed event index} have been processed,
+ * the event at that index and the events after it have to be processed again.
+ * <p>
+ * When several event consumers are registered, the event consumers before the failing one
+ * can already have consumed the events after the failed event index.
+ */
+public class FlowableEventBatchProcessingException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int failedEventIndex;
+
+    public FlowableEventBatchProcessingException(String message, Throwable cause, int failedEventIndex) {
+        super(message, cause);
+        this.failedEventIndex = failedEventIndex;
+    }
+
+    /**
+     * The index (in the batch) of the first event that was not processed.
+     */
+    public int getFailedEventIndex() {
+        return failedEventIndex;
+    }
+
+}
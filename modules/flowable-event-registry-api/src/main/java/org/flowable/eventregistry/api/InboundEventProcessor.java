@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +23,22 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Process a batch of events that were received together on the given channel (e.g. the records of a single Kafka poll).
+     * The default implementation processes the events one by one.
+     *
+     * @throws FlowableEventBatchProcessingException with the index of the first event that was not processed, when processing an event failed
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        int index = 0;
+        for (InboundEvent event : events) {
+            try {
+                eventReceived(channelModel, event);
+            } catch (RuntimeException e) {
+                throw new FlowableEventBatchProcessingException("Exception while processing event " + index + " of the batch", e, index);
+            }
+            index++;
+        }
+    }
+
 }
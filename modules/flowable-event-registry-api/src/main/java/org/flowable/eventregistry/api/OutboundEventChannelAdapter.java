@@ -12,7 +12,10 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Joram Barrez
@@ -25,4 +28,23 @@ public interface OutboundEventChannelAdapter<T> {
 
     void sendEvent(T rawEvent, Map<String, Object> headerMap);
 
+    /**
+     * Sends the given events as one batch.
+     * The returned list contains a future for every event (in the same order) which is completed when the event is acknowledged,
+     * or completed exceptionally when the event could not be sent.
+     * The default implementation sends the events one by one.
+     */
+    default List<CompletableFuture<Void>> sendEvents(List<OutboundEvent<T>> events) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(events.size());
+        for (OutboundEvent<T> event : events) {
+            try {
+                sendEvent(event);
+                results.add(CompletableFuture.completedFuture(null));
+            } catch (RuntimeException e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return results;
+    }
+
 }
@@ -188,6 +188,12 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets whether the records of a single poll should be processed as one batch (a boolean or an expression resolving to one).
+         * This allows the event subscriptions for all the events of the batch to be looked up at once.
+         */
+        InboundKafkaChannelBuilder batch(String batch);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
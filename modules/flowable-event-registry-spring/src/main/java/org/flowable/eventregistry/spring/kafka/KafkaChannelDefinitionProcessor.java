@@ -196,6 +196,7 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
+        endpoint.setBatchListener(resolveExpressionAsBoolean(channelModel.getBatch(), "batch", false));
 
         endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
 
@@ -235,6 +236,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         if (retryTopicConfiguration != null) {
 
+            if (Boolean.TRUE.equals(mainEndpoint.getBatchListener())) {
+                throw new FlowableException("Channel model " + channelModel.getKey() + " in tenant " + tenantId
+                        + " uses a batch listener. Non blocking retries are not supported for batch listeners");
+            }
+
             Collection<String> topics;
             if (mainEndpoint.getTopics().isEmpty()) {
                 TopicPartitionOffset[] topicPartitionsToAssign = mainEndpoint.getTopicPartitionsToAssign();
@@ -744,7 +750,13 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
     @SuppressWarnings("unchecked")
     protected GenericMessageListener<ConsumerRecord<Object, Object>> createMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
         @SuppressWarnings("rawtypes")
-        GenericMessageListener kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        GenericMessageListener kafkaChannelMessageListenerAdapter;
+        if (inboundChannelModel instanceof KafkaInboundChannelModel
+                && resolveExpressionAsBoolean(((KafkaInboundChannelModel) inboundChannelModel).getBatch(), "batch", false)) {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        } else {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        }
         return kafkaChannelMessageListenerAdapter;
     }
 
@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -52,21 +53,7 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
     @Override
     public void sendEvent(OutboundEvent<Object> event) {
         try {
-            Object rawEvent = event.getBody();
-            Map<String, Object> headerMap = event.getHeaders();
-            List<Header> headers = new ArrayList<>();
-            for (String headerKey : headerMap.keySet()) {
-                Object headerValue = headerMap.get(headerKey);
-                if (headerValue != null) {
-                    headers.add(new RecordHeader(headerKey, headerValue.toString().getBytes(StandardCharsets.UTF_8)));
-                }
-            }
-
-            Integer partition = partitionProvider == null ? null : partitionProvider.determinePartition(event);
-            Object key = messageKeyProvider == null ? null : messageKeyProvider.determineMessageKey(event);
-
-            ProducerRecord<Object, Object> producerRecord = new ProducerRecord<>(topic, partition, key, rawEvent, headers);
-            kafkaOperations.send(producerRecord).get();
+            kafkaOperations.send(createProducerRecord(event)).get();
             
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -80,6 +67,37 @@ public class KafkaOperationsOutboundEventChannelAdapter implements OutboundEvent
         }
     }
 
+    @Override
+    public List<CompletableFuture<Void>> sendEvents(List<OutboundEvent<Object>> events) {
+        // All records are handed over to the producer first, so they can be sent together. The acknowledgements are not awaited.
+        List<CompletableFuture<Void>> results = new ArrayList<>(events.size());
+        for (OutboundEvent<Object> event : events) {
+            try {
+                results.add(kafkaOperations.send(createProducerRecord(event)).thenApply(sendResult -> null));
+            } catch (RuntimeException e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return results;
+    }
+
+    protected ProducerRecord<Object, Object> createProducerRecord(OutboundEvent<Object> event) {
+        Object rawEvent = event.getBody();
+        Map<String, Object> headerMap = event.getHeaders();
+        List<Header> headers = new ArrayList<>();
+        for (String headerKey : headerMap.keySet()) {
+            Object headerValue = headerMap.get(headerKey);
+            if (headerValue != null) {
+                headers.add(new RecordHeader(headerKey, headerValue.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        Integer partition = partitionProvider == null ? null : partitionProvider.determinePartition(event);
+        Object key = messageKeyProvider == null ? null : messageKeyProvider.determineMessageKey(event);
+
+        return new ProducerRecord<>(topic, partition, key, rawEvent, headers);
+    }
+
     @Override
     public void sendEvent(Object rawEvent, Map<String, Object> headerMap) {
         throw new UnsupportedOperationException("Outbound processor should never call this");
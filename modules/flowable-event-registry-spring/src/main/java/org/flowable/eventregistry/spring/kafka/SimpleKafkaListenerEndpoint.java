@@ -41,6 +41,7 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
     protected Integer concurrency;
     protected Properties consumerProperties;
     protected boolean splitIterables = true;
+    protected Boolean batchListener;
     protected String mainListenerId;
 
     protected GenericMessageListener<ConsumerRecord<K, V>> messageListener;
@@ -142,6 +143,15 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
         listenerContainer.setupMessageListener(messageListener);
     }
 
+    @Override
+    public Boolean getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(Boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
     @Override
     public boolean isSplitIterables() {
         return splitIterables;
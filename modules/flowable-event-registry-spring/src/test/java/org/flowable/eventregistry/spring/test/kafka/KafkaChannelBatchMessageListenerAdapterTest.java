@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.test.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.model.KafkaInboundChannelModel;
+import org.flowable.eventregistry.spring.kafka.KafkaChannelBatchMessageListenerAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class KafkaChannelBatchMessageListenerAdapterTest {
+
+    @Mock
+    protected EventRegistry eventRegistry;
+
+    @Mock
+    protected Acknowledgment acknowledgment;
+
+    @Mock
+    protected Consumer<?, ?> consumer;
+
+    @Captor
+    protected ArgumentCaptor<Collection<InboundEvent>> inboundEventsCaptor;
+
+    protected KafkaInboundChannelModel inboundChannelModel;
+    protected KafkaChannelBatchMessageListenerAdapter adapter;
+
+    @BeforeEach
+    public void setUp() {
+        inboundChannelModel = new KafkaInboundChannelModel();
+        inboundChannelModel.setKey("batchChannel");
+        adapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+    }
+
+    @Test
+    public void testBatchIsPassedToEventRegistryAtOnce() {
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                new ConsumerRecord<>("customer", 0, 0, "key1", "{\"name\": \"kermit\"}"),
+                new ConsumerRecord<>("customer", 0, 1, "key2", "{\"name\": \"gonzo\"}"),
+                new ConsumerRecord<>("customer", 1, 0, "key3", "{\"name\": \"fozzie\"}"));
+
+        adapter.onMessage(records, acknowledgment, consumer);
+
+        verify(eventRegistry, times(1)).eventsReceived(same(inboundChannelModel), inboundEventsCaptor.capture());
+        verify(eventRegistry, never()).eventReceived(any(), any(InboundEvent.class));
+        assertThat(inboundEventsCaptor.getValue())
+                .extracting(InboundEvent::getBody)
+                .containsExactly("{\"name\": \"kermit\"}", "{\"name\": \"gonzo\"}", "{\"name\": \"fozzie\"}");
+        assertThat(inboundEventsCaptor.getValue())
+                .extracting(InboundEvent::getRawEvent)
+                .containsExactlyElementsOf(records);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    public void testFailedRecordIsReportedWhenProcessingFails() {
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                new ConsumerRecord<>("customer", 0, 0, "key1", "{\"name\": \"kermit\"}"),
+                new ConsumerRecord<>("customer", 0, 1, "key2", "invalid"),
+                new ConsumerRecord<>("customer", 0, 2, "key3", "{\"name\": \"fozzie\"}"));
+
+        FlowableException cause = new FlowableException("Could not process event");
+        doThrow(new FlowableEventBatchProcessingException("Exception while processing event 1 of the batch", cause, 1))
+                .when(eventRegistry).eventsReceived(same(inboundChannelModel), any());
+
+        // The error handler of the listener container commits the first record and redelivers (or recovers) the others
+        assertThatThrownBy(() -> adapter.onMessage(records, acknowledgment, consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, exception -> assertThat(exception.getIndex()).isEqualTo(1))
+                .hasCause(cause);
+
+        verify(eventRegistry, times(1)).eventsReceived(same(inboundChannelModel), any());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    public void testBatchIsNotAcknowledgedWhenProcessingFailsWithoutIndex() {
+        List<ConsumerRecord<Object, Object>> records = List.of(
+                new ConsumerRecord<>("customer", 0, 0, "key1", "{\"name\": \"kermit\"}"),
+                new ConsumerRecord<>("customer", 0, 1, "key2", "invalid"));
+
+        doThrow(new FlowableException("Could not process event"))
+                .when(eventRegistry).eventsReceived(same(inboundChannelModel), any());
+
+        // Without a failed index, the listener container redelivers (or recovers) the whole batch
+        assertThatThrownBy(() -> adapter.onMessage(records, acknowledgment, consumer))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Could not process event");
+
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    public void testBatchWithoutAcknowledgment() {
+        List<ConsumerRecord<Object, Object>> records = List.of(new ConsumerRecord<>("customer", 0, 0, "key1", "{\"name\": \"kermit\"}"));
+
+        adapter.onMessage(records, null, consumer);
+
+        verify(eventRegistry, times(1)).eventsReceived(same(inboundChannelModel), inboundEventsCaptor.capture());
+        assertThat(inboundEventsCaptor.getValue()).hasSize(1);
+    }
+
+}
@@ -12,8 +12,10 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
@@ -22,6 +24,7 @@ import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryNonMatchingEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
 import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
@@ -81,6 +84,11 @@ public class DefaultEventRegistry implements EventRegistry {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -102,6 +110,73 @@ public class DefaultEventRegistry implements EventRegistry {
             }
         }
         
+        handleProcessedEvent(eventRegistryEvent, eventRegistryProcessingInfo);
+    }
+
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        List<EventRegistryEvent> events = new ArrayList<>(eventRegistryEvents);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        EventRegistryProcessingInfo[] eventRegistryProcessingInfos = new EventRegistryProcessingInfo[events.size()];
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
+
+        // When an event consumer fails, the following event consumers only get the events before the failed one,
+        // so that the events that have to be processed again are not consumed more than needed
+        int consumedEventCount = events.size();
+        RuntimeException consumerException = null;
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            if (consumedEventCount == 0) {
+                break;
+            }
+
+            List<EventRegistryEvent> consumerEvents = events.subList(0, consumedEventCount);
+            if (debugLoggingEnabled) {
+                logger.debug("Sending batch of {} events to event consumer {}", consumerEvents.size(), eventConsumer);
+            }
+
+            List<EventRegistryProcessingInfo> processingInfos;
+            try {
+                processingInfos = eventConsumer.eventsReceived(consumerEvents);
+            } catch (FlowableEventBatchProcessingException e) {
+                consumerException = e;
+                consumedEventCount = e.getFailedEventIndex();
+                continue;
+            } catch (RuntimeException e) {
+                consumerException = e;
+                consumedEventCount = 0;
+                continue;
+            }
+
+            for (int i = 0; i < consumedEventCount; i++) {
+                EventRegistryProcessingInfo processingInfo = processingInfos.get(i);
+                if (debugLoggingEnabled) {
+                    logger.debug("Event consumer {} processed event {} with result {}", eventConsumer, events.get(i), processingInfo);
+                }
+                if (processingInfo != null && processingInfo.getEventConsumerInfos() != null && !processingInfo.getEventConsumerInfos().isEmpty()) {
+                    if (eventRegistryProcessingInfos[i] == null) {
+                        eventRegistryProcessingInfos[i] = new EventRegistryProcessingInfo();
+                    }
+                    eventRegistryProcessingInfos[i].setEventConsumerInfos(processingInfo.getEventConsumerInfos());
+                }
+            }
+        }
+
+        for (int i = 0; i < consumedEventCount; i++) {
+            handleProcessedEvent(events.get(i), eventRegistryProcessingInfos[i]);
+        }
+
+        if (consumerException != null) {
+            throw new FlowableEventBatchProcessingException("Exception while consuming event " + consumedEventCount + " of the batch",
+                    consumerException instanceof FlowableEventBatchProcessingException ? consumerException.getCause() : consumerException, consumedEventCount);
+        }
+    }
+
+    protected void handleProcessedEvent(EventRegistryEvent eventRegistryEvent, EventRegistryProcessingInfo eventRegistryProcessingInfo) {
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
         if (eventRegistryProcessingInfo == null || !eventRegistryProcessingInfo.eventHandled()) {
 
             EventRegistryNonMatchingEventConsumer nonMatchingEventConsumer = engineConfiguration.getNonMatchingEventConsumer();
@@ -12,10 +12,13 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
 import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
@@ -44,4 +47,44 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+
+        // The index of the inbound event that resulted in each event registry event
+        List<Integer> inboundEventIndexes = new ArrayList<>(events.size());
+        int inboundEventIndex = 0;
+        RuntimeException pipelineException = null;
+        for (InboundEvent event : events) {
+            try {
+                Collection<EventRegistryEvent> inboundEventRegistryEvents = inboundEventProcessingPipeline.run(channelModel, event);
+                eventRegistryEvents.addAll(inboundEventRegistryEvents);
+                for (int i = 0; i < inboundEventRegistryEvents.size(); i++) {
+                    inboundEventIndexes.add(inboundEventIndex);
+                }
+            } catch (RuntimeException e) {
+                // The events before the one that could not be processed are still sent to the consumers
+                pipelineException = e;
+                break;
+            }
+            inboundEventIndex++;
+        }
+
+        if (!eventRegistryEvents.isEmpty()) {
+            try {
+                eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+            } catch (FlowableEventBatchProcessingException e) {
+                int failedInboundEventIndex = inboundEventIndexes.get(e.getFailedEventIndex());
+                throw new FlowableEventBatchProcessingException("Exception while processing event " + failedInboundEventIndex + " of the batch",
+                        e.getCause(), failedInboundEventIndex);
+            }
+        }
+
+        if (pipelineException != null) {
+            throw new FlowableEventBatchProcessingException("Exception while processing event " + inboundEventIndex + " of the batch",
+                    pipelineException, inboundEventIndex);
+        }
+    }
+
 }
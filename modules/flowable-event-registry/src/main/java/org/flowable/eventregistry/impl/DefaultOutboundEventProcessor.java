@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.OutboundEvent;
 import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
 import org.flowable.eventregistry.api.OutboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.OutboundEventProcessor;
@@ -46,24 +47,30 @@ public class DefaultOutboundEventProcessor implements OutboundEventProcessor {
         }
 
         for (ChannelModel channelModel : channelModels) {
-
             OutboundChannelModel outboundChannelModel = (OutboundChannelModel) channelModel;
+            OutboundEventChannelAdapter outboundEventChannelAdapter = getOutboundEventChannelAdapter(outboundChannelModel);
+            outboundEventChannelAdapter.sendEvent(createOutboundEvent(eventInstance, outboundChannelModel));
+        }
+    }
 
-            Map<String, Object> headerMap = new HashMap<>();
-            for (EventPayloadInstance headerInstance : eventInstance.getHeaderInstances()) {
-                headerMap.put(headerInstance.getDefinitionName(), headerInstance.getValue());
-            }
-            
-            OutboundEventProcessingPipeline<?> outboundEventProcessingPipeline = (OutboundEventProcessingPipeline<?>) outboundChannelModel.getOutboundEventProcessingPipeline();
-            Object rawEvent = outboundEventProcessingPipeline.run(eventInstance);
+    protected OutboundEvent<?> createOutboundEvent(EventInstance eventInstance, OutboundChannelModel outboundChannelModel) {
+        Map<String, Object> headerMap = new HashMap<>();
+        for (EventPayloadInstance headerInstance : eventInstance.getHeaderInstances()) {
+            headerMap.put(headerInstance.getDefinitionName(), headerInstance.getValue());
+        }
+
+        OutboundEventProcessingPipeline<?> outboundEventProcessingPipeline = (OutboundEventProcessingPipeline<?>) outboundChannelModel.getOutboundEventProcessingPipeline();
+        Object rawEvent = outboundEventProcessingPipeline.run(eventInstance);
+
+        return new DefaultOutboundEvent<>(rawEvent, eventInstance, headerMap);
+    }
 
-            OutboundEventChannelAdapter outboundEventChannelAdapter = (OutboundEventChannelAdapter<?>) outboundChannelModel.getOutboundEventChannelAdapter();
-            if (outboundEventChannelAdapter == null) {
-                throw new FlowableException("Could not find an outbound channel adapter for channel " + channelModel.getKey());
-            }
-            
-            outboundEventChannelAdapter.sendEvent(new DefaultOutboundEvent(rawEvent, eventInstance, headerMap));
+    protected OutboundEventChannelAdapter<?> getOutboundEventChannelAdapter(OutboundChannelModel outboundChannelModel) {
+        OutboundEventChannelAdapter<?> outboundEventChannelAdapter = (OutboundEventChannelAdapter<?>) outboundChannelModel.getOutboundEventChannelAdapter();
+        if (outboundEventChannelAdapter == null) {
+            throw new FlowableException("Could not find an outbound channel adapter for channel " + outboundChannelModel.getKey());
         }
+        return outboundEventChannelAdapter;
     }
 
 }
@@ -32,7 +32,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -73,15 +72,19 @@ import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityM
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityManagerImpl;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntityManager;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManagerImpl;
 import org.flowable.eventregistry.impl.persistence.entity.data.ChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventDeploymentDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.EventOutboxDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.EventResourceDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisChannelDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDefinitionDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventDeploymentDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventOutboxDataManager;
 import org.flowable.eventregistry.impl.persistence.entity.data.impl.MybatisEventResourceDataManager;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionInboundChannelModelProcessor;
 import org.flowable.eventregistry.impl.pipeline.DelegateExpressionOutboundChannelModelProcessor;
@@ -111,12 +114,14 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
     protected EventDefinitionDataManager eventDefinitionDataManager;
     protected ChannelDefinitionDataManager channelDefinitionDataManager;
     protected EventResourceDataManager resourceDataManager;
+    protected EventOutboxDataManager eventOutboxDataManager;
 
     // ENTITY MANAGERS /////////////////////////////////////////////////
     protected EventDeploymentEntityManager deploymentEntityManager;
     protected EventDefinitionEntityManager eventDefinitionEntityManager;
     protected ChannelDefinitionEntityManager channelDefinitionEntityManager;
     protected EventResourceEntityManager resourceEntityManager;
+    protected EventOutboxEntityManager eventOutboxEntityManager;
 
     protected ExpressionManager expressionManager;
     protected Collection<Consumer<ExpressionManager>> expressionManagerConfigurers;
@@ -157,6 +162,39 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
 
     protected Map<String, InboundEventPayloadExtractor<?>> inboundEventPayloadExtractorsByChannelType;
     protected InboundEventPayloadExtractor<?> defaultInboundEventPayloadExtractor;
+
+    /**
+     * When enabled, json inbound channels without custom deserializers, filters or payload extractors
+     * only read the parts of an event that are needed for the key detection, tenant detection and the payload of the event model,
+     * instead of deserializing the complete event into a json tree.
+     */
+    protected boolean enableStreamingJsonPayloadExtraction;
+
+    /**
+     * When enabled, inbound events are sent to the event consumers on a pool of worker threads (see {@link PartitionedInboundEventProcessor})
+     * instead of on the thread of the channel adapter. Events with the same correlation key are still consumed in order.
+     * The channel adapter is only blocked when the queue of a partition is full.
+     * <p>
+     * Channel adapters that receive one message at a time (JMS, Rabbit and Kafka without batch listener) then acknowledge a message
+     * once it is queued instead of once it is consumed, so a message that could not be consumed is not redelivered
+     * (the failure is logged) and queued messages are lost when the JVM stops.
+     * Batch channel adapters (Kafka with batch listener) still wait until their batch is consumed and keep their delivery guarantees.
+     */
+    protected boolean enableParallelInboundEventDispatch;
+    protected int inboundEventDispatchPartitions = 4;
+    protected int inboundEventDispatchQueueCapacity = 1000;
+
+    /**
+     * When enabled, outbound events are stored in the outbox table within the transaction that produced them,
+     * and sent after that transaction is committed, as one batch per channel adapter, without waiting for the acknowledgements
+     * (see {@link TransactionalOutboxOutboundEventProcessor}). A failed send no longer rolls back the transaction:
+     * events that were not acknowledged stay in the outbox and are sent again every {@link #outboundEventRetryIntervalInMs},
+     * at most {@link #outboundEventMaxSendAttempts} times. The delivery is at least once, so consumers can receive an event twice.
+     */
+    protected boolean enableTransactionalOutboxOutboundEvents;
+    protected int outboundEventMaxSendAttempts = 10;
+    protected long outboundEventRetryIntervalInMs = 5000L;
+    protected int outboundEventRetryBatchSize = 100;
     
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
@@ -313,6 +351,9 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         if (resourceDataManager == null) {
             resourceDataManager = new MybatisEventResourceDataManager(this);
         }
+        if (eventOutboxDataManager == null) {
+            eventOutboxDataManager = new MybatisEventOutboxDataManager(this);
+        }
     }
 
     @Override
@@ -330,6 +371,9 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         if (resourceEntityManager == null) {
             resourceEntityManager = new EventResourceEntityManagerImpl(this, resourceDataManager);
         }
+        if (eventOutboxEntityManager == null) {
+            eventOutboxEntityManager = new EventOutboxEntityManagerImpl(this, eventOutboxDataManager);
+        }
     }
 
     // data model ///////////////////////////////////////////////////////////////
@@ -432,11 +476,7 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         }
 
         if (eventDefinitionCache == null) {
-            if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
-            } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
-            }
+            eventDefinitionCache = createDeploymentCache(eventDefinitionCacheLimit);
         }
         
         if (channelDefinitionCache == null) {
@@ -510,14 +550,28 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            if (enableParallelInboundEventDispatch) {
+                PartitionedInboundEventProcessor partitionedInboundEventProcessor = new PartitionedInboundEventProcessor(eventRegistry,
+                        inboundEventDispatchPartitions, inboundEventDispatchQueueCapacity);
+                partitionedInboundEventProcessor.start();
+                this.inboundEventProcessor = partitionedInboundEventProcessor;
+            } else {
+                this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            }
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
 
     public void initOutboundEventProcessor() {
         if (this.outboundEventProcessor == null) {
-            this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            if (enableTransactionalOutboxOutboundEvents) {
+                TransactionalOutboxOutboundEventProcessor transactionalOutboxOutboundEventProcessor = new TransactionalOutboxOutboundEventProcessor(this,
+                        outboundEventRetryIntervalInMs, outboundEventMaxSendAttempts, outboundEventRetryBatchSize);
+                transactionalOutboxOutboundEventProcessor.start();
+                this.outboundEventProcessor = transactionalOutboxOutboundEventProcessor;
+            } else {
+                this.outboundEventProcessor = new DefaultOutboundEventProcessor(eventRepositoryService, fallbackToDefaultTenant);
+            }
         }
         this.eventRegistry.setOutboundEventProcessor(outboundEventProcessor);
     }
@@ -697,6 +751,78 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         return this;
     }
 
+    public boolean isEnableStreamingJsonPayloadExtraction() {
+        return enableStreamingJsonPayloadExtraction;
+    }
+
+    public EventRegistryEngineConfiguration setEnableStreamingJsonPayloadExtraction(boolean enableStreamingJsonPayloadExtraction) {
+        this.enableStreamingJsonPayloadExtraction = enableStreamingJsonPayloadExtraction;
+        return this;
+    }
+
+    public boolean isEnableTransactionalOutboxOutboundEvents() {
+        return enableTransactionalOutboxOutboundEvents;
+    }
+
+    public EventRegistryEngineConfiguration setEnableTransactionalOutboxOutboundEvents(boolean enableTransactionalOutboxOutboundEvents) {
+        this.enableTransactionalOutboxOutboundEvents = enableTransactionalOutboxOutboundEvents;
+        return this;
+    }
+
+    public int getOutboundEventMaxSendAttempts() {
+        return outboundEventMaxSendAttempts;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventMaxSendAttempts(int outboundEventMaxSendAttempts) {
+        this.outboundEventMaxSendAttempts = outboundEventMaxSendAttempts;
+        return this;
+    }
+
+    public long getOutboundEventRetryIntervalInMs() {
+        return outboundEventRetryIntervalInMs;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventRetryIntervalInMs(long outboundEventRetryIntervalInMs) {
+        this.outboundEventRetryIntervalInMs = outboundEventRetryIntervalInMs;
+        return this;
+    }
+
+    public int getOutboundEventRetryBatchSize() {
+        return outboundEventRetryBatchSize;
+    }
+
+    public EventRegistryEngineConfiguration setOutboundEventRetryBatchSize(int outboundEventRetryBatchSize) {
+        this.outboundEventRetryBatchSize = outboundEventRetryBatchSize;
+        return this;
+    }
+
+    public boolean isEnableParallelInboundEventDispatch() {
+        return enableParallelInboundEventDispatch;
+    }
+
+    public EventRegistryEngineConfiguration setEnableParallelInboundEventDispatch(boolean enableParallelInboundEventDispatch) {
+        this.enableParallelInboundEventDispatch = enableParallelInboundEventDispatch;
+        return this;
+    }
+
+    public int getInboundEventDispatchPartitions() {
+        return inboundEventDispatchPartitions;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventDispatchPartitions(int inboundEventDispatchPartitions) {
+        this.inboundEventDispatchPartitions = inboundEventDispatchPartitions;
+        return this;
+    }
+
+    public int getInboundEventDispatchQueueCapacity() {
+        return inboundEventDispatchQueueCapacity;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventDispatchQueueCapacity(int inboundEventDispatchQueueCapacity) {
+        this.inboundEventDispatchQueueCapacity = inboundEventDispatchQueueCapacity;
+        return this;
+    }
+
     public boolean isEnableEventRegistryChangeDetection() {
         return enableEventRegistryChangeDetection;
     }
@@ -829,6 +955,15 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         return this;
     }
 
+    public EventOutboxDataManager getEventOutboxDataManager() {
+        return eventOutboxDataManager;
+    }
+
+    public EventRegistryEngineConfiguration setEventOutboxDataManager(EventOutboxDataManager eventOutboxDataManager) {
+        this.eventOutboxDataManager = eventOutboxDataManager;
+        return this;
+    }
+
     public EventDeploymentEntityManager getDeploymentEntityManager() {
         return deploymentEntityManager;
     }
@@ -865,6 +1000,15 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         return this;
     }
 
+    public EventOutboxEntityManager getEventOutboxEntityManager() {
+        return eventOutboxEntityManager;
+    }
+
+    public EventRegistryEngineConfiguration setEventOutboxEntityManager(EventOutboxEntityManager eventOutboxEntityManager) {
+        this.eventOutboxEntityManager = eventOutboxEntityManager;
+        return this;
+    }
+
     @Override
     public EventRegistryEngineConfiguration setTableDataManager(TableDataManager tableDataManager) {
         this.tableDataManager = tableDataManager;
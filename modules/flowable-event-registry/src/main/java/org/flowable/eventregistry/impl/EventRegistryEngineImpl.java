@@ -75,6 +75,14 @@ public class EventRegistryEngineImpl implements EventRegistryEngine {
             engineConfiguration.getEventRegistryChangeDetectionExecutor().shutdown();
         }
 
+        if (engineConfiguration.getInboundEventProcessor() instanceof PartitionedInboundEventProcessor) {
+            ((PartitionedInboundEventProcessor) engineConfiguration.getInboundEventProcessor()).shutdown();
+        }
+
+        if (engineConfiguration.getOutboundEventProcessor() instanceof TransactionalOutboxOutboundEventProcessor) {
+            ((TransactionalOutboxOutboundEventProcessor) engineConfiguration.getOutboundEventProcessor()).shutdown();
+        }
+
         engineConfiguration.close();
 
         if (engineConfiguration.getEngineLifecycleListeners() != null) {
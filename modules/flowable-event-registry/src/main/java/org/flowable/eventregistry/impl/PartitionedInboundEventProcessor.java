@@ -0,0 +1,443 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.flowable.eventregistry.api.InboundEventProcessor} that runs the inbound pipeline on the thread of the channel adapter,
+ * but sends the resulting events to the event consumers on a pool of worker threads.
+ * <p>
+ * Every worker thread has its own bounded queue (partition). Events are assigned to a partition based on the hash of their correlation key
+ * (or their event key when they have no correlation parameters), which means that events with the same correlation key
+ * are passed to the event consumers in the order they were received. The events of a batch are grouped per partition
+ * and every group is passed to the event consumers as one batch. When the queue of a partition is full,
+ * the channel adapter is blocked until there is space again, which is the only back-pressure that is applied to the channel.
+ * <p>
+ * {@link #eventReceived(InboundChannelModel, InboundEvent)} returns as soon as the events are queued, so channel adapters that receive
+ * one message at a time (JMS, Rabbit and Kafka without batch listener) can receive the next message while the previous ones are consumed.
+ * Such a channel adapter acknowledges a message before it is consumed: when consuming it fails, the failure is logged and counted
+ * ({@link #getFailedEventCount()}), and queued events are lost when the JVM stops. Channel adapters that need to acknowledge
+ * a message only once it is consumed can use {@link #dispatchEvent(InboundChannelModel, InboundEvent)} and acknowledge
+ * when the returned future completes.
+ * <p>
+ * {@link #eventsReceived(InboundChannelModel, Collection)} returns once all the events of the batch have been consumed
+ * (the partitions of the batch are consumed in parallel) and throws a {@link FlowableEventBatchProcessingException} when they could not
+ * all be consumed, so batch channel adapters that acknowledge after it returns keep their delivery guarantees.
+ * <p>
+ * On {@link #shutdown()} no new events are accepted and the already queued events are still consumed.
+ * Events that are still queued when the shutdown timeout has passed are completed exceptionally.
+ */
+public class PartitionedInboundEventProcessor extends DefaultInboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionedInboundEventProcessor.class);
+
+    protected static final long POLL_INTERVAL_IN_MS = 100L;
+
+    protected final int partitionCount;
+    protected final List<BlockingQueue<PartitionedEvents>> partitionQueues;
+    protected final List<Thread> workerThreads;
+
+    protected final AtomicLong processedEventCount = new AtomicLong();
+    protected final AtomicLong failedEventCount = new AtomicLong();
+
+    protected long shutdownTimeoutInMs = 10000L;
+
+    protected volatile boolean active;
+
+    /**
+     * @param partitionCount the number of worker threads
+     * @param partitionQueueCapacity the number of received events (or batches) that can be queued per partition
+     */
+    public PartitionedInboundEventProcessor(EventRegistry eventRegistry, int partitionCount, int partitionQueueCapacity) {
+        super(eventRegistry);
+
+        if (partitionCount < 1) {
+            throw new FlowableIllegalArgumentException("partitionCount must be at least 1");
+        }
+        if (partitionQueueCapacity < 1) {
+            throw new FlowableIllegalArgumentException("partitionQueueCapacity must be at least 1");
+        }
+
+        this.partitionCount = partitionCount;
+        this.partitionQueues = new ArrayList<>(partitionCount);
+        this.workerThreads = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitionQueues.add(new ArrayBlockingQueue<>(partitionQueueCapacity));
+        }
+    }
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        active = true;
+        workerThreads.clear();
+        for (int i = 0; i < partitionCount; i++) {
+            BlockingQueue<PartitionedEvents> partitionQueue = partitionQueues.get(i);
+            Thread workerThread = new Thread(() -> processPartition(partitionQueue), "flowable-inbound-event-dispatcher-" + i);
+            workerThread.setDaemon(true);
+            workerThread.start();
+            workerThreads.add(workerThread);
+        }
+    }
+
+    /**
+     * Stops accepting new events and waits (at most {@link #getShutdownTimeoutInMs()}) for the already queued events to be processed.
+     * Worker threads that are still busy after that are interrupted and the events that are still queued are completed exceptionally,
+     * so that the channel adapters do not acknowledge them.
+     */
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        active = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutInMs;
+        for (Thread workerThread : workerThreads) {
+            try {
+                workerThread.join(Math.max(1L, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        for (Thread workerThread : workerThreads) {
+            if (workerThread.isAlive()) {
+                workerThread.interrupt();
+            }
+        }
+
+        int remainingEvents = 0;
+        for (BlockingQueue<PartitionedEvents> partitionQueue : partitionQueues) {
+            PartitionedEvents partitionedEvents;
+            while ((partitionedEvents = partitionQueue.poll()) != null) {
+                remainingEvents += partitionedEvents.events.size();
+                reject(partitionedEvents);
+            }
+        }
+
+        if (remainingEvents > 0) {
+            LOGGER.warn("Inbound event dispatcher shut down with {} events still queued, these events were not processed", remainingEvents);
+        }
+    }
+
+    /**
+     * Queues the events for the given event and returns without waiting for them to be consumed.
+     * Only blocks when the queue of a partition is full.
+     */
+    @Override
+    public void eventReceived(InboundChannelModel channelModel, InboundEvent event) {
+        dispatchEvent(channelModel, event).whenComplete((result, exception) -> {
+            if (exception != null) {
+                LOGGER.error("Exception while consuming event received on channel {}", channelModel.getKey(), exception);
+            }
+        });
+    }
+
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        waitForCompletion(dispatchEvents(channelModel, events));
+    }
+
+    /**
+     * Runs the inbound pipeline for the given event and queues the resulting events for the event consumers.
+     *
+     * @return a future that completes once all resulting events have been consumed, or exceptionally when the event consumers failed
+     */
+    public CompletableFuture<Void> dispatchEvent(InboundChannelModel channelModel, InboundEvent event) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<PartitionedEvents> partitionedEventsList = dispatch(new ArrayList<>(inboundEventProcessingPipeline.run(channelModel, event)), null);
+        if (partitionedEventsList.size() == 1) {
+            return partitionedEventsList.get(0).future;
+        }
+
+        return CompletableFuture.allOf(partitionedEventsList.stream().map(partitionedEvents -> partitionedEvents.future).toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Runs the inbound pipeline for the given events and queues the resulting events for the event consumers,
+     * as one batch per partition.
+     *
+     * @return a future that completes once all resulting events have been consumed, or exceptionally when the event consumers failed.
+     *         In the latter case the exception is a {@link FlowableEventBatchProcessingException} with the index of the first event
+     *         that was not processed (the partitions are consumed independently, so events after that index can have been processed).
+     */
+    public CompletableFuture<Void> dispatchEvents(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        List<Integer> inboundEventIndexes = new ArrayList<>(events.size());
+        int inboundEventIndex = 0;
+        RuntimeException pipelineException = null;
+        for (InboundEvent event : events) {
+            try {
+                Collection<EventRegistryEvent> inboundEventRegistryEvents = inboundEventProcessingPipeline.run(channelModel, event);
+                eventRegistryEvents.addAll(inboundEventRegistryEvents);
+                for (int i = 0; i < inboundEventRegistryEvents.size(); i++) {
+                    inboundEventIndexes.add(inboundEventIndex);
+                }
+            } catch (RuntimeException e) {
+                // The events before the one that could not be processed are still dispatched
+                pipelineException = e;
+                break;
+            }
+            inboundEventIndex++;
+        }
+
+        List<PartitionedEvents> partitionedEventsList = dispatch(eventRegistryEvents, inboundEventIndexes);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        FlowableEventBatchProcessingException pipelineFailure = pipelineException != null
+                ? new FlowableEventBatchProcessingException("Exception while processing event " + inboundEventIndex + " of the batch",
+                        pipelineException, inboundEventIndex)
+                : null;
+        CompletableFuture.allOf(partitionedEventsList.stream().map(partitionedEvents -> partitionedEvents.future).toArray(CompletableFuture[]::new))
+                .whenComplete((result, exception) -> {
+                    FlowableEventBatchProcessingException failure = exception != null ? getFirstFailure(partitionedEventsList) : pipelineFailure;
+                    if (failure == null) {
+                        future.complete(null);
+                    } else {
+                        future.completeExceptionally(failure);
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * Queues the given events, grouped per partition.
+     *
+     * @param inboundEventIndexes the index of the inbound event that resulted in each event, or {@code null} when they are not part of a batch
+     */
+    protected List<PartitionedEvents> dispatch(List<EventRegistryEvent> eventRegistryEvents, List<Integer> inboundEventIndexes) {
+        if (!active) {
+            throw new FlowableException("The inbound event dispatcher is not active, " + eventRegistryEvents + " cannot be processed");
+        }
+
+        Map<Integer, PartitionedEvents> eventsPerPartition = new HashMap<>();
+        for (int i = 0; i < eventRegistryEvents.size(); i++) {
+            PartitionedEvents partitionedEvents = eventsPerPartition.computeIfAbsent(getPartition(eventRegistryEvents.get(i)), partition -> new PartitionedEvents());
+            partitionedEvents.events.add(eventRegistryEvents.get(i));
+            partitionedEvents.inboundEventIndexes.add(inboundEventIndexes != null ? inboundEventIndexes.get(i) : 0);
+        }
+
+        for (Map.Entry<Integer, PartitionedEvents> entry : eventsPerPartition.entrySet()) {
+            enqueue(partitionQueues.get(entry.getKey()), entry.getValue());
+        }
+
+        return new ArrayList<>(eventsPerPartition.values());
+    }
+
+    /**
+     * Returns the failure of the partition that failed at the lowest inbound event index,
+     * as all the inbound events before that index have been processed.
+     */
+    protected FlowableEventBatchProcessingException getFirstFailure(List<PartitionedEvents> partitionedEventsList) {
+        FlowableEventBatchProcessingException firstFailure = null;
+        for (PartitionedEvents partitionedEvents : partitionedEventsList) {
+            Throwable exception = partitionedEvents.future.handle((result, e) -> e).join();
+            if (exception != null) {
+                int failedEventIndex = exception instanceof FlowableEventBatchProcessingException
+                        ? ((FlowableEventBatchProcessingException) exception).getFailedEventIndex() : 0;
+                int failedInboundEventIndex = partitionedEvents.inboundEventIndexes.get(failedEventIndex);
+                if (firstFailure == null || failedInboundEventIndex < firstFailure.getFailedEventIndex()) {
+                    Throwable cause = exception instanceof FlowableEventBatchProcessingException ? exception.getCause() : exception;
+                    firstFailure = new FlowableEventBatchProcessingException("Exception while processing event " + failedInboundEventIndex + " of the batch",
+                            cause, failedInboundEventIndex);
+                }
+            }
+        }
+        return firstFailure;
+    }
+
+    protected void enqueue(BlockingQueue<PartitionedEvents> partitionQueue, PartitionedEvents partitionedEvents) {
+        try {
+            while (!partitionQueue.offer(partitionedEvents, POLL_INTERVAL_IN_MS, TimeUnit.MILLISECONDS)) {
+                if (!active) {
+                    throw new FlowableException("The inbound event dispatcher was shut down, " + partitionedEvents.events + " cannot be processed");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting to dispatch " + partitionedEvents.events, e);
+        }
+
+        // The dispatcher could have been shut down while queueing, in that case the events might not be picked up anymore
+        if (!active && partitionQueue.remove(partitionedEvents)) {
+            throw new FlowableException("The inbound event dispatcher was shut down, " + partitionedEvents.events + " cannot be processed");
+        }
+    }
+
+    protected void waitForCompletion(CompletableFuture<Void> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while waiting for the inbound events to be processed", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FlowableException("Exception while processing inbound events", cause);
+        }
+    }
+
+    protected int getPartition(EventRegistryEvent eventRegistryEvent) {
+        String orderingKey = getOrderingKey(eventRegistryEvent);
+        return orderingKey != null ? Math.floorMod(orderingKey.hashCode(), partitionCount) : 0;
+    }
+
+    /**
+     * Events with the same ordering key are always consumed in the order they were received.
+     */
+    protected String getOrderingKey(EventRegistryEvent eventRegistryEvent) {
+        Object eventObject = eventRegistryEvent.getEventObject();
+        if (eventObject instanceof EventInstance) {
+            EventInstance eventInstance = (EventInstance) eventObject;
+            Collection<EventPayloadInstance> correlationParameterInstances = eventInstance.getCorrelationParameterInstances();
+            if (correlationParameterInstances == null || correlationParameterInstances.isEmpty()) {
+                return eventInstance.getEventKey();
+            }
+
+            Map<String, Object> data = new HashMap<>();
+            for (EventPayloadInstance correlationParameterInstance : correlationParameterInstances) {
+                data.put(correlationParameterInstance.getDefinitionName(), correlationParameterInstance.getValue());
+            }
+            return eventRegistry.generateKey(data);
+        }
+
+        return eventRegistryEvent.getType();
+    }
+
+    protected void processPartition(BlockingQueue<PartitionedEvents> partitionQueue) {
+        while ((active || !partitionQueue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            PartitionedEvents partitionedEvents;
+            try {
+                partitionedEvents = partitionQueue.poll(POLL_INTERVAL_IN_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Only happens when the shutdown timeout has passed, the remaining events are rejected by the shutdown
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (partitionedEvents != null) {
+                sendEventsToConsumers(partitionedEvents);
+            }
+        }
+    }
+
+    protected void sendEventsToConsumers(PartitionedEvents partitionedEvents) {
+        List<EventRegistryEvent> events = partitionedEvents.events;
+        try {
+            if (events.size() == 1) {
+                eventRegistry.sendEventToConsumers(events.get(0));
+            } else {
+                eventRegistry.sendEventsToConsumers(events);
+            }
+            processedEventCount.addAndGet(events.size());
+            partitionedEvents.future.complete(null);
+
+        } catch (Throwable t) {
+            int consumedEventCount = t instanceof FlowableEventBatchProcessingException ? ((FlowableEventBatchProcessingException) t).getFailedEventIndex() : 0;
+            processedEventCount.addAndGet(consumedEventCount);
+            failedEventCount.addAndGet(events.size() - consumedEventCount);
+            LOGGER.debug("Exception while sending {} to the event consumers", events, t);
+            partitionedEvents.future.completeExceptionally(t);
+        }
+    }
+
+    protected void reject(PartitionedEvents partitionedEvents) {
+        partitionedEvents.future.completeExceptionally(
+                new FlowableException("The inbound event dispatcher was shut down before " + partitionedEvents.events + " could be processed"));
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * The number of received events (or batches) waiting to be consumed in the given partition.
+     */
+    public int getQueueDepth(int partition) {
+        return partitionQueues.get(partition).size();
+    }
+
+    public int[] getQueueDepths() {
+        int[] queueDepths = new int[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            queueDepths[i] = partitionQueues.get(i).size();
+        }
+        return queueDepths;
+    }
+
+    public int getTotalQueueDepth() {
+        int totalQueueDepth = 0;
+        for (BlockingQueue<PartitionedEvents> partitionQueue : partitionQueues) {
+            totalQueueDepth += partitionQueue.size();
+        }
+        return totalQueueDepth;
+    }
+
+    public long getProcessedEventCount() {
+        return processedEventCount.get();
+    }
+
+    public long getFailedEventCount() {
+        return failedEventCount.get();
+    }
+
+    public long getShutdownTimeoutInMs() {
+        return shutdownTimeoutInMs;
+    }
+
+    public void setShutdownTimeoutInMs(long shutdownTimeoutInMs) {
+        this.shutdownTimeoutInMs = shutdownTimeoutInMs;
+    }
+
+    protected static class PartitionedEvents {
+
+        protected final List<EventRegistryEvent> events = new ArrayList<>();
+        protected final List<Integer> inboundEventIndexes = new ArrayList<>();
+        protected final CompletableFuture<Void> future = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,406 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.OutboundEvent;
+import org.flowable.eventregistry.api.OutboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntity;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntityManager;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.model.ChannelModel;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.OutboundChannelModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * An outbound event processor that uses a transactional outbox.
+ * The events are stored in the outbox table (FLW_EVENT_OUTBOX) within the transaction that produces them,
+ * and sent after that transaction is committed, as one batch per channel adapter, without waiting for the acknowledgements.
+ * An event is removed from the outbox once the channel adapter acknowledged it.
+ * Events of a transaction that is rolled back are never stored nor sent.
+ * <p>
+ * A failed send does not roll back the transaction. Events that are still in the outbox after the retry interval
+ * (because sending failed, or because the engine stopped before the acknowledgement was handled) are sent again by the
+ * retry thread of one of the engines sharing the database, until they are acknowledged or the maximum number of attempts is reached.
+ * Events that reached the maximum number of attempts stay in the outbox with the last exception message and are not sent anymore.
+ * <p>
+ * The delivery is at least once: an event is sent again when its acknowledgement takes longer than the retry interval,
+ * or when the engine stops between the acknowledgement and the removal from the outbox.
+ * Events that are sent again can arrive out of order compared to events sent in the meantime.
+ * <p>
+ * When there is no active transaction, the events are sent immediately and not stored in the outbox.
+ */
+public class TransactionalOutboxOutboundEventProcessor extends DefaultOutboundEventProcessor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionalOutboxOutboundEventProcessor.class);
+
+    protected static final String OUTBOUND_EVENT_BATCH_ATTRIBUTE = "flowable.outboundEventBatch";
+
+    protected final EventRegistryEngineConfiguration engineConfiguration;
+    protected final long retryIntervalInMs;
+    protected final int maxAttempts;
+    protected final int retryBatchSize;
+
+    protected final JsonFieldToMapPayloadExtractor payloadExtractor = new JsonFieldToMapPayloadExtractor();
+
+    protected final Queue<String> sentEntryIds = new ConcurrentLinkedQueue<>();
+    protected final Map<String, String> failedEntryExceptionMessages = new ConcurrentHashMap<>();
+    protected final AtomicBoolean sendResultsFlushScheduled = new AtomicBoolean();
+    protected volatile ScheduledExecutorService executorService;
+
+    public TransactionalOutboxOutboundEventProcessor(EventRegistryEngineConfiguration engineConfiguration, long retryIntervalInMs, int maxAttempts,
+            int retryBatchSize) {
+        super(engineConfiguration.getEventRepositoryService(), engineConfiguration.isFallbackToDefaultTenant());
+        this.engineConfiguration = engineConfiguration;
+        this.retryIntervalInMs = retryIntervalInMs;
+        this.maxAttempts = maxAttempts;
+        this.retryBatchSize = retryBatchSize;
+    }
+
+    /**
+     * Starts the thread that removes the acknowledged events from the outbox and periodically sends the events that are due again.
+     */
+    public synchronized void start() {
+        if (executorService == null) {
+            executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "flowable-outbound-event-outbox");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executorService.scheduleWithFixedDelay(this::sendPendingEvents, retryIntervalInMs, retryIntervalInMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+            executorService = null;
+        }
+
+        // Remove the events that were acknowledged in the meantime, so they are not sent again
+        flushSendResults();
+    }
+
+    @Override
+    public void sendEvent(EventInstance eventInstance, Collection<ChannelModel> channelModels) {
+        CommandContext commandContext = Context.getCommandContext();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (commandContext == null || transactionContext == null) {
+            super.sendEvent(eventInstance, channelModels);
+            return;
+        }
+
+        if (channelModels == null || channelModels.isEmpty()) {
+            throw new FlowableException("No channel model set for outgoing " + eventInstance);
+        }
+
+        OutboundEventBatch batch = (OutboundEventBatch) commandContext.getAttribute(OUTBOUND_EVENT_BATCH_ATTRIBUTE);
+        if (batch == null) {
+            OutboundEventBatch newBatch = new OutboundEventBatch();
+            commandContext.addAttribute(OUTBOUND_EVENT_BATCH_ATTRIBUTE, newBatch);
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> sendBatch(newBatch));
+            batch = newBatch;
+        }
+
+        EventOutboxEntityManager eventOutboxEntityManager = engineConfiguration.getEventOutboxEntityManager();
+        byte[] payloadBytes = serializePayload(eventInstance);
+        for (ChannelModel channelModel : channelModels) {
+            OutboundChannelModel outboundChannelModel = (OutboundChannelModel) channelModel;
+            // Creating the outbound event serializes it, so serialization errors still roll back the transaction
+            OutboundEvent<?> outboundEvent = createOutboundEvent(eventInstance, outboundChannelModel);
+
+            EventOutboxEntity entry = eventOutboxEntityManager.create();
+            entry.setChannelKey(outboundChannelModel.getKey());
+            entry.setEventKey(eventInstance.getEventKey());
+            entry.setTenantId(eventInstance.getTenantId());
+            entry.setPayloadBytes(payloadBytes);
+            entry.setAttempts(1);
+            entry.setRetryTime(new Date(entry.getCreateTime().getTime() + retryIntervalInMs));
+            eventOutboxEntityManager.insert(entry);
+
+            batch.add(getOutboundEventChannelAdapter(outboundChannelModel), new OutboxEvent(entry.getId(), outboundEvent));
+        }
+    }
+
+    /**
+     * Removes the acknowledged events from the outbox and sends the events of which the retry time has passed again.
+     */
+    public void sendPendingEvents() {
+        flushSendResults();
+
+        try {
+            List<EventOutboxEntity> entries = engineConfiguration.getCommandExecutor().execute(this::claimEntriesToRetry);
+            if (entries.isEmpty()) {
+                return;
+            }
+
+            OutboundEventBatch batch = new OutboundEventBatch();
+            for (EventOutboxEntity entry : entries) {
+                try {
+                    addToBatch(batch, entry);
+                } catch (RuntimeException e) {
+                    handleFailedEvent(entry.getId(), entry, e);
+                }
+            }
+            sendBatch(batch);
+
+        } catch (FlowableOptimisticLockingException e) {
+            LOGGER.debug("Outbox events were claimed by another engine, they will be sent by that engine", e);
+
+        } catch (RuntimeException e) {
+            LOGGER.error("Exception while sending the pending events of the outbox", e);
+        }
+    }
+
+    /**
+     * Removes the events that were acknowledged since the last flush from the outbox,
+     * and stores the exception message of the events that could not be sent.
+     */
+    public void flushSendResults() {
+        sendResultsFlushScheduled.set(false);
+
+        List<String> sentIds = new ArrayList<>();
+        String sentId;
+        while ((sentId = sentEntryIds.poll()) != null) {
+            sentIds.add(sentId);
+        }
+
+        Map<String, String> exceptionMessages = new HashMap<>();
+        for (String failedId : new ArrayList<>(failedEntryExceptionMessages.keySet())) {
+            String exceptionMessage = failedEntryExceptionMessages.remove(failedId);
+            if (exceptionMessage != null) {
+                exceptionMessages.put(failedId, exceptionMessage);
+            }
+        }
+
+        if (sentIds.isEmpty() && exceptionMessages.isEmpty()) {
+            return;
+        }
+
+        try {
+            engineConfiguration.getCommandExecutor().execute(commandContext -> {
+                EventOutboxEntityManager eventOutboxEntityManager = engineConfiguration.getEventOutboxEntityManager();
+                if (!sentIds.isEmpty()) {
+                    eventOutboxEntityManager.deleteEntriesByIds(sentIds);
+                }
+                for (Map.Entry<String, String> exceptionMessage : exceptionMessages.entrySet()) {
+                    eventOutboxEntityManager.updateExceptionMessage(exceptionMessage.getKey(), exceptionMessage.getValue());
+                }
+                return null;
+            });
+
+        } catch (RuntimeException e) {
+            // The acknowledged events stay in the outbox and are sent again
+            LOGGER.error("Exception while removing {} acknowledged events from the outbox", sentIds.size(), e);
+        }
+    }
+
+    protected List<EventOutboxEntity> claimEntriesToRetry(CommandContext commandContext) {
+        Date now = engineConfiguration.getClock().getCurrentTime();
+        List<EventOutboxEntity> entries = engineConfiguration.getEventOutboxEntityManager().findEntriesToRetry(now, retryBatchSize);
+
+        // The revision of the claimed entries is increased, so an engine claiming the same entries concurrently fails
+        List<EventOutboxEntity> claimedEntries = new ArrayList<>(entries.size());
+        for (EventOutboxEntity entry : entries) {
+            if (entry.getAttempts() >= maxAttempts) {
+                LOGGER.error("Outbound event {} was not acknowledged after {} attempts and is not sent anymore. Last exception: {}",
+                        entry, entry.getAttempts(), entry.getExceptionMessage());
+                entry.setRetryTime(null);
+
+            } else {
+                entry.setAttempts(entry.getAttempts() + 1);
+                entry.setRetryTime(new Date(now.getTime() + retryIntervalInMs));
+                claimedEntries.add(entry);
+            }
+        }
+
+        claimedEntries.sort(Comparator.comparing(EventOutboxEntity::getCreateTime));
+        return claimedEntries;
+    }
+
+    protected void addToBatch(OutboundEventBatch batch, EventOutboxEntity entry) {
+        String tenantId = entry.getTenantId();
+        boolean hasTenant = tenantId != null && !Objects.equals(EventRegistryEngineConfiguration.NO_TENANT_ID, tenantId);
+        EventRepositoryService eventRepositoryService = engineConfiguration.getEventRepositoryService();
+
+        ChannelModel channelModel = hasTenant ? eventRepositoryService.getChannelModelByKey(entry.getChannelKey(), tenantId)
+                : eventRepositoryService.getChannelModelByKey(entry.getChannelKey());
+        EventModel eventModel = hasTenant ? eventRepositoryService.getEventModelByKey(entry.getEventKey(), tenantId)
+                : eventRepositoryService.getEventModelByKey(entry.getEventKey());
+
+        OutboundChannelModel outboundChannelModel = (OutboundChannelModel) channelModel;
+        EventInstance eventInstance = new EventInstanceImpl(entry.getEventKey(), deserializePayload(eventModel, entry.getPayloadBytes()), tenantId);
+        batch.add(getOutboundEventChannelAdapter(outboundChannelModel), new OutboxEvent(entry.getId(), createOutboundEvent(eventInstance, outboundChannelModel)));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void sendBatch(OutboundEventBatch batch) {
+        for (Map.Entry<OutboundEventChannelAdapter<?>, List<OutboxEvent>> channelAdapterEvents : batch.eventsByChannelAdapter.entrySet()) {
+            OutboundEventChannelAdapter channelAdapter = channelAdapterEvents.getKey();
+            List<OutboxEvent> outboxEvents = channelAdapterEvents.getValue();
+            List<OutboundEvent<?>> events = outboxEvents.stream().map(outboxEvent -> outboxEvent.event).collect(Collectors.toList());
+
+            List<CompletableFuture<Void>> results;
+            try {
+                results = channelAdapter.sendEvents(events);
+            } catch (RuntimeException e) {
+                for (OutboxEvent outboxEvent : outboxEvents) {
+                    handleFailedEvent(outboxEvent.entryId, outboxEvent.event.getEventInstance(), e);
+                }
+                continue;
+            }
+
+            for (int i = 0; i < outboxEvents.size(); i++) {
+                OutboxEvent outboxEvent = outboxEvents.get(i);
+                results.get(i).whenComplete((result, failure) -> {
+                    if (failure != null) {
+                        handleFailedEvent(outboxEvent.entryId, outboxEvent.event.getEventInstance(), failure);
+                    } else {
+                        handleSentEvent(outboxEvent.entryId);
+                    }
+                });
+            }
+        }
+    }
+
+    protected void handleSentEvent(String entryId) {
+        sentEntryIds.add(entryId);
+        scheduleSendResultsFlush();
+    }
+
+    protected void handleFailedEvent(String entryId, Object event, Throwable failure) {
+        LOGGER.warn("Failed to send outbound event {}, it stays in the outbox and is sent again in {} ms", event, retryIntervalInMs, failure);
+        failedEntryExceptionMessages.put(entryId, Objects.toString(failure.getMessage(), failure.getClass().getName()));
+        scheduleSendResultsFlush();
+    }
+
+    protected void scheduleSendResultsFlush() {
+        // The acknowledgements are handled on threads of the channel adapter, the outbox is updated on the outbox thread
+        ScheduledExecutorService executorService = this.executorService;
+        if (executorService != null && sendResultsFlushScheduled.compareAndSet(false, true)) {
+            try {
+                executorService.execute(this::flushSendResults);
+            } catch (RejectedExecutionException e) {
+                // The processor is shutting down and flushes the results itself
+                sendResultsFlushScheduled.set(false);
+            }
+        }
+    }
+
+    protected byte[] serializePayload(EventInstance eventInstance) {
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+        ObjectNode payloadNode = objectMapper.createObjectNode();
+        try {
+            for (EventPayloadInstance payloadInstance : eventInstance.getPayloadInstances()) {
+                Object value = payloadInstance.getValue();
+                if (value instanceof Supplier<?>) {
+                    value = ((Supplier<?>) value).get();
+                }
+
+                if (value instanceof String && EventPayloadTypes.JSON.equals(payloadInstance.getDefinitionType())) {
+                    payloadNode.set(payloadInstance.getDefinitionName(), objectMapper.readTree((String) value));
+                } else if (value != null) {
+                    payloadNode.set(payloadInstance.getDefinitionName(), objectMapper.valueToTree(value));
+                }
+            }
+            return objectMapper.writeValueAsBytes(payloadNode);
+
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new FlowableException("Could not serialize the payload of " + eventInstance + " for the outbox", e);
+        }
+    }
+
+    protected Collection<EventPayloadInstance> deserializePayload(EventModel eventModel, byte[] payloadBytes) {
+        JsonNode payloadNode;
+        try {
+            payloadNode = engineConfiguration.getObjectMapper().readTree(payloadBytes);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read the outbox payload of event " + eventModel.getKey(), e);
+        }
+
+        return payloadExtractor.extractPayload(eventModel, payloadNode).stream()
+                .filter(payloadInstance -> !payloadInstance.getEventPayloadDefinition().isFullPayload())
+                .collect(Collectors.toList());
+    }
+
+    public long getRetryIntervalInMs() {
+        return retryIntervalInMs;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public int getRetryBatchSize() {
+        return retryBatchSize;
+    }
+
+    protected static class OutboundEventBatch {
+
+        protected final Map<OutboundEventChannelAdapter<?>, List<OutboxEvent>> eventsByChannelAdapter = new LinkedHashMap<>();
+
+        public void add(OutboundEventChannelAdapter<?> channelAdapter, OutboxEvent event) {
+            eventsByChannelAdapter.computeIfAbsent(channelAdapter, key -> new ArrayList<>()).add(event);
+        }
+    }
+
+    protected static class OutboxEvent {
+
+        protected final String entryId;
+        protected final OutboundEvent<?> event;
+
+        public OutboxEvent(String entryId, OutboundEvent<?> event) {
+            this.entryId = entryId;
+            this.event = event;
+        }
+    }
+}
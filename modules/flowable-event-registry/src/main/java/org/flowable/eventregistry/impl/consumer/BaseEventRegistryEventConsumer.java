@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableIllegalStateException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -32,6 +34,7 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -45,6 +48,11 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    /**
+     * The maximum number of distinct correlation values that are used in a single event subscription query when looking up the subscriptions for a batch of events.
+     */
+    protected static final int MAX_CORRELATION_VALUES_PER_QUERY = 500;
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -55,8 +63,21 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
+        return eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+        return eventInstancesReceived(eventInstances);
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            return eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -68,6 +89,175 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract EventRegistryProcessingInfo eventReceived(EventInstance eventInstance);
 
+    /**
+     * Consumes a batch of event instances. By default, the event instances are consumed one by one.
+     * Consumers that can handle the event subscriptions of an event instance separately from looking them up
+     * should delegate to {@link #eventInstancesReceived(String, List, EventSubscriptionsHandler)}.
+     */
+    protected List<EventRegistryProcessingInfo> eventInstancesReceived(List<EventInstance> eventInstances) {
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(eventInstances.size());
+        for (int i = 0; i < eventInstances.size(); i++) {
+            try {
+                processingInfos.add(eventReceived(eventInstances.get(i)));
+            } catch (RuntimeException e) {
+                throw new FlowableEventBatchProcessingException("Exception while consuming event " + i + " of the batch", e, i);
+            }
+        }
+        return processingInfos;
+    }
+
+    /**
+     * Consumes a batch of event instances by looking up the event subscriptions for all event instances with the same event key and tenant
+     * with a single query, instead of one query per event instance. The event instances are still handled one by one, in the order they were received.
+     * <p>
+     * An event instance falls back to an individual lookup when an event instance earlier in the batch shared one of its correlation values,
+     * or when one of its subscriptions for a waiting execution or plan item instance was already triggered by an earlier event instance,
+     * as the handling of the earlier event instance could have changed the subscriptions that match.
+     * <p>
+     * Handling an event instance can also create event subscriptions for the event key of a later event instance in the batch
+     * (e.g. a process instance started by one event that waits for another event). The event subscriptions of the remaining event instances
+     * with that event key are then looked up again, see {@link #getEventSubscriptionCreationCount(String)}.
+     */
+    protected List<EventRegistryProcessingInfo> eventInstancesReceived(String scopeType, List<EventInstance> eventInstances,
+            EventSubscriptionsHandler eventSubscriptionsHandler) {
+
+        List<Collection<CorrelationKey>> correlationKeys = new ArrayList<>(eventInstances.size());
+        Map<List<String>, List<Integer>> eventInstanceIndexesByEventKeyAndTenant = new LinkedHashMap<>();
+        for (int i = 0; i < eventInstances.size(); i++) {
+            EventInstance eventInstance = eventInstances.get(i);
+            correlationKeys.add(generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+            eventInstanceIndexesByEventKeyAndTenant.computeIfAbsent(Arrays.asList(eventInstance.getEventKey(), eventInstance.getTenantId()), key -> new ArrayList<>())
+                    .add(i);
+        }
+
+        List<List<Integer>> eventInstanceIndexGroups = new ArrayList<>(eventInstanceIndexesByEventKeyAndTenant.values());
+        int[] groupOfEventInstance = new int[eventInstances.size()];
+        int[] handledEventInstancesOfGroup = new int[eventInstanceIndexGroups.size()];
+        Long[] creationCountOfGroup = new Long[eventInstanceIndexGroups.size()];
+        boolean[] eventHandledSincePrefetchOfGroup = new boolean[eventInstanceIndexGroups.size()];
+
+        List<List<EventSubscription>> prefetchedEventSubscriptions = new ArrayList<>(Collections.nCopies(eventInstances.size(), null));
+        for (int group = 0; group < eventInstanceIndexGroups.size(); group++) {
+            List<Integer> eventInstanceIndexes = eventInstanceIndexGroups.get(group);
+            for (Integer eventInstanceIndex : eventInstanceIndexes) {
+                groupOfEventInstance[eventInstanceIndex] = group;
+            }
+
+            // The creation count is read before the lookup, so that subscriptions created during the lookup are looked up again
+            creationCountOfGroup[group] = getEventSubscriptionCreationCount(eventInstances.get(eventInstanceIndexes.get(0)).getEventKey());
+            prefetchEventSubscriptions(scopeType, eventInstances, correlationKeys, eventInstanceIndexes, prefetchedEventSubscriptions);
+        }
+
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(eventInstances.size());
+        Set<String> handledCorrelationValues = new HashSet<>();
+        Set<String> triggeredEventSubscriptionIds = new HashSet<>();
+        int i = 0;
+        try {
+            for (; i < eventInstances.size(); i++) {
+                EventInstance eventInstance = eventInstances.get(i);
+                Collection<CorrelationKey> eventCorrelationKeys = correlationKeys.get(i);
+
+                int group = groupOfEventInstance[i];
+                Long creationCount = getEventSubscriptionCreationCount(eventInstance.getEventKey());
+                boolean eventSubscriptionsCreated = creationCount != null ? !creationCount.equals(creationCountOfGroup[group]) : eventHandledSincePrefetchOfGroup[group];
+                if (eventSubscriptionsCreated) {
+                    List<Integer> eventInstanceIndexes = eventInstanceIndexGroups.get(group);
+                    creationCountOfGroup[group] = creationCount;
+                    eventHandledSincePrefetchOfGroup[group] = false;
+                    prefetchEventSubscriptions(scopeType, eventInstances, correlationKeys,
+                            eventInstanceIndexes.subList(handledEventInstancesOfGroup[group], eventInstanceIndexes.size()), prefetchedEventSubscriptions);
+                }
+                handledEventInstancesOfGroup[group]++;
+
+                List<EventSubscription> eventSubscriptions = prefetchedEventSubscriptions.get(i);
+
+                boolean individualLookup = false;
+                for (CorrelationKey correlationKey : eventCorrelationKeys) {
+                    if (!handledCorrelationValues.add(correlationKey.getValue())) {
+                        individualLookup = true;
+                    }
+                }
+                if (!individualLookup) {
+                    for (EventSubscription eventSubscription : eventSubscriptions) {
+                        if (triggeredEventSubscriptionIds.contains(eventSubscription.getId())) {
+                            individualLookup = true;
+                            break;
+                        }
+                    }
+                }
+
+                if (individualLookup) {
+                    eventSubscriptions = findEventSubscriptions(scopeType, eventInstance, eventCorrelationKeys);
+                }
+
+                EventRegistryProcessingInfo processingInfo = eventSubscriptionsHandler.handleEventSubscriptions(eventInstance, eventCorrelationKeys, eventSubscriptions);
+                processingInfos.add(processingInfo);
+
+                if (creationCount == null && processingInfo.eventHandled()) {
+                    // Without creation counts, any handled event could have created subscriptions for any event key
+                    Arrays.fill(eventHandledSincePrefetchOfGroup, true);
+                }
+
+                for (EventSubscription eventSubscription : eventSubscriptions) {
+                    if (eventSubscription.getExecutionId() != null || eventSubscription.getSubScopeId() != null) {
+                        triggeredEventSubscriptionIds.add(eventSubscription.getId());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // The event instances before the failed one have been handled in their own transactions
+            throw new FlowableEventBatchProcessingException("Exception while consuming event " + i + " of the batch", e, i);
+        }
+
+        return processingInfos;
+    }
+
+    /**
+     * Returns the number of event subscriptions with the given event type that were created through this engine,
+     * or {@code null} when the created event subscriptions are not counted.
+     */
+    protected Long getEventSubscriptionCreationCount(String eventType) {
+        return null;
+    }
+
+    protected void prefetchEventSubscriptions(String scopeType, List<EventInstance> eventInstances, List<Collection<CorrelationKey>> correlationKeys,
+            List<Integer> eventInstanceIndexes, List<List<EventSubscription>> prefetchedEventSubscriptions) {
+
+        // All event instances have the same event key and tenant, so they only differ in the correlation values.
+        // The correlation values are split in chunks to avoid too large IN clauses.
+        int chunkStart = 0;
+        Set<CorrelationKey> chunkCorrelationKeys = new HashSet<>();
+        for (int i = 0; i < eventInstanceIndexes.size(); i++) {
+            Collection<CorrelationKey> eventCorrelationKeys = correlationKeys.get(eventInstanceIndexes.get(i));
+            if (i > chunkStart && chunkCorrelationKeys.size() + eventCorrelationKeys.size() > MAX_CORRELATION_VALUES_PER_QUERY) {
+                prefetchEventSubscriptions(scopeType, eventInstances, correlationKeys, eventInstanceIndexes.subList(chunkStart, i),
+                        chunkCorrelationKeys, prefetchedEventSubscriptions);
+                chunkStart = i;
+                chunkCorrelationKeys = new HashSet<>();
+            }
+            chunkCorrelationKeys.addAll(eventCorrelationKeys);
+        }
+
+        prefetchEventSubscriptions(scopeType, eventInstances, correlationKeys, eventInstanceIndexes.subList(chunkStart, eventInstanceIndexes.size()),
+                chunkCorrelationKeys, prefetchedEventSubscriptions);
+    }
+
+    protected void prefetchEventSubscriptions(String scopeType, List<EventInstance> eventInstances, List<Collection<CorrelationKey>> correlationKeys,
+            List<Integer> eventInstanceIndexes, Collection<CorrelationKey> chunkCorrelationKeys, List<List<EventSubscription>> prefetchedEventSubscriptions) {
+
+        List<EventSubscription> eventSubscriptions = findEventSubscriptions(scopeType, eventInstances.get(eventInstanceIndexes.get(0)), chunkCorrelationKeys);
+        for (Integer eventInstanceIndex : eventInstanceIndexes) {
+            Set<String> eventCorrelationValues = correlationKeys.get(eventInstanceIndex).stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+            List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                if (eventSubscription.getConfiguration() == null || eventCorrelationValues.contains(eventSubscription.getConfiguration())) {
+                    matchingEventSubscriptions.add(eventSubscription);
+                }
+            }
+            prefetchedEventSubscriptions.set(eventInstanceIndex, matchingEventSubscriptions);
+        }
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -160,13 +350,22 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
         return commandExecutor.execute(commandContext -> {
 
+            // Fetched in the same command, so that validating the indexed subscriptions uses the same connection as the query below
+            List<EventSubscription> startEventSubscriptions = getIndexedStartEventSubscriptions(scopeType, eventInstance);
+
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
                 .eventType(eventInstance.getEventKey())
                 .scopeType(scopeType);
 
+            if (startEventSubscriptions != null) {
+                // The start event subscriptions are indexed, only the instance event subscriptions need to be queried
+                excludeStartEventSubscriptions(scopeType, eventSubscriptionQuery);
+            }
+
+            Set<String> allCorrelationKeyValues;
             if (!correlationKeys.isEmpty()) {
 
-                Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+                allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
 
                 eventSubscriptionQuery.or()
                     .withoutConfiguration()
@@ -174,42 +373,108 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
                     .endOr();
 
             } else {
+                allCorrelationKeyValues = Collections.emptySet();
                 eventSubscriptionQuery.withoutConfiguration();
 
             }
 
-            String eventInstanceTenantId = eventInstance.getTenantId();
-            if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            applyTenantRestriction(scopeType, eventInstance, eventSubscriptionQuery);
 
-                EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+            List<EventSubscription> eventSubscriptions = eventSubscriptionQuery.list();
 
-                if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
-                    String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
-                        .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+            if (startEventSubscriptions != null) {
+                eventSubscriptions = new ArrayList<>(eventSubscriptions);
+                for (EventSubscription startEventSubscription : startEventSubscriptions) {
+                    if (startEventSubscription.getConfiguration() == null || allCorrelationKeyValues.contains(startEventSubscription.getConfiguration())) {
+                        eventSubscriptions.add(startEventSubscription);
+                    }
+                }
+            }
 
-                    if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
-                        eventSubscriptionQuery.or()
-                            .tenantId(eventInstance.getTenantId())
-                            .withoutTenantId()
-                        .endOr();
+            return eventSubscriptions;
 
-                    } else {
-                        eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
+        });
+    }
 
-                    }
+    /**
+     * Returns all the start event subscriptions (regardless of their correlation configuration) for the event key and tenant of the given event instance
+     * when they are kept in an in-memory index, or {@code null} when they need to be queried together with the instance event subscriptions.
+     */
+    protected List<EventSubscription> getIndexedStartEventSubscriptions(String scopeType, EventInstance eventInstance) {
+        return null;
+    }
+
+    protected List<EventSubscription> findStartEventSubscriptions(String scopeType, EventInstance eventInstance) {
+        return commandExecutor.execute(commandContext -> createStartEventSubscriptionQuery(scopeType, eventInstance).list());
+    }
+
+    /**
+     * Creates the query for all the start event subscriptions (regardless of their correlation configuration) for the event key and tenant of the given event instance.
+     */
+    protected EventSubscriptionQuery createStartEventSubscriptionQuery(String scopeType, EventInstance eventInstance) {
+        EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+            .eventType(eventInstance.getEventKey())
+            .scopeType(scopeType);
+
+        if (ScopeTypes.CMMN.equals(scopeType)) {
+            eventSubscriptionQuery.withoutScopeId();
+        } else {
+            eventSubscriptionQuery.withoutProcessInstanceId();
+        }
+
+        applyTenantRestriction(scopeType, eventInstance, eventSubscriptionQuery);
+
+        return eventSubscriptionQuery;
+    }
+
+    protected void excludeStartEventSubscriptions(String scopeType, EventSubscriptionQuery eventSubscriptionQuery) {
+        if (ScopeTypes.CMMN.equals(scopeType)) {
+            eventSubscriptionQuery.withScopeId();
+        } else {
+            eventSubscriptionQuery.withProcessInstanceId();
+        }
+    }
+
+    protected void applyTenantRestriction(String scopeType, EventInstance eventInstance, EventSubscriptionQuery eventSubscriptionQuery) {
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId != null && !AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+
+            if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+                String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                    .getDefaultTenant(eventInstance.getTenantId(), scopeType, eventInstance.getEventKey());
+
+                if (AbstractEngineConfiguration.NO_TENANT_ID.equals(defaultTenant)) {
+                    eventSubscriptionQuery.or()
+                        .tenantId(eventInstance.getTenantId())
+                        .withoutTenantId()
+                    .endOr();
 
                 } else {
-                    eventSubscriptionQuery.tenantId(eventInstanceTenantId);
+                    eventSubscriptionQuery.tenantIds(Arrays.asList(eventInstanceTenantId, defaultTenant));
 
                 }
 
-            }
+            } else {
+                eventSubscriptionQuery.tenantId(eventInstanceTenantId);
 
-            return eventSubscriptionQuery.list();
+            }
 
-        });
+        }
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
+    /**
+     * Handles the event subscriptions that were found for an event instance.
+     */
+    @FunctionalInterface
+    protected interface EventSubscriptionsHandler {
+
+        EventRegistryProcessingInfo handleEventSubscriptions(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+                List<EventSubscription> eventSubscriptions);
+
+    }
+
 }
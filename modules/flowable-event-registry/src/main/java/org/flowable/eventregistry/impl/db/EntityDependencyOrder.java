@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntityImpl;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityImpl;
 
 public class EntityDependencyOrder {
@@ -35,6 +36,7 @@ public class EntityDependencyOrder {
         DELETE_ORDER.add(EventDeploymentEntityImpl.class);
         DELETE_ORDER.add(EventDefinitionEntityImpl.class);
         DELETE_ORDER.add(ChannelDefinitionEntityImpl.class);
+        DELETE_ORDER.add(EventOutboxEntityImpl.class);
         
         INSERT_ORDER = new ArrayList<>(DELETE_ORDER);
         Collections.reverse(INSERT_ORDER);
@@ -19,6 +19,7 @@ import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDefinitionEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntity;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntity;
 
 /**
@@ -33,6 +34,7 @@ public class EntityToTableMap {
         entityToTableNameMap.put(EventResourceEntity.class, "FLW_EVENT_RESOURCE");
         entityToTableNameMap.put(EventDefinitionEntity.class, "FLW_EVENT_DEFINITION");
         entityToTableNameMap.put(ChannelDefinitionEntity.class, "FLW_CHANNEL_DEFINITION");
+        entityToTableNameMap.put(EventOutboxEntity.class, "FLW_EVENT_OUTBOX");
     }
 
 }
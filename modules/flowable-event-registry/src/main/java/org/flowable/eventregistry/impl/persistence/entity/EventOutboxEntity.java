@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * An outbound event that was produced in a transaction and was not acknowledged by the channel adapter yet.
+ */
+public interface EventOutboxEntity extends Entity, HasRevision {
+
+    String getChannelKey();
+
+    void setChannelKey(String channelKey);
+
+    String getEventKey();
+
+    void setEventKey(String eventKey);
+
+    String getTenantId();
+
+    void setTenantId(String tenantId);
+
+    byte[] getPayloadBytes();
+
+    void setPayloadBytes(byte[] payloadBytes);
+
+    int getAttempts();
+
+    void setAttempts(int attempts);
+
+    /**
+     * The time after which the event is sent again when it is still in the outbox,
+     * or null when the event is not sent anymore because the maximum number of attempts was reached.
+     */
+    Date getRetryTime();
+
+    void setRetryTime(Date retryTime);
+
+    Date getCreateTime();
+
+    void setCreateTime(Date createTime);
+
+    String getExceptionMessage();
+
+    void setExceptionMessage(String exceptionMessage);
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+
+public class EventOutboxEntityImpl extends AbstractEntity implements EventOutboxEntity, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int MAX_EXCEPTION_MESSAGE_LENGTH = 2000;
+
+    protected String channelKey;
+    protected String eventKey;
+    protected String tenantId = EventRegistryEngineConfiguration.NO_TENANT_ID;
+    protected byte[] payloadBytes;
+    protected int attempts;
+    protected Date retryTime;
+    protected Date createTime;
+    protected String exceptionMessage;
+
+    @Override
+    public Object getPersistentState() {
+        Map<String, Object> persistentState = new HashMap<>();
+        persistentState.put("attempts", attempts);
+        persistentState.put("retryTime", retryTime);
+        persistentState.put("exceptionMessage", exceptionMessage);
+        return persistentState;
+    }
+
+    @Override
+    public String getIdPrefix() {
+        return EventRegistryEntityConstants.EVENT_REGISTRY_ID_PREFIX;
+    }
+
+    // getters and setters
+    // //////////////////////////////////////////////////////
+
+    @Override
+    public String getChannelKey() {
+        return channelKey;
+    }
+
+    @Override
+    public void setChannelKey(String channelKey) {
+        this.channelKey = channelKey;
+    }
+
+    @Override
+    public String getEventKey() {
+        return eventKey;
+    }
+
+    @Override
+    public void setEventKey(String eventKey) {
+        this.eventKey = eventKey;
+    }
+
+    @Override
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @Override
+    public byte[] getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    @Override
+    public void setPayloadBytes(byte[] payloadBytes) {
+        this.payloadBytes = payloadBytes;
+    }
+
+    @Override
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    @Override
+    public Date getRetryTime() {
+        return retryTime;
+    }
+
+    @Override
+    public void setRetryTime(Date retryTime) {
+        this.retryTime = retryTime;
+    }
+
+    @Override
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    @Override
+    public void setCreateTime(Date createTime) {
+        this.createTime = createTime;
+    }
+
+    @Override
+    public String getExceptionMessage() {
+        return exceptionMessage;
+    }
+
+    @Override
+    public void setExceptionMessage(String exceptionMessage) {
+        this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, MAX_EXCEPTION_MESSAGE_LENGTH);
+    }
+
+    @Override
+    public String toString() {
+        return "EventOutboxEntity[id=" + id + ", eventKey=" + eventKey + ", channelKey=" + channelKey + ", tenantId=" + tenantId + "]";
+    }
+}
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.data.EventOutboxDataManager;
+
+public class EventOutboxEntityManagerImpl
+        extends AbstractEngineEntityManager<EventRegistryEngineConfiguration, EventOutboxEntity, EventOutboxDataManager>
+        implements EventOutboxEntityManager {
+
+    public EventOutboxEntityManagerImpl(EventRegistryEngineConfiguration eventRegistryConfiguration, EventOutboxDataManager eventOutboxDataManager) {
+        super(eventRegistryConfiguration, eventOutboxDataManager);
+    }
+
+    @Override
+    public EventOutboxEntity create() {
+        EventOutboxEntity entity = super.create();
+        entity.setCreateTime(getClock().getCurrentTime());
+        return entity;
+    }
+
+    @Override
+    public List<EventOutboxEntity> findEntriesToRetry(Date retryTime, int maxResults) {
+        return dataManager.findEntriesToRetry(retryTime, maxResults);
+    }
+
+    @Override
+    public void deleteEntriesByIds(Collection<String> entryIds) {
+        dataManager.deleteEntriesByIds(entryIds);
+    }
+
+    @Override
+    public void updateExceptionMessage(String entryId, String exceptionMessage) {
+        dataManager.updateExceptionMessage(entryId, exceptionMessage);
+    }
+
+}
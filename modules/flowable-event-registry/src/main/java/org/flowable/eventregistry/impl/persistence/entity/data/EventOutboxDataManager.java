@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntity;
+
+public interface EventOutboxDataManager extends DataManager<EventOutboxEntity> {
+
+    List<EventOutboxEntity> findEntriesToRetry(Date retryTime, int maxResults);
+
+    void deleteEntriesByIds(Collection<String> entryIds);
+
+    void updateExceptionMessage(String entryId, String exceptionMessage);
+
+}
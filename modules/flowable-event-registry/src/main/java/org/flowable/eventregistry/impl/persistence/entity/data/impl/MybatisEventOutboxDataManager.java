@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.persistence.entity.data.impl;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntity;
+import org.flowable.eventregistry.impl.persistence.entity.EventOutboxEntityImpl;
+import org.flowable.eventregistry.impl.persistence.entity.data.AbstractEventDataManager;
+import org.flowable.eventregistry.impl.persistence.entity.data.EventOutboxDataManager;
+
+public class MybatisEventOutboxDataManager extends AbstractEventDataManager<EventOutboxEntity> implements EventOutboxDataManager {
+
+    public MybatisEventOutboxDataManager(EventRegistryEngineConfiguration eventRegistryConfiguration) {
+        super(eventRegistryConfiguration);
+    }
+
+    @Override
+    public Class<? extends EventOutboxEntity> getManagedEntityClass() {
+        return EventOutboxEntityImpl.class;
+    }
+
+    @Override
+    public EventOutboxEntity create() {
+        return new EventOutboxEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventOutboxEntity> findEntriesToRetry(Date retryTime, int maxResults) {
+        ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(retryTime, 0, maxResults);
+        listQueryParameterObject.setIgnoreOrderBy();
+        return getDbSqlSession().selectList("selectEventOutboxEntriesToRetry", listQueryParameterObject);
+    }
+
+    @Override
+    public void deleteEntriesByIds(Collection<String> entryIds) {
+        for (List<String> entryIdsChunk : createSafeInValuesList(entryIds)) {
+            getDbSqlSession().delete("bulkDeleteEventOutboxEntries", entryIdsChunk, getManagedEntityClass());
+        }
+    }
+
+    @Override
+    public void updateExceptionMessage(String entryId, String exceptionMessage) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("id", entryId);
+        params.put("exceptionMessage", exceptionMessage);
+        getDbSqlSession().directUpdate("updateEventOutboxExceptionMessage", params);
+    }
+
+}
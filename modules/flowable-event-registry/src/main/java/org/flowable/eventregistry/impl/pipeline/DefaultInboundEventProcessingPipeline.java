@@ -77,9 +77,7 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
             logger.debug("Running inbound pipeline for inbound {} channel {}. Inbound event: {}", inboundChannel.getChannelType(), inboundChannel.getKey(), inboundEvent);
         }
 
-        T deserializedBody = deserialize(inboundEvent.getBody());
-
-        FlowableEventInfo<T> event = new FlowableEventInfoImpl<>(inboundEvent, deserializedBody, inboundChannel);
+        FlowableEventInfo<T> event = createEventInfo(inboundChannel, inboundEvent);
 
         String eventKey = detectEventDefinitionKey(event);
 
@@ -127,6 +125,11 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         return registryEvents;
     }
 
+    protected FlowableEventInfo<T> createEventInfo(InboundChannelModel inboundChannel, InboundEvent inboundEvent) {
+        T deserializedBody = deserialize(inboundEvent.getBody());
+        return new FlowableEventInfoImpl<>(inboundEvent, deserializedBody, inboundChannel);
+    }
+
     public T deserialize(Object rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -36,8 +38,10 @@ import org.flowable.eventregistry.impl.keydetector.JsonFieldBasedInboundEventKey
 import org.flowable.eventregistry.impl.keydetector.JsonPointerBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.keydetector.XpathBasedInboundEventKeyDetector;
 import org.flowable.eventregistry.impl.payload.CompositePayloadExtractor;
+import org.flowable.eventregistry.impl.payload.HeadersPayloadExtractor;
 import org.flowable.eventregistry.impl.payload.JsonFieldToMapPayloadExtractor;
 import org.flowable.eventregistry.impl.payload.XmlElementsToMapPayloadExtractor;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToJsonDeserializer;
 import org.flowable.eventregistry.impl.serialization.StringToXmlDocumentDeserializer;
 import org.flowable.eventregistry.impl.tenantdetector.InboundEventStaticTenantDetector;
@@ -184,10 +188,62 @@ public class InboundChannelModelProcessor implements ChannelModelProcessor {
             }
         }
 
+        if (engineConfiguration.isEnableStreamingJsonPayloadExtraction() && eventFilter == null
+                && StringUtils.isEmpty(channelModel.getDeserializerDelegateExpression())
+                && StringUtils.isEmpty(channelModel.getPayloadExtractorDelegateExpression())) {
+
+            Collection<String> detectionJsonPointers = getStreamingJsonDetectionPointers(channelModel, eventKeyDetector, eventTenantDetector);
+            if (detectionJsonPointers != null) {
+                return new StreamingJsonInboundEventProcessingPipeline(eventRepositoryService, objectMapper, detectionJsonPointers,
+                        eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
+            }
+        }
+
         return new DefaultInboundEventProcessingPipeline<>(eventRepositoryService, eventDeserializer, eventFilter,
                 eventKeyDetector, eventTenantDetector, eventPayloadExtractor, eventTransformer);
     }
 
+    /**
+     * Returns the json pointers needed for the key and tenant detection of the channel,
+     * or {@code null} when the channel uses a custom payload extractor or detector that might need the complete json tree.
+     */
+    protected Collection<String> getStreamingJsonDetectionPointers(InboundChannelModel channelModel, InboundEventKeyDetector<JsonNode> eventKeyDetector,
+            InboundEventTenantDetector<JsonNode> eventTenantDetector) {
+
+        if (!(engineConfiguration.getDefaultInboundEventPayloadExtractor() instanceof HeadersPayloadExtractor)) {
+            return null;
+        }
+
+        Map<String, InboundEventPayloadExtractor<?>> inboundEventPayloadExtractors = engineConfiguration.getInboundEventPayloadExtractorsByChannelType();
+        if (inboundEventPayloadExtractors != null && inboundEventPayloadExtractors.containsKey(channelModel.getType())) {
+            return null;
+        }
+
+        Collection<String> jsonPointers = new ArrayList<>(2);
+        if (eventKeyDetector instanceof JsonFieldBasedInboundEventKeyDetector) {
+            jsonPointers.add("/" + StreamingJsonDeserializer.escapeJsonPointerSegment(((JsonFieldBasedInboundEventKeyDetector) eventKeyDetector).getJsonField()));
+        } else if (eventKeyDetector instanceof JsonPointerBasedInboundEventKeyDetector) {
+            jsonPointers.add(((JsonPointerBasedInboundEventKeyDetector) eventKeyDetector).getJsonPointerValue());
+        } else if (!(eventKeyDetector instanceof InboundEventStaticKeyDetector)) {
+            return null;
+        }
+
+        if (eventTenantDetector instanceof JsonPointerBasedInboundEventTenantDetector) {
+            jsonPointers.add(((JsonPointerBasedInboundEventTenantDetector) eventTenantDetector).getJsonPointerExpression());
+        } else if (eventTenantDetector != null && !(eventTenantDetector instanceof InboundEventStaticTenantDetector)) {
+            return null;
+        }
+
+        for (String jsonPointer : jsonPointers) {
+            if (!jsonPointer.startsWith("/")) {
+                // The empty json pointer points to the complete event
+                return null;
+            }
+        }
+
+        return jsonPointers;
+    }
+
     protected InboundEventProcessingPipeline createXmlEventProcessingPipeline(InboundChannelModel channelModel, 
             EventRepositoryService eventRepositoryService) {
         
@@ -0,0 +1,154 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.pipeline;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventRepositoryService;
+import org.flowable.eventregistry.api.FlowableEventInfo;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventKeyDetector;
+import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
+import org.flowable.eventregistry.api.InboundEventTenantDetector;
+import org.flowable.eventregistry.api.InboundEventTransformer;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.FlowableEventInfoImpl;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer.JsonPointerSelection;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventregistry.model.EventPayload;
+import org.flowable.eventregistry.model.InboundChannelModel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A json {@link DefaultInboundEventProcessingPipeline} that does not build the complete json tree of an event,
+ * but only reads the values needed for the key detection, tenant detection and the payload of the event model
+ * with a {@link StreamingJsonDeserializer}.
+ * <p>
+ * The json pointers for the key and tenant detection are known when the channel is deployed.
+ * The json pointers of the payload are derived from the {@link EventModel} the first time an event for it is received on this channel.
+ * In that case (or when the event model has a full payload definition) the event is read a second time.
+ */
+public class StreamingJsonInboundEventProcessingPipeline extends DefaultInboundEventProcessingPipeline<JsonNode> {
+
+    protected ObjectMapper objectMapper;
+
+    public StreamingJsonInboundEventProcessingPipeline(EventRepositoryService eventRepositoryService,
+            ObjectMapper objectMapper,
+            Collection<String> detectionJsonPointers,
+            InboundEventKeyDetector<JsonNode> inboundEventKeyDetector,
+            InboundEventTenantDetector<JsonNode> inboundEventTenantDetector,
+            InboundEventPayloadExtractor<JsonNode> inboundEventPayloadExtractor,
+            InboundEventTransformer inboundEventTransformer) {
+
+        super(eventRepositoryService, new StreamingJsonDeserializer(objectMapper, detectionJsonPointers), null,
+                inboundEventKeyDetector, inboundEventTenantDetector, inboundEventPayloadExtractor, inboundEventTransformer);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected FlowableEventInfo<JsonNode> createEventInfo(InboundChannelModel inboundChannel, InboundEvent inboundEvent) {
+        if (!(inboundEventDeserializer instanceof StreamingJsonDeserializer)) {
+            // A custom deserializer was set, it is expected to return the complete event
+            return super.createEventInfo(inboundChannel, inboundEvent);
+        }
+
+        JsonPointerSelection selection = getStreamingJsonDeserializer().getSelection();
+        JsonNode deserializedBody = getStreamingJsonDeserializer().deserialize(inboundEvent.getBody(), selection);
+        return new StreamingJsonEventInfo(inboundEvent, deserializedBody, inboundChannel, selection);
+    }
+
+    @Override
+    public Collection<EventPayloadInstance> extractPayload(EventModel eventModel, FlowableEventInfo<JsonNode> event) {
+        if (event instanceof StreamingJsonEventInfo) {
+            StreamingJsonEventInfo streamingEvent = (StreamingJsonEventInfo) event;
+
+            if (hasFullPayload(eventModel)) {
+                JsonNode fullBody = readFullBody(streamingEvent.getBody());
+                return super.extractPayload(eventModel, streamingEvent.withPayload(fullBody));
+            }
+
+            List<String> payloadJsonPointers = getPayloadJsonPointers(eventModel);
+            if (!streamingEvent.getSelection().containsAll(payloadJsonPointers)) {
+                // First event for this event model on this channel, from now on its payload is read in the first pass
+                StreamingJsonDeserializer deserializer = getStreamingJsonDeserializer();
+                deserializer.addJsonPointers(payloadJsonPointers);
+                JsonNode body = deserializer.deserialize(streamingEvent.getBody());
+                return super.extractPayload(eventModel, streamingEvent.withPayload(body));
+            }
+        }
+
+        return super.extractPayload(eventModel, event);
+    }
+
+    protected boolean hasFullPayload(EventModel eventModel) {
+        for (EventPayload eventPayload : eventModel.getPayload()) {
+            if (eventPayload.isFullPayload()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected List<String> getPayloadJsonPointers(EventModel eventModel) {
+        Collection<EventPayload> payloadDefinitions = eventModel.getPayload();
+        List<String> jsonPointers = new ArrayList<>(payloadDefinitions.size());
+        for (EventPayload payloadDefinition : payloadDefinitions) {
+            jsonPointers.add("/" + StreamingJsonDeserializer.escapeJsonPointerSegment(payloadDefinition.getName()));
+        }
+        return jsonPointers;
+    }
+
+    protected JsonNode readFullBody(Object body) {
+        try {
+            if (body instanceof byte[]) {
+                return objectMapper.readTree((byte[]) body);
+            }
+            return objectMapper.readTree(body.toString());
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    protected StreamingJsonDeserializer getStreamingJsonDeserializer() {
+        return (StreamingJsonDeserializer) inboundEventDeserializer;
+    }
+
+    protected static class StreamingJsonEventInfo extends FlowableEventInfoImpl<JsonNode> {
+
+        protected final JsonPointerSelection selection;
+
+        public StreamingJsonEventInfo(InboundEvent inboundEvent, JsonNode payload, InboundChannelModel inboundChannel, JsonPointerSelection selection) {
+            super(inboundEvent, payload, inboundChannel);
+            this.selection = selection;
+        }
+
+        public FlowableEventInfo<JsonNode> withPayload(JsonNode payload) {
+            return new FlowableEventInfoImpl<>(inboundEvent, payload, inboundChannel);
+        }
+
+        public Object getBody() {
+            return inboundEvent.getBody();
+        }
+
+        public JsonPointerSelection getSelection() {
+            return selection;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.impl.serialization;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.InboundEventDeserializer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A json deserializer that only materializes the parts of the event that are selected through json pointers.
+ * The raw event is read with a single pass of a {@link JsonParser}, all values that are not selected
+ * (or that do not contain a selected value) are skipped without creating any nodes for them.
+ * <p>
+ * The result is a sparse {@link JsonNode} with the same structure as the original event,
+ * so it can be used with the regular json key detectors, tenant detectors and payload extractors.
+ * Array values are always materialized completely.
+ */
+public class StreamingJsonDeserializer implements InboundEventDeserializer<JsonNode> {
+
+    protected final ObjectMapper objectMapper;
+    protected volatile JsonPointerSelection selection = new JsonPointerSelection(Collections.emptySet());
+
+    public StreamingJsonDeserializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingJsonDeserializer(ObjectMapper objectMapper, Collection<String> jsonPointers) {
+        this(objectMapper);
+        addJsonPointers(jsonPointers);
+    }
+
+    @Override
+    public JsonNode deserialize(Object rawEvent) {
+        return deserialize(rawEvent, selection);
+    }
+
+    public JsonNode deserialize(Object rawEvent, JsonPointerSelection selection) {
+        try (JsonParser parser = createParser(rawEvent)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return MissingNode.getInstance();
+
+            } else if (token != JsonToken.START_OBJECT) {
+                // Nothing to select from, read the value as it is
+                return objectMapper.readTree(parser);
+            }
+
+            ObjectNode result = objectMapper.createObjectNode();
+            readSelectedFields(parser, "", selection, result);
+            return result;
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not deserialize event to json", e);
+        }
+    }
+
+    protected JsonParser createParser(Object rawEvent) throws IOException {
+        if (rawEvent instanceof byte[]) {
+            return objectMapper.createParser((byte[]) rawEvent);
+        }
+        return objectMapper.createParser(rawEvent.toString());
+    }
+
+    protected void readSelectedFields(JsonParser parser, String path, JsonPointerSelection selection, ObjectNode target) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            String fieldPath = path + "/" + escapeJsonPointerSegment(fieldName);
+            JsonToken valueToken = parser.nextToken();
+
+            if (selection.isSelected(fieldPath)) {
+                target.set(fieldName, objectMapper.readTree(parser));
+
+            } else if (selection.isParentOfSelected(fieldPath)) {
+                if (valueToken == JsonToken.START_OBJECT) {
+                    readSelectedFields(parser, fieldPath, selection, target.putObject(fieldName));
+                } else {
+                    target.set(fieldName, objectMapper.readTree(parser));
+                }
+
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Adds the given json pointers to the selection of this deserializer.
+     * The selection only grows, events that are deserialized afterwards will contain the values of the new json pointers as well.
+     */
+    public synchronized void addJsonPointers(Collection<String> jsonPointers) {
+        JsonPointerSelection currentSelection = selection;
+        if (currentSelection.getJsonPointers().containsAll(jsonPointers)) {
+            return;
+        }
+
+        Set<String> newJsonPointers = new HashSet<>(currentSelection.getJsonPointers());
+        newJsonPointers.addAll(jsonPointers);
+        selection = new JsonPointerSelection(newJsonPointers);
+    }
+
+    public JsonPointerSelection getSelection() {
+        return selection;
+    }
+
+    public static String escapeJsonPointerSegment(String segment) {
+        return segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * An immutable set of json pointers together with all the json pointers of their parents.
+     */
+    public static class JsonPointerSelection {
+
+        protected final Set<String> jsonPointers;
+        protected final Set<String> parentJsonPointers;
+
+        public JsonPointerSelection(Collection<String> jsonPointers) {
+            this.jsonPointers = Collections.unmodifiableSet(new HashSet<>(jsonPointers));
+
+            Set<String> parentJsonPointers = new HashSet<>();
+            for (String jsonPointer : jsonPointers) {
+                int index = jsonPointer.lastIndexOf('/');
+                while (index > 0) {
+                    parentJsonPointers.add(jsonPointer.substring(0, index));
+                    index = jsonPointer.lastIndexOf('/', index - 1);
+                }
+            }
+            this.parentJsonPointers = Collections.unmodifiableSet(parentJsonPointers);
+        }
+
+        public boolean isSelected(String jsonPointer) {
+            return jsonPointers.contains(jsonPointer);
+        }
+
+        public boolean isParentOfSelected(String jsonPointer) {
+            return parentJsonPointers.contains(jsonPointer);
+        }
+
+        public boolean containsAll(Collection<String> jsonPointers) {
+            return this.jsonPointers.containsAll(jsonPointers);
+        }
+
+        public Set<String> getJsonPointers() {
+            return jsonPointers;
+        }
+    }
+}
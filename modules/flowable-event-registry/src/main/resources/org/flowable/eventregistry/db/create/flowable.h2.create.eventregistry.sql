@@ -15,5 +15,9 @@ CREATE TABLE FLW_CHANNEL_DEFINITION (ID_ VARCHAR(255) NOT NULL, NAME_ VARCHAR(25
 
 CREATE UNIQUE INDEX ACT_IDX_CHANNEL_DEF_UNIQ ON FLW_CHANNEL_DEFINITION(KEY_, VERSION_, TENANT_ID_);
 
+CREATE TABLE FLW_EVENT_OUTBOX (ID_ VARCHAR(255) NOT NULL, REV_ INT, CHANNEL_KEY_ VARCHAR(255), EVENT_KEY_ VARCHAR(255), TENANT_ID_ VARCHAR(255), PAYLOAD_BYTES_ BLOB, ATTEMPTS_ INT, RETRY_TIME_ TIMESTAMP, CREATE_TIME_ TIMESTAMP, EXCEPTION_MSG_ VARCHAR(4000), CONSTRAINT PK_FLW_EVENT_OUTBOX PRIMARY KEY (ID_));
+
+CREATE INDEX FLW_IDX_EVENT_OUTBOX_RETRY ON FLW_EVENT_OUTBOX (RETRY_TIME_);
+
 insert into ACT_GE_PROPERTY
 values ('eventregistry.schema.version', '7.2.0.1', 1);
@@ -15,5 +15,9 @@ CREATE TABLE FLW_CHANNEL_DEFINITION (ID_ varchar(255) NOT NULL, NAME_ nvarchar(2
 
 CREATE UNIQUE NONCLUSTERED INDEX ACT_IDX_CHANNEL_DEF_UNIQ ON FLW_CHANNEL_DEFINITION(KEY_, VERSION_, TENANT_ID_);
 
+CREATE TABLE FLW_EVENT_OUTBOX (ID_ varchar(255) NOT NULL, REV_ int, CHANNEL_KEY_ varchar(255), EVENT_KEY_ varchar(255), TENANT_ID_ varchar(255), PAYLOAD_BYTES_ varbinary(MAX), ATTEMPTS_ int, RETRY_TIME_ datetime, CREATE_TIME_ datetime, EXCEPTION_MSG_ nvarchar(4000), CONSTRAINT PK_FLW_EVENT_OUTBOX PRIMARY KEY (ID_));
+
+CREATE NONCLUSTERED INDEX FLW_IDX_EVENT_OUTBOX_RETRY ON FLW_EVENT_OUTBOX(RETRY_TIME_);
+
 insert into ACT_GE_PROPERTY
 values ('eventregistry.schema.version', '7.2.0.1', 1);
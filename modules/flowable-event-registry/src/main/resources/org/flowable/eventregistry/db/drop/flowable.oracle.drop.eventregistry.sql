@@ -3,8 +3,10 @@ alter table FLW_EVENT_RESOURCE drop constraint FLW_FK_EVENT_RSRC_DPL;
 drop index FLW_IDX_EVENT_RSRC_DPL;
 drop index ACT_IDX_CHANNEL_DEF_UNIQ;
 drop index ACT_IDX_EVENT_DEF_UNIQ;
+drop index FLW_IDX_EVENT_OUTBOX_RETRY;
 
 drop table FLW_CHANNEL_DEFINITION;
 drop table FLW_EVENT_DEFINITION;
 drop table FLW_EVENT_RESOURCE;
 drop table FLW_EVENT_DEPLOYMENT;
+drop table FLW_EVENT_OUTBOX;
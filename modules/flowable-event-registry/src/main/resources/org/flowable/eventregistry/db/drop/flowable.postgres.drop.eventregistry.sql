@@ -2,3 +2,4 @@ drop table if exists FLW_CHANNEL_DEFINITION cascade;
 drop table if exists FLW_EVENT_DEFINITION cascade;
 drop table if exists FLW_EVENT_RESOURCE cascade;
 drop table if exists FLW_EVENT_DEPLOYMENT cascade;
+drop table if exists FLW_EVENT_OUTBOX cascade;
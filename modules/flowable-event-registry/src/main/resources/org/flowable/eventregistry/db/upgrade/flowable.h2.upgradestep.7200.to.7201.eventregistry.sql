@@ -3,4 +3,8 @@ ALTER TABLE FLW_EVENT_RESOURCE
 
 CREATE INDEX FLW_IDX_EVENT_RSRC_DPL ON FLW_EVENT_RESOURCE (DEPLOYMENT_ID_);
 
+CREATE TABLE FLW_EVENT_OUTBOX (ID_ VARCHAR(255) NOT NULL, REV_ INT, CHANNEL_KEY_ VARCHAR(255), EVENT_KEY_ VARCHAR(255), TENANT_ID_ VARCHAR(255), PAYLOAD_BYTES_ BLOB, ATTEMPTS_ INT, RETRY_TIME_ TIMESTAMP, CREATE_TIME_ TIMESTAMP, EXCEPTION_MSG_ VARCHAR(4000), CONSTRAINT PK_FLW_EVENT_OUTBOX PRIMARY KEY (ID_));
+
+CREATE INDEX FLW_IDX_EVENT_OUTBOX_RETRY ON FLW_EVENT_OUTBOX (RETRY_TIME_);
+
 update ACT_GE_PROPERTY set VALUE_ = '7.2.0.1' where NAME_ = 'eventregistry.schema.version';
\ No newline at end of file
@@ -3,4 +3,8 @@ ALTER TABLE FLW_EVENT_RESOURCE
 
 CREATE NONCLUSTERED INDEX FLW_IDX_EVENT_RSRC_DPL ON FLW_EVENT_RESOURCE(DEPLOYMENT_ID_);
 
+CREATE TABLE FLW_EVENT_OUTBOX (ID_ varchar(255) NOT NULL, REV_ int, CHANNEL_KEY_ varchar(255), EVENT_KEY_ varchar(255), TENANT_ID_ varchar(255), PAYLOAD_BYTES_ varbinary(MAX), ATTEMPTS_ int, RETRY_TIME_ datetime, CREATE_TIME_ datetime, EXCEPTION_MSG_ nvarchar(4000), CONSTRAINT PK_FLW_EVENT_OUTBOX PRIMARY KEY (ID_));
+
+CREATE NONCLUSTERED INDEX FLW_IDX_EVENT_OUTBOX_RETRY ON FLW_EVENT_OUTBOX(RETRY_TIME_);
+
 update ACT_GE_PROPERTY set VALUE_ = '7.2.0.1' where NAME_ = 'eventregistry.schema.version';
\ No newline at end of file
@@ -14,6 +14,7 @@ package org.flowable.eventregistry.test;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.IOException;
@@ -31,6 +32,8 @@ import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryNonMatchingEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventKeyDetector;
@@ -38,6 +41,7 @@ import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
@@ -315,6 +319,48 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         }
     }
 
+    @Test
+    public void testFailedEventOfBatchIsReported() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .deploy();
+
+        testEventConsumer.failingCustomerId = "fozzie";
+
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvents("kermit", "fozzie", "gonzo"))
+                .isInstanceOfSatisfying(FlowableEventBatchProcessingException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1))
+                .hasRootCauseMessage("Failing fozzie");
+
+        assertThat(testEventConsumer.eventsReceived)
+                .extracting(event -> ((FlowableEventRegistryEvent) event).getEventInstance().getCorrelationParameterInstances().iterator().next().getValue())
+                .containsExactly("kermit", "fozzie");
+    }
+
+    @Test
+    public void testEventsBeforeInvalidEventOfBatchAreConsumed() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .deploy();
+
+        List<InboundEvent> events = List.of(
+                inboundEventChannelAdapter.createTestEvent("kermit"),
+                new DefaultInboundEvent("invalid"),
+                inboundEventChannelAdapter.createTestEvent("gonzo"));
+
+        assertThatThrownBy(() -> inboundEventChannelAdapter.eventRegistry.eventsReceived(inboundEventChannelAdapter.inboundChannelModel, events))
+                .isInstanceOfSatisfying(FlowableEventBatchProcessingException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1));
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+    }
+
     protected TestInboundEventChannelAdapter setupTestChannel() {
         TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
         eventEngineConfiguration.getExpressionManager().getBeans()
@@ -402,6 +448,7 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
     private static class TestEventConsumer implements EventRegistryEventConsumer {
 
         public List<EventRegistryEvent> eventsReceived = new ArrayList<>();
+        public String failingCustomerId;
 
         @Override
         public String getConsumerKey() {
@@ -411,6 +458,13 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         @Override
         public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
             eventsReceived.add(event);
+            if (failingCustomerId != null) {
+                for (EventPayloadInstance payloadInstance : ((FlowableEventRegistryEvent) event).getEventInstance().getPayloadInstances()) {
+                    if (failingCustomerId.equals(payloadInstance.getValue())) {
+                        throw new IllegalStateException("Failing " + failingCustomerId);
+                    }
+                }
+            }
             EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
             eventRegistryProcessingInfo.addEventConsumerInfo(new EventConsumerInfo());
             return eventRegistryProcessingInfo;
@@ -447,6 +501,27 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 throw new RuntimeException(e);
             }
         }
+
+        public void triggerTestEvents(String... customerIds) {
+            List<InboundEvent> events = new ArrayList<>(customerIds.length);
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        public InboundEvent createTestEvent(String customerId) {
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            ObjectNode json = objectMapper.createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", customerId);
+            try {
+                return new DefaultInboundEvent(objectMapper.writeValueAsString(json));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
     
     private static class TestNonMatchingEventConsumer implements EventRegistryNonMatchingEventConsumer {
@@ -0,0 +1,460 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.eventregistry.api.EventConsumerInfo;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.FlowableEventBatchProcessingException;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
+import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
+import org.flowable.eventregistry.impl.PartitionedInboundEventProcessor;
+import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class PartitionedInboundEventProcessorTest extends AbstractFlowableEventTest {
+
+    protected RecordingEventConsumer eventConsumer;
+    protected PartitionedInboundEventProcessor inboundEventProcessor;
+
+    protected Map<Object, Object> initialBeans;
+
+    @BeforeEach
+    public void setup() {
+        eventConsumer = new RecordingEventConsumer();
+        initialBeans = eventEngineConfiguration.getExpressionManager().getBeans();
+        eventEngineConfiguration.getExpressionManager().setBeans(new HashMap<>());
+        eventEngineConfiguration.getEventRegistry().registerEventRegistryEventConsumer(eventConsumer);
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("sequence", EventPayloadTypes.INTEGER)
+                .deploy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (inboundEventProcessor != null) {
+            inboundEventProcessor.shutdown();
+        }
+
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        eventRegistry.removeFlowableEventRegistryEventConsumer(eventConsumer);
+        eventRegistry.setInboundEventProcessor(new DefaultInboundEventProcessor(eventRegistry));
+        eventEngineConfiguration.getExpressionManager().setBeans(initialBeans);
+
+        List<EventDeployment> eventDeployments = repositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : eventDeployments) {
+            repositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    public void testEventsWithSameCorrelationKeyAreConsumedInOrder() throws Exception {
+        startInboundEventProcessor(4, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        List<String> customerIds = List.of("customerA", "customerB", "customerC", "customerD", "customerE", "customerF");
+        eventConsumer.expectedEvents = new CountDownLatch(customerIds.size() * 20);
+        for (int sequence = 0; sequence < 20; sequence++) {
+            for (String customerId : customerIds) {
+                inboundEventChannelAdapter.triggerTestEvent(customerId, sequence);
+            }
+        }
+
+        assertThat(eventConsumer.expectedEvents.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The shutdown waits until the worker threads are done
+        inboundEventProcessor.shutdown();
+        assertThat(inboundEventProcessor.getProcessedEventCount()).isEqualTo(customerIds.size() * 20);
+        assertThat(inboundEventProcessor.getFailedEventCount()).isZero();
+        assertThat(inboundEventProcessor.getTotalQueueDepth()).isZero();
+
+        Map<String, List<Integer>> sequencesPerCustomer = new HashMap<>();
+        Map<String, String> threadPerCustomer = new HashMap<>();
+        for (ReceivedEvent receivedEvent : eventConsumer.getReceivedEvents()) {
+            sequencesPerCustomer.computeIfAbsent(receivedEvent.customerId, key -> new ArrayList<>()).add(receivedEvent.sequence);
+            assertThat(receivedEvent.threadName).startsWith("flowable-inbound-event-dispatcher-");
+            String previousThreadName = threadPerCustomer.putIfAbsent(receivedEvent.customerId, receivedEvent.threadName);
+            if (previousThreadName != null) {
+                assertThat(receivedEvent.threadName).isEqualTo(previousThreadName);
+            }
+        }
+
+        assertThat(sequencesPerCustomer).containsOnlyKeys(customerIds);
+        for (List<Integer> sequences : sequencesPerCustomer.values()) {
+            assertThat(sequences).isSortedAccordingTo(Integer::compare).hasSize(20);
+        }
+        assertThat(new HashSet<>(threadPerCustomer.values())).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    public void testChannelAdapterIsBlockedWhenPartitionQueueIsFull() throws Exception {
+        startInboundEventProcessor(1, 1);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.blockingLatch = new CountDownLatch(1);
+        eventConsumer.expectedEvents = new CountDownLatch(3);
+
+        // The first event is taken by the worker thread and blocks it, the second one fills up the queue
+        CompletableFuture<Void> firstEvent = inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 1);
+        CompletableFuture<Void> secondEvent = inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 2);
+
+        Thread channelThread = new Thread(() -> inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 3));
+        channelThread.start();
+        channelThread.join(500);
+
+        assertThat(channelThread.isAlive()).isTrue();
+        assertThat(inboundEventProcessor.getQueueDepth(0)).isEqualTo(1);
+        assertThat(inboundEventProcessor.getQueueDepths()).containsExactly(1);
+        assertThat(firstEvent).isNotDone();
+        assertThat(secondEvent).isNotDone();
+
+        eventConsumer.blockingLatch.countDown();
+        channelThread.join(5000);
+        assertThat(channelThread.isAlive()).isFalse();
+        firstEvent.get(10, TimeUnit.SECONDS);
+        secondEvent.get(10, TimeUnit.SECONDS);
+
+        assertThat(eventConsumer.expectedEvents.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventConsumer.getReceivedEvents())
+                .extracting(receivedEvent -> receivedEvent.sequence)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testEventReceivedDoesNotWaitUntilEventIsConsumed() throws Exception {
+        startInboundEventProcessor(1, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.blockingLatch = new CountDownLatch(1);
+        eventConsumer.startedEvents = new CountDownLatch(1);
+        eventConsumer.expectedEvents = new CountDownLatch(3);
+
+        // The worker thread is blocked by the first event, the channel adapter can still pass the next events
+        inboundEventChannelAdapter.triggerTestEvent("customerA", 1);
+        assertThat(eventConsumer.startedEvents.await(10, TimeUnit.SECONDS)).isTrue();
+        inboundEventChannelAdapter.triggerTestEvent("customerA", 2);
+        inboundEventChannelAdapter.triggerTestEvent("customerA", 3);
+
+        assertThat(inboundEventProcessor.getQueueDepth(0)).isEqualTo(2);
+        assertThat(inboundEventProcessor.getProcessedEventCount()).isZero();
+
+        eventConsumer.blockingLatch.countDown();
+        assertThat(eventConsumer.expectedEvents.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(eventConsumer.getReceivedEvents())
+                .extracting(receivedEvent -> receivedEvent.sequence)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testBatchIsConsumedPerPartition() {
+        startInboundEventProcessor(2, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        List<String> customerIds = List.of("customerA", "customerB", "customerC", "customerD", "customerE", "customerF");
+        List<InboundEvent> events = new ArrayList<>();
+        for (int sequence = 0; sequence < 3; sequence++) {
+            for (String customerId : customerIds) {
+                events.add(inboundEventChannelAdapter.createTestEvent(customerId, sequence));
+            }
+        }
+
+        inboundEventChannelAdapter.eventRegistry.eventsReceived(inboundEventChannelAdapter.inboundChannelModel, events);
+
+        // All events are consumed when eventsReceived returns, with at most one batch per partition
+        assertThat(eventConsumer.getReceivedEvents()).hasSize(customerIds.size() * 3);
+        assertThat(eventConsumer.getBatchSizes())
+                .hasSizeBetween(1, 2)
+                .allSatisfy(batchSize -> assertThat(batchSize).isGreaterThan(1));
+        assertThat(eventConsumer.getBatchSizes().stream().mapToInt(Integer::intValue).sum()).isEqualTo(customerIds.size() * 3);
+        assertThat(inboundEventProcessor.getProcessedEventCount()).isEqualTo(customerIds.size() * 3);
+
+        Map<String, List<Integer>> sequencesPerCustomer = new HashMap<>();
+        for (ReceivedEvent receivedEvent : eventConsumer.getReceivedEvents()) {
+            sequencesPerCustomer.computeIfAbsent(receivedEvent.customerId, key -> new ArrayList<>()).add(receivedEvent.sequence);
+        }
+        assertThat(sequencesPerCustomer).containsOnlyKeys(customerIds);
+        for (List<Integer> sequences : sequencesPerCustomer.values()) {
+            assertThat(sequences).containsExactly(0, 1, 2);
+        }
+    }
+
+    @Test
+    public void testFailingBatchIsRethrownToChannelAdapter() {
+        startInboundEventProcessor(1, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.failingSequence = 2;
+
+        List<InboundEvent> events = List.of(
+                inboundEventChannelAdapter.createTestEvent("customerA", 1),
+                inboundEventChannelAdapter.createTestEvent("customerA", 2),
+                inboundEventChannelAdapter.createTestEvent("customerA", 3));
+
+        // The first event was consumed, the channel adapter has to process the events from the failed one on again
+        assertThatThrownBy(() -> inboundEventChannelAdapter.eventRegistry.eventsReceived(inboundEventChannelAdapter.inboundChannelModel, events))
+                .isInstanceOfSatisfying(FlowableEventBatchProcessingException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Failing event 2");
+
+        assertThat(inboundEventProcessor.getFailedEventCount()).isEqualTo(2);
+        assertThat(inboundEventProcessor.getProcessedEventCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailingEventIsCounted() throws Exception {
+        startInboundEventProcessor(1, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.failingSequence = 1;
+
+        // The channel adapter does not wait for the event to be consumed, so the failure is only logged and counted
+        inboundEventChannelAdapter.triggerTestEvent("customerA", 1);
+
+        // The partition keeps on consuming the next events
+        inboundEventChannelAdapter.triggerTestEvent("customerA", 2);
+        inboundEventProcessor.shutdown();
+
+        assertThat(inboundEventProcessor.isActive()).isFalse();
+        assertThat(inboundEventProcessor.getFailedEventCount()).isEqualTo(1);
+        assertThat(inboundEventProcessor.getProcessedEventCount()).isEqualTo(1);
+        assertThat(eventConsumer.getReceivedEvents())
+                .extracting(receivedEvent -> receivedEvent.sequence)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    public void testFailingDispatchedEventCompletesFutureExceptionally() {
+        startInboundEventProcessor(1, 10);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.failingSequence = 1;
+
+        CompletableFuture<Void> event = inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 1);
+        assertThatThrownBy(() -> event.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Failing event 1");
+    }
+
+    @Test
+    public void testShutdownRejectsQueuedEvents() throws Exception {
+        startInboundEventProcessor(1, 10);
+        inboundEventProcessor.setShutdownTimeoutInMs(200);
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        eventConsumer.blockingLatch = new CountDownLatch(1);
+        eventConsumer.startedEvents = new CountDownLatch(1);
+
+        CompletableFuture<Void> firstEvent = inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 1);
+        assertThat(eventConsumer.startedEvents.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> secondEvent = inboundEventChannelAdapter.dispatchTestEvent(inboundEventProcessor, "customerA", 2);
+
+        // The worker thread is interrupted after the shutdown timeout, the event that is still queued is not consumed
+        inboundEventProcessor.shutdown();
+
+        firstEvent.get(10, TimeUnit.SECONDS);
+        assertThat(secondEvent).isCompletedExceptionally();
+        assertThatThrownBy(() -> secondEvent.get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(FlowableException.class)
+                .hasMessageContaining("was shut down before");
+        assertThat(inboundEventProcessor.getTotalQueueDepth()).isZero();
+        assertThat(eventConsumer.getReceivedEvents())
+                .extracting(receivedEvent -> receivedEvent.sequence)
+                .containsExactly(1);
+
+        // New events are rejected
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvent("customerA", 3))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is not active");
+    }
+
+    protected void startInboundEventProcessor(int partitionCount, int partitionQueueCapacity) {
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        inboundEventProcessor = new PartitionedInboundEventProcessor(eventRegistry, partitionCount, partitionQueueCapacity);
+        inboundEventProcessor.start();
+        eventRegistry.setInboundEventProcessor(inboundEventProcessor);
+    }
+
+    protected TestInboundEventChannelAdapter setupTestChannel() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        eventEngineConfiguration.getExpressionManager().getBeans()
+                .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
+                .key("test-channel")
+                .resourceName("test.channel")
+                .channelAdapter("${inboundEventChannelAdapter}")
+                .jsonDeserializer()
+                .detectEventKeyUsingJsonField("type")
+                .jsonFieldsMapDirectlyToPayload()
+                .deploy();
+
+        return inboundEventChannelAdapter;
+    }
+
+    private static class ReceivedEvent {
+
+        protected final String customerId;
+        protected final Integer sequence;
+        protected final String threadName;
+
+        public ReceivedEvent(String customerId, Integer sequence, String threadName) {
+            this.customerId = customerId;
+            this.sequence = sequence;
+            this.threadName = threadName;
+        }
+    }
+
+    private static class RecordingEventConsumer implements EventRegistryEventConsumer {
+
+        protected final List<ReceivedEvent> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        protected final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        protected CountDownLatch expectedEvents;
+        protected CountDownLatch startedEvents;
+        protected CountDownLatch blockingLatch;
+        protected Integer failingSequence;
+
+        @Override
+        public String getConsumerKey() {
+            return "partitionedTestEventConsumer";
+        }
+
+        @Override
+        public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
+            EventInstance eventInstance = ((FlowableEventRegistryEvent) event).getEventInstance();
+            String customerId = null;
+            Integer sequence = null;
+            for (EventPayloadInstance payloadInstance : eventInstance.getPayloadInstances()) {
+                if ("customerId".equals(payloadInstance.getDefinitionName())) {
+                    customerId = (String) payloadInstance.getValue();
+                } else if ("sequence".equals(payloadInstance.getDefinitionName())) {
+                    sequence = (Integer) payloadInstance.getValue();
+                }
+            }
+
+            receivedEvents.add(new ReceivedEvent(customerId, sequence, Thread.currentThread().getName()));
+            if (startedEvents != null) {
+                startedEvents.countDown();
+            }
+            try {
+                if (blockingLatch != null) {
+                    blockingLatch.await(10, TimeUnit.SECONDS);
+                }
+
+                if (failingSequence != null && failingSequence.equals(sequence)) {
+                    throw new IllegalStateException("Failing event " + sequence);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+            } finally {
+                if (expectedEvents != null) {
+                    expectedEvents.countDown();
+                }
+            }
+
+            EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            eventRegistryProcessingInfo.addEventConsumerInfo(new EventConsumerInfo());
+            return eventRegistryProcessingInfo;
+        }
+
+        @Override
+        public List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+            batchSizes.add(events.size());
+            return EventRegistryEventConsumer.super.eventsReceived(events);
+        }
+
+        public List<ReceivedEvent> getReceivedEvents() {
+            synchronized (receivedEvents) {
+                return new ArrayList<>(receivedEvents);
+            }
+        }
+
+        public List<Integer> getBatchSizes() {
+            synchronized (batchSizes) {
+                return new ArrayList<>(batchSizes);
+            }
+        }
+    }
+
+    private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
+
+        public InboundChannelModel inboundChannelModel;
+        public EventRegistry eventRegistry;
+
+        @Override
+        public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+            this.inboundChannelModel = inboundChannelModel;
+        }
+
+        @Override
+        public void setEventRegistry(EventRegistry eventRegistry) {
+            this.eventRegistry = eventRegistry;
+        }
+
+        public void triggerTestEvent(String customerId, int sequence) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, sequence));
+        }
+
+        public CompletableFuture<Void> dispatchTestEvent(PartitionedInboundEventProcessor inboundEventProcessor, String customerId, int sequence) {
+            return inboundEventProcessor.dispatchEvent(inboundChannelModel, createTestEvent(customerId, sequence));
+        }
+
+        public InboundEvent createTestEvent(String customerId, int sequence) {
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            ObjectNode json = objectMapper.createObjectNode();
+            json.put("type", "myEvent");
+            json.put("customerId", customerId);
+            json.put("sequence", sequence);
+            try {
+                return new DefaultInboundEvent(objectMapper.writeValueAsString(json));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.eventregistry.api.EventConsumerInfo;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.EventRegistryEvent;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.InboundEventChannelAdapter;
+import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
+import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
+import org.flowable.eventregistry.impl.pipeline.StreamingJsonInboundEventProcessingPipeline;
+import org.flowable.eventregistry.impl.serialization.StreamingJsonDeserializer;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class StreamingJsonInboundEventProcessingPipelineTest extends AbstractFlowableEventTest {
+
+    protected static final String EVENT_JSON = "{"
+            + "  \"type\": \"myEvent\","
+            + "  \"attachments\": [ { \"name\": \"a\", \"content\": \"aaaa\" }, { \"name\": \"b\", \"content\": \"bbbb\" } ],"
+            + "  \"meta\": { \"tenant\": \"acme\", \"trace\": { \"id\": \"123\" } },"
+            + "  \"customerId\": \"customer1\","
+            + "  \"amount\": 42,"
+            + "  \"details\": { \"street\": \"Main Street\", \"number\": 1 },"
+            + "  \"unused\": { \"nested\": [ 1, 2, { \"deep\": true } ] }"
+            + "}";
+
+    protected TestEventConsumer testEventConsumer;
+    protected Map<Object, Object> initialBeans;
+
+    @BeforeEach
+    public void setup() {
+        testEventConsumer = new TestEventConsumer();
+        initialBeans = eventEngineConfiguration.getExpressionManager().getBeans();
+        eventEngineConfiguration.getExpressionManager().setBeans(new HashMap<>());
+        eventEngineConfiguration.setEnableStreamingJsonPayloadExtraction(true);
+
+        EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
+        eventRegistry.registerEventRegistryEventConsumer(testEventConsumer);
+        eventRegistry.setInboundEventProcessor(new DefaultInboundEventProcessor(eventRegistry));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventEngineConfiguration.setEnableStreamingJsonPayloadExtraction(false);
+        eventEngineConfiguration.getEventRegistry().removeFlowableEventRegistryEventConsumer(testEventConsumer);
+        eventEngineConfiguration.getExpressionManager().setBeans(initialBeans);
+        List<EventDeployment> eventDeployments = repositoryService.createDeploymentQuery().list();
+        for (EventDeployment eventDeployment : eventDeployments) {
+            repositoryService.deleteDeployment(eventDeployment.getId());
+        }
+    }
+
+    @Test
+    public void testDeserializerOnlyReadsSelectedValues() {
+        StreamingJsonDeserializer deserializer = new StreamingJsonDeserializer(new ObjectMapper(),
+                Arrays.asList("/type", "/meta/tenant", "/details", "/attachments/0/name"));
+
+        JsonNode result = deserializer.deserialize(EVENT_JSON);
+        assertThatJson(result)
+                .isEqualTo("{"
+                        + "  type: 'myEvent',"
+                        + "  attachments: [ { name: 'a', content: 'aaaa' }, { name: 'b', content: 'bbbb' } ],"
+                        + "  meta: { tenant: 'acme' },"
+                        + "  details: { street: 'Main Street', number: 1 }"
+                        + "}");
+
+        deserializer.addJsonPointers(Arrays.asList("/amount", "/missing"));
+        result = deserializer.deserialize(EVENT_JSON.getBytes());
+        assertThat(result.get("amount").intValue()).isEqualTo(42);
+        assertThat(result.has("missing")).isFalse();
+        assertThat(result.has("unused")).isFalse();
+    }
+
+    @Test
+    public void testDeserializerEscapedFieldNames() {
+        StreamingJsonDeserializer deserializer = new StreamingJsonDeserializer(new ObjectMapper(),
+                Arrays.asList("/" + StreamingJsonDeserializer.escapeJsonPointerSegment("a/b~c")));
+
+        JsonNode result = deserializer.deserialize("{ \"a/b~c\": 1, \"a\": { \"b~c\": 2 } }");
+        assertThatJson(result).isEqualTo("{ 'a/b~c': 1 }");
+    }
+
+    @Test
+    public void testStreamingPipelineExtractsPayload() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(false);
+        assertThat(inboundEventChannelAdapter.inboundChannelModel.getInboundEventProcessingPipeline())
+                .isInstanceOf(StreamingJsonInboundEventProcessingPipeline.class);
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("amount", EventPayloadTypes.INTEGER)
+                .payload("details", EventPayloadTypes.JSON)
+                .payload("notInEvent", EventPayloadTypes.STRING)
+                .deploy();
+
+        // The first event reads the event a second time to get the payload, the second one in a single pass
+        inboundEventChannelAdapter.triggerTestEvent(EVENT_JSON);
+        inboundEventChannelAdapter.triggerTestEvent(EVENT_JSON.replace("customer1", "customer2"));
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(2);
+        for (int i = 0; i < 2; i++) {
+            EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(i)).getEventInstance();
+            assertThat(eventInstance.getEventKey()).isEqualTo("myEvent");
+            assertThat(eventInstance.getPayloadInstances())
+                    .extracting(EventPayloadInstance::getDefinitionName, EventPayloadInstance::getValue)
+                    .containsExactlyInAnyOrder(
+                            tuple("customerId", "customer" + (i + 1)),
+                            tuple("amount", 42),
+                            tuple("details", new ObjectMapper().createObjectNode().put("street", "Main Street").put("number", 1))
+                    );
+        }
+    }
+
+    @Test
+    public void testStreamingPipelineWithTenantDetection() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(true);
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .deploymentTenantId("acme")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerTestEvent(EVENT_JSON);
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0)).getEventInstance();
+        assertThat(eventInstance.getTenantId()).isEqualTo("acme");
+        assertThat(eventInstance.getCorrelationParameterInstances())
+                .extracting(EventPayloadInstance::getValue)
+                .containsExactly("customer1");
+    }
+
+    @Test
+    public void testStreamingPipelineWithFullPayload() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel(false);
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .fullPayload("fullPayload")
+                .deploy();
+
+        inboundEventChannelAdapter.triggerTestEvent(EVENT_JSON);
+
+        assertThat(testEventConsumer.eventsReceived).hasSize(1);
+        EventInstance eventInstance = ((FlowableEventRegistryEvent) testEventConsumer.eventsReceived.get(0)).getEventInstance();
+        assertThat(eventInstance.getPayloadInstances()).hasSize(1);
+        assertThatJson(eventInstance.getPayloadInstances().iterator().next().getValue()).isEqualTo(EVENT_JSON);
+    }
+
+    protected TestInboundEventChannelAdapter setupTestChannel(boolean detectTenant) {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = new TestInboundEventChannelAdapter();
+        eventEngineConfiguration.getExpressionManager().getBeans()
+                .put("inboundEventChannelAdapter", inboundEventChannelAdapter);
+
+        if (detectTenant) {
+            eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
+                    .key("test-channel")
+                    .resourceName("test.channel")
+                    .channelAdapter("${inboundEventChannelAdapter}")
+                    .jsonDeserializer()
+                    .detectEventKeyUsingJsonPointerExpression("/type")
+                    .detectEventTenantUsingJsonPointerExpression("/meta/tenant")
+                    .jsonFieldsMapDirectlyToPayload()
+                    .deploy();
+        } else {
+            eventEngineConfiguration.getEventRepositoryService().createInboundChannelModelBuilder()
+                    .key("test-channel")
+                    .resourceName("test.channel")
+                    .channelAdapter("${inboundEventChannelAdapter}")
+                    .jsonDeserializer()
+                    .detectEventKeyUsingJsonField("type")
+                    .jsonFieldsMapDirectlyToPayload()
+                    .deploy();
+        }
+
+        return inboundEventChannelAdapter;
+    }
+
+    private static class TestEventConsumer implements EventRegistryEventConsumer {
+
+        public List<EventRegistryEvent> eventsReceived = new ArrayList<>();
+
+        @Override
+        public String getConsumerKey() {
+            return "streamingTestEventConsumer";
+        }
+
+        @Override
+        public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
+            eventsReceived.add(event);
+            EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            eventRegistryProcessingInfo.addEventConsumerInfo(new EventConsumerInfo());
+            return eventRegistryProcessingInfo;
+        }
+    }
+
+    private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
+
+        public InboundChannelModel inboundChannelModel;
+        public EventRegistry eventRegistry;
+
+        @Override
+        public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+            this.inboundChannelModel = inboundChannelModel;
+        }
+
+        @Override
+        public void setEventRegistry(EventRegistry eventRegistry) {
+            this.eventRegistry = eventRegistry;
+        }
+
+        public void triggerTestEvent(String json) {
+            eventRegistry.eventReceived(inboundChannelModel, json);
+        }
+    }
+}
@@ -42,6 +42,9 @@ public interface EventSubscriptionQuery extends Query<EventSubscriptionQuery, Ev
     /** Only select event subscriptions without a process instance id value. **/
     EventSubscriptionQuery withoutProcessInstanceId();
 
+    /** Only select event subscriptions with a process instance id value. **/
+    EventSubscriptionQuery withProcessInstanceId();
+
     /** Only select event subscriptions which have the given process definition id. **/
     EventSubscriptionQuery processDefinitionId(String processDefinitionId);
     
@@ -68,6 +71,9 @@ public interface EventSubscriptionQuery extends Query<EventSubscriptionQuery, Ev
     
     /** Only select event subscriptions without a scope id value. **/
     EventSubscriptionQuery withoutScopeId();
+
+    /** Only select event subscriptions with a scope id value. **/
+    EventSubscriptionQuery withScopeId();
     
     /** Only select event subscriptions which have a scope definition id with the given value. **/
     EventSubscriptionQuery scopeDefinitionId(String scopeDefinitionId);
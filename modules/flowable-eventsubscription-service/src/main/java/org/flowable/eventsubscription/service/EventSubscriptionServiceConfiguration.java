@@ -16,7 +16,9 @@ import java.time.Duration;
 import java.util.UUID;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCreationCounter;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
+import org.flowable.eventsubscription.service.impl.StartEventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
@@ -58,6 +60,29 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
      */
     private String lockOwner = UUID.randomUUID().toString();
 
+    // START EVENT SUBSCRIPTION INDEX
+    // //////////////////////////////////////////////
+
+    /**
+     * Whether the start event subscriptions used by the event registry consumers should be kept in memory,
+     * instead of being queried from the database for every received event.
+     * Disabled by default. Indexed entries are validated against the database for every lookup, see {@link StartEventSubscriptionIndex}.
+     */
+    protected boolean startEventSubscriptionIndexEnabled;
+
+    /**
+     * How long indexed start event subscriptions are used before they are reloaded, even when their version in the database didn't change.
+     */
+    protected Duration startEventSubscriptionIndexTimeToLive = Duration.ofSeconds(30);
+
+    protected StartEventSubscriptionIndex startEventSubscriptionIndex;
+
+    /**
+     * Counts the created event subscriptions per event type, so that the event registry consumers can detect
+     * that the event subscriptions they looked up for a batch of events are no longer complete.
+     */
+    protected EventSubscriptionCreationCounter eventSubscriptionCreationCounter = new EventSubscriptionCreationCounter();
+
     protected ObjectMapper objectMapper;
 
     public EventSubscriptionServiceConfiguration(String engineName) {
@@ -77,6 +102,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
 
         initDataManagers();
         initEntityManagers();
+        initStartEventSubscriptionIndex();
 
         configuratorsAfterInit();
     }
@@ -96,6 +122,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initStartEventSubscriptionIndex() {
+        if (startEventSubscriptionIndex == null && startEventSubscriptionIndexEnabled) {
+            startEventSubscriptionIndex = new StartEventSubscriptionIndex(this);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -158,4 +190,40 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         this.lockOwner = lockOwner;
         return this;
     }
+
+    public boolean isStartEventSubscriptionIndexEnabled() {
+        return startEventSubscriptionIndexEnabled;
+    }
+
+    public EventSubscriptionServiceConfiguration setStartEventSubscriptionIndexEnabled(boolean startEventSubscriptionIndexEnabled) {
+        this.startEventSubscriptionIndexEnabled = startEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public Duration getStartEventSubscriptionIndexTimeToLive() {
+        return startEventSubscriptionIndexTimeToLive;
+    }
+
+    public EventSubscriptionServiceConfiguration setStartEventSubscriptionIndexTimeToLive(Duration startEventSubscriptionIndexTimeToLive) {
+        this.startEventSubscriptionIndexTimeToLive = startEventSubscriptionIndexTimeToLive;
+        return this;
+    }
+
+    public StartEventSubscriptionIndex getStartEventSubscriptionIndex() {
+        return startEventSubscriptionIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setStartEventSubscriptionIndex(StartEventSubscriptionIndex startEventSubscriptionIndex) {
+        this.startEventSubscriptionIndex = startEventSubscriptionIndex;
+        return this;
+    }
+
+    public EventSubscriptionCreationCounter getEventSubscriptionCreationCounter() {
+        return eventSubscriptionCreationCounter;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionCreationCounter(EventSubscriptionCreationCounter eventSubscriptionCreationCounter) {
+        this.eventSubscriptionCreationCounter = eventSubscriptionCreationCounter;
+        return this;
+    }
 }
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the event subscriptions that are created through this engine, per event type.
+ * <p>
+ * The event registry consumers use this to detect that handling an event of a batch created event subscriptions
+ * for an event key of which the subscriptions were already looked up for the rest of the batch.
+ */
+public class EventSubscriptionCreationCounter {
+
+    protected final ConcurrentMap<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    public void eventSubscriptionCreated(String eventType) {
+        if (eventType != null) {
+            counts.computeIfAbsent(eventType, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of event subscriptions with the given event type that were created since the engine was started.
+     */
+    public long getCount(String eventType) {
+        AtomicLong count = counts.get(eventType);
+        return count != null ? count.get() : 0;
+    }
+
+}
@@ -46,12 +46,14 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     protected String executionId;
     protected String processInstanceId;
     protected boolean withoutProcessInstanceId;
+    protected boolean withProcessInstanceId;
     protected String processDefinitionId;
     protected boolean withoutProcessDefinitionId;
     protected String activityId;
     protected String subScopeId;
     protected String scopeId;
     protected boolean withoutScopeId;
+    protected boolean withScopeId;
     protected String scopeDefinitionId;
     protected boolean withoutScopeDefinitionId;
     protected String scopeDefinitionKey;
@@ -169,6 +171,17 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    @Override
+    public EventSubscriptionQueryImpl withProcessInstanceId() {
+        if (inOrStatement) {
+            this.currentOrQueryObject.withProcessInstanceId = true;
+        } else {
+            this.withProcessInstanceId = true;
+        }
+
+        return this;
+    }
+
     @Override
     public EventSubscriptionQueryImpl processDefinitionId(String processDefinitionId) {
         if (processDefinitionId == null) {
@@ -301,6 +314,17 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
 
         return this;
     }
+
+    @Override
+    public EventSubscriptionQueryImpl withScopeId() {
+        if (inOrStatement) {
+            this.currentOrQueryObject.withScopeId = true;
+        } else {
+            this.withScopeId = true;
+        }
+
+        return this;
+    }
     
     @Override
     public EventSubscriptionQueryImpl scopeDefinitionId(String scopeDefinitionId) {
@@ -565,6 +589,10 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return withoutProcessInstanceId;
     }
 
+    public boolean isWithProcessInstanceId() {
+        return withProcessInstanceId;
+    }
+
     public String getActivityId() {
         return activityId;
     }
@@ -589,6 +617,10 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return withoutScopeId;
     }
 
+    public boolean isWithScopeId() {
+        return withScopeId;
+    }
+
     public String getScopeDefinitionId() {
         return scopeDefinitionId;
     }
@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+
+/**
+ * In-memory index of the start (definition level) event subscriptions, keyed by scope type, event type and tenant.
+ * <p>
+ * Start event subscriptions only change when definitions are deployed, deleted or have dynamic start event subscriptions registered.
+ * The index is cleared whenever such a change is made through this engine (after the transaction has committed).
+ * Changes made by other engines in a cluster are detected by validating an indexed entry against the version of the start event subscriptions
+ * in the database (see {@link org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager#findEventSubscriptionVersionByQueryCriteria}),
+ * which is a single aggregate query instead of loading all the subscriptions.
+ * Entries also expire after {@link EventSubscriptionServiceConfiguration#getStartEventSubscriptionIndexTimeToLive()}.
+ */
+public class StartEventSubscriptionIndex {
+
+    protected final EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+
+    protected final ConcurrentMap<List<String>, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation, used to make sure that subscriptions loaded before an invalidation are not stored.
+     */
+    protected final AtomicLong invalidationCount = new AtomicLong();
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+
+    public StartEventSubscriptionIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+    }
+
+    /**
+     * Returns the start event subscriptions for the given scope type, event type and tenant.
+     * When they are not indexed yet, the indexed entry has expired or the version returned by the version loader
+     * differs from the version of the indexed entry, they are loaded with the given loader.
+     *
+     * @param versionLoader returns the current version of the start event subscriptions in the database
+     * @param loader returns the current start event subscriptions from the database
+     */
+    public List<EventSubscription> getStartEventSubscriptions(String scopeType, String eventType, String tenantId,
+            Supplier<String> versionLoader, Supplier<List<EventSubscription>> loader) {
+
+        List<String> key = Arrays.asList(scopeType, eventType, tenantId);
+        long now = eventSubscriptionServiceConfiguration.getClock().getCurrentTime().getTime();
+
+        String currentVersion = null;
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expirationTime > now) {
+            currentVersion = versionLoader.get();
+            if (Objects.equals(entry.version, currentVersion)) {
+                hitCount.incrementAndGet();
+                return entry.eventSubscriptions;
+            }
+        }
+
+        missCount.incrementAndGet();
+        long loadInvalidationCount = invalidationCount.get();
+
+        // The version is fetched before the subscriptions: a change in between makes the next validation fail, instead of being missed
+        if (currentVersion == null) {
+            currentVersion = versionLoader.get();
+        }
+        List<EventSubscription> eventSubscriptions = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+
+        Entry newEntry = new Entry(eventSubscriptions, currentVersion,
+                now + eventSubscriptionServiceConfiguration.getStartEventSubscriptionIndexTimeToLive().toMillis());
+        entries.put(key, newEntry);
+        if (invalidationCount.get() != loadInvalidationCount) {
+            // The index was invalidated while loading, the loaded subscriptions might already be outdated
+            entries.remove(key, newEntry);
+        }
+
+        return eventSubscriptions;
+    }
+
+    /**
+     * Removes all the indexed start event subscriptions.
+     */
+    public void invalidate() {
+        invalidationCount.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    protected static class Entry {
+
+        protected final List<EventSubscription> eventSubscriptions;
+        protected final String version;
+        protected final long expirationTime;
+
+        public Entry(List<EventSubscription> eventSubscriptions, String version, long expirationTime) {
+            this.eventSubscriptions = eventSubscriptions;
+            this.version = version;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
@@ -90,6 +90,12 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     long findEventSubscriptionCountByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
+    /**
+     * Returns a version of the event subscriptions matching the query, which changes whenever one of them is inserted, updated or deleted.
+     * The version is only meant to be compared with another version of the same query.
+     */
+    String findEventSubscriptionVersionByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
+
     /* Find (signal) */
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
@@ -39,6 +39,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     long findEventSubscriptionCountByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
+    String findEventSubscriptionVersionByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
+
     List<EventSubscription> findEventSubscriptionsByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
     List<MessageEventSubscriptionEntity> findMessageEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
@@ -149,6 +149,19 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return (Long) getDbSqlSession().selectOne(query, eventSubscriptionQueryImpl);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public String findEventSubscriptionVersionByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl) {
+        // Inserted and deleted subscriptions change the count and the last creation time, updated subscriptions change the sum of the revisions
+        Map<String, Object> version = (Map<String, Object>) getDbSqlSession().selectOne("selectEventSubscriptionVersionByQueryCriteria", eventSubscriptionQueryImpl);
+        if (version == null) {
+            return null;
+        }
+
+        Date lastCreated = (Date) version.get("lastCreated");
+        return version.get("count") + ":" + version.get("revisionSum") + ":" + (lastCreated != null ? lastCreated.getTime() : null);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<EventSubscription> findEventSubscriptionsByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl) {
@@ -13,8 +13,10 @@
 package org.flowable.management.jmx;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.el.ExpressionManagerMetrics;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.cfg.AbstractProcessEngineConfigurator;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +42,14 @@ public class JMXConfigurator extends AbstractProcessEngineConfigurator {
 
     protected Boolean createConnector = true;
 
+    /**
+     * Whether an {@link ExpressionManagerMetrics} listener is installed on the process engine configuration,
+     * so that the ExpressionManager MBean can expose expression cache and parse metrics.
+     * Disabled by default, as it adds a small overhead to every expression lookup.
+     * The listener is only installed when no other expression manager listener is configured.
+     */
+    protected boolean collectExpressionMetrics;
+
     protected ProcessEngineConfiguration processEngineConfig;
 
     protected ManagementAgent managementAgent;
@@ -108,9 +118,23 @@ public class JMXConfigurator extends AbstractProcessEngineConfigurator {
         this.connectorPort = connectorPort;
     }
 
+    public boolean isCollectExpressionMetrics() {
+        return collectExpressionMetrics;
+    }
+
+    public void setCollectExpressionMetrics(boolean collectExpressionMetrics) {
+        this.collectExpressionMetrics = collectExpressionMetrics;
+    }
+
     @Override
     public void beforeInit(AbstractEngineConfiguration engineConfiguration) {
-        // nothing to do
+        // Collect expression metrics so they can be exposed, unless another listener is configured
+        if (!disabled && collectExpressionMetrics && engineConfiguration instanceof ProcessEngineConfigurationImpl) {
+            ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) engineConfiguration;
+            if (processEngineConfiguration.getExpressionManagerListener() == null) {
+                processEngineConfiguration.setExpressionManagerListener(new ExpressionManagerMetrics());
+            }
+        }
     }
 
     @Override
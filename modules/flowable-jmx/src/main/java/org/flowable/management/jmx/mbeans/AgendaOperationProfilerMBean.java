@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.common.engine.impl.agenda.AgendaOperationStatistics;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+@ManagedResource(description = "Agenda operation profiler MBean")
+public class AgendaOperationProfilerMBean {
+
+    protected ProcessEngineConfiguration processEngineConfig;
+
+    public AgendaOperationProfilerMBean(ProcessEngineConfiguration processEngineConfig) {
+        this.processEngineConfig = processEngineConfig;
+    }
+
+    @ManagedAttribute(description = "check if the agenda operations are profiled")
+    public boolean isProfilingEnabled() {
+        return getProfiler() != null;
+    }
+
+    @ManagedAttribute(description = "one out of every this number of agenda operations is profiled")
+    public int getSampleInterval() {
+        AgendaOperationProfiler profiler = getProfiler();
+        return profiler != null ? profiler.getSampleInterval() : 0;
+    }
+
+    @ManagedOperation(description = "set that one out of every given number of agenda operations is profiled")
+    public void setSampleInterval(Integer sampleInterval) {
+        AgendaOperationProfiler profiler = getProfiler();
+        if (profiler != null) {
+            profiler.setSampleInterval(sampleInterval);
+        }
+    }
+
+    @ManagedAttribute(description = "List of the profiled operation types, with their count and total, average and max time in microseconds")
+    public List<List<String>> getOperationStatistics() {
+        AgendaOperationProfiler profiler = getProfiler();
+        return profiler != null ? toList(profiler.getOperationStatistics()) : new ArrayList<>();
+    }
+
+    @ManagedAttribute(description = "List of the profiled activity ids, with their count and total, average and max time in microseconds")
+    public List<List<String>> getActivityStatistics() {
+        AgendaOperationProfiler profiler = getProfiler();
+        return profiler != null ? toList(profiler.getActivityStatistics()) : new ArrayList<>();
+    }
+
+    @ManagedOperation(description = "reset the agenda operation statistics")
+    public void resetStatistics() {
+        AgendaOperationProfiler profiler = getProfiler();
+        if (profiler != null) {
+            profiler.reset();
+        }
+    }
+
+    protected List<List<String>> toList(Map<String, AgendaOperationStatistics> statistics) {
+        List<List<String>> result = new ArrayList<>(statistics.size());
+        for (Map.Entry<String, AgendaOperationStatistics> entry : statistics.entrySet()) {
+            AgendaOperationStatistics operationStatistics = entry.getValue();
+            List<String> item = new ArrayList<>(5);
+            item.add(entry.getKey());
+            item.add(Long.toString(operationStatistics.getCount()));
+            item.add(Long.toString(operationStatistics.getTotalTime(TimeUnit.MICROSECONDS)));
+            item.add(Long.toString(operationStatistics.getAverageTime(TimeUnit.MICROSECONDS)));
+            item.add(Long.toString(operationStatistics.getMaxTime(TimeUnit.MICROSECONDS)));
+            result.add(item);
+        }
+        result.sort((item1, item2) -> item1.get(0).compareTo(item2.get(0)));
+        return result;
+    }
+
+    protected AgendaOperationProfiler getProfiler() {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl) {
+            return ((ProcessEngineConfigurationImpl) processEngineConfig).getAgendaOperationProfiler();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.el.DefaultExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.ExpressionManagerMetrics;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.management.jmx.annotations.ManagedAttribute;
+import org.flowable.management.jmx.annotations.ManagedOperation;
+import org.flowable.management.jmx.annotations.ManagedResource;
+
+@ManagedResource(description = "Expression manager MBean")
+public class ExpressionManagerMBean {
+
+    protected ProcessEngineConfiguration processEngineConfig;
+
+    public ExpressionManagerMBean(ProcessEngineConfiguration processEngineConfig) {
+        this.processEngineConfig = processEngineConfig;
+    }
+
+    @ManagedAttribute(description = "check if expression metrics are collected")
+    public boolean isMetricsEnabled() {
+        return getMetrics() != null;
+    }
+
+    @ManagedAttribute(description = "number of expressions found in the expression cache")
+    public long getCacheHitCount() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getCacheHitCount() : 0;
+    }
+
+    @ManagedAttribute(description = "number of expressions not found in the expression cache")
+    public long getCacheMissCount() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getCacheMissCount() : 0;
+    }
+
+    @ManagedAttribute(description = "ratio of expression cache hits to lookups")
+    public double getCacheHitRatio() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getCacheHitRatio() : 0;
+    }
+
+    @ManagedAttribute(description = "number of expressions evicted from the expression cache")
+    public long getCacheEvictionCount() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getCacheEvictionCount() : 0;
+    }
+
+    @ManagedAttribute(description = "number of entries in the expression cache")
+    public int getCacheSize() {
+        ExpressionManager expressionManager = ((ProcessEngineConfigurationImpl) processEngineConfig).getExpressionManager();
+        if (expressionManager instanceof DefaultExpressionManager && ((DefaultExpressionManager) expressionManager).getExpressionCache() != null) {
+            return ((DefaultExpressionManager) expressionManager).getExpressionCache().size();
+        }
+        return 0;
+    }
+
+    @ManagedAttribute(description = "number of parsed expressions")
+    public long getParseCount() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getParseCount() : 0;
+    }
+
+    @ManagedAttribute(description = "total time spent parsing expressions, in microseconds")
+    public long getTotalParseTimeMicros() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getTotalParseTime(TimeUnit.MICROSECONDS) : 0;
+    }
+
+    @ManagedAttribute(description = "average time to parse an expression, in microseconds")
+    public long getAverageParseTimeMicros() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getAverageParseTime(TimeUnit.MICROSECONDS) : 0;
+    }
+
+    @ManagedAttribute(description = "longest time to parse an expression, in microseconds")
+    public long getMaxParseTimeMicros() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        return metrics != null ? metrics.getMaxParseTime(TimeUnit.MICROSECONDS) : 0;
+    }
+
+    @ManagedAttribute(description = "List of the expressions that took the longest to parse, with their parse time in microseconds")
+    public List<List<String>> getSlowestExpressions() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        if (metrics == null) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Long> slowestExpressions = metrics.getSlowestExpressions(TimeUnit.MICROSECONDS);
+        List<List<String>> result = new ArrayList<>(slowestExpressions.size());
+        for (Map.Entry<String, Long> entry : slowestExpressions.entrySet()) {
+            List<String> item = new ArrayList<>(2);
+            item.add(entry.getKey());
+            item.add(Long.toString(entry.getValue()));
+            result.add(item);
+        }
+        return result;
+    }
+
+    @ManagedOperation(description = "reset the expression metrics")
+    public void resetMetrics() {
+        ExpressionManagerMetrics metrics = getMetrics();
+        if (metrics != null) {
+            metrics.reset();
+        }
+    }
+
+    protected ExpressionManagerMetrics getMetrics() {
+        if (processEngineConfig instanceof ProcessEngineConfigurationImpl
+                && ((ProcessEngineConfigurationImpl) processEngineConfig).getExpressionManagerListener() instanceof ExpressionManagerMetrics) {
+            return (ExpressionManagerMetrics) ((ProcessEngineConfigurationImpl) processEngineConfig).getExpressionManagerListener();
+        }
+        return null;
+    }
+
+}
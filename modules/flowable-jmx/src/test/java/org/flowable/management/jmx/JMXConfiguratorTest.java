@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.management.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.el.ExpressionManagerListener;
+import org.flowable.common.engine.impl.el.ExpressionManagerMetrics;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.junit.Test;
+
+public class JMXConfiguratorTest {
+
+    @Test
+    public void testExpressionMetricsNotCollectedByDefault() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+
+        new JMXConfigurator().beforeInit(processEngineConfiguration);
+
+        assertThat(processEngineConfiguration.getExpressionManagerListener()).isNull();
+    }
+
+    @Test
+    public void testCollectExpressionMetrics() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+
+        JMXConfigurator jmxConfigurator = new JMXConfigurator();
+        jmxConfigurator.setCollectExpressionMetrics(true);
+        jmxConfigurator.beforeInit(processEngineConfiguration);
+
+        assertThat(processEngineConfiguration.getExpressionManagerListener()).isInstanceOf(ExpressionManagerMetrics.class);
+    }
+
+    @Test
+    public void testCollectExpressionMetricsKeepsConfiguredListener() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        ExpressionManagerListener listener = new ExpressionManagerMetrics();
+        processEngineConfiguration.setExpressionManagerListener(listener);
+
+        JMXConfigurator jmxConfigurator = new JMXConfigurator();
+        jmxConfigurator.setCollectExpressionMetrics(true);
+        jmxConfigurator.beforeInit(processEngineConfiguration);
+
+        assertThat(processEngineConfiguration.getExpressionManagerListener()).isSameAs(listener);
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.common.engine.impl.agenda.AgendaOperationProfiler;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class AgendaOperationProfilerMBeanTest {
+
+    protected AgendaOperationProfilerMBean agendaOperationProfilerMBean;
+
+    protected AgendaOperationProfiler profiler;
+
+    @Mock
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        profiler = new AgendaOperationProfiler();
+        when(processEngineConfiguration.getAgendaOperationProfiler()).thenReturn(profiler);
+        agendaOperationProfilerMBean = new AgendaOperationProfilerMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testStatistics() {
+        Runnable operation = new TestOperation();
+        profiler.beforeExecute(null, operation);
+        profiler.afterExecute(null, operation);
+        profiler.beforeExecute(null, operation);
+        profiler.afterExecute(null, operation);
+
+        assertThat(agendaOperationProfilerMBean.isProfilingEnabled()).isTrue();
+        assertThat(agendaOperationProfilerMBean.getOperationStatistics())
+                .hasSize(1)
+                .first()
+                .satisfies(item -> {
+                    assertThat(item).hasSize(5);
+                    assertThat(item.get(0)).isEqualTo("TestOperation");
+                    assertThat(item.get(1)).isEqualTo("2");
+                });
+        assertThat(agendaOperationProfilerMBean.getActivityStatistics()).isEmpty();
+
+        agendaOperationProfilerMBean.setSampleInterval(10);
+        assertThat(agendaOperationProfilerMBean.getSampleInterval()).isEqualTo(10);
+        assertThat(profiler.getSampleInterval()).isEqualTo(10);
+
+        agendaOperationProfilerMBean.resetStatistics();
+        assertThat(agendaOperationProfilerMBean.getOperationStatistics()).isEmpty();
+    }
+
+    @Test
+    public void testNoProfiler() {
+        when(processEngineConfiguration.getAgendaOperationProfiler()).thenReturn(null);
+
+        assertThat(agendaOperationProfilerMBean.isProfilingEnabled()).isFalse();
+        assertThat(agendaOperationProfilerMBean.getSampleInterval()).isZero();
+        assertThat(agendaOperationProfilerMBean.getOperationStatistics()).isEmpty();
+        assertThat(agendaOperationProfilerMBean.getActivityStatistics()).isEmpty();
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws JMException {
+        ModelMBean modelBean = assembler.assemble(agendaOperationProfilerMBean, new ObjectName("domain", "key", "value"));
+        assertThat(modelBean).isNotNull();
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertThat(beanInfo).isNotNull();
+        assertThat(beanInfo.getAttributes()).hasSize(4);
+        assertThat(beanInfo.getOperations())
+                .extracting("name")
+                .contains("resetStatistics", "setSampleInterval");
+    }
+
+    protected static class TestOperation implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.management.jmx.mbeans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import javax.management.JMException;
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+import javax.management.modelmbean.ModelMBean;
+
+import org.flowable.common.engine.impl.el.ExpressionManagerMetrics;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.management.jmx.DefaultManagementMBeanAssembler;
+import org.flowable.management.jmx.ManagementMBeanAssembler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class ExpressionManagerMBeanTest {
+
+    protected ExpressionManagerMBean expressionManagerMBean;
+
+    protected ExpressionManagerMetrics metrics;
+
+    @Mock
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    @Before
+    public void initMocks() {
+        MockitoAnnotations.initMocks(this);
+        metrics = new ExpressionManagerMetrics(2);
+        when(processEngineConfiguration.getExpressionManagerListener()).thenReturn(metrics);
+        expressionManagerMBean = new ExpressionManagerMBean(processEngineConfiguration);
+    }
+
+    @Test
+    public void testMetrics() {
+        metrics.expressionCacheMiss("${a}");
+        metrics.expressionParsed("${a}", 1000000);
+        metrics.expressionCacheMiss("${b}");
+        metrics.expressionParsed("${b}", 3000000);
+        metrics.expressionCacheMiss("${c}");
+        metrics.expressionParsed("${c}", 2000000);
+        metrics.expressionCacheHit("${a}");
+        metrics.expressionCacheEviction("${a}");
+
+        assertThat(expressionManagerMBean.isMetricsEnabled()).isTrue();
+        assertThat(expressionManagerMBean.getCacheHitCount()).isEqualTo(1);
+        assertThat(expressionManagerMBean.getCacheMissCount()).isEqualTo(3);
+        assertThat(expressionManagerMBean.getCacheHitRatio()).isEqualTo(0.25);
+        assertThat(expressionManagerMBean.getCacheEvictionCount()).isEqualTo(1);
+        assertThat(expressionManagerMBean.getParseCount()).isEqualTo(3);
+        assertThat(expressionManagerMBean.getTotalParseTimeMicros()).isEqualTo(6000);
+        assertThat(expressionManagerMBean.getAverageParseTimeMicros()).isEqualTo(2000);
+        assertThat(expressionManagerMBean.getMaxParseTimeMicros()).isEqualTo(3000);
+        assertThat(expressionManagerMBean.getSlowestExpressions())
+                .containsExactly(Arrays.asList("${b}", "3000"), Arrays.asList("${c}", "2000"));
+
+        expressionManagerMBean.resetMetrics();
+        assertThat(expressionManagerMBean.getParseCount()).isZero();
+        assertThat(expressionManagerMBean.getSlowestExpressions()).isEmpty();
+    }
+
+    @Test
+    public void testNoMetrics() {
+        when(processEngineConfiguration.getExpressionManagerListener()).thenReturn(null);
+
+        assertThat(expressionManagerMBean.isMetricsEnabled()).isFalse();
+        assertThat(expressionManagerMBean.getCacheHitCount()).isZero();
+        assertThat(expressionManagerMBean.getSlowestExpressions()).isEmpty();
+    }
+
+    ManagementMBeanAssembler assembler = new DefaultManagementMBeanAssembler();
+
+    @Test
+    public void testAnnotations() throws JMException {
+        ModelMBean modelBean = assembler.assemble(expressionManagerMBean, new ObjectName("domain", "key", "value"));
+        assertThat(modelBean).isNotNull();
+        MBeanInfo beanInfo = modelBean.getMBeanInfo();
+        assertThat(beanInfo).isNotNull();
+        assertThat(beanInfo.getAttributes()).hasSize(11);
+        assertThat(beanInfo.getOperations())
+                .extracting("name")
+                .contains("resetMetrics");
+    }
+
+}
@@ -129,6 +129,10 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             resetExpiredJobsRunnable = createResetExpiredJobsRunnable(resetRunnableName);
         }
 
+        if (configuration.isBulkResetExpiredJobsEnabled() && resetExpiredJobsRunnable.getBulkResetPageSize() <= 0) {
+            resetExpiredJobsRunnable.setBulkResetPageSize(configuration.getBulkResetExpiredJobsPageSize());
+        }
+
         if (asyncJobsDueRunnable == null) {
             String acquireRunnableThreadName = configuration.getAcquireRunnableThreadName();
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
@@ -137,6 +141,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
                 asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
 
         }
+
+        if (configuration.isAdaptiveAsyncJobAcquisitionEnabled() && asyncJobsDueRunnable.getAdaptiveAcquisition() == null) {
+            asyncJobsDueRunnable.setAdaptiveAcquisition(new AdaptiveAsyncJobAcquisition(configuration));
+        }
+
+        if (configuration.isTimerJobWheelEnabled() && timerJobRunnable != null && timerJobRunnable.getTimerJobWheel() == null) {
+            timerJobRunnable.enableTimerJobWheel(configuration.getTimerJobWheelTickDuration(), configuration.getTimerJobWheelLookAheadTime());
+        }
     }
 
     protected abstract ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName);
@@ -84,6 +84,9 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
 
+    // Only set when the adaptive async job acquisition is enabled
+    protected AdaptiveAsyncJobAcquisition adaptiveAcquisition;
+
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
@@ -149,7 +152,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long executeAcquireCycle(CommandExecutor commandExecutor) {
         int remainingCapacity = asyncExecutor.getTaskExecutor().getRemainingCapacity();
-        lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, getMaxAsyncJobsDuePerAcquisition());
 
         final long millisToWait;
         if (remainingCapacity > 0) {
@@ -173,35 +176,45 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         boolean globalAcquireLockEnabled = configuration.isGlobalAcquireLockEnabled();
+        int jobsToAcquire = adaptiveAcquisition != null ? adaptiveAcquisition.getJobsToAcquire(remainingCapacity) : remainingCapacity;
         try {
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, jobsToAcquire, jobEntityManager));
 
             } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, jobsToAcquire, jobEntityManager));
 
             }
 
-            lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            lifecycleListener.acquiredJobs(getEngineName(), acquiredJobs.size(), getMaxAsyncJobsDuePerAcquisition());
 
             List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
 
             LOGGER.debug("Jobs acquired: {}, rejected: {}, for engine {}", acquiredJobs.size(), rejectedJobs.size(), getEngineName());
             if (rejectedJobs.size() > 0) {
 
-                lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+                lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), getMaxAsyncJobsDuePerAcquisition());
+
+                if (adaptiveAcquisition != null) {
+                    return adaptiveAcquisition.jobsRejected();
+                }
 
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
+
+            if (adaptiveAcquisition != null) {
+                return adaptiveAcquisition.jobsAcquired(Math.min(jobsToAcquire, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()), acquiredJobs.size());
+            }
+
             if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
                 return 0L; // the maximum amount of jobs were acquired, so we can expect more.
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
 
-            lifecycleListener.optimistLockingException(getEngineName(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+            lifecycleListener.optimistLockingException(getEngineName(), getMaxAsyncJobsDuePerAcquisition());
 
             if (globalAcquireLockEnabled) {
                 LOGGER.warn("Optimistic locking exception (using global acquire lock) for engine {}", getEngineName(), optimisticLockingException);
@@ -216,8 +229,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                         getEngineName(), optimisticLockingException.getMessage());
 
             }
+
+            if (adaptiveAcquisition != null) {
+                return adaptiveAcquisition.optimisticLockingException();
+            }
+
         } catch (Throwable e) {
             LOGGER.warn("exception for engine {} during async job acquisition: {}", getEngineName(), e.getMessage(), e);
+
+            if (adaptiveAcquisition != null) {
+                return adaptiveAcquisition.acquisitionFailed();
+            }
         }
 
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
@@ -271,6 +293,10 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    protected int getMaxAsyncJobsDuePerAcquisition() {
+        return adaptiveAcquisition != null ? adaptiveAcquisition.getJobsPerAcquisition() : asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+    }
+
     protected String getEngineName() {
         return asyncExecutor.getJobServiceConfiguration().getEngineName();
     }
@@ -287,4 +313,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    public AdaptiveAsyncJobAcquisition getAdaptiveAcquisition() {
+        return adaptiveAcquisition;
+    }
+
+    public void setAdaptiveAcquisition(AdaptiveAsyncJobAcquisition adaptiveAcquisition) {
+        this.adaptiveAcquisition = adaptiveAcquisition;
+    }
+
 }
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -27,10 +30,12 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
+import org.flowable.job.api.JobNotFoundException;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithGlobalAcquireLockCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.MoveTimerToExecutableJobCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -87,6 +92,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected CommandExecutor commandExecutor;
 
+    protected TimerJobWheel timerJobWheel;
+    protected long timerJobWheelLookAheadTimeInMillis;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int moveExecutorPoolSize) {
         this(asyncExecutor, jobManager, null, AcquireJobsRunnableConfiguration.DEFAULT, moveExecutorPoolSize);
     }
@@ -114,6 +122,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         this.commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        if (timerJobWheel != null) {
+            timerJobWheel.start(threadName + "-wheel");
+        }
+
         long millisToWait = 0L;
         while (!isInterrupted) {
             millisToWait = executeAcquireAndMoveCycle();
@@ -124,6 +136,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         }
 
+        if (timerJobWheel != null) {
+            // The timer jobs that are still on the wheel have been locked by this node, unlock them so other nodes can pick them up
+            unlockTimerJobs(timerJobWheel.stop());
+        }
+
         if (moveTimerJobsExecutorService != null) {
             moveTimerJobsExecutorService.shutdown();
         }
@@ -174,11 +191,19 @@ public class AcquireTimerJobsRunnable implements Runnable {
                     }
                 }
 
+            } else if (timerJobWheel != null) {
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, timerJobWheelLookAheadTimeInMillis));
+
             } else {
                 timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
             }
 
+            int nrOfJobsAcquired = timerJobs.size();
+            if (timerJobWheel != null && !globalAcquireLockEnabled) {
+                timerJobs = scheduleNotYetDueTimerJobs(timerJobs);
+            }
+
             if (!timerJobs.isEmpty()) {
                 List<TimerJobEntity> finalTimerJobs = timerJobs;
                 moveTimerJobsExecutorService.execute(() -> {
@@ -188,7 +213,6 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
             // if all jobs were executed
             millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
-            int nrOfJobsAcquired = timerJobs.size();
             lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
 
             if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
@@ -239,6 +263,53 @@ public class AcquireTimerJobsRunnable implements Runnable {
         }
     }
 
+    /**
+     * Schedules the acquired timer jobs that are not yet due on the timer job wheel and returns the timer jobs that are due now.
+     */
+    protected List<TimerJobEntity> scheduleNotYetDueTimerJobs(List<TimerJobEntity> timerJobs) {
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            Date dueDate = timerJob.getDuedate();
+            if (dueDate != null && dueDate.getTime() > now) {
+                timerJobWheel.schedule(timerJob, dueDate.getTime() - now);
+            } else {
+                dueTimerJobs.add(timerJob);
+            }
+        }
+        return dueTimerJobs;
+    }
+
+    /**
+     * Invoked by the timer job wheel with the timer jobs that became due.
+     */
+    protected void moveDueTimerJobs(List<TimerJobEntity> timerJobs) {
+        moveTimerJobsExecutorService.execute(() -> {
+            for (TimerJobEntity timerJob : timerJobs) {
+                executeMoveTimerJobToExecutableJob(timerJob);
+            }
+        });
+    }
+
+    protected void executeMoveTimerJobToExecutableJob(TimerJobEntity timerJob) {
+        try {
+            commandExecutor.execute(new MoveTimerToExecutableJobCmd(timerJob.getId(), asyncExecutor.getJobServiceConfiguration()));
+
+        } catch (JobNotFoundException jobNotFoundException) {
+            // The timer job has been deleted since it was acquired (e.g. the process instance was deleted), nothing to do
+            LOGGER.debug("Timer job {} on the timer job wheel for engine {} no longer exists", timerJob.getId(), getEngineName());
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+            unlockTimerJobs(Collections.singletonList(timerJob));
+
+        } catch (Throwable t) {
+            LOGGER.warn("exception during timer job move for engine {}. Exception message: {}", getEngineName(), t.getMessage(), t);
+            unlockTimerJobs(Collections.singletonList(timerJob));
+
+        }
+    }
+
     protected void logOptimisticLockingException(FlowableOptimisticLockingException optimisticLockingException) {
         if (configuration.isGlobalAcquireLockEnabled()) {
             LOGGER.warn("Optimistic locking exception (using global acquire lock) for engine {}", getEngineName(), optimisticLockingException);
@@ -311,4 +382,19 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    /**
+     * Enables acquiring the timer jobs that become due within the given look ahead time and moving them to executable jobs
+     * in memory, using a {@link TimerJobWheel} with the given tick duration. Needs to be called before the runnable is started.
+     */
+    public void enableTimerJobWheel(Duration tickDuration, Duration lookAheadTime) {
+        long tickDurationInMillis = Math.max(tickDuration.toMillis(), 1L);
+        int ticksPerWheel = (int) Math.min(Math.max(lookAheadTime.toMillis() / tickDurationInMillis, 1L), 1 << 16);
+        this.timerJobWheel = new TimerJobWheel(tickDurationInMillis, ticksPerWheel, this::moveDueTimerJobs);
+        this.timerJobWheelLookAheadTimeInMillis = lookAheadTime.toMillis();
+    }
+
+    public TimerJobWheel getTimerJobWheel() {
+        return timerJobWheel;
+    }
+
 }
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Keeps track of the number of async jobs that should be acquired in one acquisition and the time to wait between acquisitions,
+ * adapting both to the outcome of the previous acquisitions:
+ *
+ * <ul>
+ * <li>When a full batch was acquired, more jobs are probably waiting: the batch size is doubled (up to the maximum) and the next acquisition starts immediately.</li>
+ * <li>When fewer jobs were acquired, the next acquisition happens after the minimum wait time.
+ * When less than a quarter of the batch was acquired, the batch size is halved (down to the minimum).</li>
+ * <li>When no jobs were acquired, the wait time is doubled (up to the maximum), so idle nodes query the database less often.</li>
+ * <li>When jobs were rejected by the executor, or an optimistic locking exception happened because another node acquired the same jobs,
+ * the batch size is halved.</li>
+ * </ul>
+ *
+ * The number of jobs acquired is never higher than the remaining capacity of the executor queue.
+ * Instances are used by a single acquisition thread, the current values can be read from other threads for monitoring.
+ */
+public class AdaptiveAsyncJobAcquisition {
+
+    protected final int minJobsPerAcquisition;
+    protected final int maxJobsPerAcquisition;
+    protected final long minWaitTimeInMillis;
+    protected final long maxWaitTimeInMillis;
+    protected final long queueFullWaitTimeInMillis;
+
+    protected volatile int jobsPerAcquisition;
+    protected volatile long waitTimeInMillis;
+
+    public AdaptiveAsyncJobAcquisition(AsyncJobExecutorConfiguration configuration) {
+        this(configuration.getMinAsyncJobsDuePerAcquisition(), configuration.getMaxAsyncJobsDuePerAcquisition(),
+                configuration.getMinAsyncJobAcquireWaitTime().toMillis(), configuration.getMaxAsyncJobAcquireWaitTime().toMillis(),
+                configuration.getDefaultQueueSizeFullWaitTime().toMillis());
+    }
+
+    public AdaptiveAsyncJobAcquisition(int minJobsPerAcquisition, int maxJobsPerAcquisition, long minWaitTimeInMillis, long maxWaitTimeInMillis,
+            long queueFullWaitTimeInMillis) {
+        this.maxJobsPerAcquisition = Math.max(1, maxJobsPerAcquisition);
+        this.minJobsPerAcquisition = Math.max(1, Math.min(minJobsPerAcquisition, this.maxJobsPerAcquisition));
+        this.minWaitTimeInMillis = Math.max(1L, minWaitTimeInMillis);
+        this.maxWaitTimeInMillis = Math.max(this.minWaitTimeInMillis, maxWaitTimeInMillis);
+        this.queueFullWaitTimeInMillis = queueFullWaitTimeInMillis;
+
+        this.jobsPerAcquisition = this.maxJobsPerAcquisition;
+        this.waitTimeInMillis = this.minWaitTimeInMillis;
+    }
+
+    /**
+     * @return the number of jobs to acquire in the next acquisition
+     */
+    public int getJobsToAcquire(int remainingCapacity) {
+        return Math.min(jobsPerAcquisition, remainingCapacity);
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long jobsAcquired(int jobsRequested, int jobsAcquired) {
+        if (jobsAcquired >= jobsRequested) {
+            if (jobsRequested >= jobsPerAcquisition) {
+                // When less was requested the queue was the limiting factor, so growing the batch would not help
+                jobsPerAcquisition = (int) Math.min(maxJobsPerAcquisition, 2L * jobsPerAcquisition);
+            }
+            waitTimeInMillis = minWaitTimeInMillis;
+            return 0L;
+
+        } else if (jobsAcquired == 0) {
+            long waitTime = waitTimeInMillis;
+            waitTimeInMillis = Math.min(maxWaitTimeInMillis, 2 * waitTime);
+            return waitTime;
+
+        } else {
+            if (jobsAcquired < jobsRequested / 4) {
+                shrinkJobsPerAcquisition();
+            }
+            waitTimeInMillis = minWaitTimeInMillis;
+            return minWaitTimeInMillis;
+        }
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long jobsRejected() {
+        shrinkJobsPerAcquisition();
+        return queueFullWaitTimeInMillis;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long optimisticLockingException() {
+        shrinkJobsPerAcquisition();
+        return waitTimeInMillis;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long acquisitionFailed() {
+        return maxWaitTimeInMillis;
+    }
+
+    protected void shrinkJobsPerAcquisition() {
+        jobsPerAcquisition = Math.max(minJobsPerAcquisition, jobsPerAcquisition / 2);
+    }
+
+    public int getJobsPerAcquisition() {
+        return jobsPerAcquisition;
+    }
+
+    public long getWaitTimeInMillis() {
+        return waitTimeInMillis;
+    }
+
+    public int getMinJobsPerAcquisition() {
+        return minJobsPerAcquisition;
+    }
+
+    public int getMaxJobsPerAcquisition() {
+        return maxJobsPerAcquisition;
+    }
+
+    public long getMinWaitTimeInMillis() {
+        return minWaitTimeInMillis;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+        return maxWaitTimeInMillis;
+    }
+
+}
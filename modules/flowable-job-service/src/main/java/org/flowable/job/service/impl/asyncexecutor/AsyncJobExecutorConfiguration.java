@@ -80,6 +80,46 @@ public class AsyncJobExecutorConfiguration {
      */
     private Duration defaultQueueSizeFullWaitTime = Duration.ofSeconds(5);
 
+    /**
+     * Whether the async job acquisition thread should adapt the number of jobs acquired in one acquisition and the time
+     * it waits between acquisitions, based on the number of jobs it acquired, the optimistic locking exceptions and the queue size.
+     * When disabled, {@link #maxAsyncJobsDuePerAcquisition} and {@link #defaultAsyncJobAcquireWaitTime} are always used.
+     *
+     * @see AdaptiveAsyncJobAcquisition
+     */
+    private boolean adaptiveAsyncJobAcquisitionEnabled;
+    /**
+     * The minimum number of async jobs acquired in one acquisition when the adaptive async job acquisition is enabled.
+     * The maximum is {@link #maxAsyncJobsDuePerAcquisition}.
+     */
+    private int minAsyncJobsDuePerAcquisition = 16;
+    /**
+     * The minimum time the async job acquisition thread waits before executing the next acquire logic
+     * when the adaptive async job acquisition is enabled.
+     */
+    private Duration minAsyncJobAcquireWaitTime = Duration.ofMillis(100);
+    /**
+     * The maximum time the async job acquisition thread waits before executing the next acquire logic
+     * when the adaptive async job acquisition is enabled and no jobs are found.
+     */
+    private Duration maxAsyncJobAcquireWaitTime = Duration.ofSeconds(30);
+
+    /**
+     * Whether the timer acquisition thread should also acquire (and lock) the timer jobs that become due within
+     * the {@link #timerJobWheelLookAheadTime} and move them to executable jobs in memory when they are due, using a {@link TimerJobWheel}.
+     * This only applies when the global acquire lock is not used for timer jobs.
+     */
+    private boolean timerJobWheelEnabled;
+    /**
+     * The time in the future for which timer jobs are acquired and scheduled on the timer job wheel.
+     * Should be larger than the {@link #defaultTimerJobAcquireWaitTime} and smaller than the {@link #timerLockTime}.
+     */
+    private Duration timerJobWheelLookAheadTime = Duration.ofSeconds(30);
+    /**
+     * The precision of the timer job wheel.
+     */
+    private Duration timerJobWheelTickDuration = Duration.ofMillis(100);
+
     /**
      * The value that should be used when locking async / timer jobs.
      * <p>
@@ -154,6 +194,15 @@ public class AsyncJobExecutorConfiguration {
      * The amount of expired jobs that should be rest in one cycle.
      */
     private int resetExpiredJobsPageSize = 3;
+    /**
+     * Whether expired jobs should be reset with one update statement per page of expired jobs, instead of one update per job.
+     * This makes reclaiming a large amount of expired jobs (e.g. after a node crashed) a lot faster.
+     */
+    private boolean bulkResetExpiredJobsEnabled;
+    /**
+     * The amount of expired jobs that are reset with one update statement when {@link #bulkResetExpiredJobsEnabled} is set.
+     */
+    private int bulkResetExpiredJobsPageSize = 500;
 
     /**
      * The id of the tenant that the async executor should use when unlocking jobs.
@@ -282,6 +331,62 @@ public class AsyncJobExecutorConfiguration {
         this.defaultQueueSizeFullWaitTime = Duration.ofMillis(defaultQueueSizeFullWaitTimeInMillis);
     }
 
+    public boolean isAdaptiveAsyncJobAcquisitionEnabled() {
+        return adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionEnabled(boolean adaptiveAsyncJobAcquisitionEnabled) {
+        this.adaptiveAsyncJobAcquisitionEnabled = adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public int getMinAsyncJobsDuePerAcquisition() {
+        return minAsyncJobsDuePerAcquisition;
+    }
+
+    public void setMinAsyncJobsDuePerAcquisition(int minAsyncJobsDuePerAcquisition) {
+        this.minAsyncJobsDuePerAcquisition = minAsyncJobsDuePerAcquisition;
+    }
+
+    public Duration getMinAsyncJobAcquireWaitTime() {
+        return minAsyncJobAcquireWaitTime;
+    }
+
+    public void setMinAsyncJobAcquireWaitTime(Duration minAsyncJobAcquireWaitTime) {
+        this.minAsyncJobAcquireWaitTime = minAsyncJobAcquireWaitTime;
+    }
+
+    public Duration getMaxAsyncJobAcquireWaitTime() {
+        return maxAsyncJobAcquireWaitTime;
+    }
+
+    public void setMaxAsyncJobAcquireWaitTime(Duration maxAsyncJobAcquireWaitTime) {
+        this.maxAsyncJobAcquireWaitTime = maxAsyncJobAcquireWaitTime;
+    }
+
+    public boolean isTimerJobWheelEnabled() {
+        return timerJobWheelEnabled;
+    }
+
+    public void setTimerJobWheelEnabled(boolean timerJobWheelEnabled) {
+        this.timerJobWheelEnabled = timerJobWheelEnabled;
+    }
+
+    public Duration getTimerJobWheelLookAheadTime() {
+        return timerJobWheelLookAheadTime;
+    }
+
+    public void setTimerJobWheelLookAheadTime(Duration timerJobWheelLookAheadTime) {
+        this.timerJobWheelLookAheadTime = timerJobWheelLookAheadTime;
+    }
+
+    public Duration getTimerJobWheelTickDuration() {
+        return timerJobWheelTickDuration;
+    }
+
+    public void setTimerJobWheelTickDuration(Duration timerJobWheelTickDuration) {
+        this.timerJobWheelTickDuration = timerJobWheelTickDuration;
+    }
+
     public String getLockOwner() {
         return lockOwner;
     }
@@ -398,6 +503,22 @@ public class AsyncJobExecutorConfiguration {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    public boolean isBulkResetExpiredJobsEnabled() {
+        return bulkResetExpiredJobsEnabled;
+    }
+
+    public void setBulkResetExpiredJobsEnabled(boolean bulkResetExpiredJobsEnabled) {
+        this.bulkResetExpiredJobsEnabled = bulkResetExpiredJobsEnabled;
+    }
+
+    public int getBulkResetExpiredJobsPageSize() {
+        return bulkResetExpiredJobsPageSize;
+    }
+
+    public void setBulkResetExpiredJobsPageSize(int bulkResetExpiredJobsPageSize) {
+        this.bulkResetExpiredJobsPageSize = bulkResetExpiredJobsPageSize;
+    }
+
     public String getTenantId() {
         return tenantId;
     }
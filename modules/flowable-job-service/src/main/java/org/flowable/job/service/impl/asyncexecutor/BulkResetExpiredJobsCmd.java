@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Collection;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Resets the given expired jobs with set-based updates, instead of resetting them one by one like the {@link ResetExpiredJobsCmd}.
+ * Returns the number of jobs that were reset.
+ */
+public class BulkResetExpiredJobsCmd implements Command<Integer> {
+
+    protected Collection<String> jobIds;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+
+    public BulkResetExpiredJobsCmd(Collection<String> jobIds, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        this.jobIds = jobIds;
+        this.jobEntityManager = jobEntityManager;
+    }
+
+    @Override
+    public Integer execute(CommandContext commandContext) {
+        return jobEntityManager.bulkResetExpiredJobs(jobIds);
+    }
+
+}
@@ -16,6 +16,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -48,6 +49,15 @@ public class ResetExpiredJobsRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    /**
+     * When greater than 0, the expired jobs are reset in pages of this size with one update statement per page,
+     * using {@link BulkResetExpiredJobsCmd}, instead of resetting them one by one.
+     */
+    protected int bulkResetPageSize;
+
+    protected final AtomicLong totalResetJobCount = new AtomicLong();
+    protected volatile int lastResetJobCount;
+
     public ResetExpiredJobsRunnable(String name, AsyncExecutor asyncExecutor,
             JobInfoEntityManager<? extends JobInfoEntity>... jobEntityManagers) {
         this.name = name;
@@ -94,25 +104,42 @@ public class ResetExpiredJobsRunnable implements Runnable {
      * Resets jobs that were expired. Will continue to reset jobs until no more jobs are returned.
      */
     public void resetJobs() {
+        int resetJobCount = 0;
         for (JobInfoEntityManager<? extends JobInfoEntity> jobInfoEntityManager : jobInfoEntityManagers) {
-            resetJobs(jobInfoEntityManager);
+            resetJobCount += resetJobs(jobInfoEntityManager);
         }
+
+        lastResetJobCount = resetJobCount;
+        totalResetJobCount.addAndGet(resetJobCount);
     }
 
-    protected void resetJobs(JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+    /**
+     * @return the number of jobs that were reset
+     */
+    protected int resetJobs(JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
 
+        int resetJobCount = 0;
         boolean hasExpiredJobs = true;
         while (hasExpiredJobs && !isInterrupted) {
 
             try {
                 JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+                int pageSize = bulkResetPageSize > 0 ? bulkResetPageSize : asyncExecutor.getResetExpiredJobsPageSize();
                 List<? extends JobInfoEntity> expiredJobs = jobServiceConfiguration.getCommandExecutor()
-                        .execute(new FindExpiredJobsCmd(asyncExecutor.getResetExpiredJobsPageSize(), jobEntityManager, jobServiceConfiguration));
+                        .execute(new FindExpiredJobsCmd(pageSize, jobEntityManager, jobServiceConfiguration));
 
                 List<String> expiredJobIds = expiredJobs.stream().map(JobInfoEntity::getId).collect(Collectors.toList());
                 if (!expiredJobIds.isEmpty()) {
-                    asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
-                            new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager, jobServiceConfiguration));
+                    if (bulkResetPageSize > 0) {
+                        resetJobCount += asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
+                                new BulkResetExpiredJobsCmd(expiredJobIds, jobEntityManager));
+
+                    } else {
+                        asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
+                                new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager, jobServiceConfiguration));
+                        resetJobCount += expiredJobIds.size();
+
+                    }
 
                 } else {
                     hasExpiredJobs = false;
@@ -137,6 +164,11 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
         }
 
+        if (resetJobCount > 0) {
+            LOGGER.info("reset {} expired jobs using {} for engine {}", resetJobCount, jobEntityManager.getClass().getSimpleName(), getEngineName());
+        }
+
+        return resetJobCount;
     }
 
     public void stop() {
@@ -152,6 +184,28 @@ public class ResetExpiredJobsRunnable implements Runnable {
         return asyncExecutor.getJobServiceConfiguration().getEngineName();
     }
 
+    public int getBulkResetPageSize() {
+        return bulkResetPageSize;
+    }
+
+    public void setBulkResetPageSize(int bulkResetPageSize) {
+        this.bulkResetPageSize = bulkResetPageSize;
+    }
+
+    /**
+     * @return the number of jobs that were reset in the last reset cycle
+     */
+    public int getLastResetJobCount() {
+        return lastResetJobCount;
+    }
+
+    /**
+     * @return the number of jobs that were reset since this runnable was created
+     */
+    public long getTotalResetJobCount() {
+        return totalResetJobCount.get();
+    }
+
     public boolean isInterrupted() {
         return isInterrupted;
     }
@@ -0,0 +1,225 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel holding timer jobs that have been locked by the timer acquisition thread
+ * before they are due. Every tick, the timer jobs that became due are handed to the expired timer jobs handler,
+ * which moves them to executable jobs.
+ * <p>
+ * The wheel is purely in memory: when the node dies, the timer jobs stay locked until their lock expires
+ * and are then reset by the {@link ResetExpiredJobsRunnable}, after which another node acquires them through regular polling.
+ *
+ * @see AcquireTimerJobsRunnable
+ */
+public class TimerJobWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobWheel.class);
+
+    protected final long tickDurationInNanos;
+    protected final int mask;
+    protected final List<TimerJobWheelEntry>[] buckets;
+    protected final Consumer<List<TimerJobEntity>> expiredTimerJobsHandler;
+
+    protected final Queue<TimerJobWheelEntry> newEntries = new ConcurrentLinkedQueue<>();
+    protected final AtomicInteger pendingTimerJobCount = new AtomicInteger();
+
+    protected volatile boolean running;
+    protected Thread workerThread;
+    protected long startTime;
+    protected long tick;
+
+    @SuppressWarnings("unchecked")
+    public TimerJobWheel(long tickDurationInMillis, int ticksPerWheel, Consumer<List<TimerJobEntity>> expiredTimerJobsHandler) {
+        if (tickDurationInMillis <= 0) {
+            throw new FlowableIllegalArgumentException("tickDurationInMillis must be greater than 0");
+        }
+        if (ticksPerWheel <= 0) {
+            throw new FlowableIllegalArgumentException("ticksPerWheel must be greater than 0");
+        }
+
+        int wheelSize = Integer.highestOneBit(ticksPerWheel);
+        if (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+
+        this.tickDurationInNanos = TimeUnit.MILLISECONDS.toNanos(tickDurationInMillis);
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.expiredTimerJobsHandler = expiredTimerJobsHandler;
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        startTime = System.nanoTime();
+        tick = 0;
+        workerThread = new Thread(this::runWorker, threadName);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * Stops the wheel and returns the timer jobs that were scheduled, but not yet handed to the expired timer jobs handler.
+     * Those timer jobs are still locked and should be unlocked by the caller.
+     */
+    public synchronized List<TimerJobEntity> stop() {
+        if (workerThread != null) {
+            running = false;
+            workerThread.interrupt();
+            try {
+                workerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workerThread = null;
+        }
+
+        List<TimerJobEntity> unprocessedTimerJobs = new ArrayList<>();
+        for (List<TimerJobWheelEntry> bucket : buckets) {
+            for (TimerJobWheelEntry entry : bucket) {
+                unprocessedTimerJobs.add(entry.timerJob);
+            }
+            bucket.clear();
+        }
+
+        TimerJobWheelEntry entry;
+        while ((entry = newEntries.poll()) != null) {
+            unprocessedTimerJobs.add(entry.timerJob);
+        }
+
+        pendingTimerJobCount.set(0);
+        return unprocessedTimerJobs;
+    }
+
+    /**
+     * Schedules the given (locked) timer job to be handed to the expired timer jobs handler after the given delay.
+     */
+    public void schedule(TimerJobEntity timerJob, long delayInMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(delayInMillis, 0L));
+        pendingTimerJobCount.incrementAndGet();
+        newEntries.add(new TimerJobWheelEntry(timerJob, deadline));
+    }
+
+    public int getPendingTimerJobCount() {
+        return pendingTimerJobCount.get();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    protected void runWorker() {
+        while (running) {
+            if (!waitForNextTick()) {
+                break;
+            }
+
+            transferNewEntries();
+            List<TimerJobEntity> expiredTimerJobs = expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+
+            if (!expiredTimerJobs.isEmpty()) {
+                pendingTimerJobCount.addAndGet(-expiredTimerJobs.size());
+                try {
+                    expiredTimerJobsHandler.accept(expiredTimerJobs);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception while handling {} due timer jobs from the timer job wheel", expiredTimerJobs.size(), t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the end of the current tick. Returns false when the wheel was stopped while waiting.
+     */
+    protected boolean waitForNextTick() {
+        long deadline = startTime + (tick + 1) * tickDurationInNanos;
+        while (running) {
+            long sleepTimeInNanos = deadline - System.nanoTime();
+            if (sleepTimeInNanos <= 0) {
+                return true;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepTimeInNanos);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    protected void transferNewEntries() {
+        TimerJobWheelEntry entry;
+        while ((entry = newEntries.poll()) != null) {
+            long calculatedTick = (entry.deadline - startTime) / tickDurationInNanos;
+            entry.remainingRounds = (calculatedTick - tick) / buckets.length;
+
+            // Entries that are already due go in the current bucket, so that they are expired in this tick
+            long bucketTick = Math.max(calculatedTick, tick);
+            buckets[(int) (bucketTick & mask)].add(entry);
+        }
+    }
+
+    protected List<TimerJobEntity> expireBucket(List<TimerJobWheelEntry> bucket) {
+        if (bucket.isEmpty()) {
+            return List.of();
+        }
+
+        List<TimerJobEntity> expiredTimerJobs = new ArrayList<>();
+        Iterator<TimerJobWheelEntry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            TimerJobWheelEntry entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                iterator.remove();
+                expiredTimerJobs.add(entry.timerJob);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+        return expiredTimerJobs;
+    }
+
+    protected static class TimerJobWheelEntry {
+
+        protected final TimerJobEntity timerJob;
+        protected final long deadline;
+        protected long remainingRounds;
+
+        protected TimerJobWheelEntry(TimerJobEntity timerJob, long deadline) {
+            this.timerJob = timerJob;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutorService;
 import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveAsyncJobAcquisition;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
@@ -81,15 +82,24 @@ public class SharedExecutorServiceAsyncExecutor extends DefaultAsyncJobExecutor
 
         TenantAwareAcquireTimerJobsRunnable timerRunnable = new TenantAwareAcquireTimerJobsRunnable(this, tenantInfoHolder, tenantId,
             timerLifecycleListener, new AcquireTimerRunnableConfiguration(), configuration.getMoveTimerExecutorPoolSize());
+        if (configuration.isTimerJobWheelEnabled()) {
+            timerRunnable.enableTimerJobWheel(configuration.getTimerJobWheelTickDuration(), configuration.getTimerJobWheelLookAheadTime());
+        }
         timerJobAcquisitionRunnables.put(tenantId, timerRunnable);
         timerJobAcquisitionThreads.put(tenantId, new Thread(timerRunnable));
 
         TenantAwareAcquireAsyncJobsDueRunnable asyncJobsRunnable = new TenantAwareAcquireAsyncJobsDueRunnable(this, tenantInfoHolder, tenantId,
             asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+        if (configuration.isAdaptiveAsyncJobAcquisitionEnabled()) {
+            asyncJobsRunnable.setAdaptiveAcquisition(new AdaptiveAsyncJobAcquisition(configuration));
+        }
         asyncJobAcquisitionRunnables.put(tenantId, asyncJobsRunnable);
         asyncJobAcquisitionThreads.put(tenantId, new Thread(asyncJobsRunnable));
 
         TenantAwareResetExpiredJobsRunnable resetExpiredJobsRunnable = new TenantAwareResetExpiredJobsRunnable(this, tenantInfoHolder, tenantId);
+        if (configuration.isBulkResetExpiredJobsEnabled()) {
+            resetExpiredJobsRunnable.setBulkResetPageSize(configuration.getBulkResetExpiredJobsPageSize());
+        }
         resetExpiredJobsRunnables.put(tenantId, resetExpiredJobsRunnable);
         resetExpiredJobsThreads.put(tenantId, new Thread(resetExpiredJobsRunnable));
 
@@ -64,4 +64,14 @@ public class TenantAwareAcquireTimerJobsRunnable extends AcquireTimerJobsRunnabl
             tenantInfoHolder.clearCurrentTenantId();
         }
     }
+
+    @Override
+    protected void executeMoveTimerJobToExecutableJob(TimerJobEntity timerJob) {
+        try {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+            super.executeMoveTimerJobToExecutableJob(timerJob);
+        } finally {
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
 }
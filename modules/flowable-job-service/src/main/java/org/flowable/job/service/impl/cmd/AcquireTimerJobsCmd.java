@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -22,6 +24,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 
 /**
  * @author Tijs Rademakers
@@ -30,17 +33,40 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
 
     protected AsyncExecutor asyncExecutor;
+    protected long lookAheadTimeInMillis;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, 0L);
+    }
+
+    /**
+     * @param lookAheadTimeInMillis when greater than 0, timer jobs that become due within the given time are acquired (and locked) as well
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, long lookAheadTimeInMillis) {
         this.asyncExecutor = asyncExecutor;
+        this.lookAheadTimeInMillis = lookAheadTimeInMillis;
     }
 
     @Override
     public List<TimerJobEntity> execute(CommandContext commandContext) {
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-            .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        TimerJobEntityManager timerJobEntityManager = jobServiceConfiguration.getTimerJobEntityManager();
+        int maxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        List<TimerJobEntity> timerJobs;
+        if (lookAheadTimeInMillis > 0) {
+            // The timer jobs that are already due are acquired first, the page is only topped up with the timer jobs that become due soon.
+            // Otherwise the page could be filled with future timer jobs, leaving due timer jobs for a later acquisition.
+            Date now = jobServiceConfiguration.getClock().getCurrentTime();
+            timerJobs = new ArrayList<>(timerJobEntityManager.findJobsToExecute(enabledCategories, null, now, new Page(0, maxTimerJobsPerAcquisition)));
+            if (timerJobs.size() < maxTimerJobsPerAcquisition) {
+                Date maxDueDate = new Date(now.getTime() + lookAheadTimeInMillis);
+                timerJobs.addAll(timerJobEntityManager.findJobsToExecute(enabledCategories, now, maxDueDate,
+                        new Page(0, maxTimerJobsPerAcquisition - timerJobs.size())));
+            }
+        } else {
+            timerJobs = timerJobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxTimerJobsPerAcquisition));
+        }
 
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
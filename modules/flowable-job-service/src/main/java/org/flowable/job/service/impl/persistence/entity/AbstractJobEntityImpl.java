@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 
@@ -28,7 +29,7 @@ import org.flowable.job.service.JobServiceConfiguration;
  *
  * @author Tijs Rademakers
  */
-public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, Serializable {
+public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity implements AbstractRuntimeJobEntity, DirtyTrackedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -103,6 +104,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -113,6 +115,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setDuedate(Date duedate) {
+        markDirty();
         this.duedate = duedate;
     }
 
@@ -123,6 +126,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
@@ -133,6 +137,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setRetries(int retries) {
+        markDirty();
         this.retries = retries;
     }
 
@@ -143,6 +148,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -153,6 +159,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExclusive(boolean isExclusive) {
+        markDirty();
         this.isExclusive = isExclusive;
     }
 
@@ -163,6 +170,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
     
@@ -173,6 +181,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setElementId(String elementId) {
+        markDirty();
         this.elementId = elementId;
     }
 
@@ -183,6 +192,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setElementName(String elementName) {
+        markDirty();
         this.elementName = elementName;
     }
 
@@ -193,6 +203,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
 
@@ -203,6 +214,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -213,6 +225,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -223,6 +236,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
@@ -233,6 +247,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCorrelationId(String correlationId) {
+        markDirty();
         this.correlationId = correlationId;
     }
     
@@ -243,6 +258,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCategory(String category) {
+        markDirty();
         this.category = category;
     }
 
@@ -253,6 +269,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setJobType(String jobType) {
+        markDirty();
         this.jobType = jobType;
     }
     
@@ -263,6 +280,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setRepeat(String repeat) {
+        markDirty();
         this.repeat = repeat;
     }
 
@@ -273,6 +291,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setEndDate(Date endDate) {
+        markDirty();
         this.endDate = endDate;
     }
 
@@ -283,6 +302,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setMaxIterations(int maxIterations) {
+        markDirty();
         this.maxIterations = maxIterations;
     }
 
@@ -293,6 +313,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setJobHandlerType(String jobHandlerType) {
+        markDirty();
         this.jobHandlerType = jobHandlerType;
     }
 
@@ -303,6 +324,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setJobHandlerConfiguration(String jobHandlerConfiguration) {
+        markDirty();
         this.jobHandlerConfiguration = jobHandlerConfiguration;
     }
 
@@ -313,6 +335,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCustomValuesByteArrayRef(ByteArrayRef customValuesByteArrayRef) {
+        markDirty();
         this.customValuesByteArrayRef = customValuesByteArrayRef;
     }
 
@@ -323,6 +346,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setCustomValues(String customValues) {
+        markDirty();
         if (customValuesByteArrayRef == null) {
             customValuesByteArrayRef = new ByteArrayRef();
         }
@@ -336,6 +360,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -346,6 +371,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExceptionStacktrace(String exception) {
+        markDirty();
         if (exceptionByteArrayRef == null) {
             exceptionByteArrayRef = new ByteArrayRef();
         }
@@ -360,6 +386,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExceptionMessage(String exceptionMessage) {
+        markDirty();
         this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, JobInfo.MAX_EXCEPTION_MESSAGE_LENGTH);
     }
 
@@ -370,6 +397,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExceptionByteArrayRef(ByteArrayRef exceptionByteArrayRef) {
+        markDirty();
         this.exceptionByteArrayRef = exceptionByteArrayRef;
     }
 
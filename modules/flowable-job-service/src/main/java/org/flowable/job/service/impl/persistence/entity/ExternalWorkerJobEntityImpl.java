@@ -44,6 +44,7 @@ public class ExternalWorkerJobEntityImpl extends AbstractJobEntityImpl implement
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -54,6 +55,7 @@ public class ExternalWorkerJobEntityImpl extends AbstractJobEntityImpl implement
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -48,6 +49,14 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     void resetExpiredJob(String jobId);
 
+    /**
+     * Resets the given expired jobs with one update statement per chunk of ids, instead of one update per job.
+     * Only the jobs of which the lock is still expired are reset.
+     *
+     * @return the number of jobs that were reset
+     */
+    int bulkResetExpiredJobs(Collection<String> jobIds);
+
     /**
      * Changes the tenantId for all jobs related to a given DeploymentEntity.
      */
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -58,6 +59,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         dataManager.resetExpiredJob(jobId);
     }
 
+    @Override
+    public int bulkResetExpiredJobs(Collection<String> jobIds) {
+        return dataManager.bulkResetExpiredJobs(jobIds);
+    }
+
     @Override
     public void bulkUpdateJobLockWithoutRevisionCheck(List<T> jobEntities, String lockOwner, Date lockExpirationTime) {
         dataManager.bulkUpdateJobLockWithoutRevisionCheck(jobEntities, lockOwner, lockExpirationTime);
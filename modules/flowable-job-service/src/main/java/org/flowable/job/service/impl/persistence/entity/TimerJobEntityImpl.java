@@ -46,6 +46,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     @Override
     public void setLockOwner(String claimedBy) {
+        markDirty();
         this.lockOwner = claimedBy;
     }
 
@@ -56,6 +57,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
 
     @Override
     public void setLockExpirationTime(Date claimedUntil) {
+        markDirty();
         this.lockExpirationTime = claimedUntil;
     }
 
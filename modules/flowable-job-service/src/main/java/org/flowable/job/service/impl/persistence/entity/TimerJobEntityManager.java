@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -61,6 +63,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId);
 
+    /**
+     * Same as {@link #findJobsToExecute(List, Page)}, but returns the timer jobs that are due after minDueDate (exclusive, ignored when null)
+     * and before maxDueDate (inclusive), instead of the timer jobs that are due now.
+     */
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date minDueDate, Date maxDueDate, Page page);
+
     /**
      * Executes a {@link JobQueryImpl} and returns the matching {@link TimerJobEntity} instances.
      */
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.job.api.Job;
@@ -96,6 +97,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobsByScopeIdAndSubScopeId(scopeId, subScopeId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date minDueDate, Date maxDueDate, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, minDueDate, maxDueDate, page);
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(TimerJobQueryImpl jobQuery) {
         return dataManager.findJobsByQueryCriteria(jobQuery);
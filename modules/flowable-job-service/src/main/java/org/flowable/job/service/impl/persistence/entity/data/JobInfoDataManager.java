@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -35,4 +36,6 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     void resetExpiredJob(String jobId);
 
+    int bulkResetExpiredJobs(Collection<String> jobIds);
+
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -34,6 +36,8 @@ public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity>
 
     List<TimerJobEntity> findJobsByScopeIdAndSubScopeId(String scopeId, String subScopeId);
 
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date minDueDate, Date maxDueDate, Page page);
+
     List<Job> findJobsByQueryCriteria(TimerJobQueryImpl jobQuery);
 
     long findJobCountByQueryCriteria(TimerJobQueryImpl jobQuery);
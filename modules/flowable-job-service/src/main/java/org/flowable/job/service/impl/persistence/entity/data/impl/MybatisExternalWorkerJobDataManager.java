@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -138,6 +139,19 @@ public class MybatisExternalWorkerJobDataManager extends AbstractDataManager<Ext
         getDbSqlSession().directUpdate("resetExpiredExternalWorkerJob", params);
     }
 
+    @Override
+    public int bulkResetExpiredJobs(Collection<String> jobIds) {
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        int resetJobCount = 0;
+        for (List<String> jobIdsPart : createSafeInValuesList(jobIds)) {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("now", now);
+            params.put("jobIds", jobIdsPart);
+            resetJobCount += getDbSqlSession().directUpdate("bulkResetExpiredExternalWorkerJobs", params);
+        }
+        return resetJobCount;
+    }
+
     @Override
     public void deleteJobsByExecutionId(String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -120,6 +121,19 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         getDbSqlSession().directUpdate("resetExpiredHistoryJob", params);
     }
 
+    @Override
+    public int bulkResetExpiredJobs(Collection<String> jobIds) {
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        int resetJobCount = 0;
+        for (List<String> jobIdsPart : createSafeInValuesList(jobIds)) {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("now", now);
+            params.put("jobIds", jobIdsPart);
+            resetJobCount += getDbSqlSession().directUpdate("bulkResetExpiredHistoryJobs", params);
+        }
+        return resetJobCount;
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return jobServiceConfiguration.getIdGenerator();
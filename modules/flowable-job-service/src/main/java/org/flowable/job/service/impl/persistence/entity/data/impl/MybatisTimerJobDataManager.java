@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -104,15 +105,35 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         getDbSqlSession().directUpdate("resetExpiredTimerJob", params);
     }
 
+    @Override
+    public int bulkResetExpiredJobs(Collection<String> jobIds) {
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        int resetJobCount = 0;
+        for (List<String> jobIdsPart : createSafeInValuesList(jobIds)) {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("now", now);
+            params.put("jobIds", jobIdsPart);
+            resetJobCount += getDbSqlSession().directUpdate("bulkResetExpiredTimerJobs", params);
+        }
+        return resetJobCount;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecute(enabledCategories, null, jobServiceConfiguration.getClock().getCurrentTime(), page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date minDueDate, Date maxDueDate, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
-        
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", maxDueDate);
+        if (minDueDate != null) {
+            params.put("minDueDate", minDueDate);
+        }
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveAsyncJobAcquisitionTest {
+
+    @Test
+    void batchSizeGrowsWhenFullBatchesAreAcquired() {
+        AdaptiveAsyncJobAcquisition acquisition = new AdaptiveAsyncJobAcquisition(4, 64, 100, 10_000, 5_000);
+        acquisition.jobsRejected();
+        acquisition.jobsRejected();
+        acquisition.jobsRejected();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(8);
+
+        assertThat(acquisition.jobsAcquired(8, 8)).isZero();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(16);
+        assertThat(acquisition.jobsAcquired(16, 16)).isZero();
+        assertThat(acquisition.jobsAcquired(32, 32)).isZero();
+        assertThat(acquisition.jobsAcquired(64, 64)).isZero();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(64);
+    }
+
+    @Test
+    void batchSizeDoesNotGrowWhenLimitedByQueue() {
+        AdaptiveAsyncJobAcquisition acquisition = new AdaptiveAsyncJobAcquisition(4, 64, 100, 10_000, 5_000);
+        acquisition.jobsRejected();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(32);
+
+        assertThat(acquisition.getJobsToAcquire(10)).isEqualTo(10);
+        assertThat(acquisition.jobsAcquired(10, 10)).isZero();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(32);
+    }
+
+    @Test
+    void waitTimeBacksOffWhenIdle() {
+        AdaptiveAsyncJobAcquisition acquisition = new AdaptiveAsyncJobAcquisition(4, 64, 100, 1_000, 5_000);
+
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(100);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(200);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(400);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(800);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(1_000);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(1_000);
+
+        // Finding jobs again resets the wait time
+        assertThat(acquisition.jobsAcquired(64, 20)).isEqualTo(100);
+        assertThat(acquisition.jobsAcquired(64, 0)).isEqualTo(100);
+    }
+
+    @Test
+    void batchSizeShrinksOnLowYieldAndContention() {
+        AdaptiveAsyncJobAcquisition acquisition = new AdaptiveAsyncJobAcquisition(4, 64, 100, 1_000, 5_000);
+
+        assertThat(acquisition.jobsAcquired(64, 10)).isEqualTo(100);
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(32);
+
+        assertThat(acquisition.jobsAcquired(32, 20)).isEqualTo(100);
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(32);
+
+        assertThat(acquisition.optimisticLockingException()).isEqualTo(100);
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(16);
+
+        assertThat(acquisition.jobsRejected()).isEqualTo(5_000);
+        acquisition.jobsRejected();
+        acquisition.jobsRejected();
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(4);
+    }
+
+    @Test
+    void createFromConfiguration() {
+        AsyncJobExecutorConfiguration configuration = new AsyncJobExecutorConfiguration();
+        configuration.setMaxAsyncJobsDuePerAcquisition(128);
+        configuration.setMinAsyncJobsDuePerAcquisition(8);
+        configuration.setMinAsyncJobAcquireWaitTime(Duration.ofMillis(50));
+        configuration.setMaxAsyncJobAcquireWaitTime(Duration.ofSeconds(20));
+
+        AdaptiveAsyncJobAcquisition acquisition = new AdaptiveAsyncJobAcquisition(configuration);
+        assertThat(acquisition.getJobsPerAcquisition()).isEqualTo(128);
+        assertThat(acquisition.getMinJobsPerAcquisition()).isEqualTo(8);
+        assertThat(acquisition.getMinWaitTimeInMillis()).isEqualTo(50);
+        assertThat(acquisition.getMaxWaitTimeInMillis()).isEqualTo(20_000);
+        assertThat(acquisition.jobsRejected()).isEqualTo(5_000);
+    }
+
+}
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class TimerJobWheelTest {
+
+    @Test
+    void timerJobsExpireWhenDue() throws InterruptedException {
+        Map<String, Long> expiryTimes = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        TimerJobWheel wheel = new TimerJobWheel(10, 8, timerJobs -> {
+            for (TimerJobEntity timerJob : timerJobs) {
+                expiryTimes.put(timerJob.getId(), System.nanoTime());
+                latch.countDown();
+            }
+        });
+        wheel.start("timer-job-wheel-test");
+
+        try {
+            long startTime = System.nanoTime();
+            // The wheel only has 8 ticks of 10ms, so the 300ms timer needs several rounds
+            wheel.schedule(createTimerJob("job1"), 0);
+            wheel.schedule(createTimerJob("job2"), 50);
+            wheel.schedule(createTimerJob("job3"), 300);
+            assertThat(wheel.getPendingTimerJobCount()).isEqualTo(3);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(expiryTimes.get("job2") - startTime)).isGreaterThanOrEqualTo(50);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(expiryTimes.get("job3") - startTime)).isGreaterThanOrEqualTo(300);
+            assertThat(expiryTimes.get("job1")).isLessThan(expiryTimes.get("job2"));
+            assertThat(expiryTimes.get("job2")).isLessThan(expiryTimes.get("job3"));
+            assertThat(wheel.getPendingTimerJobCount()).isZero();
+
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void stopReturnsUnprocessedTimerJobs() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TimerJobWheel wheel = new TimerJobWheel(10, 16, timerJobs -> latch.countDown());
+        wheel.start("timer-job-wheel-test");
+
+        wheel.schedule(createTimerJob("job1"), 0);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+        wheel.schedule(createTimerJob("job2"), 60_000);
+        wheel.schedule(createTimerJob("job3"), 120_000);
+
+        List<TimerJobEntity> unprocessedTimerJobs = wheel.stop();
+        assertThat(unprocessedTimerJobs)
+                .extracting(TimerJobEntity::getId)
+                .containsExactlyInAnyOrder("job2", "job3");
+        assertThat(wheel.isRunning()).isFalse();
+        assertThat(wheel.getPendingTimerJobCount()).isZero();
+    }
+
+    protected TimerJobEntity createTimerJob(String id) {
+        TimerJobEntity timerJob = new TimerJobEntityImpl();
+        timerJob.setId(id);
+        return timerJob;
+    }
+}
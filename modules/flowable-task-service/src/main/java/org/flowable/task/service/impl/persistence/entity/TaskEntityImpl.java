@@ -30,6 +30,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -57,7 +58,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity implements TaskEntity, CountingTaskEntity, DirtyTrackedEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -220,6 +221,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
@@ -300,16 +302,19 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setName(String taskName) {
+        markDirty();
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
+        markDirty();
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
         assigneeUpdatedCount++;
@@ -317,6 +322,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     
     @Override
     public void setAssigneeValue(String assignee) {
+        markDirty();
         InternalTaskAssignmentManager taskAssignmentManager = getTaskAssignmentManager();
         if (taskAssignmentManager != null) {
             taskAssignmentManager.changeAssignee(this, assignee);
@@ -329,11 +335,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setOwner(String owner) {
+        markDirty();
         this.owner = owner;
     }
     
     @Override
     public void setOwnerValue(String owner) {
+        markDirty();
         InternalTaskAssignmentManager taskAssignmentManager = getTaskAssignmentManager();
         if (taskAssignmentManager != null) {
             taskAssignmentManager.changeOwner(this, owner);
@@ -344,21 +352,25 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     
     @Override
     public void setInProgressStartDueDate(Date inProgressStartDueDate) {
+        markDirty();
         this.inProgressStartDueDate = inProgressStartDueDate;
     }
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirty();
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        markDirty();
         this.priority = priority;
     }
 
     @Override
     public void setCategory(String category) {
+        markDirty();
         this.category = category;
     }
 
@@ -420,6 +432,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        markDirty();
         this.parentTaskId = parentTaskId;
     }
 
@@ -430,6 +443,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setFormKey(String formKey) {
+        markDirty();
         this.formKey = formKey;
     }
 
@@ -528,6 +542,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setState(String state) {
+        markDirty();
         this.state = state;
     }
 
@@ -538,6 +553,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -548,6 +564,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setInProgressStartTime(Date inProgressStartTime) {
+        markDirty();
         this.inProgressStartTime = inProgressStartTime;
     }
 
@@ -558,6 +575,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setInProgressStartedBy(String inProgressStartedBy) {
+        markDirty();
         this.inProgressStartedBy = inProgressStartedBy;
     }
     
@@ -568,6 +586,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirty();
         this.claimTime = claimTime;
     }
 
@@ -578,6 +597,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setClaimedBy(String claimedBy) {
+        markDirty();
         this.claimedBy = claimedBy;
     }
 
@@ -588,6 +608,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSuspendedTime(Date suspendedTime) {
+        markDirty();
         this.suspendedTime = suspendedTime;
     }
 
@@ -598,6 +619,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSuspendedBy(String suspendedBy) {
+        markDirty();
         this.suspendedBy = suspendedBy;
     }
 
@@ -618,6 +640,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -628,6 +651,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
+        markDirty();
         this.taskDefinitionId = taskDefinitionId;
     }
 
@@ -638,6 +662,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
 
@@ -648,6 +673,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -658,6 +684,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -668,11 +695,13 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -702,6 +731,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
+        markDirty();
         this.taskDefinitionKey = taskDefinitionKey;
     }
 
@@ -712,6 +742,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setEventName(String eventName) {
+        markDirty();
         this.eventName = eventName;
     }
     
@@ -722,6 +753,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     
     @Override
     public void setEventHandlerId(String eventHandlerId) {
+        markDirty();
         this.eventHandlerId = eventHandlerId;
     }
     
@@ -732,16 +764,19 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTempCompletedBy(String tempCompletedBy) {
+        markDirty();
         this.tempCompletedBy = tempCompletedBy;
     }
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -839,6 +874,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        markDirty();
         this.delegationState = delegationState;
     }
 
@@ -847,6 +883,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
     }
 
     public void setDelegationStateString(String delegationStateString) {
+        markDirty();
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
@@ -867,6 +904,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCanceled(boolean isCanceled) {
+        markDirty();
         this.isCanceled = isCanceled;
     }
 
@@ -888,6 +926,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty();
         this.suspensionState = suspensionState;
     }
 
@@ -949,6 +988,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -1006,15 +1046,18 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
     public void setIsCountEnabled(boolean isCountEnabled) {
+        markDirty();
         this.isCountEnabled = isCountEnabled;
     }
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty();
         this.variableCount = variableCount;
     }
 
@@ -1025,6 +1068,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty();
         this.identityLinkCount = identityLinkCount;
     }
 
@@ -1040,6 +1084,7 @@ public class TaskEntityImpl extends AbstractTaskServiceVariableScopeEntity imple
 
     @Override
     public void setSubTaskCount(int subTaskCount) {
+        markDirty();
         this.subTaskCount = subTaskCount;
     }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -30,6 +31,13 @@ public interface VariableService {
         return createInternalVariableInstanceQuery().executionId(executionId).withoutTaskId().list();
     }
 
+    /**
+     * Returns the variable instances of the given executions (not including task local variables) with one query.
+     */
+    default List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return createInternalVariableInstanceQuery().executionIds(executionIds).withoutTaskId().list();
+    }
+
     default List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
         return createInternalVariableInstanceQuery().scopeId(scopeId).withoutSubScopeId().scopeType(scopeType).list();
     }
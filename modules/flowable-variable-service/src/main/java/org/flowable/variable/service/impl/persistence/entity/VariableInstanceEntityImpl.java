@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.types.MutableVariableType;
@@ -28,7 +29,7 @@ import org.flowable.variable.service.impl.types.MutableVariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, DirtyTrackedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -85,21 +86,25 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty();
         forcedUpdate = true;
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
     
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -113,6 +118,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setBytes(byte[] bytes) {
+        markDirty();
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes, getEngineType());
     }
@@ -140,6 +146,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setValue(Object value) {
+        markDirty();
         type.setValue(value, this);
         typeName = type.getTypeName();
 
@@ -154,6 +161,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -175,6 +183,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTypeName(String typeName) {
+        markDirty();
         this.typeName = typeName;
     }
 
@@ -185,6 +194,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty();
         this.type = type;
     }
 
@@ -205,6 +215,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTaskId(String taskId) {
+        markDirty();
         this.taskId = taskId;
     }
 
@@ -220,6 +231,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
     
@@ -230,6 +242,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -240,11 +253,13 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
@@ -260,6 +275,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty();
         this.longValue = longValue;
     }
 
@@ -270,6 +286,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty();
         this.doubleValue = doubleValue;
     }
 
@@ -280,6 +297,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty();
         this.textValue = textValue;
     }
 
@@ -290,6 +308,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty();
         this.textValue2 = textValue2;
     }
 
@@ -300,6 +319,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setMetaInfo(String metaInfo) {
+        markDirty();
         this.metaInfo = metaInfo;
     }
 
@@ -89,6 +89,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * @return whether the variable instances of this scope are loaded, i.e. accessing them doesn't need a call to the database.
+     */
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -0,0 +1,218 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.flowable.variable.api.types.ValueFields;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Variable type that stores objects of the configured classes with Jackson instead of Java serialization.
+ * <p>
+ * The class of the object is stored in the second text value and the serialized object in the bytes.
+ * The format of the bytes is determined by the {@link ObjectMapper}: a mapper with a binary data format (e.g. CBOR or Smile) gives a compact binary representation.
+ * Serialized objects larger than the compression threshold are compressed with deflate.
+ * <p>
+ * Only objects of the configured {@link #getStorableClasses() storable classes} (or their subclasses) are stored with this type,
+ * since not every object can be read back by Jackson. Collections and maps are not supported, as the types of their elements are not stored.
+ */
+public class JacksonSerializableType extends SerializableType {
+
+    public static final String TYPE_NAME = "jacksonSerializable";
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    protected static final byte FORMAT_UNCOMPRESSED = 0;
+    protected static final byte FORMAT_DEFLATE = 1;
+
+    protected ObjectMapper objectMapper;
+    protected Collection<Class<?>> storableClasses;
+    protected int compressionThreshold;
+
+    public JacksonSerializableType(ObjectMapper objectMapper, Collection<Class<?>> storableClasses, boolean trackDeserializedObjects) {
+        this(objectMapper, storableClasses, DEFAULT_COMPRESSION_THRESHOLD, trackDeserializedObjects);
+    }
+
+    /**
+     * @param compressionThreshold the minimum size (in bytes) of a serialized object to be compressed, or a negative value to never compress.
+     */
+    public JacksonSerializableType(ObjectMapper objectMapper, Collection<Class<?>> storableClasses, int compressionThreshold, boolean trackDeserializedObjects) {
+        super(trackDeserializedObjects);
+        this.objectMapper = objectMapper;
+        setStorableClasses(storableClasses);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value != null && isStorableClass(value.getClass());
+    }
+
+    protected boolean isStorableClass(Class<?> valueClass) {
+        for (Class<?> storableClass : storableClasses) {
+            if (storableClass.isAssignableFrom(valueClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the storable class (or subclass of a storable class) with the given name, or null when it is not storable.
+     * A subclass is loaded without being initialized, so that its static initializer is not run before the class is known to be storable.
+     */
+    protected Class<?> getStorableClass(String className) {
+        for (Class<?> storableClass : storableClasses) {
+            if (storableClass.getName().equals(className)) {
+                return storableClass;
+            }
+        }
+
+        Class<?> valueClass;
+        try {
+            valueClass = Class.forName(className, false, ReflectUtil.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+        return isStorableClass(valueClass) ? valueClass : null;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        valueFields.setTextValue2(value != null ? value.getClass().getName() : null);
+        super.setValue(value, valueFields);
+    }
+
+    @Override
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+        }
+
+        if (compressionThreshold >= 0 && bytes.length >= compressionThreshold) {
+            return compress(bytes);
+        }
+
+        byte[] result = new byte[bytes.length + 1];
+        result[0] = FORMAT_UNCOMPRESSED;
+        System.arraycopy(bytes, 0, result, 1, bytes.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        String className = valueFields.getTextValue2();
+        if (className == null || bytes.length == 0) {
+            throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "': no class name or value stored");
+        }
+
+        // Only load and instantiate the configured classes, whatever class name is stored in the variable
+        Class<?> valueClass = getStorableClass(className);
+        if (valueClass == null) {
+            throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "': class " + className
+                    + " is not one of the storable classes of the " + TYPE_NAME + " variable type");
+        }
+
+        try {
+            if (bytes[0] == FORMAT_DEFLATE) {
+                return objectMapper.readValue(decompress(bytes), valueClass);
+            } else {
+                return objectMapper.readValue(bytes, 1, bytes.length - 1, valueClass);
+            }
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    protected byte[] compress(byte[] bytes) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 1);
+            outputStream.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    protected byte[] decompress(byte[] bytes) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Unexpected end of compressed data");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public Collection<Class<?>> getStorableClasses() {
+        return storableClasses;
+    }
+
+    public void setStorableClasses(Collection<Class<?>> storableClasses) {
+        this.storableClasses = storableClasses != null ? new ArrayList<>(storableClasses) : Collections.emptyList();
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+}
@@ -12,7 +12,6 @@
  */
 package org.flowable.variable.service.impl.types;
 
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
@@ -85,25 +84,19 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
 
         JsonNode jsonValue = null;
         String textValue = valueFields.getTextValue();
-        if (textValue != null && textValue.length() > 0) {
+        if (textValue == null || textValue.length() == 0) {
+            byte[] bytes = valueFields.getBytes();
+            textValue = bytes != null && bytes.length > 0 ? new String(bytes, StandardCharsets.UTF_8) : null;
+        }
+        if (textValue != null) {
             try {
-                jsonValue = objectMapper.readTree(textValue);
+                LazyJsonNodeFactory nodeFactory = new LazyJsonNodeFactory(objectMapper);
+                jsonValue = nodeFactory.readTree(textValue);
                 valueFields.setCachedValue(jsonValue);
-                traceValue(jsonValue, valueFields);
+                traceValue(jsonValue, nodeFactory, valueFields);
             } catch (Exception e) {
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
-        } else {
-            byte[] bytes = valueFields.getBytes();
-            if (bytes != null && bytes.length > 0) {
-                try {
-                    jsonValue = objectMapper.readTree(bytes);
-                    valueFields.setCachedValue(jsonValue);
-                    traceValue(jsonValue, valueFields);
-                } catch (IOException e) {
-                    LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
-                }
-            }
         }
         return jsonValue;
     }
@@ -115,9 +108,8 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
             valueFields.setBytes(null);
             valueFields.setCachedValue(null);
         } else {
-            JsonNode jsonNode = (JsonNode) value;
-
-            jsonNode = jsonNode.deepCopy();
+            LazyJsonNodeFactory nodeFactory = new LazyJsonNodeFactory(objectMapper);
+            JsonNode jsonNode = nodeFactory.copy((JsonNode) value);
 
             String textValue = value.toString();
             if (textValue.length() <= maxLength) {
@@ -128,7 +120,7 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
                 valueFields.setTextValue(null);
             }
             valueFields.setCachedValue(jsonNode);
-            traceValue(jsonNode, valueFields);
+            traceValue(jsonNode, nodeFactory, valueFields);
         }
     }
 
@@ -136,31 +128,57 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
     public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
         boolean valueChanged = false;
         if (!Objects.equals(originalNode, originalCopyNode)) {
-            String textValue = originalNode.toString();
-            if (textValue.length() <= maxLength) {
-                variableInstanceEntity.setTextValue(textValue);
-                if (variableInstanceEntity.getByteArrayRef() != null) {
-                    variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
-                }
-            } else {
-                variableInstanceEntity.setTextValue(null);
-                variableInstanceEntity.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
-            }
+            updateValue(originalNode.toString(), variableInstanceEntity);
             valueChanged = true;
         }
         return valueChanged;
     }
 
-    protected void traceValue(JsonNode value, ValueFields valueFields) {
-        if (trackObjects && valueFields instanceof VariableInstanceEntity) {
+    /**
+     * Updates the variable with the given node when one of its objects or arrays has been modified,
+     * as tracked by the node factory that created them.
+     */
+    protected boolean updateValueIfModified(JsonNode node, LazyJsonNodeFactory nodeFactory, VariableInstanceEntity variableInstanceEntity) {
+        if (!nodeFactory.isModified()) {
+            return false;
+        }
+
+        String textValue = node.toString();
+        // Long values are stored in the bytes, so the text that was read is kept by the node factory
+        if (nodeFactory.isSource(textValue) || textValue.equals(variableInstanceEntity.getTextValue())) {
+            // The modifications did not change the value
+            return false;
+        }
+
+        updateValue(textValue, variableInstanceEntity);
+        return true;
+    }
+
+    protected void updateValue(String textValue, VariableInstanceEntity variableInstanceEntity) {
+        if (textValue.length() <= maxLength) {
+            variableInstanceEntity.setTextValue(textValue);
+            if (variableInstanceEntity.getByteArrayRef() != null) {
+                variableInstanceEntity.getByteArrayRef().delete(getEngineType(variableInstanceEntity.getScopeType()));
+            }
+        } else {
+            variableInstanceEntity.setTextValue(null);
+            variableInstanceEntity.setBytes(textValue.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    protected void traceValue(JsonNode value, LazyJsonNodeFactory nodeFactory, ValueFields valueFields) {
+        // Value nodes are immutable, only objects and arrays can be changed
+        if (trackObjects && value.isContainerNode() && valueFields instanceof VariableInstanceEntity) {
             CommandContext commandContext = Context.getCommandContext();
             if (commandContext != null) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
                 if (variableServiceConfiguration != null) {
+                    // Changes are detected by the node factory, instead of comparing the value with a copy of it
+                    MutableVariableType<JsonNode, JsonNode> modificationTracker = (node, originalNode, variableInstanceEntity) -> updateValueIfModified(node,
+                            nodeFactory, variableInstanceEntity);
                     commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                        new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields)
+                        new TraceableObject<>(modificationTracker, value, null, (VariableInstanceEntity) valueFields)
                     ));
-                    
                 }
             }
         }
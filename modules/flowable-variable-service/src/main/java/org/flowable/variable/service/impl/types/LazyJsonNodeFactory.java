@@ -0,0 +1,453 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link JsonNodeFactory} for the value of one json variable, that reads the json lazily and keeps track of modifications.
+ * <p>
+ * The objects and arrays of the json are only parsed into nodes once their content is accessed: reading
+ * <code>${order.customer.id}</code> only creates the nodes of the root object, the order object and the customer object.
+ * Nested objects and arrays that are not accessed are skipped by the parser, without creating any nodes.
+ * <p>
+ * All objects and arrays created by this factory (when reading, when {@link #copy(JsonNode) copying} or when being
+ * created through the nodes, e.g. with {@link ObjectNode#putObject(String)}) mark the factory as {@link #isModified() modified}
+ * when their content is changed. This allows detecting changes to the value without keeping a copy of it.
+ * Changes to container nodes that were not created by this factory and are added to the value afterwards are not detected.
+ */
+public class LazyJsonNodeFactory extends JsonNodeFactory {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final transient ObjectMapper objectMapper;
+    protected final boolean useBigDecimalForFloats;
+    protected final boolean useBigIntegerForInts;
+    protected final boolean useLongForInts;
+
+    protected char[] source;
+    protected boolean modified;
+
+    public LazyJsonNodeFactory(ObjectMapper objectMapper) {
+        super(!objectMapper.getNodeFactory().willStripTrailingBigDecimalZeroes());
+        this.objectMapper = objectMapper;
+        DeserializationConfig deserializationConfig = objectMapper.getDeserializationConfig();
+        this.useBigDecimalForFloats = deserializationConfig.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.useBigIntegerForInts = deserializationConfig.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS);
+        this.useLongForInts = deserializationConfig.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS);
+    }
+
+    /**
+     * Reads the given json. Only the content of the root object or array is parsed, nested objects and arrays are parsed when accessed.
+     * The complete json is scanned though, so invalid json fails here.
+     */
+    public JsonNode readTree(String json) throws IOException {
+        source = json.toCharArray();
+        try (JsonParser parser = objectMapper.createParser(source, 0, source.length)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return missingNode();
+
+            } else if (token == JsonToken.START_OBJECT) {
+                Map<String, JsonNode> children = new LinkedHashMap<>();
+                readObjectChildren(parser, 0, children);
+                return new ObjectNode(this, new ObjectChildren(children));
+
+            } else if (token == JsonToken.START_ARRAY) {
+                List<JsonNode> children = new ArrayList<>();
+                readArrayChildren(parser, 0, children);
+                return new ArrayNode(this, new ArrayChildren(children));
+
+            } else {
+                return readValue(parser, 0);
+            }
+        }
+    }
+
+    /**
+     * Creates a deep copy of the given node, of which the modifications are tracked by this factory.
+     */
+    public JsonNode copy(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> children = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                children.put(property.getKey(), copy(property.getValue()));
+            }
+            return new ObjectNode(this, new ObjectChildren(children));
+
+        } else if (node.isArray()) {
+            List<JsonNode> children = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                children.add(copy(element));
+            }
+            return new ArrayNode(this, new ArrayChildren(children));
+
+        } else {
+            // Value nodes are immutable
+            return node.deepCopy();
+        }
+    }
+
+    /**
+     * @return whether the given json is the json that was {@link #readTree(String) read} by this factory.
+     */
+    public boolean isSource(String json) {
+        if (source == null || source.length != json.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < source.length; i++) {
+            if (source[i] != json.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the content of one of the objects or arrays created by this factory has been changed.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
+    @Override
+    public ObjectNode objectNode() {
+        return new ObjectNode(this, new ObjectChildren(new LinkedHashMap<>()));
+    }
+
+    @Override
+    public ArrayNode arrayNode() {
+        return new ArrayNode(this, new ArrayChildren(new ArrayList<>()));
+    }
+
+    @Override
+    public ArrayNode arrayNode(int capacity) {
+        return new ArrayNode(this, new ArrayChildren(new ArrayList<>(capacity)));
+    }
+
+    protected void readObjectChildren(JsonParser parser, int offset, Map<String, JsonNode> children) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            children.put(fieldName, readValue(parser, offset));
+        }
+    }
+
+    protected void readArrayChildren(JsonParser parser, int offset, List<JsonNode> children) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            children.add(readValue(parser, offset));
+        }
+    }
+
+    /**
+     * Reads the value at the current token of the parser. Objects and arrays are skipped and only parsed when their content is accessed.
+     *
+     * @param offset the offset of the parser in the source, to be added to the locations reported by the parser
+     */
+    protected JsonNode readValue(JsonParser parser, int offset) throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case START_OBJECT:
+            case START_ARRAY:
+                int start = offset + getTokenOffset(parser);
+                parser.skipChildren();
+                int end = offset + getTokenOffset(parser) + 1;
+                if (token == JsonToken.START_OBJECT) {
+                    return new ObjectNode(this, new ObjectChildren(start, end));
+                } else {
+                    return new ArrayNode(this, new ArrayChildren(start, end));
+                }
+            case VALUE_STRING:
+                return textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                JsonParser.NumberType numberType = parser.getNumberType();
+                if (numberType == JsonParser.NumberType.BIG_INTEGER || useBigIntegerForInts) {
+                    return numberNode(parser.getBigIntegerValue());
+                } else if (numberType == JsonParser.NumberType.INT && !useLongForInts) {
+                    return numberNode(parser.getIntValue());
+                } else {
+                    return numberNode(parser.getLongValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                if (useBigDecimalForFloats) {
+                    return numberNode(parser.getDecimalValue());
+                } else {
+                    return numberNode(parser.getDoubleValue());
+                }
+            case VALUE_TRUE:
+                return booleanNode(true);
+            case VALUE_FALSE:
+                return booleanNode(false);
+            case VALUE_NULL:
+                return nullNode();
+            case VALUE_EMBEDDED_OBJECT:
+                return pojoNode(parser.getEmbeddedObject());
+            default:
+                throw new FlowableException("Unexpected token " + token + " in json at " + parser.currentTokenLocation());
+        }
+    }
+
+    protected int getTokenOffset(JsonParser parser) {
+        return (int) parser.currentTokenLocation().getCharOffset();
+    }
+
+    protected JsonParser createParser(int start, int end) throws IOException {
+        JsonParser parser = objectMapper.createParser(source, start, end - start);
+        parser.nextToken();
+        return parser;
+    }
+
+    /**
+     * Returns the offset that needs to be added to the locations reported by a parser created with {@link #createParser(int, int)},
+     * which is positioned at the start of the content.
+     */
+    protected int getParserOffset(JsonParser parser, int start) {
+        return start - getTokenOffset(parser);
+    }
+
+    protected Map<String, JsonNode> readObjectChildren(int start, int end) {
+        Map<String, JsonNode> children = new LinkedHashMap<>();
+        try (JsonParser parser = createParser(start, end)) {
+            readObjectChildren(parser, getParserOffset(parser, start), children);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read json object", e);
+        }
+        return children;
+    }
+
+    protected List<JsonNode> readArrayChildren(int start, int end) {
+        List<JsonNode> children = new ArrayList<>();
+        try (JsonParser parser = createParser(start, end)) {
+            readArrayChildren(parser, getParserOffset(parser, start), children);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read json array", e);
+        }
+        return children;
+    }
+
+    /**
+     * The properties of an {@link ObjectNode}, which are read from the source when first accessed.
+     */
+    protected class ObjectChildren extends AbstractMap<String, JsonNode> {
+
+        protected int start;
+        protected int end;
+        protected Map<String, JsonNode> children;
+
+        protected ObjectChildren(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        protected ObjectChildren(Map<String, JsonNode> children) {
+            this.children = children;
+        }
+
+        protected Map<String, JsonNode> children() {
+            if (children == null) {
+                children = readObjectChildren(start, end);
+            }
+            return children;
+        }
+
+        @Override
+        public int size() {
+            return children().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return children().containsKey(key);
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            return children().get(key);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            modified = true;
+            return children().put(key, value);
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            modified = true;
+            return children().remove(key);
+        }
+
+        @Override
+        public void clear() {
+            modified = true;
+            children().clear();
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            Set<Entry<String, JsonNode>> entries = children().entrySet();
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    Iterator<Entry<String, JsonNode>> iterator = entries.iterator();
+                    return new Iterator<>() {
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            return new ObjectChildEntry(iterator.next());
+                        }
+
+                        @Override
+                        public void remove() {
+                            modified = true;
+                            iterator.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
+    }
+
+    protected class ObjectChildEntry implements Map.Entry<String, JsonNode> {
+
+        protected final Map.Entry<String, JsonNode> entry;
+
+        protected ObjectChildEntry(Map.Entry<String, JsonNode> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public JsonNode getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public JsonNode setValue(JsonNode value) {
+            modified = true;
+            return entry.setValue(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return entry.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+
+    /**
+     * The elements of an {@link ArrayNode}, which are read from the source when first accessed.
+     */
+    protected class ArrayChildren extends AbstractList<JsonNode> implements RandomAccess {
+
+        protected int start;
+        protected int end;
+        protected List<JsonNode> children;
+
+        protected ArrayChildren(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        protected ArrayChildren(List<JsonNode> children) {
+            this.children = children;
+        }
+
+        protected List<JsonNode> children() {
+            if (children == null) {
+                children = readArrayChildren(start, end);
+            }
+            return children;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return children().get(index);
+        }
+
+        @Override
+        public int size() {
+            return children().size();
+        }
+
+        @Override
+        public JsonNode set(int index, JsonNode element) {
+            modified = true;
+            return children().set(index, element);
+        }
+
+        @Override
+        public void add(int index, JsonNode element) {
+            modified = true;
+            children().add(index, element);
+        }
+
+        @Override
+        public JsonNode remove(int index) {
+            modified = true;
+            return children().remove(index);
+        }
+    }
+
+}